@@ -0,0 +1,26 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.exceptions;
+
+import com.google.errorprone.annotations.FormatMethod;
+import com.google.errorprone.annotations.FormatString;
+
+/**
+ * An exception thrown when the server doesn't have the REST endpoint of a request, e.g. the server
+ * of a previous version, so the client can fall back to the other endpoints.
+ */
+public class UnsupportedEndpointException extends RESTException {
+
+  /**
+   * Constructs a new UnsupportedEndpointException.
+   *
+   * @param message The detail message.
+   * @param args The arguments to the message.
+   */
+  @FormatMethod
+  public UnsupportedEndpointException(@FormatString String message, Object... args) {
+    super(message, args);
+  }
+}
@@ -8,6 +8,8 @@ import com.datastrato.gravitino.annotation.Evolving;
 import com.datastrato.gravitino.exceptions.NoSuchPartitionException;
 import com.datastrato.gravitino.exceptions.PartitionAlreadyExistsException;
 import com.datastrato.gravitino.rel.partitions.Partition;
+import java.util.ArrayList;
+import java.util.List;
 
 /** Interface for tables that support partitions. */
 @Evolving
@@ -52,6 +54,43 @@ public interface SupportsPartitions {
    */
   Partition getPartition(String partitionName) throws NoSuchPartitionException;
 
+  /**
+   * Get the partitions by partition names. It's used to fetch a page of partitions after listing
+   * the partition names, so the implementation should fetch them in one call if the underlying
+   * storage supports it.
+   *
+   * @param partitionNames The names of the partitions.
+   * @return The partitions in the order of the given names.
+   * @throws NoSuchPartitionException If any of the partitions does not exist.
+   */
+  default Partition[] getPartitions(String... partitionNames) throws NoSuchPartitionException {
+    Partition[] partitions = new Partition[partitionNames.length];
+    for (int i = 0; i < partitionNames.length; i++) {
+      partitions[i] = getPartition(partitionNames[i]);
+    }
+    return partitions;
+  }
+
+  /**
+   * Get the partitions by partition names and skip the ones that do not exist. It's used to fetch
+   * a page of partitions after listing the partition names, as the partitions may be dropped after
+   * their names are listed.
+   *
+   * @param partitionNames The names of the partitions.
+   * @return The existing partitions in the order of the given names.
+   */
+  default Partition[] getPartitionsIfExist(String... partitionNames) {
+    List<Partition> partitions = new ArrayList<>(partitionNames.length);
+    for (String partitionName : partitionNames) {
+      try {
+        partitions.add(getPartition(partitionName));
+      } catch (NoSuchPartitionException e) {
+        // The partition is dropped, skip it.
+      }
+    }
+    return partitions.toArray(new Partition[0]);
+  }
+
   /**
    * Check if a partition exists.
    *
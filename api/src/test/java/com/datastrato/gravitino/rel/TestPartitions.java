@@ -4,6 +4,7 @@
  */
 package com.datastrato.gravitino.rel;
 
+import com.datastrato.gravitino.exceptions.NoSuchPartitionException;
 import com.datastrato.gravitino.rel.expressions.literals.Literal;
 import com.datastrato.gravitino.rel.expressions.literals.Literals;
 import com.datastrato.gravitino.rel.partitions.IdentityPartition;
@@ -14,6 +15,7 @@ import com.datastrato.gravitino.rel.partitions.RangePartition;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.time.LocalDate;
+import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -77,4 +79,60 @@ public class TestPartitions {
     Assertions.assertEquals(
         Literals.stringLiteral("us"), ((IdentityPartition) partition).values()[1]);
   }
+
+  @Test
+  public void testGetPartitionsIfExist() {
+    Partition partition1 =
+        Partitions.identity(
+            "dt=1",
+            new String[][] {{"dt"}},
+            new Literal[] {Literals.integerLiteral(1)},
+            ImmutableMap.of());
+    Partition partition2 =
+        Partitions.identity(
+            "dt=2",
+            new String[][] {{"dt"}},
+            new Literal[] {Literals.integerLiteral(2)},
+            ImmutableMap.of());
+    Map<String, Partition> partitions =
+        ImmutableMap.of(partition1.name(), partition1, partition2.name(), partition2);
+    SupportsPartitions supportsPartitions =
+        new SupportsPartitions() {
+          @Override
+          public String[] listPartitionNames() {
+            return partitions.keySet().toArray(new String[0]);
+          }
+
+          @Override
+          public Partition[] listPartitions() {
+            return partitions.values().toArray(new Partition[0]);
+          }
+
+          @Override
+          public Partition getPartition(String partitionName) {
+            Partition partition = partitions.get(partitionName);
+            if (partition == null) {
+              throw new NoSuchPartitionException("Partition %s does not exist", partitionName);
+            }
+            return partition;
+          }
+
+          @Override
+          public Partition addPartition(Partition partition) {
+            throw new UnsupportedOperationException();
+          }
+
+          @Override
+          public boolean dropPartition(String partitionName) {
+            throw new UnsupportedOperationException();
+          }
+        };
+
+    Assertions.assertArrayEquals(
+        new Partition[] {partition2, partition1},
+        supportsPartitions.getPartitionsIfExist("dt=2", "dt=3", "dt=1"));
+    Assertions.assertArrayEquals(new Partition[0], supportsPartitions.getPartitionsIfExist("dt=3"));
+    Assertions.assertThrows(
+        NoSuchPartitionException.class, () -> supportsPartitions.getPartitions("dt=1", "dt=3"));
+  }
 }
@@ -30,6 +30,7 @@ dependencies {
   implementation(libs.slf4j.api)
 
   testImplementation(project(":clients:client-java"))
+  testImplementation(project(":core", "testArtifacts"))
   testImplementation(project(":integration-test-common", "testArtifacts"))
   testImplementation(project(":server"))
   testImplementation(project(":server-common"))
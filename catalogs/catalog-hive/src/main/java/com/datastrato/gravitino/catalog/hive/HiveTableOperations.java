@@ -114,6 +114,60 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
     }
   }
 
+  @Override
+  public Partition[] getPartitions(String... partitionNames) throws NoSuchPartitionException {
+    Map<String, org.apache.hadoop.hive.metastore.api.Partition> partitionsByName =
+        getHivePartitions(partitionNames);
+    return Arrays.stream(partitionNames)
+        .map(
+            name -> {
+              org.apache.hadoop.hive.metastore.api.Partition partition =
+                  partitionsByName.get(name);
+              if (partition == null) {
+                throw new NoSuchPartitionException(
+                    "Hive partition %s does not exist in Hive Metastore", name);
+              }
+              return fromHivePartition(name, partition);
+            })
+        .toArray(Partition[]::new);
+  }
+
+  @Override
+  public Partition[] getPartitionsIfExist(String... partitionNames) {
+    Map<String, org.apache.hadoop.hive.metastore.api.Partition> partitionsByName =
+        getHivePartitions(partitionNames);
+    return Arrays.stream(partitionNames)
+        .filter(partitionsByName::containsKey)
+        .map(name -> fromHivePartition(name, partitionsByName.get(name)))
+        .toArray(Partition[]::new);
+  }
+
+  private Map<String, org.apache.hadoop.hive.metastore.api.Partition> getHivePartitions(
+      String... partitionNames) {
+    List<org.apache.hadoop.hive.metastore.api.Partition> partitions;
+    try {
+      partitions =
+          table
+              .clientPool()
+              .run(
+                  c ->
+                      c.getPartitionsByNames(
+                          table.schemaName(), table.name(), Arrays.asList(partitionNames)));
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to get partitions of table " + table.name() + " from Hive Metastore", e);
+    }
+
+    // The partitions returned by Hive Metastore are not guaranteed to be in the order of the
+    // given names, and the dropped ones are absent, so match them by the partition name.
+    List<String> partCols =
+        table.buildPartitionKeys().stream().map(FieldSchema::getName).collect(Collectors.toList());
+    return partitions.stream()
+        .collect(
+            Collectors.toMap(
+                p -> FileUtils.makePartName(partCols, p.getValues()), p -> p, (p1, p2) -> p1));
+  }
+
   private Partition fromHivePartition(
       String partitionName, org.apache.hadoop.hive.metastore.api.Partition partition) {
     String[][] fieldNames = getFieldNames(partitionName);
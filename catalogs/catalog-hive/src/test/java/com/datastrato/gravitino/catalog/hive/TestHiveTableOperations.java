@@ -112,6 +112,31 @@ public class TestHiveTableOperations extends MiniHiveMetastoreService {
         exception.getMessage());
   }
 
+  @Test
+  public void testGetPartitions() {
+    SupportsPartitions partitions = hiveTable.supportPartitions();
+    Partition[] result = partitions.getPartitions(existingPartition.name());
+    Assertions.assertArrayEquals(new Partition[] {existingPartition}, result);
+
+    NoSuchPartitionException exception =
+        Assertions.assertThrows(
+            NoSuchPartitionException.class,
+            () -> partitions.getPartitions(existingPartition.name(), "city=9/dt=2000-01-01"));
+    Assertions.assertEquals(
+        "Hive partition city=9/dt=2000-01-01 does not exist in Hive Metastore",
+        exception.getMessage());
+  }
+
+  @Test
+  public void testGetPartitionsIfExist() {
+    SupportsPartitions partitions = hiveTable.supportPartitions();
+    Partition[] result =
+        partitions.getPartitionsIfExist("city=9/dt=2000-01-01", existingPartition.name());
+    Assertions.assertArrayEquals(new Partition[] {existingPartition}, result);
+    Assertions.assertArrayEquals(
+        new Partition[0], partitions.getPartitionsIfExist("city=9/dt=2000-01-01"));
+  }
+
   @Test
   public void testAddPartition() {
     // add partition: city=1/dt=2020-01-01
@@ -16,6 +16,7 @@ dependencies {
   implementation(project(":common"))
 
   testImplementation(project(":clients:client-java"))
+  testImplementation(project(":core", "testArtifacts"))
   testImplementation(project(":integration-test-common", "testArtifacts"))
   testImplementation(project(":server"))
   testImplementation(project(":server-common"))
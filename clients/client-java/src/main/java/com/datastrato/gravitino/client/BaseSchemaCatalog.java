@@ -24,6 +24,7 @@ import com.datastrato.gravitino.rel.SupportsSchemas;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -80,6 +81,34 @@ abstract class BaseSchemaCatalog extends CatalogDTO implements SupportsSchemas {
     return resp.identifiers();
   }
 
+  /**
+   * List the schemas under the given namespace page by page. The pages are fetched lazily from the
+   * server, so it's suitable for the catalog with lots of schemas.
+   *
+   * @param namespace The namespace to list the schemas under it.
+   * @param pageSize The max number of schemas fetched in one request.
+   * @return An iterator of the schema identifiers.
+   * @throws NoSuchCatalogException if the catalog with specified namespace does not exist.
+   */
+  public Iterator<NameIdentifier> listSchemasIterator(Namespace namespace, int pageSize)
+      throws NoSuchCatalogException {
+    Namespace.checkSchema(namespace);
+
+    return new PagedIterator<>(
+        params -> {
+          EntityListResponse resp =
+              restClient.get(
+                  formatSchemaRequestPath(namespace),
+                  params,
+                  EntityListResponse.class,
+                  Collections.emptyMap(),
+                  ErrorHandlers.schemaErrorHandler());
+          resp.validate();
+          return new PagedIterator.Page<>(resp.identifiers(), resp.nextPageToken());
+        },
+        pageSize);
+  }
+
   /**
    * Create a new schema with specified identifier, comment and metadata.
    *
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.client;
+
+import com.datastrato.gravitino.dto.responses.CatalogChangesResponse;
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+
+/** The catalogs of a metalake changed since a version, see {@link GravitinoMetalake}. */
+public class CatalogChanges {
+
+  private final long version;
+  private final boolean reset;
+  private final Set<String> catalogNames;
+
+  CatalogChanges(CatalogChangesResponse response) {
+    this.version = response.version();
+    this.reset = response.reset();
+    this.catalogNames = ImmutableSet.copyOf(response.catalogs());
+  }
+
+  /** @return The latest change version, it's used to fetch the next changes. */
+  public long version() {
+    return version;
+  }
+
+  /**
+   * @return Whether the changes since the requested version are unknown, in which case all the
+   *     catalogs of the metalake should be reloaded.
+   */
+  public boolean isReset() {
+    return reset;
+  }
+
+  /** @return The names of the catalogs created, altered or dropped since the requested version. */
+  public Set<String> catalogNames() {
+    return catalogNames;
+  }
+}
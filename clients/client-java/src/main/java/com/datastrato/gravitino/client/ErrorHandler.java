@@ -26,4 +26,14 @@ public abstract class ErrorHandler implements Consumer<ErrorResponse> {
    * @return The ErrorResponse object representing the parsed error response.
    */
   public abstract ErrorResponse parseResponse(int code, String json, ObjectMapper mapper);
+
+  /**
+   * Creates an ErrorResponse object for an error response without a body.
+   *
+   * @param code The response code indicating the error status.
+   * @return The ErrorResponse object, or null to create it from the reason phrase of the response.
+   */
+  public ErrorResponse emptyResponse(int code) {
+    return null;
+  }
 }
@@ -26,10 +26,12 @@ import com.datastrato.gravitino.exceptions.SchemaAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.TableAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.TopicAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.UnauthorizedException;
+import com.datastrato.gravitino.exceptions.UnsupportedEndpointException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Joiner;
 import java.util.List;
 import java.util.function.Consumer;
+import org.apache.hc.core5.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -114,6 +116,17 @@ public class ErrorHandlers {
     return FilesetErrorHandler.INSTANCE;
   }
 
+  /**
+   * Creates an error handler specific to resolving the file locations of filesets. Unlike the
+   * Fileset error handler, it throws {@link UnsupportedEndpointException} if the server doesn't
+   * have the endpoint, i.e. it replies 404 or 405 without a Gravitino error response.
+   *
+   * @return A Consumer representing the file location error handler.
+   */
+  public static Consumer<ErrorResponse> fileLocationErrorHandler() {
+    return FileLocationErrorHandler.INSTANCE;
+  }
+
   /**
    * Creates an error handler specific to Topic operations.
    *
@@ -424,6 +437,62 @@ public class ErrorHandlers {
     }
   }
 
+  /** Error handler specific to resolving the file locations of filesets. */
+  @SuppressWarnings("FormatStringAnnotation")
+  private static class FileLocationErrorHandler extends FilesetErrorHandler {
+
+    private static final FileLocationErrorHandler INSTANCE = new FileLocationErrorHandler();
+
+    @Override
+    public ErrorResponse parseResponse(int code, String json, ObjectMapper mapper) {
+      ErrorResponse response = super.parseResponse(code, json, mapper);
+      if (isEndpointMissing(code) && !isGravitinoError(response)) {
+        // The 404 and 405 replies of the server without the endpoint or a proxy in front of it
+        // aren't Gravitino error responses.
+        return endpointMissing(code);
+      }
+      return response;
+    }
+
+    @Override
+    public ErrorResponse emptyResponse(int code) {
+      return isEndpointMissing(code) ? endpointMissing(code) : null;
+    }
+
+    @Override
+    public void accept(ErrorResponse errorResponse) {
+      if (UnsupportedEndpointException.class.getSimpleName().equals(errorResponse.getType())) {
+        throw new UnsupportedEndpointException(formatErrorMessage(errorResponse));
+      } else if (errorResponse.getCode() == ErrorConstants.UNSUPPORTED_OPERATION_CODE) {
+        throw new UnsupportedOperationException(formatErrorMessage(errorResponse));
+      }
+      super.accept(errorResponse);
+    }
+
+    private static boolean isEndpointMissing(int code) {
+      return code == HttpStatus.SC_NOT_FOUND || code == HttpStatus.SC_METHOD_NOT_ALLOWED;
+    }
+
+    private static boolean isGravitinoError(ErrorResponse response) {
+      // The body that can't be parsed is turned into an unknown error.
+      if (response.getCode() == ErrorConstants.UNKNOWN_ERROR_CODE) {
+        return false;
+      }
+      try {
+        response.validate();
+        return true;
+      } catch (IllegalArgumentException e) {
+        return false;
+      }
+    }
+
+    private static ErrorResponse endpointMissing(int code) {
+      return ErrorResponse.notFound(
+          UnsupportedEndpointException.class.getSimpleName(),
+          String.format("The server doesn't support resolving file locations, code: %d", code));
+    }
+  }
+
   /** Error handler specific to Topic operations. */
   @SuppressWarnings("FormatStringAnnotation")
   private static class TopicErrorHandler extends RestErrorHandler {
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.client;
+
+import com.datastrato.gravitino.dto.responses.FileLocationResponse;
+import com.datastrato.gravitino.file.Fileset;
+
+/** A path in a fileset resolved to the actual storage location, see {@link GravitinoMetalake}. */
+public class FileLocation {
+
+  private final Fileset fileset;
+  private final String location;
+
+  FileLocation(FileLocationResponse response) {
+    this.fileset = response.getFileset();
+    this.location = response.getFileLocation();
+  }
+
+  /** @return The fileset which the path belongs to. */
+  public Fileset fileset() {
+    return fileset;
+  }
+
+  /** @return The actual storage location of the path. */
+  public String location() {
+    return location;
+  }
+}
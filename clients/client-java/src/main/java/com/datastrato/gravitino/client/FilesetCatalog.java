@@ -23,8 +23,10 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 
@@ -75,6 +77,34 @@ public class FilesetCatalog extends BaseSchemaCatalog
     return resp.identifiers();
   }
 
+  /**
+   * List the filesets under the given namespace page by page. The pages are fetched lazily from the
+   * server, so it's suitable for the schema with lots of filesets.
+   *
+   * @param namespace The namespace to list the filesets under it.
+   * @param pageSize The max number of filesets fetched in one request.
+   * @return An iterator of the fileset identifiers.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  public Iterator<NameIdentifier> listFilesetsIterator(Namespace namespace, int pageSize)
+      throws NoSuchSchemaException {
+    Namespace.checkFileset(namespace);
+
+    return new PagedIterator<>(
+        params -> {
+          EntityListResponse resp =
+              restClient.get(
+                  formatFilesetRequestPath(namespace),
+                  params,
+                  EntityListResponse.class,
+                  Collections.emptyMap(),
+                  ErrorHandlers.filesetErrorHandler());
+          resp.validate();
+          return new PagedIterator.Page<>(resp.identifiers(), resp.nextPageToken());
+        },
+        pageSize);
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
@@ -97,6 +127,31 @@ public class FilesetCatalog extends BaseSchemaCatalog
     return resp.getFileset();
   }
 
+  /**
+   * Load fileset metadata by {@link NameIdentifier} from the catalog asynchronously, the request
+   * doesn't block the calling thread.
+   *
+   * @param ident A fileset identifier.
+   * @return A future of the fileset metadata, it's completed exceptionally with {@link
+   *     NoSuchFilesetException} if the fileset does not exist.
+   */
+  public CompletableFuture<Fileset> loadFilesetAsync(NameIdentifier ident) {
+    NameIdentifier.checkFileset(ident);
+
+    return restClient
+        .getAsync(
+            formatFilesetRequestPath(ident.namespace()) + "/" + ident.name(),
+            Collections.emptyMap(),
+            FilesetResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler())
+        .thenApply(
+            resp -> {
+              resp.validate();
+              return resp.getFileset();
+            });
+  }
+
   /**
    * Create a fileset metadata in the catalog.
    *
@@ -12,7 +12,9 @@ import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.SupportsCatalogs;
 import com.datastrato.gravitino.exceptions.CatalogAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
+import com.datastrato.gravitino.exceptions.NoSuchFilesetException;
 import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
+import com.datastrato.gravitino.exceptions.UnsupportedEndpointException;
 import com.google.common.base.Preconditions;
 import java.util.Map;
 
@@ -36,6 +38,7 @@ public class GravitinoClient extends GravitinoClientBase implements SupportsCata
    * @param checkVersion Whether to check the version of the Gravitino server. Gravitino does not
    *     support the case that the client-side version is higher than the server-side version.
    * @param headers The base header for Gravitino API.
+   * @param properties The properties of the HTTP client.
    * @throws NoSuchMetalakeException if the metalake with specified name does not exist.
    */
   private GravitinoClient(
@@ -43,8 +46,9 @@ public class GravitinoClient extends GravitinoClientBase implements SupportsCata
       String metalakeName,
       AuthDataProvider authDataProvider,
       boolean checkVersion,
-      Map<String, String> headers) {
-    super(uri, authDataProvider, checkVersion, headers);
+      Map<String, String> headers,
+      Map<String, String> properties) {
+    super(uri, authDataProvider, checkVersion, headers, properties);
     this.metalake = loadMetalake(NameIdentifier.of(metalakeName));
   }
 
@@ -95,6 +99,20 @@ public class GravitinoClient extends GravitinoClientBase implements SupportsCata
     return getMetalake().dropCatalog(ident);
   }
 
+  /**
+   * Resolve a path in the fileset to the actual storage location in a single call to the server.
+   *
+   * @param ident The identifier of the fileset.
+   * @param subPath The path relative to the fileset, an empty string for the fileset itself.
+   * @return The {@link FileLocation} with the fileset and the actual storage location.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   * @throws UnsupportedEndpointException If the server doesn't support resolving file locations.
+   */
+  public FileLocation getFileLocation(NameIdentifier ident, String subPath)
+      throws NoSuchFilesetException {
+    return getMetalake().getFileLocation(ident, subPath);
+  }
+
   /**
    * Creates a new builder for constructing a GravitinoClient.
    *
@@ -146,7 +164,8 @@ public class GravitinoClient extends GravitinoClientBase implements SupportsCata
           metalakeName != null && !metalakeName.isEmpty(),
           "The argument 'metalakeName' must be a valid name");
 
-      return new GravitinoClient(uri, metalakeName, authDataProvider, checkVersion, headers);
+      return new GravitinoClient(
+          uri, metalakeName, authDataProvider, checkVersion, headers, properties);
     }
   }
 }
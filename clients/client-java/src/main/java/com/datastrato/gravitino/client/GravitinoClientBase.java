@@ -52,12 +52,31 @@ public abstract class GravitinoClientBase implements Closeable {
       AuthDataProvider authDataProvider,
       boolean checkVersion,
       Map<String, String> headers) {
+    this(uri, authDataProvider, checkVersion, headers, Collections.emptyMap());
+  }
+
+  /**
+   * Constructs a new GravitinoClient with the given URI, authenticator, AuthDataProvider and the
+   * properties of the HTTP client.
+   *
+   * @param uri The base URI for the Gravitino API.
+   * @param authDataProvider The provider of the data which is used for authentication.
+   * @param checkVersion Whether to check the version of the Gravitino server.
+   * @param headers The base header of the Gravitino API.
+   * @param properties The properties of the HTTP client, see {@link HTTPClient}.
+   */
+  protected GravitinoClientBase(
+      String uri,
+      AuthDataProvider authDataProvider,
+      boolean checkVersion,
+      Map<String, String> headers,
+      Map<String, String> properties) {
     ObjectMapper mapper = JsonUtils.objectMapper();
     mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
 
     if (checkVersion) {
       this.restClient =
-          HTTPClient.builder(Collections.emptyMap())
+          HTTPClient.builder(properties)
               .uri(uri)
               .withAuthDataProvider(authDataProvider)
               .withObjectMapper(mapper)
@@ -67,7 +86,7 @@ public abstract class GravitinoClientBase implements Closeable {
 
     } else {
       this.restClient =
-          HTTPClient.builder(Collections.emptyMap())
+          HTTPClient.builder(properties)
               .uri(uri)
               .withAuthDataProvider(authDataProvider)
               .withObjectMapper(mapper)
@@ -172,6 +191,8 @@ public abstract class GravitinoClientBase implements Closeable {
     protected boolean checkVersion = true;
     /** The request base header for the Gravitino API. */
     protected Map<String, String> headers = ImmutableMap.of();
+    /** The properties of the HTTP client. */
+    protected Map<String, String> properties = ImmutableMap.of();
 
     /**
      * The constructor for the Builder class.
@@ -246,6 +267,21 @@ public abstract class GravitinoClientBase implements Closeable {
       return this;
     }
 
+    /**
+     * Set the properties of the HTTP client, like {@link HTTPClient#ASYNC_MAX_CONNECTIONS} and
+     * {@link HTTPClient#ASYNC_MAX_CONNECTIONS_PER_ROUTE} to limit the connections used by the
+     * asynchronous requests.
+     *
+     * @param properties The properties of the HTTP client.
+     * @return This Builder instance for method chaining.
+     */
+    public Builder<T> withProperties(Map<String, String> properties) {
+      if (properties != null) {
+        this.properties = ImmutableMap.copyOf(properties);
+      }
+      return this;
+    }
+
     /**
      * Builds a new instance. Subclasses should overwrite this method.
      *
@@ -14,14 +14,19 @@ import com.datastrato.gravitino.dto.MetalakeDTO;
 import com.datastrato.gravitino.dto.requests.CatalogCreateRequest;
 import com.datastrato.gravitino.dto.requests.CatalogUpdateRequest;
 import com.datastrato.gravitino.dto.requests.CatalogUpdatesRequest;
+import com.datastrato.gravitino.dto.responses.CatalogChangesResponse;
 import com.datastrato.gravitino.dto.responses.CatalogListResponse;
 import com.datastrato.gravitino.dto.responses.CatalogResponse;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
+import com.datastrato.gravitino.dto.responses.FileLocationResponse;
 import com.datastrato.gravitino.exceptions.CatalogAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
+import com.datastrato.gravitino.exceptions.NoSuchFilesetException;
 import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
+import com.datastrato.gravitino.exceptions.UnsupportedEndpointException;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -103,6 +108,62 @@ public class GravitinoMetalake extends MetalakeDTO implements SupportsCatalogs {
         .toArray(Catalog[]::new);
   }
 
+  /**
+   * Get the catalogs of this metalake changed since the version. If there is no change, the server
+   * holds the request until a catalog is changed or the timeout is reached, so the catalogs can be
+   * kept up to date by calling this method in a loop instead of reloading them periodically.
+   *
+   * @param sinceVersion The version returned by the last call, or a negative number for the first
+   *     call.
+   * @param timeoutMs The max time in milliseconds for the server to wait for the changes, 0 to
+   *     return immediately.
+   * @return The {@link CatalogChanges} since the version.
+   */
+  public CatalogChanges getCatalogChanges(long sinceVersion, long timeoutMs) {
+    Map<String, String> params = new HashMap<>();
+    params.put("since", String.valueOf(sinceVersion));
+    params.put("timeoutMs", String.valueOf(timeoutMs));
+    CatalogChangesResponse resp =
+        restClient.get(
+            String.format("api/metalakes/%s/catalog-changes", name()),
+            params,
+            CatalogChangesResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.catalogErrorHandler());
+    resp.validate();
+
+    return new CatalogChanges(resp);
+  }
+
+  /**
+   * Resolve a path in the fileset to the actual storage location. Unlike loading the fileset from
+   * its catalog, it doesn't load the catalog first, so it takes a single call to the server.
+   *
+   * @param ident The identifier of the fileset.
+   * @param subPath The path relative to the fileset, an empty string for the fileset itself.
+   * @return The {@link FileLocation} with the fileset and the actual storage location.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   * @throws UnsupportedEndpointException If the server doesn't support resolving file locations.
+   */
+  public FileLocation getFileLocation(NameIdentifier ident, String subPath)
+      throws NoSuchFilesetException {
+    NameIdentifier.checkFileset(ident);
+
+    FileLocationResponse resp =
+        restClient.get(
+            FilesetCatalog.formatFilesetRequestPath(ident.namespace())
+                + "/"
+                + ident.name()
+                + "/location",
+            ImmutableMap.of("subPath", subPath),
+            FileLocationResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.fileLocationErrorHandler());
+    resp.validate();
+
+    return new FileLocation(resp);
+  }
+
   /**
    * Load the catalog with specified identifier.
    *
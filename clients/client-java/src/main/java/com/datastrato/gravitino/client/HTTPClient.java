@@ -29,24 +29,39 @@ import com.datastrato.gravitino.rest.RESTUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.Method;
 import org.apache.hc.core5.http.ParseException;
@@ -54,6 +69,7 @@ import org.apache.hc.core5.http.impl.EnglishReasonPhraseCatalog;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.net.URIBuilder;
 import org.slf4j.Logger;
@@ -74,10 +90,44 @@ public class HTTPClient implements RESTClient {
 
   private static final String VERSION_HEADER = "application/vnd.gravitino.v1+json";
 
+  /** The property key of the max number of connections of the asynchronous client. */
+  public static final String ASYNC_MAX_CONNECTIONS = "rest.client.async.max-connections";
+
+  /** The property key of the max number of connections per route of the asynchronous client. */
+  public static final String ASYNC_MAX_CONNECTIONS_PER_ROUTE =
+      "rest.client.async.max-connections-per-route";
+
+  /**
+   * The property key of whether the asynchronous client negotiates HTTP/2 with the server. HTTP/2
+   * is negotiated by TLS ALPN, so it only takes effect for https.
+   */
+  public static final String ASYNC_HTTP2_ENABLED = "rest.client.async.http2-enabled";
+
+  /**
+   * The property key of the max number of GET responses whose entity tags are cached, the cached
+   * responses are revalidated by the If-None-Match header, and reused if the server replies 304 Not
+   * Modified. 0 disables the cache.
+   */
+  public static final String ETAG_CACHE_SIZE = "rest.client.etag-cache-size";
+
+  private static final int DEFAULT_ETAG_CACHE_SIZE = 1000;
+  private static final int DEFAULT_ASYNC_MAX_CONNECTIONS = 100;
+  private static final int DEFAULT_ASYNC_MAX_CONNECTIONS_PER_ROUTE = 100;
+
   private final String uri;
   private final CloseableHttpClient httpClient;
+  private final Map<String, String> baseHeaders;
+  private final Map<String, String> properties;
+  // The asynchronous client is created on the first asynchronous request, so that the clients only
+  // issuing blocking requests don't start the I/O reactor threads.
+  private volatile CloseableHttpAsyncClient asyncHttpClient;
+  // Guarded by this, so that no asynchronous client is created after the client is closed.
+  private boolean closed = false;
   private final ObjectMapper mapper;
   private final AuthDataProvider authDataProvider;
+  // The entity tags and the bodies of the GET responses, keyed by the request URI and the
+  // credential the request is sent with, null if the cache is disabled.
+  private final Cache<ValidatorKey, Validator> etagCache;
 
   // Handler to be executed before connecting to the server.
   private final Runnable beforeConnectHandler;
@@ -99,6 +149,7 @@ public class HTTPClient implements RESTClient {
    *
    * @param uri The base URI of the REST API.
    * @param baseHeaders A map of base headers to be included in all HTTP requests.
+   * @param properties A map of properties used to configure the HTTP client.
    * @param objectMapper The ObjectMapper used for JSON serialization and deserialization.
    * @param authDataProvider The provider of authentication data.
    * @param beforeConnectHandler The function to be executed before connecting to the server.
@@ -106,11 +157,22 @@ public class HTTPClient implements RESTClient {
   private HTTPClient(
       String uri,
       Map<String, String> baseHeaders,
+      Map<String, String> properties,
       ObjectMapper objectMapper,
       AuthDataProvider authDataProvider,
       Runnable beforeConnectHandler) {
     this.uri = uri;
     this.mapper = objectMapper;
+    this.baseHeaders = baseHeaders == null ? Collections.emptyMap() : baseHeaders;
+    this.properties = properties == null ? Collections.emptyMap() : properties;
+
+    String etagCacheSize = this.properties.get(ETAG_CACHE_SIZE);
+    int cacheSize =
+        etagCacheSize == null ? DEFAULT_ETAG_CACHE_SIZE : Integer.parseInt(etagCacheSize);
+    Preconditions.checkArgument(
+        cacheSize >= 0, "%s should be non-negative, but got %s", ETAG_CACHE_SIZE, cacheSize);
+    this.etagCache =
+        cacheSize == 0 ? null : CacheBuilder.newBuilder().maximumSize(cacheSize).build();
 
     HttpClientBuilder clientBuilder = HttpClients.custom();
 
@@ -155,11 +217,10 @@ public class HTTPClient implements RESTClient {
    *
    * <p>According to the spec, the only currently defined/used "success" responses are 200 and 202.
    *
-   * @param response The response to check for success.
+   * @param code The status code of the response to check for success.
    * @return True if the response is successful, false otherwise.
    */
-  private boolean isSuccessful(CloseableHttpResponse response) {
-    int code = response.getCode();
+  private boolean isSuccessful(int code) {
     return code == HttpStatus.SC_OK
         || code == HttpStatus.SC_ACCEPTED
         || code == HttpStatus.SC_NO_CONTENT;
@@ -172,15 +233,15 @@ public class HTTPClient implements RESTClient {
    * ErrorResponse. If the reason phrase doesn't exist, it retrieves the standard reason phrase from
    * the English phrase catalog.
    *
-   * @param response The response from which the ErrorResponse is built.
+   * @param code The status code of the response.
+   * @param responseReason The reason phrase of the response (can be null).
    * @return An ErrorResponse object representing the REST error response.
    */
-  private ErrorResponse buildRestErrorResponse(CloseableHttpResponse response) {
-    String responseReason = response.getReasonPhrase();
+  private ErrorResponse buildRestErrorResponse(int code, String responseReason) {
     String message =
         responseReason != null && !responseReason.isEmpty()
             ? responseReason
-            : EnglishReasonPhraseCatalog.INSTANCE.getReason(response.getCode(), null /* ignored */);
+            : EnglishReasonPhraseCatalog.INSTANCE.getReason(code, null /* ignored */);
     return ErrorResponse.restError(message);
   }
 
@@ -190,21 +251,25 @@ public class HTTPClient implements RESTClient {
    * <p>This method takes a response representing a failed response from an HTTP request. It tries
    * to parse the response body using the provided parseResponse method.
    *
-   * @param response The failed response from the HTTP request.
+   * @param code The status code of the failed response.
+   * @param responseReason The reason phrase of the failed response (can be null).
    * @param responseBody The response body as a string (can be null).
    * @param errorHandler The error handler (as a Consumer) used to handle the error response.
    * @throws RESTException If the error handler does not throw an exception or an error occurs
    *     during parsing.
    */
   private void throwFailure(
-      CloseableHttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
+      int code,
+      String responseReason,
+      String responseBody,
+      Consumer<ErrorResponse> errorHandler) {
     ErrorResponse errorResponse = null;
 
     if (responseBody != null) {
       try {
         if (errorHandler instanceof ErrorHandler) {
           errorResponse =
-              ((ErrorHandler) errorHandler).parseResponse(response.getCode(), responseBody, mapper);
+              ((ErrorHandler) errorHandler).parseResponse(code, responseBody, mapper);
         } else {
           LOG.warn(
               "Unknown error handler {}, response body won't be parsed",
@@ -225,10 +290,12 @@ public class HTTPClient implements RESTClient {
         // 5xx responses.
         LOG.error("Failed to parse an error response. Will create one instead.", e);
       }
+    } else if (errorHandler instanceof ErrorHandler) {
+      errorResponse = ((ErrorHandler) errorHandler).emptyResponse(code);
     }
 
     if (errorResponse == null) {
-      errorResponse = buildRestErrorResponse(response);
+      errorResponse = buildRestErrorResponse(code, responseReason);
     }
 
     errorHandler.accept(errorResponse);
@@ -337,16 +404,10 @@ public class HTTPClient implements RESTClient {
       Consumer<ErrorResponse> errorHandler,
       Consumer<Map<String, String>> responseHeaders) {
 
-    if (handlerStatus != HandlerStatus.Finished) {
-      performPreConnectHandler();
-    }
-
-    if (path.startsWith("/")) {
-      throw new RESTException(
-          "Received a malformed path for a REST request: %s. Paths should not start with /", path);
-    }
+    prepareRequest(path);
 
-    HttpUriRequestBase request = new HttpUriRequestBase(method.name(), buildUri(path, queryParams));
+    URI requestUri = buildUri(path, queryParams);
+    HttpUriRequestBase request = new HttpUriRequestBase(method.name(), requestUri);
 
     if (requestBody instanceof Map) {
       // encode maps as form data, application/x-www-form-urlencoded
@@ -359,57 +420,321 @@ public class HTTPClient implements RESTClient {
     } else {
       addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
     }
-    if (authDataProvider != null) {
-      request.setHeader(
-          AuthConstants.HTTP_HEADER_AUTHORIZATION,
-          new String(authDataProvider.getTokenData(), StandardCharsets.UTF_8));
+
+    // The response may differ by the principal, so a cached response is only reused for the
+    // requests sent with the same credential.
+    ValidatorKey validatorKey =
+        method == Method.GET && etagCache != null
+            ? new ValidatorKey(
+                requestUri, request.getFirstHeader(AuthConstants.HTTP_HEADER_AUTHORIZATION))
+            : null;
+    Validator validator = validatorKey != null ? etagCache.getIfPresent(validatorKey) : null;
+    if (validator != null) {
+      request.setHeader(HttpHeaders.IF_NONE_MATCH, validator.etag);
     }
 
     try (CloseableHttpResponse response = httpClient.execute(request)) {
-      Map<String, String> respHeaders = Maps.newHashMap();
-      for (Header header : response.getHeaders()) {
-        respHeaders.put(header.getName(), header.getValue());
+      int code = response.getCode();
+      Supplier<String> responseBody = () -> extractResponseBodyAsString(response);
+      if (validator != null && code == HttpStatus.SC_NOT_MODIFIED) {
+        // The cached response is still valid.
+        code = HttpStatus.SC_OK;
+        responseBody = () -> validator.body;
+
+      } else if (validatorKey != null) {
+        Header etag = response.getFirstHeader(HttpHeaders.ETAG);
+        if (code == HttpStatus.SC_OK && etag != null) {
+          String body = extractResponseBodyAsString(response);
+          if (body != null) {
+            etagCache.put(validatorKey, new Validator(etag.getValue(), body));
+          }
+          responseBody = () -> body;
+        } else {
+          etagCache.invalidate(validatorKey);
+        }
       }
 
-      responseHeaders.accept(respHeaders);
+      return processResponse(
+          method,
+          path,
+          code,
+          response.getReasonPhrase(),
+          response.getHeaders(),
+          responseBody,
+          responseType,
+          errorHandler,
+          responseHeaders);
+    } catch (IOException e) {
+      throw new RESTException(e, "Error occurred while processing %s request", method);
+    }
+  }
 
-      // Skip parsing the response stream for any successful request not expecting a response body
-      if (response.getCode() == HttpStatus.SC_NO_CONTENT
-          || (responseType == null && isSuccessful(response))) {
-        return null;
+  /**
+   * Executes an HTTP request asynchronously and processes the corresponding response.
+   *
+   * <p>The request is sent by the asynchronous client without blocking the calling thread, the
+   * response is processed the same way as {@link #execute(Method, String, Map, Object, Class, Map,
+   * Consumer)}, any exception thrown by the processing, including the exception thrown by the error
+   * handler, completes the returned future exceptionally.
+   *
+   * @param method The HTTP method to use (e.g., GET, POST, PUT, DELETE).
+   * @param path The URL path to send the request to.
+   * @param queryParams A map of query parameters (key-value pairs) to include in the request URL
+   *     (can be null).
+   * @param requestBody The content to place in the request body (can be null).
+   * @param responseType The class type of the response for deserialization (Must be registered with
+   *     the ObjectMapper).
+   * @param headers A map of request headers (key-value pairs) to include in the request (can be
+   *     null).
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   * @param <T> The class type of the response for deserialization. (Must be registered with the
+   *     ObjectMapper).
+   * @return A future of the response entity parsed and converted to its type T.
+   */
+  private <T> CompletableFuture<T> executeAsync(
+      Method method,
+      String path,
+      Map<String, String> queryParams,
+      Object requestBody,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    SimpleHttpRequest request;
+    CloseableHttpAsyncClient client;
+    try {
+      prepareRequest(path);
+
+      request = new SimpleHttpRequest(method.name(), buildUri(path, queryParams));
+      addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
+      if (requestBody != null) {
+        request.setBody(toJsonString(requestBody), ContentType.APPLICATION_JSON);
       }
+      client = asyncHttpClient();
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      return future;
+    }
 
-      String responseBody = extractResponseBodyAsString(response);
+    client.execute(
+        request,
+        new FutureCallback<SimpleHttpResponse>() {
+          @Override
+          public void completed(SimpleHttpResponse response) {
+            try {
+              future.complete(
+                  processResponse(
+                      method,
+                      path,
+                      response.getCode(),
+                      response.getReasonPhrase(),
+                      response.getHeaders(),
+                      response::getBodyText,
+                      responseType,
+                      errorHandler,
+                      h -> {}));
+            } catch (RuntimeException e) {
+              future.completeExceptionally(e);
+            }
+          }
 
-      if (!isSuccessful(response)) {
-        // The provided error handler is expected to throw, but a RESTException.java is thrown if
-        // not.
-        throwFailure(response, responseBody, errorHandler);
-      }
+          @Override
+          public void failed(Exception e) {
+            future.completeExceptionally(
+                new RESTException(e, "Error occurred while processing %s request", method));
+          }
+
+          @Override
+          public void cancelled() {
+            future.cancel(false);
+          }
+        });
+    return future;
+  }
+
+  /**
+   * Runs the pre-connect handler if it hasn't been run and checks the path of the request.
+   *
+   * @param path The URL path to send the request to.
+   */
+  private void prepareRequest(String path) {
+    if (handlerStatus != HandlerStatus.Finished) {
+      performPreConnectHandler();
+    }
+
+    if (path.startsWith("/")) {
+      throw new RESTException(
+          "Received a malformed path for a REST request: %s. Paths should not start with /", path);
+    }
+  }
+
+  /**
+   * Processes the response of an HTTP request, it's shared by the blocking and the asynchronous
+   * requests.
+   *
+   * @param method The HTTP method of the request.
+   * @param path The URL path of the request.
+   * @param code The status code of the response.
+   * @param reasonPhrase The reason phrase of the response (can be null).
+   * @param headers The headers of the response.
+   * @param responseBody The supplier of the response body, it's only called when the body is
+   *     needed.
+   * @param responseType The class type of the response for deserialization.
+   * @param errorHandler The error handler delegated for HTTP responses.
+   * @param responseHeaders The consumer of the response headers.
+   * @param <T> The class type of the response for deserialization.
+   * @return The response entity parsed and converted to its type T.
+   */
+  private <T> T processResponse(
+      Method method,
+      String path,
+      int code,
+      String reasonPhrase,
+      Header[] headers,
+      Supplier<String> responseBody,
+      Class<T> responseType,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    Map<String, String> respHeaders = Maps.newHashMap();
+    for (Header header : headers) {
+      respHeaders.put(header.getName(), header.getValue());
+    }
+
+    responseHeaders.accept(respHeaders);
+
+    // Skip parsing the response stream for any successful request not expecting a response body
+    if (code == HttpStatus.SC_NO_CONTENT || (responseType == null && isSuccessful(code))) {
+      return null;
+    }
+
+    String body = responseBody.get();
+
+    if (!isSuccessful(code)) {
+      // The provided error handler is expected to throw, but a RESTException.java is thrown if
+      // not.
+      throwFailure(code, reasonPhrase, body, errorHandler);
+    }
+
+    if (body == null) {
+      throw new RESTException(
+          "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
+          responseType != null ? responseType.getSimpleName() : "unknown",
+          method.name(),
+          path,
+          code);
+    }
+
+    try {
+      return mapper.readValue(body, responseType);
+    } catch (JsonProcessingException e) {
+      throw new RESTException(
+          e,
+          "Received a success response code of %d, but failed to parse response body into %s",
+          code,
+          responseType != null ? responseType.getSimpleName() : "unknown");
+    }
+  }
+
+  /**
+   * The key of a cached GET response, the request URI and the hash of the Authorization header of
+   * the request, the credential itself isn't kept in the cache.
+   */
+  private static final class ValidatorKey {
+    private final URI uri;
+    private final String credentialHash;
+
+    private ValidatorKey(URI uri, Header authorization) {
+      this.uri = uri;
+      String credential = authorization == null ? null : authorization.getValue();
+      this.credentialHash =
+          credential == null
+              ? ""
+              : Hashing.sha256().hashString(credential, StandardCharsets.UTF_8).toString();
+    }
 
-      if (responseBody == null) {
-        throw new RESTException(
-            "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
-            responseType != null ? responseType.getSimpleName() : "unknown",
-            method.name(),
-            path,
-            response.getCode());
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
       }
+      if (!(o instanceof ValidatorKey)) {
+        return false;
+      }
+      ValidatorKey that = (ValidatorKey) o;
+      return uri.equals(that.uri) && credentialHash.equals(that.credentialHash);
+    }
 
-      try {
-        return mapper.readValue(responseBody, responseType);
-      } catch (JsonProcessingException e) {
-        throw new RESTException(
-            e,
-            "Received a success response code of %d, but failed to parse response body into %s",
-            response.getCode(),
-            responseType != null ? responseType.getSimpleName() : "unknown");
+    @Override
+    public int hashCode() {
+      return Objects.hash(uri, credentialHash);
+    }
+  }
+
+  /** The entity tag of a GET response and the response body it validates. */
+  private static final class Validator {
+    private final String etag;
+    private final String body;
+
+    private Validator(String etag, String body) {
+      this.etag = etag;
+      this.body = body;
+    }
+  }
+
+  private CloseableHttpAsyncClient asyncHttpClient() {
+    CloseableHttpAsyncClient client = asyncHttpClient;
+    if (client != null) {
+      return client;
+    }
+
+    synchronized (this) {
+      Preconditions.checkState(!closed, "The HTTP client is closed");
+      if (asyncHttpClient == null) {
+        boolean http2Enabled =
+            Boolean.parseBoolean(properties.getOrDefault(ASYNC_HTTP2_ENABLED, "true"));
+        PoolingAsyncClientConnectionManager connectionManager =
+            PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(
+                    intProperty(ASYNC_MAX_CONNECTIONS, DEFAULT_ASYNC_MAX_CONNECTIONS))
+                .setMaxConnPerRoute(
+                    intProperty(
+                        ASYNC_MAX_CONNECTIONS_PER_ROUTE, DEFAULT_ASYNC_MAX_CONNECTIONS_PER_ROUTE))
+                .setDefaultTlsConfig(
+                    TlsConfig.custom()
+                        .setVersionPolicy(
+                            http2Enabled
+                                ? HttpVersionPolicy.NEGOTIATE
+                                : HttpVersionPolicy.FORCE_HTTP_1)
+                        .build())
+                .build();
+
+        CloseableHttpAsyncClient newClient =
+            HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultHeaders(
+                    baseHeaders.entrySet().stream()
+                        .map(e -> new BasicHeader(e.getKey(), e.getValue()))
+                        .collect(Collectors.toList()))
+                .build();
+        newClient.start();
+        this.asyncHttpClient = newClient;
       }
-    } catch (IOException e) {
-      throw new RESTException(e, "Error occurred while processing %s request", method);
+      return asyncHttpClient;
     }
   }
 
+  private int intProperty(String key, int defaultValue) {
+    String value = properties.get(key);
+    if (value == null) {
+      return defaultValue;
+    }
+
+    int result = Integer.parseInt(value);
+    Preconditions.checkArgument(result > 0, "%s should be positive, but got %s", key, result);
+    return result;
+  }
+
   private synchronized void performPreConnectHandler() {
     // beforeConnectHandler is a pre-connection handler that needs to be executed before the first
     // HTTP request. if the handler execute fails, we set the status to Start to retry the handler.
@@ -464,6 +789,31 @@ public class HTTPClient implements RESTClient {
     return execute(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
   }
 
+  /**
+   * Sends an HTTP GET request to the specified path asynchronously and processes the response.
+   *
+   * @param path The URL path to send the GET request to.
+   * @param queryParams A map of query parameters (key-value pairs) to include in the request URL
+   *     (can be null).
+   * @param responseType The class type of the response for deserialization (Must be registered with
+   *     the ObjectMapper).
+   * @param headers A map of request headers (key-value pairs) to include in the request (can be
+   *     null).
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   * @param <T> The class type of the response for deserialization.
+   * @return A future of the response entity parsed and converted to its type T.
+   */
+  @Override
+  public <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return executeAsync(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
+  }
+
   /**
    * Sends an HTTP POST request to the specified path with the provided request body and processes
    * the response.
@@ -652,12 +1002,17 @@ public class HTTPClient implements RESTClient {
    * @param bodyMimeType The MIME type of the request body.
    */
   private void addRequestHeaders(
-      HttpUriRequest request, Map<String, String> requestHeaders, String bodyMimeType) {
+      HttpRequest request, Map<String, String> requestHeaders, String bodyMimeType) {
     // Some systems require the Content-Type header to be set even for empty-bodied requests to
     // avoid failures.
     request.setHeader(HttpHeaders.CONTENT_TYPE, bodyMimeType);
     request.setHeader(HttpHeaders.ACCEPT, VERSION_HEADER);
     requestHeaders.forEach(request::setHeader);
+    if (authDataProvider != null) {
+      request.setHeader(
+          AuthConstants.HTTP_HEADER_AUTHORIZATION,
+          new String(authDataProvider.getTokenData(), StandardCharsets.UTF_8));
+    }
   }
 
   /**
@@ -671,6 +1026,14 @@ public class HTTPClient implements RESTClient {
       authDataProvider.close();
     }
     httpClient.close(CloseMode.GRACEFUL);
+    CloseableHttpAsyncClient client;
+    synchronized (this) {
+      closed = true;
+      client = asyncHttpClient;
+    }
+    if (client != null) {
+      client.close(CloseMode.GRACEFUL);
+    }
   }
 
   /**
@@ -690,7 +1053,6 @@ public class HTTPClient implements RESTClient {
    * URI, request headers, and ObjectMapper.
    */
   public static class Builder {
-    @SuppressWarnings("UnusedVariable")
     private final Map<String, String> properties;
 
     private final Map<String, String> baseHeaders = Maps.newHashMap();
@@ -779,13 +1141,18 @@ public class HTTPClient implements RESTClient {
      */
     public HTTPClient build() {
 
-      return new HTTPClient(uri, baseHeaders, mapper, authDataProvider, beforeConnectHandler);
+      return new HTTPClient(
+          uri, baseHeaders, properties, mapper, authDataProvider, beforeConnectHandler);
     }
   }
 
   private StringEntity toJson(Object requestBody) {
+    return new StringEntity(toJsonString(requestBody));
+  }
+
+  private String toJsonString(Object requestBody) {
     try {
-      return new StringEntity(mapper.writeValueAsString(requestBody));
+      return mapper.writeValueAsString(requestBody);
     } catch (JsonProcessingException e) {
       throw new RESTException(e, "Failed to write request body: %s", requestBody);
     }
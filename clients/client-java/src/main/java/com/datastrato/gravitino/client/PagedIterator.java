@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.client;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over the result of a paged list request. The pages are fetched lazily from the
+ * Gravitino server when the items of the previous page are consumed.
+ *
+ * @param <T> The type of the items.
+ */
+class PagedIterator<T> implements Iterator<T> {
+
+  /** The query parameter of the page token. */
+  static final String PAGE_TOKEN = "pageToken";
+
+  /** The query parameter of the page size. */
+  static final String PAGE_SIZE = "pageSize";
+
+  /**
+   * A function to fetch a page of items.
+   *
+   * @param <T> The type of the items.
+   */
+  @FunctionalInterface
+  interface PageFetcher<T> {
+    /**
+     * Fetch a page with the given query parameters.
+     *
+     * @param queryParams The query parameters including the page token and the page size.
+     * @return The items in the page and the token of the next page.
+     */
+    Page<T> fetch(Map<String, String> queryParams);
+  }
+
+  /**
+   * A page of items.
+   *
+   * @param <T> The type of the items.
+   */
+  static class Page<T> {
+    private final T[] items;
+    private final String nextPageToken;
+
+    Page(T[] items, String nextPageToken) {
+      this.items = items;
+      this.nextPageToken = nextPageToken;
+    }
+  }
+
+  private final PageFetcher<T> fetcher;
+  private final Map<String, String> baseParams;
+  private final int pageSize;
+
+  private Iterator<T> current = Collections.emptyIterator();
+  private String nextPageToken;
+  private boolean lastPage = false;
+
+  PagedIterator(PageFetcher<T> fetcher, Map<String, String> baseParams, int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("pageSize must be positive, but got " + pageSize);
+    }
+    this.fetcher = fetcher;
+    this.baseParams = baseParams;
+    this.pageSize = pageSize;
+  }
+
+  PagedIterator(PageFetcher<T> fetcher, int pageSize) {
+    this(fetcher, Collections.emptyMap(), pageSize);
+  }
+
+  @Override
+  public boolean hasNext() {
+    // A page may be empty if the items are removed between two requests, so keep fetching until
+    // an item is found or there is no more page.
+    while (!current.hasNext() && !lastPage) {
+      Map<String, String> params = new HashMap<>(baseParams);
+      params.put(PAGE_SIZE, String.valueOf(pageSize));
+      if (nextPageToken != null) {
+        params.put(PAGE_TOKEN, nextPageToken);
+      }
+
+      Page<T> page = fetcher.fetch(params);
+      current = Arrays.asList(page.items).iterator();
+      nextPageToken = page.nextPageToken;
+      lastPage = nextPageToken == null;
+    }
+    return current.hasNext();
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+}
@@ -24,6 +24,7 @@ import com.datastrato.gravitino.rest.RESTResponse;
 import com.google.common.collect.ImmutableMap;
 import java.io.Closeable;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -203,6 +204,33 @@ public interface RESTClient extends Closeable {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
 
+  /**
+   * Perform a GET request on the specified path with given information asynchronously. The
+   * exceptions, including the ones thrown by the error handler, are reported by completing the
+   * returned future exceptionally.
+   *
+   * <p>The default implementation runs the blocking {@link #get(String, Map, Class, Map,
+   * Consumer)} in the common fork-join pool, implementations should override it with a
+   * non-blocking one.
+   *
+   * @param path The path to be requested.
+   * @param queryParams The query parameters to be included in the request.
+   * @param responseType The class representing the type of the response.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   * @param <T> The type of the response.
+   * @return A future of the response of the GET request.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return CompletableFuture.supplyAsync(
+        () -> get(path, queryParams, responseType, headers, errorHandler));
+  }
+
   /**
    * Perform a POST request on the specified path with given information.
    *
@@ -11,11 +11,14 @@ import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.dto.AuditDTO;
 import com.datastrato.gravitino.dto.CatalogDTO;
+import com.datastrato.gravitino.dto.rel.TableDTO;
 import com.datastrato.gravitino.dto.requests.TableCreateRequest;
 import com.datastrato.gravitino.dto.requests.TableUpdateRequest;
 import com.datastrato.gravitino.dto.requests.TableUpdatesRequest;
+import com.datastrato.gravitino.dto.requests.TablesBatchLoadRequest;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
+import com.datastrato.gravitino.dto.responses.TableListResponse;
 import com.datastrato.gravitino.dto.responses.TableResponse;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.exceptions.NoSuchTableException;
@@ -30,11 +33,15 @@ import com.datastrato.gravitino.rel.expressions.transforms.Transform;
 import com.datastrato.gravitino.rel.indexes.Index;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -87,6 +94,59 @@ public class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog
     return resp.identifiers();
   }
 
+  /**
+   * List the tables under the given namespace page by page. The pages are fetched lazily from the
+   * server, so it's suitable for the schema with lots of tables.
+   *
+   * @param namespace The namespace to list the tables under it.
+   * @param pageSize The max number of tables fetched in one request.
+   * @return An iterator of the table identifiers.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  public Iterator<NameIdentifier> listTablesIterator(Namespace namespace, int pageSize)
+      throws NoSuchSchemaException {
+    Namespace.checkTable(namespace);
+
+    return new PagedIterator<>(
+        params -> {
+          EntityListResponse resp =
+              restClient.get(
+                  formatTableRequestPath(namespace),
+                  params,
+                  EntityListResponse.class,
+                  Collections.emptyMap(),
+                  ErrorHandlers.tableErrorHandler());
+          resp.validate();
+          return new PagedIterator.Page<>(resp.identifiers(), resp.nextPageToken());
+        },
+        pageSize);
+  }
+
+  /**
+   * List the tables under the given namespace asynchronously, the request doesn't block the calling
+   * thread.
+   *
+   * @param namespace The namespace to list the tables under it.
+   * @return A future of the identifiers of the tables, it's completed exceptionally with {@link
+   *     NoSuchSchemaException} if the schema with specified namespace does not exist.
+   */
+  public CompletableFuture<NameIdentifier[]> listTablesAsync(Namespace namespace) {
+    Namespace.checkTable(namespace);
+
+    return restClient
+        .getAsync(
+            formatTableRequestPath(namespace),
+            Collections.emptyMap(),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler())
+        .thenApply(
+            resp -> {
+              resp.validate();
+              return resp.identifiers();
+            });
+  }
+
   /**
    * Load the table with specified identifier.
    *
@@ -109,6 +169,70 @@ public class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog
     return RelationalTable.from(ident.namespace(), resp.getTable(), restClient);
   }
 
+  /**
+   * Load the table with specified identifier asynchronously, the request doesn't block the calling
+   * thread.
+   *
+   * @param ident The identifier of the table to load.
+   * @return A future of the {@link Table} with specified identifier, it's completed exceptionally
+   *     with {@link NoSuchTableException} if the table with specified identifier does not exist.
+   */
+  public CompletableFuture<Table> loadTableAsync(NameIdentifier ident) {
+    NameIdentifier.checkTable(ident);
+
+    return restClient
+        .getAsync(
+            formatTableRequestPath(ident.namespace()) + "/" + ident.name(),
+            Collections.emptyMap(),
+            TableResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler())
+        .thenApply(
+            resp -> {
+              resp.validate();
+              return RelationalTable.from(ident.namespace(), resp.getTable(), restClient);
+            });
+  }
+
+  /**
+   * Load the tables with specified identifiers. The tables in the same schema are loaded by one
+   * request, the tables that don't exist are skipped.
+   *
+   * @param idents The identifiers of the tables to load.
+   * @return The loaded {@link Table}s, grouped by schema in the order of the first appearance of
+   *     the schema in the identifiers.
+   * @throws NoSuchSchemaException if the schema of any table does not exist.
+   */
+  public Table[] loadTables(NameIdentifier... idents) throws NoSuchSchemaException {
+    Map<Namespace, List<String>> namesByNamespace = new LinkedHashMap<>();
+    for (NameIdentifier ident : idents) {
+      NameIdentifier.checkTable(ident);
+      namesByNamespace.computeIfAbsent(ident.namespace(), k -> new ArrayList<>()).add(ident.name());
+    }
+
+    List<Table> tables = new ArrayList<>(idents.length);
+    for (Map.Entry<Namespace, List<String>> entry : namesByNamespace.entrySet()) {
+      TablesBatchLoadRequest req =
+          new TablesBatchLoadRequest(entry.getValue().toArray(new String[0]));
+      req.validate();
+
+      TableListResponse resp =
+          restClient.post(
+              formatTableRequestPath(entry.getKey()) + ":batchLoad",
+              req,
+              TableListResponse.class,
+              Collections.emptyMap(),
+              ErrorHandlers.tableErrorHandler());
+      resp.validate();
+
+      for (TableDTO table : resp.getTables()) {
+        tables.add(RelationalTable.from(entry.getKey(), table, restClient));
+      }
+    }
+
+    return tables.toArray(new Table[0]);
+  }
+
   /**
    * Create a new table with specified identifier, columns, comment and properties.
    *
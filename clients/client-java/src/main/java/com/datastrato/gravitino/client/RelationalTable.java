@@ -30,6 +30,7 @@ import com.datastrato.gravitino.rest.RESTUtils;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import javax.annotation.Nullable;
 import lombok.SneakyThrows;
@@ -176,6 +177,53 @@ public class RelationalTable implements Table, SupportsPartitions {
     return resp.getPartitions();
   }
 
+  /**
+   * List the partition names of the table page by page. The pages are fetched lazily from the
+   * server, so it's suitable for the table with lots of partitions.
+   *
+   * @param pageSize The max number of partition names fetched in one request.
+   * @return An iterator of the partition names.
+   */
+  public Iterator<String> listPartitionNamesIterator(int pageSize) {
+    return new PagedIterator<>(
+        params -> {
+          PartitionNameListResponse resp =
+              restClient.get(
+                  getPartitionRequestPath(),
+                  params,
+                  PartitionNameListResponse.class,
+                  Collections.emptyMap(),
+                  ErrorHandlers.partitionErrorHandler());
+          return new PagedIterator.Page<>(resp.partitionNames(), resp.nextPageToken());
+        },
+        pageSize);
+  }
+
+  /**
+   * List the partitions of the table page by page. The pages are fetched lazily from the server,
+   * so it's suitable for the table with lots of partitions.
+   *
+   * @param pageSize The max number of partitions fetched in one request.
+   * @return An iterator of the partitions.
+   */
+  public Iterator<Partition> listPartitionsIterator(int pageSize) {
+    Map<String, String> params = new HashMap<>();
+    params.put("details", "true");
+    return new PagedIterator<Partition>(
+        pageParams -> {
+          PartitionListResponse resp =
+              restClient.get(
+                  getPartitionRequestPath(),
+                  pageParams,
+                  PartitionListResponse.class,
+                  Collections.emptyMap(),
+                  ErrorHandlers.partitionErrorHandler());
+          return new PagedIterator.Page<>(resp.getPartitions(), resp.getNextPageToken());
+        },
+        params,
+        pageSize);
+  }
+
   /**
    * Returns the partition with the given name.
    *
@@ -5,6 +5,7 @@
 package com.datastrato.gravitino.client;
 
 import static org.apache.hc.core5.http.HttpStatus.SC_CONFLICT;
+import static org.apache.hc.core5.http.HttpStatus.SC_METHOD_NOT_ALLOWED;
 import static org.apache.hc.core5.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.hc.core5.http.HttpStatus.SC_OK;
 import static org.apache.hc.core5.http.HttpStatus.SC_SERVER_ERROR;
@@ -22,12 +23,14 @@ import com.datastrato.gravitino.dto.responses.CatalogResponse;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.FileLocationResponse;
 import com.datastrato.gravitino.dto.responses.FilesetResponse;
 import com.datastrato.gravitino.exceptions.AlreadyExistsException;
 import com.datastrato.gravitino.exceptions.FilesetAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchFilesetException;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.exceptions.NotFoundException;
+import com.datastrato.gravitino.exceptions.UnsupportedEndpointException;
 import com.datastrato.gravitino.file.Fileset;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableList;
@@ -35,6 +38,8 @@ import com.google.common.collect.ImmutableMap;
 import java.nio.file.NoSuchFileException;
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.apache.hc.core5.http.Method;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -174,6 +179,83 @@ public class TestFilesetCatalog extends TestBase {
         "internal error");
   }
 
+  @Test
+  public void testLoadFilesetAsync() throws JsonProcessingException {
+    NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
+    String filesetPath =
+        withSlash(FilesetCatalog.formatFilesetRequestPath(fileset.namespace()) + "/fileset1");
+
+    FilesetDTO mockFileset =
+        mockFilesetDTO(
+            fileset.name(),
+            Fileset.Type.MANAGED,
+            "mock comment",
+            "mock location",
+            ImmutableMap.of("k1", "v1"));
+    buildMockResource(Method.GET, filesetPath, null, new FilesetResponse(mockFileset), SC_OK);
+
+    FilesetCatalog filesetCatalog = (FilesetCatalog) catalog.asFilesetCatalog();
+    assertFileset(mockFileset, filesetCatalog.loadFilesetAsync(fileset).join());
+
+    ErrorResponse errResp =
+        ErrorResponse.notFound(NoSuchFilesetException.class.getSimpleName(), "fileset not found");
+    buildMockResource(Method.GET, filesetPath, null, errResp, SC_NOT_FOUND);
+
+    CompletableFuture<Fileset> failed = filesetCatalog.loadFilesetAsync(fileset);
+    Throwable ex = Assertions.assertThrows(CompletionException.class, failed::join);
+    Assertions.assertInstanceOf(NoSuchFilesetException.class, ex.getCause());
+  }
+
+  @Test
+  public void testGetFileLocation() throws JsonProcessingException {
+    NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
+    String locationPath =
+        withSlash(
+            FilesetCatalog.formatFilesetRequestPath(fileset.namespace()) + "/fileset1/location");
+
+    FilesetDTO mockFileset =
+        mockFilesetDTO(
+            fileset.name(),
+            Fileset.Type.MANAGED,
+            "mock comment",
+            "mock location",
+            ImmutableMap.of("k1", "v1"));
+    FileLocationResponse resp = new FileLocationResponse(mockFileset, "mock location/dir");
+    buildMockResource(
+        Method.GET, locationPath, ImmutableMap.of("subPath", "dir"), null, resp, SC_OK);
+
+    FileLocation fileLocation = metalake.getFileLocation(fileset, "dir");
+    Assertions.assertEquals("mock location/dir", fileLocation.location());
+    assertFileset(mockFileset, fileLocation.fileset());
+
+    ErrorResponse errResp =
+        ErrorResponse.notFound(NoSuchFilesetException.class.getSimpleName(), "fileset not found");
+    buildMockResource(
+        Method.GET, locationPath, ImmutableMap.of("subPath", "dir"), null, errResp, SC_NOT_FOUND);
+    Assertions.assertThrows(
+        NoSuchFilesetException.class,
+        () -> metalake.getFileLocation(fileset, "dir"),
+        "fileset not found");
+
+    // The server of the previous version replies 404 without a Gravitino error response.
+    buildMockResource(
+        Method.GET, locationPath, ImmutableMap.of("subPath", "dir"), null, "404", SC_NOT_FOUND);
+    Assertions.assertThrows(
+        UnsupportedEndpointException.class, () -> metalake.getFileLocation(fileset, "dir"));
+
+    // The unsupported operation replied by the server isn't a missing endpoint.
+    ErrorResponse unsupportedResp = ErrorResponse.unsupportedOperation("unsupported");
+    buildMockResource(
+        Method.GET,
+        locationPath,
+        ImmutableMap.of("subPath", "dir"),
+        null,
+        unsupportedResp,
+        SC_METHOD_NOT_ALLOWED);
+    Assertions.assertThrows(
+        UnsupportedOperationException.class, () -> metalake.getFileLocation(fileset, "dir"));
+  }
+
   @Test
   public void testCreateFileset() throws JsonProcessingException {
     NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
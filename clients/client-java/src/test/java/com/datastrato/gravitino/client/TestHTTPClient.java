@@ -40,6 +40,8 @@ import java.io.IOException;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import org.apache.hc.core5.http.Method;
 import org.junit.jupiter.api.AfterAll;
@@ -49,6 +51,7 @@ import org.junit.jupiter.api.Test;
 import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
+import org.mockserver.verify.VerificationTimes;
 
 /**
  * * Exercises the RESTClient interface, specifically over a mocked-server using the actual
@@ -128,6 +131,90 @@ public class TestHTTPClient {
     testHttpMethodOnFailure(Method.HEAD, false, false);
   }
 
+  @Test
+  public void testGetWithETag() throws JsonProcessingException {
+    Item body = new Item(0L, "hank");
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(new RuntimeException("Failure response")).when(onError).accept(any());
+
+    // The request revalidating the cached response is matched first.
+    mockServer
+        .when(request("/etag").withMethod("GET").withHeader("If-None-Match", "\"v1\""))
+        .respond(response().withStatusCode(304).withHeader("ETag", "\"v1\""));
+    mockServer
+        .when(request("/etag").withMethod("GET"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("ETag", "\"v1\"")
+                .withBody(MAPPER.writeValueAsString(body)));
+
+    Assertions.assertEquals(body, doExecuteRequest(Method.GET, "etag", null, onError, h -> {}));
+    // The second request gets 304 Not Modified and returns the cached response.
+    Assertions.assertEquals(body, doExecuteRequest(Method.GET, "etag", null, onError, h -> {}));
+    mockServer.verify(
+        request("/etag").withMethod("GET").withHeader("If-None-Match", "\"v1\""),
+        VerificationTimes.once());
+    verify(onError, never()).accept(any());
+  }
+
+  @Test
+  public void testGetWithETagOfOtherPrincipal() throws JsonProcessingException {
+    Item body = new Item(0L, "hank");
+    Item otherBody = new Item(1L, "other");
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(new RuntimeException("Failure response")).when(onError).accept(any());
+
+    mockServer
+        .when(request("/etag-principal").withMethod("GET").withHeader("If-None-Match", "\"v1\""))
+        .respond(response().withStatusCode(304).withHeader("ETag", "\"v1\""));
+    mockServer
+        .when(request("/etag-principal").withMethod("GET").withHeader("Authorization", "user1"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("ETag", "\"v1\"")
+                .withBody(MAPPER.writeValueAsString(body)));
+    mockServer
+        .when(request("/etag-principal").withMethod("GET").withHeader("Authorization", "user2"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("ETag", "\"v1\"")
+                .withBody(MAPPER.writeValueAsString(otherBody)));
+
+    Assertions.assertEquals(
+        body,
+        restClient.get(
+            "etag-principal", Item.class, ImmutableMap.of("Authorization", "user1"), onError));
+    // The response cached for the other principal isn't revalidated or reused.
+    Assertions.assertEquals(
+        otherBody,
+        restClient.get(
+            "etag-principal", Item.class, ImmutableMap.of("Authorization", "user2"), onError));
+    mockServer.verify(
+        request("/etag-principal").withMethod("GET").withHeader("If-None-Match", "\"v1\""),
+        VerificationTimes.exactly(0));
+    verify(onError, never()).accept(any());
+  }
+
+  @Test
+  public void testGetAsyncAfterClose() throws IOException {
+    RESTClient client =
+        HTTPClient.builder(ImmutableMap.of())
+            .uri(String.format("http://127.0.0.1:%d", mockServer.getPort()))
+            .build();
+    client.close();
+
+    // The asynchronous client isn't created after the client is closed.
+    CompletableFuture<Item> future =
+        client.getAsync(
+            "closed", ImmutableMap.of(), Item.class, ImmutableMap.of(), mock(ErrorHandler.class));
+    CompletionException exception =
+        Assertions.assertThrows(CompletionException.class, future::join);
+    Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+  }
+
   public static void testHttpMethodOnSuccess(
       Method method, boolean hasRequestBody, boolean hasResponseBody)
       throws JsonProcessingException {
@@ -39,10 +39,12 @@ import com.datastrato.gravitino.dto.requests.SchemaUpdatesRequest;
 import com.datastrato.gravitino.dto.requests.TableCreateRequest;
 import com.datastrato.gravitino.dto.requests.TableUpdateRequest;
 import com.datastrato.gravitino.dto.requests.TableUpdatesRequest;
+import com.datastrato.gravitino.dto.requests.TablesBatchLoadRequest;
 import com.datastrato.gravitino.dto.responses.CatalogResponse;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.TableListResponse;
 import com.datastrato.gravitino.dto.responses.SchemaResponse;
 import com.datastrato.gravitino.dto.responses.TableResponse;
 import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
@@ -69,7 +71,11 @@ import com.google.common.collect.ImmutableMap;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.apache.hc.core5.http.Method;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -296,6 +302,41 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex.getMessage().contains("schema is not empty"));
   }
 
+  @Test
+  public void testListTablesIterator() throws JsonProcessingException {
+    NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table2");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(table1.namespace()));
+
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("pageSize", "1"),
+        null,
+        new EntityListResponse(new NameIdentifier[] {table1}, "token1"),
+        SC_OK);
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("pageSize", "1", "pageToken", "token1"),
+        null,
+        new EntityListResponse(new NameIdentifier[] {table2}, null),
+        SC_OK);
+
+    RelationalCatalog relationalCatalog = (RelationalCatalog) catalog.asTableCatalog();
+    Iterator<NameIdentifier> iterator = relationalCatalog.listTablesIterator(table1.namespace(), 1);
+    Assertions.assertTrue(iterator.hasNext());
+    Assertions.assertEquals(table1, iterator.next());
+    Assertions.assertTrue(iterator.hasNext());
+    Assertions.assertEquals(table2, iterator.next());
+    Assertions.assertFalse(iterator.hasNext());
+    Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> relationalCatalog.listTablesIterator(table1.namespace(), 0));
+  }
+
   @Test
   public void testListTables() throws JsonProcessingException {
     NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
@@ -697,6 +738,102 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex.getMessage().contains("table not found"));
   }
 
+  @Test
+  public void testLoadTableAsync() throws JsonProcessingException {
+    NameIdentifier tableId = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    String tablePath =
+        withSlash(
+            RelationalCatalog.formatTableRequestPath(tableId.namespace()) + "/" + tableId.name());
+    ColumnDTO[] columns =
+        new ColumnDTO[] {createMockColumn("col1", Types.ByteType.get(), "comment1")};
+    TableDTO expectedTable =
+        createMockTable(
+            "table1",
+            columns,
+            "comment",
+            Collections.emptyMap(),
+            new Partitioning[0],
+            DistributionDTO.NONE,
+            SortOrderDTO.EMPTY_SORT);
+    buildMockResource(Method.GET, tablePath, null, new TableResponse(expectedTable), SC_OK);
+
+    RelationalCatalog relationalCatalog = (RelationalCatalog) catalog.asTableCatalog();
+    CompletableFuture<Table> future = relationalCatalog.loadTableAsync(tableId);
+    assertTableEquals(fromDTO(expectedTable), future.join());
+
+    // The exception thrown by the error handler completes the future exceptionally
+    ErrorResponse errorResp =
+        ErrorResponse.notFound(NoSuchTableException.class.getSimpleName(), "table not found");
+    buildMockResource(Method.GET, tablePath, null, errorResp, SC_NOT_FOUND);
+
+    CompletableFuture<Table> failed = relationalCatalog.loadTableAsync(tableId);
+    Throwable ex = Assertions.assertThrows(CompletionException.class, failed::join);
+    Assertions.assertInstanceOf(NoSuchTableException.class, ex.getCause());
+    Assertions.assertTrue(ex.getCause().getMessage().contains("table not found"));
+  }
+
+  @Test
+  public void testListTablesAsync() throws JsonProcessingException {
+    NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table2");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(table1.namespace()));
+
+    EntityListResponse resp = new EntityListResponse(new NameIdentifier[] {table1, table2});
+    buildMockResource(Method.GET, tablePath, null, resp, SC_OK);
+
+    RelationalCatalog relationalCatalog = (RelationalCatalog) catalog.asTableCatalog();
+    NameIdentifier[] tables = relationalCatalog.listTablesAsync(table1.namespace()).join();
+    Assertions.assertArrayEquals(new NameIdentifier[] {table1, table2}, tables);
+
+    ErrorResponse errorResp =
+        ErrorResponse.notFound(NoSuchSchemaException.class.getSimpleName(), "schema not found");
+    buildMockResource(Method.GET, tablePath, null, errorResp, SC_NOT_FOUND);
+
+    CompletableFuture<NameIdentifier[]> failed =
+        relationalCatalog.listTablesAsync(table1.namespace());
+    Throwable ex = Assertions.assertThrows(CompletionException.class, failed::join);
+    Assertions.assertInstanceOf(NoSuchSchemaException.class, ex.getCause());
+  }
+
+  @Test
+  public void testLoadTables() throws JsonProcessingException {
+    NameIdentifier tableId1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    NameIdentifier tableId2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table2");
+    String tablePath =
+        withSlash(RelationalCatalog.formatTableRequestPath(tableId1.namespace()) + ":batchLoad");
+    ColumnDTO[] columns =
+        new ColumnDTO[] {createMockColumn("col1", Types.ByteType.get(), "comment1")};
+    TableDTO expectedTable =
+        createMockTable(
+            "table1",
+            columns,
+            "comment",
+            Collections.emptyMap(),
+            EMPTY_PARTITIONING,
+            DistributionDTO.NONE,
+            SortOrderDTO.EMPTY_SORT);
+
+    // table2 doesn't exist, so it's skipped in the response.
+    TablesBatchLoadRequest req = new TablesBatchLoadRequest(new String[] {"table1", "table2"});
+    TableListResponse resp = new TableListResponse(new TableDTO[] {expectedTable});
+    buildMockResource(Method.POST, tablePath, req, resp, SC_OK);
+
+    Table[] tables = ((RelationalCatalog) catalog.asTableCatalog()).loadTables(tableId1, tableId2);
+    Assertions.assertEquals(1, tables.length);
+    assertTableEquals(fromDTO(expectedTable), tables[0]);
+
+    // Test throw NoSuchSchemaException
+    ErrorResponse errorResp =
+        ErrorResponse.notFound(NoSuchSchemaException.class.getSimpleName(), "schema not found");
+    buildMockResource(Method.POST, tablePath, req, errorResp, SC_NOT_FOUND);
+
+    RelationalCatalog relationalCatalog = (RelationalCatalog) catalog.asTableCatalog();
+    Throwable ex =
+        Assertions.assertThrows(
+            NoSuchSchemaException.class, () -> relationalCatalog.loadTables(tableId1, tableId2));
+    Assertions.assertTrue(ex.getMessage().contains("schema not found"));
+  }
+
   @Test
   public void testRenameTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
@@ -20,6 +20,8 @@ class FilesetContext {
   private Fileset fileset;
   private FileSystem fileSystem;
   private Path actualPath;
+  private boolean singleFile;
+  private FilesetPathTranslator pathTranslator;
 
   private FilesetContext() {}
 
@@ -39,6 +41,15 @@ class FilesetContext {
     return actualPath;
   }
 
+  /** @return Whether the fileset only mounts a single file. */
+  public boolean isSingleFile() {
+    return singleFile;
+  }
+
+  public FilesetPathTranslator getPathTranslator() {
+    return pathTranslator;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -47,12 +58,14 @@ class FilesetContext {
     return Objects.equal(getIdentifier(), that.getIdentifier())
         && Objects.equal(getFileset(), that.getFileset())
         && Objects.equal(getFileSystem(), that.getFileSystem())
-        && Objects.equal(getActualPath(), that.getActualPath());
+        && Objects.equal(getActualPath(), that.getActualPath())
+        && isSingleFile() == that.isSingleFile();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(getIdentifier(), getFileset(), getFileSystem(), getActualPath());
+    return Objects.hashCode(
+        getIdentifier(), getFileset(), getFileSystem(), getActualPath(), isSingleFile());
   }
 
   public static Builder builder() {
@@ -88,11 +101,22 @@ class FilesetContext {
       return this;
     }
 
+    public Builder withSingleFile(boolean singleFile) {
+      context.singleFile = singleFile;
+      return this;
+    }
+
+    public Builder withPathTranslator(FilesetPathTranslator pathTranslator) {
+      context.pathTranslator = pathTranslator;
+      return this;
+    }
+
     public FilesetContext build() {
       Preconditions.checkArgument(context.identifier != null, "Identifier is required");
       Preconditions.checkArgument(context.fileset != null, "Fileset is required");
       Preconditions.checkArgument(context.fileSystem != null, "FileSystem is required");
       Preconditions.checkArgument(context.actualPath != null, "ActualPath is required");
+      Preconditions.checkArgument(context.pathTranslator != null, "PathTranslator is required");
       return context;
     }
   }
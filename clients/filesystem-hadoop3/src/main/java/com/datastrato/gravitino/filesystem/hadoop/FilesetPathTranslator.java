@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.filesystem.hadoop;
+
+import com.datastrato.gravitino.shaded.com.google.common.base.Preconditions;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
+
+/**
+ * Translates the paths of the actual storage location of a fileset to the virtual paths by prefix
+ * substitution. The prefixes are computed once for the fileset, so translating the file statuses of
+ * a large directory doesn't format the prefixes or match regular expressions for each file.
+ */
+class FilesetPathTranslator {
+  private final String actualPrefix;
+  private final String virtualPrefix;
+
+  /**
+   * @param storageLocation The storage location of the fileset.
+   * @param virtualPrefix The virtual location of the fileset, with the gvfs scheme.
+   */
+  FilesetPathTranslator(String storageLocation, String virtualPrefix) {
+    // The paths returned by the file systems are normalized, e.g. without the trailing slash.
+    this.actualPrefix = new Path(storageLocation).toString();
+    this.virtualPrefix = virtualPrefix;
+  }
+
+  Path toVirtualPath(Path actualPath) {
+    String path = actualPath.toString();
+    Preconditions.checkArgument(
+        path.startsWith(actualPrefix),
+        "Path %s doesn't start with prefix \"%s\".",
+        path,
+        actualPrefix);
+    return new Path(virtualPrefix + path.substring(actualPrefix.length()));
+  }
+
+  /** Replaces the path of the file status with the virtual path, and returns the file status. */
+  <T extends FileStatus> T toVirtualFileStatus(T fileStatus) {
+    fileStatus.setPath(toVirtualPath(fileStatus.getPath()));
+    return fileStatus;
+  }
+}
@@ -8,22 +8,26 @@ import com.datastrato.gravitino.Catalog;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.client.DefaultOAuth2TokenProvider;
 import com.datastrato.gravitino.client.GravitinoClient;
+import com.datastrato.gravitino.exceptions.NotFoundException;
+import com.datastrato.gravitino.exceptions.UnsupportedEndpointException;
 import com.datastrato.gravitino.file.Fileset;
 import com.datastrato.gravitino.shaded.com.google.common.annotations.VisibleForTesting;
 import com.datastrato.gravitino.shaded.com.google.common.base.Preconditions;
 import com.datastrato.gravitino.shaded.com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.datastrato.gravitino.shaded.org.apache.commons.lang3.StringUtils;
-import com.datastrato.gravitino.shaded.org.apache.commons.lang3.tuple.Pair;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Scheduler;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
-import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.hadoop.conf.Configuration;
@@ -31,7 +35,9 @@ import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
 import org.apache.hadoop.fs.permission.FsPermission;
 import org.apache.hadoop.util.Progressable;
 import org.slf4j.Logger;
@@ -49,9 +55,21 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   private URI uri;
   private GravitinoClient client;
   private String metalakeName;
-  private Cache<NameIdentifier, Pair<Fileset, FileSystem>> filesetCache;
+  private Cache<NameIdentifier, CachedFileset> filesetCache;
+  // The file systems of the filesets evicted on refreshing, they're closed with the GVFS since the
+  // operations of the other threads may still use them.
+  private final Set<FileSystem> evictedFileSystems = ConcurrentHashMap.newKeySet();
+  // The filesets not found in the server, null if they're not cached.
+  private Cache<NameIdentifier, NotFoundException> missingFilesetCache;
+  private long refreshMillsAfterLoad;
+  // The time before which the filesets are loaded from their catalogs, since the server doesn't
+  // resolve the file locations. The servers of the previous versions don't, the endpoint is tried
+  // again after a while in case the server is upgraded.
+  private volatile long fileLocationRetryTimeMillis = 0;
   private ScheduledThreadPoolExecutor scheduler;
 
+  private static final long FILE_LOCATION_RETRY_INTERVAL_MS = 10 * 60 * 1000L;
+
   // The pattern is used to match gvfs path. The scheme prefix (gvfs://fileset) is optional.
   // The following path can be match:
   //     gvfs://fileset/fileset_catalog/fileset_schema/fileset1/file.txt
@@ -90,7 +108,31 @@ public class GravitinoVirtualFileSystem extends FileSystem {
         GravitinoVirtualFileSystemConfiguration
             .FS_GRAVITINO_FILESET_CACHE_EVICTION_MILLS_AFTER_ACCESS_KEY);
 
-    initializeCache(maxCapacity, evictionMillsAfterAccess);
+    this.refreshMillsAfterLoad =
+        configuration.getLong(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_CACHE_REFRESH_MILLS_AFTER_LOAD_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_CACHE_REFRESH_MILLS_AFTER_LOAD_DEFAULT);
+    Preconditions.checkArgument(
+        refreshMillsAfterLoad >= 0,
+        "'%s' should not be less than 0",
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_CACHE_REFRESH_MILLS_AFTER_LOAD_KEY);
+
+    long missingEvictionMills =
+        configuration.getLong(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_CACHE_MISSING_EVICTION_MILLS_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_CACHE_MISSING_EVICTION_MILLS_DEFAULT);
+    Preconditions.checkArgument(
+        missingEvictionMills >= 0,
+        "'%s' should not be less than 0",
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_CACHE_MISSING_EVICTION_MILLS_KEY);
+
+    initializeCache(maxCapacity, evictionMillsAfterAccess, missingEvictionMills);
 
     this.metalakeName =
         configuration.get(GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_METALAKE_KEY);
@@ -109,11 +151,17 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   }
 
   @VisibleForTesting
-  Cache<NameIdentifier, Pair<Fileset, FileSystem>> getFilesetCache() {
+  Cache<NameIdentifier, CachedFileset> getFilesetCache() {
     return filesetCache;
   }
 
-  private void initializeCache(int maxCapacity, long expireAfterAccess) {
+  @VisibleForTesting
+  Set<FileSystem> getEvictedFileSystems() {
+    return evictedFileSystems;
+  }
+
+  private void initializeCache(
+      int maxCapacity, long expireAfterAccess, long missingExpireAfterWrite) {
     // Since Caffeine does not ensure that removalListener will be involved after expiration
     // We use a scheduler with one thread to clean up expired clients.
     this.scheduler = new ScheduledThreadPoolExecutor(1, newDaemonThreadFactory());
@@ -125,14 +173,26 @@ public class GravitinoVirtualFileSystem extends FileSystem {
             .scheduler(Scheduler.forScheduledExecutorService(scheduler))
             .removalListener(
                 (key, value, cause) -> {
+                  // The filesets removed explicitly are closed by the caller.
+                  if (!cause.wasEvicted()) {
+                    return;
+                  }
                   try {
-                    Pair<Fileset, FileSystem> pair = (Pair<Fileset, FileSystem>) value;
-                    if (pair != null && pair.getRight() != null) pair.getRight().close();
+                    CachedFileset cachedFileset = (CachedFileset) value;
+                    if (cachedFileset != null) cachedFileset.fileSystem().close();
                   } catch (IOException e) {
                     Logger.error("Cannot close the file system for fileset: {}", key, e);
                   }
                 })
             .build();
+
+    if (missingExpireAfterWrite > 0) {
+      this.missingFilesetCache =
+          Caffeine.newBuilder()
+              .maximumSize(maxCapacity)
+              .expireAfterWrite(missingExpireAfterWrite, TimeUnit.MILLISECONDS)
+              .build();
+    }
   }
 
   private ThreadFactory newDaemonThreadFactory() {
@@ -232,14 +292,14 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   }
 
   private Path getActualPathByIdentifier(
-      NameIdentifier identifier, Pair<Fileset, FileSystem> filesetPair, Path path) {
+      NameIdentifier identifier, Fileset fileset, boolean singleFile, Path path) {
     String virtualPath = path.toString();
     boolean withScheme =
         virtualPath.startsWith(GravitinoVirtualFileSystemConfiguration.GVFS_FILESET_PREFIX);
     String virtualLocation = getVirtualLocation(identifier, withScheme);
-    String storageLocation = filesetPair.getLeft().storageLocation();
+    String storageLocation = fileset.storageLocation();
     try {
-      if (checkMountsSingleFile(filesetPair)) {
+      if (singleFile) {
         Preconditions.checkArgument(
             virtualPath.equals(virtualLocation),
             "Path: %s should be same with the virtual prefix: %s, because the fileset only mounts a single file.",
@@ -248,7 +308,12 @@ public class GravitinoVirtualFileSystem extends FileSystem {
 
         return new Path(storageLocation);
       } else {
-        return new Path(virtualPath.replaceFirst(virtualLocation, storageLocation));
+        Preconditions.checkArgument(
+            virtualPath.startsWith(virtualLocation),
+            "Path: %s should start with the virtual prefix: %s.",
+            virtualPath,
+            virtualLocation);
+        return new Path(storageLocation + virtualPath.substring(virtualLocation.length()));
       }
     } catch (Exception e) {
       throw new RuntimeException(
@@ -256,12 +321,11 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     }
   }
 
-  private boolean checkMountsSingleFile(Pair<Fileset, FileSystem> filesetPair) {
+  // The file status of the storage location is checked when the fileset is loaded or refreshed,
+  // instead of every operation, since each check is a remote call to the storage.
+  private boolean checkMountsSingleFile(Fileset fileset, FileSystem fileSystem) {
     try {
-      return filesetPair
-          .getRight()
-          .getFileStatus(new Path(filesetPair.getLeft().storageLocation()))
-          .isFile();
+      return fileSystem.getFileStatus(new Path(fileset.storageLocation())).isFile();
     } catch (FileNotFoundException e) {
       // We should always return false here, same with the logic in `FileSystem.isFile(Path f)`.
       return false;
@@ -269,25 +333,11 @@ public class GravitinoVirtualFileSystem extends FileSystem {
       throw new RuntimeException(
           String.format(
               "Cannot check whether the fileset: %s mounts a single file, exception: %s",
-              filesetPair.getLeft().name(), e.getMessage()),
+              fileset.name(), e.getMessage()),
           e);
     }
   }
 
-  private FileStatus convertFileStatusPathPrefix(
-      FileStatus fileStatus, String actualPrefix, String virtualPrefix) {
-    String filePath = fileStatus.getPath().toString();
-    Preconditions.checkArgument(
-        filePath.startsWith(actualPrefix),
-        "Path %s doesn't start with prefix \"%s\".",
-        filePath,
-        actualPrefix);
-    Path path = new Path(filePath.replaceFirst(actualPrefix, virtualPrefix));
-    fileStatus.setPath(path);
-
-    return fileStatus;
-  }
-
   @VisibleForTesting
   NameIdentifier extractIdentifier(URI virtualUri) {
     String virtualPath = virtualUri.toString();
@@ -307,30 +357,59 @@ public class GravitinoVirtualFileSystem extends FileSystem {
 
   private FilesetContext getFilesetContext(Path virtualPath) {
     NameIdentifier identifier = extractIdentifier(virtualPath.toUri());
-    Pair<Fileset, FileSystem> pair = filesetCache.get(identifier, this::constructNewFilesetPair);
+    NotFoundException notFound =
+        missingFilesetCache == null ? null : missingFilesetCache.getIfPresent(identifier);
+    if (notFound != null) {
+      throw loadFilesetFailure(identifier, notFound);
+    }
+
+    CachedFileset cachedFileset = filesetCache.get(identifier, this::constructCachedFileset);
     Preconditions.checkState(
-        pair != null,
-        "Cannot get the pair of fileset instance and actual file system for %s",
+        cachedFileset != null,
+        "Cannot get the fileset instance and actual file system for %s",
         identifier);
-    Path actualPath = getActualPathByIdentifier(identifier, pair, virtualPath);
+    refreshIfNeeded(identifier, cachedFileset);
+
+    Fileset fileset = cachedFileset.fileset();
+    boolean singleFile = cachedFileset.singleFile();
+    Path actualPath = getActualPathByIdentifier(identifier, fileset, singleFile, virtualPath);
     return FilesetContext.builder()
         .withIdentifier(identifier)
-        .withFileset(pair.getLeft())
-        .withFileSystem(pair.getRight())
+        .withFileset(fileset)
+        .withFileSystem(cachedFileset.fileSystem())
         .withActualPath(actualPath)
+        .withSingleFile(singleFile)
+        .withPathTranslator(cachedFileset.pathTranslator())
         .build();
   }
 
-  private Pair<Fileset, FileSystem> constructNewFilesetPair(NameIdentifier identifier) {
+  private CachedFileset constructCachedFileset(NameIdentifier identifier) {
+    Fileset fileset;
+    try {
+      fileset = loadFileset(identifier);
+    } catch (NotFoundException e) {
+      if (missingFilesetCache != null) {
+        missingFilesetCache.put(identifier, e);
+      }
+      throw loadFilesetFailure(identifier, e);
+    } catch (RuntimeException e) {
+      throw loadFilesetFailure(identifier, e);
+    }
+
     // Always create a new file system instance for the fileset.
     // Therefore, users cannot bypass gvfs and use `FileSystem.get()` to directly obtain the
     // FileSystem
+    FileSystem actualFileSystem = null;
     try {
-      Fileset fileset = loadFileset(identifier);
       URI storageUri = URI.create(fileset.storageLocation());
-      FileSystem actualFileSystem = FileSystem.newInstance(storageUri, getConf());
+      actualFileSystem = FileSystem.newInstance(storageUri, getConf());
       Preconditions.checkState(actualFileSystem != null, "Cannot get the actual file system");
-      return Pair.of(fileset, actualFileSystem);
+      return new CachedFileset(
+          fileset,
+          actualFileSystem,
+          checkMountsSingleFile(fileset, actualFileSystem),
+          new FilesetPathTranslator(
+              fileset.storageLocation(), getVirtualLocation(identifier, true)));
     } catch (IOException e) {
       throw new RuntimeException(
           String.format(
@@ -338,19 +417,158 @@ public class GravitinoVirtualFileSystem extends FileSystem {
               identifier, e.getMessage()),
           e);
     } catch (RuntimeException e) {
-      throw new RuntimeException(
-          String.format(
-              "Cannot load fileset: %s from the server. exception: %s",
-              identifier, e.getMessage()));
+      closeQuietly(actualFileSystem);
+      throw e;
+    }
+  }
+
+  private RuntimeException loadFilesetFailure(NameIdentifier identifier, RuntimeException e) {
+    return new RuntimeException(
+        String.format(
+            "Cannot load fileset: %s from the server. exception: %s", identifier, e.getMessage()));
+  }
+
+  private void closeQuietly(FileSystem fileSystem) {
+    if (fileSystem != null) {
+      try {
+        fileSystem.close();
+      } catch (IOException e) {
+        // ignore
+      }
+    }
+  }
+
+  private void refreshIfNeeded(NameIdentifier identifier, CachedFileset cachedFileset) {
+    if (refreshMillsAfterLoad > 0
+        && System.currentTimeMillis() - cachedFileset.loadTimeMillis >= refreshMillsAfterLoad
+        && cachedFileset.refreshing.compareAndSet(false, true)) {
+      try {
+        scheduler.execute(() -> refreshFileset(identifier, cachedFileset));
+      } catch (RejectedExecutionException e) {
+        // The file system is closed.
+        cachedFileset.refreshing.set(false);
+      }
+    }
+  }
+
+  // Reloads the fileset in the background, the operations keep using the cached fileset until it's
+  // reloaded, so they don't wait for the server.
+  private void refreshFileset(NameIdentifier identifier, CachedFileset cachedFileset) {
+    try {
+      Fileset fileset = loadFileset(identifier);
+      if (fileset.storageLocation().equals(cachedFileset.fileset().storageLocation())) {
+        cachedFileset.refresh(
+            fileset, checkMountsSingleFile(fileset, cachedFileset.fileSystem()));
+      } else {
+        // The actual file system may be changed, so it's loaded again by the next operation.
+        evictFileset(identifier, cachedFileset);
+      }
+    } catch (NotFoundException e) {
+      evictFileset(identifier, cachedFileset);
+    } catch (RuntimeException e) {
+      Logger.warn("Cannot refresh the fileset: {}, keep using the cached one", identifier, e);
+    } finally {
+      cachedFileset.loadTimeMillis = System.currentTimeMillis();
+      cachedFileset.refreshing.set(false);
+    }
+  }
+
+  private void evictFileset(NameIdentifier identifier, CachedFileset cachedFileset) {
+    if (filesetCache.asMap().remove(identifier, cachedFileset)) {
+      evictedFileSystems.add(cachedFileset.fileSystem());
     }
   }
 
   private Fileset loadFileset(NameIdentifier identifier) {
+    if (System.currentTimeMillis() >= fileLocationRetryTimeMillis) {
+      try {
+        // The fileset is loaded in a single call, without loading its catalog.
+        return client.getFileLocation(identifier, "").fileset();
+      } catch (UnsupportedEndpointException e) {
+        // Only the server without the endpoint falls back, the other failures are thrown.
+        Logger.warn(
+            "Cannot resolve the fileset: {} by the server, load it from its catalog instead",
+            identifier,
+            e);
+        fileLocationRetryTimeMillis = System.currentTimeMillis() + FILE_LOCATION_RETRY_INTERVAL_MS;
+      }
+    }
+
     Catalog catalog =
         client.loadCatalog(NameIdentifier.ofCatalog(metalakeName, identifier.namespace().level(1)));
     return catalog.asFilesetCatalog().loadFileset(identifier);
   }
 
+  /**
+   * A fileset cached with its actual file system. The fileset is refreshed in place, so that the
+   * file system is kept as long as the storage location isn't changed.
+   */
+  @VisibleForTesting
+  static final class CachedFileset {
+    private final FileSystem fileSystem;
+    // The storage location of the refreshed fileset is not changed, so is the translator.
+    private final FilesetPathTranslator pathTranslator;
+    private volatile Fileset fileset;
+    private volatile boolean singleFile;
+    private volatile long loadTimeMillis;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    private CachedFileset(
+        Fileset fileset,
+        FileSystem fileSystem,
+        boolean singleFile,
+        FilesetPathTranslator pathTranslator) {
+      this.fileset = fileset;
+      this.fileSystem = fileSystem;
+      this.singleFile = singleFile;
+      this.pathTranslator = pathTranslator;
+      this.loadTimeMillis = System.currentTimeMillis();
+    }
+
+    Fileset fileset() {
+      return fileset;
+    }
+
+    FileSystem fileSystem() {
+      return fileSystem;
+    }
+
+    boolean singleFile() {
+      return singleFile;
+    }
+
+    FilesetPathTranslator pathTranslator() {
+      return pathTranslator;
+    }
+
+    private void refresh(Fileset fileset, boolean singleFile) {
+      this.fileset = fileset;
+      this.singleFile = singleFile;
+    }
+  }
+
+  /** Translates the file statuses of the actual file system to the virtual ones on iterating. */
+  private static class VirtualStatusIterator<T extends FileStatus> implements RemoteIterator<T> {
+    private final RemoteIterator<T> actualIterator;
+    private final FilesetPathTranslator pathTranslator;
+
+    private VirtualStatusIterator(
+        RemoteIterator<T> actualIterator, FilesetPathTranslator pathTranslator) {
+      this.actualIterator = actualIterator;
+      this.pathTranslator = pathTranslator;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+      return actualIterator.hasNext();
+    }
+
+    @Override
+    public T next() throws IOException {
+      return pathTranslator.toVirtualFileStatus(actualIterator.next());
+    }
+  }
+
   @Override
   public URI getUri() {
     return this.uri;
@@ -420,8 +638,7 @@ public class GravitinoVirtualFileSystem extends FileSystem {
         dstIdentifier);
 
     FilesetContext srcFileContext = getFilesetContext(src);
-    if (checkMountsSingleFile(
-        Pair.of(srcFileContext.getFileset(), srcFileContext.getFileSystem()))) {
+    if (srcFileContext.isSingleFile()) {
       throw new UnsupportedOperationException(
           String.format(
               "Cannot rename the fileset: %s which only mounts to a single file.", srcIdentifier));
@@ -443,24 +660,36 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   public FileStatus getFileStatus(Path path) throws IOException {
     FilesetContext context = getFilesetContext(path);
     FileStatus fileStatus = context.getFileSystem().getFileStatus(context.getActualPath());
-    return convertFileStatusPathPrefix(
-        fileStatus,
-        context.getFileset().storageLocation(),
-        getVirtualLocation(context.getIdentifier(), true));
+    return context.getPathTranslator().toVirtualFileStatus(fileStatus);
   }
 
   @Override
   public FileStatus[] listStatus(Path path) throws IOException {
     FilesetContext context = getFilesetContext(path);
     FileStatus[] fileStatusResults = context.getFileSystem().listStatus(context.getActualPath());
-    return Arrays.stream(fileStatusResults)
-        .map(
-            fileStatus ->
-                convertFileStatusPathPrefix(
-                    fileStatus,
-                    new Path(context.getFileset().storageLocation()).toString(),
-                    getVirtualLocation(context.getIdentifier(), true)))
-        .toArray(FileStatus[]::new);
+    FilesetPathTranslator pathTranslator = context.getPathTranslator();
+    for (FileStatus fileStatus : fileStatusResults) {
+      pathTranslator.toVirtualFileStatus(fileStatus);
+    }
+    return fileStatusResults;
+  }
+
+  // The file statuses of the directory are fetched and translated lazily, so that listing a huge
+  // directory doesn't hold all the file statuses in memory.
+  @Override
+  public RemoteIterator<FileStatus> listStatusIterator(Path path) throws IOException {
+    FilesetContext context = getFilesetContext(path);
+    return new VirtualStatusIterator<>(
+        context.getFileSystem().listStatusIterator(context.getActualPath()),
+        context.getPathTranslator());
+  }
+
+  @Override
+  public RemoteIterator<LocatedFileStatus> listLocatedStatus(Path path) throws IOException {
+    FilesetContext context = getFilesetContext(path);
+    return new VirtualStatusIterator<>(
+        context.getFileSystem().listLocatedStatus(context.getActualPath()),
+        context.getPathTranslator());
   }
 
   @Override
@@ -472,14 +701,17 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   @Override
   public synchronized void close() throws IOException {
     // close all actual FileSystems
-    for (Pair<Fileset, FileSystem> filesetPair : filesetCache.asMap().values()) {
-      try {
-        filesetPair.getRight().close();
-      } catch (IOException e) {
-        // ignore
-      }
+    for (CachedFileset cachedFileset : filesetCache.asMap().values()) {
+      closeQuietly(cachedFileset.fileSystem());
     }
     filesetCache.invalidateAll();
+    for (FileSystem fileSystem : evictedFileSystems) {
+      closeQuietly(fileSystem);
+    }
+    evictedFileSystems.clear();
+    if (missingFilesetCache != null) {
+      missingFilesetCache.invalidateAll();
+    }
     // close the client
     try {
       if (client != null) {
@@ -54,5 +54,25 @@ class GravitinoVirtualFileSystemConfiguration {
   public static final long FS_GRAVITINO_FILESET_CACHE_EVICTION_MILLS_AFTER_ACCESS_DEFAULT =
       1000L * 60 * 5;
 
+  /**
+   * The configuration key for the time after which a cached fileset is reloaded from the Gravitino
+   * server in the background, measured in mills after loading. The cached fileset is still used
+   * during the reloading. 0 disables the reloading.
+   */
+  public static final String FS_GRAVITINO_FILESET_CACHE_REFRESH_MILLS_AFTER_LOAD_KEY =
+      "fs.gravitino.fileset.cache.refreshMillsAfterLoad";
+
+  public static final long FS_GRAVITINO_FILESET_CACHE_REFRESH_MILLS_AFTER_LOAD_DEFAULT =
+      1000L * 60;
+
+  /**
+   * The configuration key for the eviction time of the filesets not found in the Gravitino server,
+   * measured in mills after loading. 0 disables caching the missing filesets.
+   */
+  public static final String FS_GRAVITINO_FILESET_CACHE_MISSING_EVICTION_MILLS_KEY =
+      "fs.gravitino.fileset.cache.missingEvictionMills";
+
+  public static final long FS_GRAVITINO_FILESET_CACHE_MISSING_EVICTION_MILLS_DEFAULT = 1000L * 5;
+
   private GravitinoVirtualFileSystemConfiguration() {}
 }
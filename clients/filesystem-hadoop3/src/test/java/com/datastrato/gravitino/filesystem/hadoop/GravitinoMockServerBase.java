@@ -13,6 +13,7 @@ import com.datastrato.gravitino.dto.CatalogDTO;
 import com.datastrato.gravitino.dto.MetalakeDTO;
 import com.datastrato.gravitino.dto.file.FilesetDTO;
 import com.datastrato.gravitino.dto.responses.CatalogResponse;
+import com.datastrato.gravitino.dto.responses.FileLocationResponse;
 import com.datastrato.gravitino.dto.responses.FilesetResponse;
 import com.datastrato.gravitino.dto.responses.MetalakeResponse;
 import com.datastrato.gravitino.dto.responses.VersionResponse;
@@ -182,8 +183,10 @@ public abstract class GravitinoMockServerBase {
             .audit(AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build())
             .build();
     FilesetResponse filesetResponse = new FilesetResponse(mockFileset);
+    FileLocationResponse locationResponse = new FileLocationResponse(mockFileset, location);
     try {
       buildMockResource(Method.GET, filesetPath, null, filesetResponse, SC_OK);
+      buildMockResource(Method.GET, filesetPath + "/location", null, locationResponse, SC_OK);
     } catch (JsonProcessingException e) {
       throw new RuntimeException(e);
     }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.filesystem.hadoop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
+import org.junit.jupiter.api.Test;
+
+public class TestFilesetPathTranslator {
+
+  @Test
+  public void testToVirtualPath() {
+    FilesetPathTranslator translator =
+        new FilesetPathTranslator("hdfs://host/fileset/", "gvfs://fileset/catalog/schema/fileset1");
+
+    assertEquals(
+        new Path("gvfs://fileset/catalog/schema/fileset1"),
+        translator.toVirtualPath(new Path("hdfs://host/fileset")));
+    assertEquals(
+        new Path("gvfs://fileset/catalog/schema/fileset1/dir/file.txt"),
+        translator.toVirtualPath(new Path("hdfs://host/fileset/dir/file.txt")));
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> translator.toVirtualPath(new Path("hdfs://host/another/file.txt")));
+  }
+
+  @Test
+  public void testPrefixWithRegexCharacters() {
+    // The prefixes are substituted literally.
+    FilesetPathTranslator translator =
+        new FilesetPathTranslator(
+            "file:/tmp/a+b(c)/fileset$1", "gvfs://fileset/catalog/schema/fileset$1");
+
+    FileStatus fileStatus = new FileStatus();
+    fileStatus.setPath(new Path("file:/tmp/a+b(c)/fileset$1/dir/file.txt"));
+    assertSame(fileStatus, translator.toVirtualFileStatus(fileStatus));
+    assertEquals(
+        new Path("gvfs://fileset/catalog/schema/fileset$1/dir/file.txt"), fileStatus.getPath());
+  }
+}
@@ -8,10 +8,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.exceptions.NoSuchFilesetException;
 import com.datastrato.gravitino.file.Fileset;
 import java.io.IOException;
 import java.net.URI;
@@ -26,7 +29,11 @@ import java.util.concurrent.TimeUnit;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Method;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -36,6 +43,9 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.verify.VerificationTimes;
 
 public class TestGvfsBase extends GravitinoMockServerBase {
   protected static final String GVFS_IMPL_CLASS = GravitinoVirtualFileSystem.class.getName();
@@ -146,7 +156,7 @@ public class TestGvfsBase extends GravitinoMockServerBase {
                       .getIfPresent(
                           NameIdentifier.of(
                               metalakeName, catalogName, schemaName, managedFilesetName)))
-              .getRight();
+              .fileSystem();
 
       String anotherFilesetName = "test_new_fs";
       Path diffLocalPath =
@@ -224,6 +234,173 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testMissingFilesetCache() throws IOException {
+    String filesetName = "missing_fileset";
+    String locationPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s/location",
+            metalakeName, catalogName, schemaName, filesetName);
+    ErrorResponse errorResponse =
+        ErrorResponse.notFound(NoSuchFilesetException.class.getSimpleName(), "fileset not found");
+    buildMockResource(Method.GET, locationPath, null, errorResponse, HttpStatus.SC_NOT_FOUND);
+
+    Path filesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    try (FileSystem fs = filesetPath.getFileSystem(conf)) {
+      assertThrows(RuntimeException.class, () -> fs.getFileStatus(filesetPath));
+      assertThrows(RuntimeException.class, () -> fs.getFileStatus(filesetPath));
+
+      // The missing fileset is only loaded once.
+      mockServer()
+          .verify(HttpRequest.request(locationPath).withMethod("GET"), VerificationTimes.once());
+    }
+  }
+
+  @Test
+  public void testLoadFilesetWithoutFileLocation() throws IOException {
+    String filesetName = "fileset_without_location";
+    String filesetRequestPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s",
+            metalakeName, catalogName, schemaName, filesetName);
+    // The server of the previous version replies 404 without a Gravitino error response.
+    mockServer()
+        .when(HttpRequest.request(filesetRequestPath + "/location").withMethod("GET"))
+        .respond(HttpResponse.response().withStatusCode(HttpStatus.SC_NOT_FOUND).withBody("404"));
+    Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
+    mockFilesetDTO(
+        metalakeName,
+        catalogName,
+        schemaName,
+        filesetName,
+        Fileset.Type.MANAGED,
+        localPath.toString());
+
+    Path filesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    try (FileSystem fs = filesetPath.getFileSystem(conf)) {
+      // The fileset is loaded from its catalog instead.
+      assertFalse(fs.exists(filesetPath));
+      mockServer()
+          .verify(
+              HttpRequest.request(filesetRequestPath).withMethod("GET"), VerificationTimes.once());
+    }
+  }
+
+  @Test
+  public void testLoadFilesetWithServerError() throws IOException {
+    String filesetName = "fileset_server_error";
+    String filesetRequestPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s",
+            metalakeName, catalogName, schemaName, filesetName);
+    mockServer()
+        .when(HttpRequest.request(filesetRequestPath + "/location").withMethod("GET"))
+        .respond(HttpResponse.response().withStatusCode(HttpStatus.SC_SERVICE_UNAVAILABLE));
+
+    Path filesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    try (FileSystem fs = filesetPath.getFileSystem(conf)) {
+      // The transient failure is thrown, the fileset isn't loaded from its catalog.
+      assertThrows(RuntimeException.class, () -> fs.exists(filesetPath));
+      mockServer()
+          .verify(
+              HttpRequest.request(filesetRequestPath).withMethod("GET"), VerificationTimes.never());
+    }
+  }
+
+  @Test
+  public void testRefreshFileset() throws IOException {
+    Configuration configuration = new Configuration(conf);
+    configuration.set(
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_CACHE_REFRESH_MILLS_AFTER_LOAD_KEY,
+        "1");
+    String locationPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s/location",
+            metalakeName, catalogName, schemaName, managedFilesetName);
+    NameIdentifier identifier =
+        NameIdentifier.of(metalakeName, catalogName, schemaName, managedFilesetName);
+
+    try (FileSystem fs = managedFilesetPath.getFileSystem(configuration)) {
+      FileSystemTestUtils.mkdirs(managedFilesetPath, fs);
+      FileSystem actualFs =
+          Objects.requireNonNull(
+                  ((GravitinoVirtualFileSystem) fs).getFilesetCache().getIfPresent(identifier))
+              .fileSystem();
+
+      // The fileset is reloaded in the background, and the actual file system is kept.
+      Awaitility.await()
+          .atMost(5, TimeUnit.SECONDS)
+          .pollInterval(100, TimeUnit.MILLISECONDS)
+          .untilAsserted(
+              () -> {
+                assertTrue(fs.exists(managedFilesetPath));
+                mockServer()
+                    .verify(
+                        HttpRequest.request(locationPath).withMethod("GET"),
+                        VerificationTimes.atLeast(2));
+              });
+      assertSame(
+          actualFs,
+          Objects.requireNonNull(
+                  ((GravitinoVirtualFileSystem) fs).getFilesetCache().getIfPresent(identifier))
+              .fileSystem());
+    }
+  }
+  @Test
+  public void testRefreshDroppedFileset() throws IOException {
+    Configuration configuration = new Configuration(conf);
+    configuration.set(
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_CACHE_REFRESH_MILLS_AFTER_LOAD_KEY,
+        "1");
+    String filesetName = "fileset_dropped";
+    String locationPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s/location",
+            metalakeName, catalogName, schemaName, filesetName);
+    NameIdentifier identifier =
+        NameIdentifier.of(metalakeName, catalogName, schemaName, filesetName);
+    Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
+    mockFilesetDTO(
+        metalakeName,
+        catalogName,
+        schemaName,
+        filesetName,
+        Fileset.Type.MANAGED,
+        localPath.toString());
+
+    Path filesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    try (FileSystem fs = filesetPath.getFileSystem(configuration)) {
+      GravitinoVirtualFileSystem gvfs = (GravitinoVirtualFileSystem) fs;
+      assertFalse(fs.exists(filesetPath));
+      FileSystem actualFs =
+          Objects.requireNonNull(gvfs.getFilesetCache().getIfPresent(identifier)).fileSystem();
+
+      mockServer().clear(HttpRequest.request(locationPath));
+      ErrorResponse errorResponse =
+          ErrorResponse.notFound(NoSuchFilesetException.class.getSimpleName(), "fileset dropped");
+      buildMockResource(Method.GET, locationPath, null, errorResponse, HttpStatus.SC_NOT_FOUND);
+
+      // The dropped fileset is evicted on refreshing, but its file system isn't closed since the
+      // other operations may still use it.
+      Awaitility.await()
+          .atMost(5, TimeUnit.SECONDS)
+          .pollInterval(100, TimeUnit.MILLISECONDS)
+          .untilAsserted(
+              () -> {
+                assertThrows(RuntimeException.class, () -> fs.exists(filesetPath));
+                assertNull(gvfs.getFilesetCache().getIfPresent(identifier));
+              });
+      assertTrue(gvfs.getEvictedFileSystems().contains(actualFs));
+    }
+  }
+
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   public void testCreate(boolean withScheme) throws IOException {
@@ -471,6 +648,50 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testListStatusIterator() throws IOException {
+    try (FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(conf);
+        FileSystem localFileSystem = localDirPath.getFileSystem(conf)) {
+      FileSystemTestUtils.mkdirs(managedFilesetPath, gravitinoFileSystem);
+      for (int i = 0; i < 5; i++) {
+        FileSystemTestUtils.mkdirs(new Path(managedFilesetPath + "/sub" + i), gravitinoFileSystem);
+      }
+
+      List<String> expectedPaths = new ArrayList<>();
+      for (FileStatus localStatus : localFileSystem.listStatus(localDirPath)) {
+        expectedPaths.add(
+            localStatus
+                .getPath()
+                .toString()
+                .replaceFirst(
+                    FileSystemTestUtils.localRootPrefix(),
+                    GravitinoVirtualFileSystemConfiguration.GVFS_FILESET_PREFIX));
+      }
+      expectedPaths.sort(Comparator.naturalOrder());
+      assertEquals(5, expectedPaths.size());
+
+      List<String> statusPaths = new ArrayList<>();
+      RemoteIterator<FileStatus> statusIterator =
+          gravitinoFileSystem.listStatusIterator(managedFilesetPath);
+      while (statusIterator.hasNext()) {
+        statusPaths.add(statusIterator.next().getPath().toString());
+      }
+      statusPaths.sort(Comparator.naturalOrder());
+      assertEquals(expectedPaths, statusPaths);
+
+      List<String> locatedStatusPaths = new ArrayList<>();
+      RemoteIterator<LocatedFileStatus> locatedStatusIterator =
+          gravitinoFileSystem.listLocatedStatus(managedFilesetPath);
+      while (locatedStatusIterator.hasNext()) {
+        LocatedFileStatus locatedStatus = locatedStatusIterator.next();
+        assertTrue(locatedStatus.isDirectory());
+        locatedStatusPaths.add(locatedStatus.getPath().toString());
+      }
+      locatedStatusPaths.sort(Comparator.naturalOrder());
+      assertEquals(expectedPaths, locatedStatusPaths);
+    }
+  }
+
   @Test
   public void testMkdirs() throws IOException {
     try (FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(conf);
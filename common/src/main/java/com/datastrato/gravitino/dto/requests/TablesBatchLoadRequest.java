@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.dto.requests;
+
+import com.datastrato.gravitino.rest.RESTRequest;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/** Represents a request to load multiple tables in the same schema in one call. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class TablesBatchLoadRequest implements RESTRequest {
+
+  @JsonProperty("names")
+  private final String[] names;
+
+  /**
+   * Creates a new TablesBatchLoadRequest.
+   *
+   * @param names The names of the tables to load.
+   */
+  public TablesBatchLoadRequest(String[] names) {
+    this.names = names;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public TablesBatchLoadRequest() {
+    this(null);
+  }
+
+  /**
+   * Validates the request.
+   *
+   * @throws IllegalArgumentException If the request is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(names != null, "\"names\" field is required and cannot be null");
+    Preconditions.checkArgument(
+        Arrays.stream(names).allMatch(StringUtils::isNotBlank),
+        "\"names\" field cannot contain null or empty table name");
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/** Represents a response containing the catalogs of a metalake changed since a version. */
+@EqualsAndHashCode(callSuper = true)
+@ToString
+public class CatalogChangesResponse extends BaseResponse {
+
+  @JsonProperty("version")
+  private final long version;
+
+  @JsonProperty("reset")
+  private final boolean reset;
+
+  @JsonProperty("catalogs")
+  private final String[] catalogs;
+
+  /**
+   * Constructor for CatalogChangesResponse.
+   *
+   * @param version The latest change version, it's used to fetch the next changes.
+   * @param reset Whether the changes since the requested version are unknown, the client should
+   *     reload all the catalogs of the metalake.
+   * @param catalogs The names of the changed catalogs.
+   */
+  public CatalogChangesResponse(long version, boolean reset, String[] catalogs) {
+    super(0);
+    this.version = version;
+    this.reset = reset;
+    this.catalogs = catalogs;
+  }
+
+  /** Default constructor for CatalogChangesResponse. (Used for Jackson deserialization.) */
+  public CatalogChangesResponse() {
+    super();
+    this.version = 0;
+    this.reset = false;
+    this.catalogs = null;
+  }
+
+  /**
+   * Returns the latest change version.
+   *
+   * @return The version to fetch the next changes.
+   */
+  public long version() {
+    return version;
+  }
+
+  /**
+   * Returns whether all the catalogs of the metalake should be reloaded.
+   *
+   * @return True if the changes since the requested version are unknown.
+   */
+  public boolean reset() {
+    return reset;
+  }
+
+  /**
+   * Returns the names of the changed catalogs.
+   *
+   * @return The names of the catalogs created, altered or dropped since the requested version.
+   */
+  public String[] catalogs() {
+    return catalogs;
+  }
+
+  /**
+   * Validates the response data.
+   *
+   * @throws IllegalArgumentException if the catalog names are not set.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+    Preconditions.checkArgument(catalogs != null, "catalogs must not be null");
+  }
+}
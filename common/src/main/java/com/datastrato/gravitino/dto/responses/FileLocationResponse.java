@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.dto.responses;
+
+import com.datastrato.gravitino.dto.file.FilesetDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/** Response for resolving a path in a fileset to the actual storage location. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class FileLocationResponse extends FilesetResponse {
+
+  @JsonProperty("fileLocation")
+  private final String fileLocation;
+
+  /** Constructor for FileLocationResponse. */
+  public FileLocationResponse() {
+    super();
+    this.fileLocation = null;
+  }
+
+  /**
+   * Constructor for FileLocationResponse.
+   *
+   * @param fileset the fileset DTO object.
+   * @param fileLocation the actual storage location of the path in the fileset.
+   */
+  public FileLocationResponse(FilesetDTO fileset, String fileLocation) {
+    super(fileset);
+    this.fileLocation = fileLocation;
+  }
+
+  /**
+   * Validates the response.
+   *
+   * @throws IllegalArgumentException if the response is invalid.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(fileLocation), "'fileLocation' must not be null and empty");
+  }
+}
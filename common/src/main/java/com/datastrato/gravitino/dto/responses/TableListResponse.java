@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.dto.responses;
+
+import com.datastrato.gravitino.dto.rel.TableDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/** Represents a response for a list of tables. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class TableListResponse extends BaseResponse {
+
+  @JsonProperty("tables")
+  private final TableDTO[] tables;
+
+  /**
+   * Creates a new TableListResponse.
+   *
+   * @param tables The array of table DTO objects.
+   */
+  public TableListResponse(TableDTO[] tables) {
+    super(0);
+    this.tables = tables;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public TableListResponse() {
+    super();
+    this.tables = null;
+  }
+
+  /**
+   * Validates the response.
+   *
+   * @throws IllegalArgumentException If the response is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(tables != null, "tables must not be null");
+    Arrays.stream(tables)
+        .forEach(
+            table -> {
+              Preconditions.checkArgument(table != null, "table must not be null");
+              Preconditions.checkArgument(
+                  StringUtils.isNotBlank(table.name()), "table 'name' must not be null and empty");
+              Preconditions.checkArgument(
+                  table.columns() != null && table.columns().length > 0,
+                  "table 'columns' must not be null and empty");
+              Preconditions.checkArgument(
+                  table.auditInfo() != null, "table 'audit' must not be null");
+              Preconditions.checkArgument(
+                  table.partitioning() != null, "table 'partitions' must not be null");
+            });
+  }
+}
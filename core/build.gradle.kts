@@ -8,6 +8,19 @@ plugins {
   id("idea")
 }
 
+val testJar by tasks.registering(Jar::class) {
+  archiveClassifier.set("tests")
+  from(sourceSets["test"].output)
+}
+
+configurations {
+  create("testArtifacts")
+}
+
+artifacts {
+  add("testArtifacts", testJar)
+}
+
 dependencies {
   implementation(project(":api"))
   implementation(project(":common"))
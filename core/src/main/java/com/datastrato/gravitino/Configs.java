@@ -9,6 +9,7 @@ import com.datastrato.gravitino.config.ConfigConstants;
 import com.datastrato.gravitino.config.ConfigEntry;
 import com.google.common.collect.Lists;
 import java.io.File;
+import java.util.Collections;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 
@@ -30,8 +31,42 @@ public interface Configs {
   String ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD_KEY =
       "gravitino.entity.store.relational.jdbcPassword";
 
+  long DEFAULT_ENTITY_RELATIONAL_ID_PATH_CACHE_EXPIRE_AFTER_WRITE_MS = 60 * 1000L;
+
+  String ENTITY_RELATIONAL_POOL_PREFIX = "gravitino.entity.store.relational.pool.";
+
+  String ENTITY_RELATIONAL_GC_PREFIX = "gravitino.entity.store.relational.gc.";
+
+  String DEFAULT_ENTITY_RELATIONAL_POOL_IMPL = "dbcp2";
+
   String ENTITY_KV_ROCKSDB_BACKEND_PATH_KEY = "gravitino.entity.store.kv.rocksdbPath";
 
+  String ENTITY_KV_ROCKSDB_PREFIX = "gravitino.entity.store.kv.rocksdb.";
+
+  String ENTITY_KV_GC_PREFIX = "gravitino.entity.store.kv.gc.";
+
+  int DEFAULT_KV_GC_MAX_COMMITS_PER_CYCLE = 100000;
+
+  int DEFAULT_KV_GC_THREADS = 2;
+
+  int DEFAULT_ENTITY_KV_NAME_MAPPING_CACHE_SIZE = 100000;
+
+  long DEFAULT_ENTITY_KV_NAME_MAPPING_CACHE_EXPIRE_AFTER_WRITE_MS = 60 * 1000L;
+
+  // 64MB
+  long DEFAULT_KV_ROCKSDB_BLOCK_CACHE_SIZE = 64 * 1024 * 1024L;
+
+  int DEFAULT_KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY = 10;
+
+  // The length of the entity type, the namespace separator and the metalake id of the keys encoded
+  // by BinaryEntityKeyEncoder, like "ca/{metalake_id}".
+  int DEFAULT_KV_ROCKSDB_PREFIX_EXTRACTOR_LENGTH = 11;
+
+  // 64MB
+  long DEFAULT_KV_ROCKSDB_WRITE_BUFFER_SIZE = 64 * 1024 * 1024L;
+
+  int DEFAULT_KV_ROCKSDB_MAX_BACKGROUND_JOBS = 2;
+
   Long DEFAULT_KV_DELETE_AFTER_TIME = 604800000L; // 7 days
   String KV_DELETE_AFTER_TIME_KEY = "gravitino.entity.store.kv.deleteAfterTimeMs";
 
@@ -57,6 +92,14 @@ public interface Configs {
   String DEFAULT_KV_ROCKSDB_BACKEND_PATH =
       String.join(File.separator, System.getenv("GRAVITINO_HOME"), "data", "rocksdb");
 
+  String DEFAULT_ENTITY_STORE_CACHE_IMPL = "caffeine";
+
+  // 64MB
+  long DEFAULT_ENTITY_STORE_CACHE_MAX_WEIGHT = 64 * 1024 * 1024L;
+
+  // 10 minutes
+  long DEFAULT_ENTITY_STORE_CACHE_EXPIRE_AFTER_WRITE_MS = 10 * 60 * 1000L;
+
   long MAX_NODE_IN_MEMORY = 100000L;
 
   long MIN_NODE_IN_MEMORY = 1000L;
@@ -117,6 +160,101 @@ public interface Configs {
           .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
           .create();
 
+  ConfigEntry<Long> ENTITY_RELATIONAL_ID_PATH_CACHE_EXPIRE_AFTER_WRITE_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.idPathCacheExpireAfterWriteMs")
+          .doc(
+              "The time in milliseconds that the relational entity store caches the ids of the "
+                  + "parent entities of a namespace for the reads, 0 means the cache is disabled")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_RELATIONAL_ID_PATH_CACHE_EXPIRE_AFTER_WRITE_MS);
+
+  ConfigEntry<String> ENTITY_RELATIONAL_POOL_IMPL =
+      new ConfigBuilder(ENTITY_RELATIONAL_POOL_PREFIX + "impl")
+          .doc(
+              "The JDBC connection pool of `JDBCBackend`, `dbcp2` or the class name of a "
+                  + "`ConnectionPool` implementation")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_RELATIONAL_POOL_IMPL);
+
+  ConfigEntry<Integer> ENTITY_RELATIONAL_POOL_MAX_TOTAL =
+      new ConfigBuilder(ENTITY_RELATIONAL_POOL_PREFIX + "maxTotal")
+          .doc("The maximum number of the connections of the JDBC connection pool")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(20);
+
+  ConfigEntry<Integer> ENTITY_RELATIONAL_POOL_MAX_IDLE =
+      new ConfigBuilder(ENTITY_RELATIONAL_POOL_PREFIX + "maxIdle")
+          .doc("The maximum number of the idle connections of the JDBC connection pool")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5);
+
+  ConfigEntry<Integer> ENTITY_RELATIONAL_POOL_MIN_IDLE =
+      new ConfigBuilder(ENTITY_RELATIONAL_POOL_PREFIX + "minIdle")
+          .doc(
+              "The minimum number of the idle connections of the JDBC connection pool, the "
+                  + "connections are created when the entity store starts")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0);
+
+  ConfigEntry<Long> ENTITY_RELATIONAL_POOL_MAX_WAIT_MS =
+      new ConfigBuilder(ENTITY_RELATIONAL_POOL_PREFIX + "maxWaitMs")
+          .doc(
+              "The maximum time in milliseconds to wait for a connection when the JDBC "
+                  + "connection pool is exhausted")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  ConfigEntry<Integer> ENTITY_RELATIONAL_POOL_STATEMENT_CACHE_SIZE =
+      new ConfigBuilder(ENTITY_RELATIONAL_POOL_PREFIX + "statementCacheSize")
+          .doc(
+              "The maximum number of the prepared statements cached by each connection of the "
+                  + "JDBC connection pool, 0 means the statements are not cached")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0);
+
+  ConfigEntry<String> ENTITY_RELATIONAL_POOL_VALIDATION_QUERY =
+      new ConfigBuilder(ENTITY_RELATIONAL_POOL_PREFIX + "validationQuery")
+          .doc(
+              "The query to validate the idle connections of the JDBC connection pool, the "
+                  + "idle connections are not validated if it's not set")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .stringConf()
+          .create();
+
+  ConfigEntry<Integer> ENTITY_RELATIONAL_GC_BATCH_SIZE =
+      new ConfigBuilder(ENTITY_RELATIONAL_GC_PREFIX + "batchSize")
+          .doc(
+              "The maximum number of rows permanently deleted by one statement of the garbage "
+                  + "collector of the relational entity store")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
+  ConfigEntry<Integer> ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND =
+      new ConfigBuilder(ENTITY_RELATIONAL_GC_PREFIX + "maxDeletesPerSecond")
+          .doc(
+              "The maximum number of rows permanently deleted per second by the garbage "
+                  + "collector of the relational entity store, 0 means no limit")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0);
+
   ConfigEntry<String> ENTRY_KV_ROCKSDB_BACKEND_PATH =
       new ConfigBuilder(ENTITY_KV_ROCKSDB_BACKEND_PATH_KEY)
           .doc(
@@ -128,6 +266,71 @@ public interface Configs {
           .stringConf()
           .createWithDefault(DEFAULT_KV_ROCKSDB_BACKEND_PATH);
 
+  ConfigEntry<Long> ENTITY_KV_ROCKSDB_BLOCK_CACHE_SIZE =
+      new ConfigBuilder(ENTITY_KV_ROCKSDB_PREFIX + "blockCacheSizeInBytes")
+          .doc("The size in bytes of the block cache shared by all the column families of RocksDB")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .longConf()
+          .checkValue(v -> v > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_BLOCK_CACHE_SIZE);
+
+  ConfigEntry<Integer> ENTITY_KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY =
+      new ConfigBuilder(ENTITY_KV_ROCKSDB_PREFIX + "bloomFilterBitsPerKey")
+          .doc(
+              "The bits per key of the RocksDB bloom filters, 0 means the bloom filters are "
+                  + "disabled")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(v -> v >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY);
+
+  ConfigEntry<Integer> ENTITY_KV_ROCKSDB_PREFIX_EXTRACTOR_LENGTH =
+      new ConfigBuilder(ENTITY_KV_ROCKSDB_PREFIX + "prefixExtractorLength")
+          .doc(
+              "The length of the fixed key prefix used by the prefix bloom filter of the entity "
+                  + "keys, the default value covers the entity type and the metalake id of the "
+                  + "key, 0 means the prefix bloom filter is disabled")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(v -> v >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_PREFIX_EXTRACTOR_LENGTH);
+
+  ConfigEntry<Long> ENTITY_KV_ROCKSDB_WRITE_BUFFER_SIZE =
+      new ConfigBuilder(ENTITY_KV_ROCKSDB_PREFIX + "writeBufferSizeInBytes")
+          .doc("The size in bytes of the memtable of each RocksDB column family")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .longConf()
+          .checkValue(v -> v > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_WRITE_BUFFER_SIZE);
+
+  ConfigEntry<String> ENTITY_KV_ROCKSDB_COMPRESSION_PER_LEVEL =
+      new ConfigBuilder(ENTITY_KV_ROCKSDB_PREFIX + "compressionPerLevel")
+          .doc(
+              "The comma separated compression types of the RocksDB levels from level 0, like "
+                  + "`none,none,lz4,lz4,lz4,zstd,zstd`. The supported types are `none`, `snappy`, "
+                  + "`zlib`, `bzip2`, `lz4`, `lz4hc` and `zstd`, the RocksDB default compression "
+                  + "is used if it's empty")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .stringConf()
+          .createWithDefault("");
+
+  ConfigEntry<Integer> ENTITY_KV_ROCKSDB_MAX_BACKGROUND_JOBS =
+      new ConfigBuilder(ENTITY_KV_ROCKSDB_PREFIX + "maxBackgroundJobs")
+          .doc("The maximum number of concurrent RocksDB background flush and compaction jobs")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(v -> v > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_ROCKSDB_MAX_BACKGROUND_JOBS);
+
+  ConfigEntry<Boolean> ENTITY_KV_ROCKSDB_STATISTICS_ENABLED =
+      new ConfigBuilder(ENTITY_KV_ROCKSDB_PREFIX + "statisticsEnabled")
+          .doc(
+              "Whether to collect the RocksDB statistics like the block cache hits and the bloom "
+                  + "filter usefulness, and export them as metrics")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .booleanConf()
+          .createWithDefault(false);
+
   ConfigEntry<String> ENTITY_SERDE =
       new ConfigBuilder("gravitino.entity.serde")
           .doc("The entity SerDe to use")
@@ -149,6 +352,70 @@ public interface Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  ConfigEntry<List<String>> CATALOG_SHARED_CLASSLOADER_PROVIDERS =
+      new ConfigBuilder("gravitino.catalog.classloader.sharedProviders")
+          .doc(
+              "The catalog providers whose catalogs loaded from the same package share one "
+                  + "isolated classloader, the catalogs with authentication properties always "
+                  + "use their own classloaders")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .stringConf()
+          .toSequence()
+          .createWithDefault(Collections.emptyList());
+
+  ConfigEntry<Integer> CATALOG_INIT_THREADS =
+      new ConfigBuilder("gravitino.catalog.init.threads")
+          .doc("The number of threads to initialize the catalogs in parallel")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8);
+
+  ConfigEntry<Boolean> CATALOG_INIT_EAGER =
+      new ConfigBuilder("gravitino.catalog.init.eager")
+          .doc(
+              "Whether to initialize all the catalogs in the background when the server starts, "
+                  + "otherwise a catalog is initialized when it's used for the first time")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  ConfigEntry<Integer> CATALOG_CHANGE_FEED_CAPACITY =
+      new ConfigBuilder("gravitino.catalog.changeFeed.capacity")
+          .doc(
+              "The number of the latest catalog changes kept by the server, a client missing "
+                  + "older changes reloads all the catalogs of the metalake")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
+  ConfigEntry<Long> CATALOG_CHANGE_FEED_MAX_WAIT_MS =
+      new ConfigBuilder("gravitino.catalog.changeFeed.maxWaitMs")
+          .doc("The max time in milliseconds to hold a request waiting for the catalog changes")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(30 * 1000L);
+
+  ConfigEntry<Integer> CATALOG_CHANGE_FEED_MAX_WAITERS =
+      new ConfigBuilder("gravitino.catalog.changeFeed.maxWaiters")
+          .doc(
+              "The max number of the requests waiting for the catalog changes at the same time, "
+                  + "the other requests return immediately")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(64);
+
+  ConfigEntry<Integer> TABLE_BATCH_LOAD_MAX_SIZE =
+      new ConfigBuilder("gravitino.table.batchLoad.maxSize")
+          .doc("The max number of the tables loaded by one batch load request")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
   ConfigEntry<String> AUTHENTICATOR =
       new ConfigBuilder("gravitino.authenticator")
           .doc("The authenticator which Gravitino uses")
@@ -199,6 +466,54 @@ public interface Configs {
                   STORE_DELETE_AFTER_TIME_KEY, MIN_DELETE_TIME_ALLOW, MAX_DELETE_TIME_ALLOW))
           .createWithDefault(DEFAULT_STORE_DELETE_AFTER_TIME);
 
+  ConfigEntry<Integer> ENTITY_KV_NAME_MAPPING_CACHE_SIZE =
+      new ConfigBuilder("gravitino.entity.store.kv.nameMappingCacheSize")
+          .doc(
+              "The maximum number of the name to id mappings cached by the KV entity store, "
+                  + "0 means the cache is disabled")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_KV_NAME_MAPPING_CACHE_SIZE);
+
+  ConfigEntry<Long> ENTITY_KV_NAME_MAPPING_CACHE_EXPIRE_AFTER_WRITE_MS =
+      new ConfigBuilder("gravitino.entity.store.kv.nameMappingCacheExpireAfterWriteMs")
+          .doc(
+              "The time in milliseconds that the KV entity store caches a name to id mapping "
+                  + "after it's read")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_KV_NAME_MAPPING_CACHE_EXPIRE_AFTER_WRITE_MS);
+
+  ConfigEntry<Integer> ENTITY_KV_GC_MAX_COMMITS_PER_CYCLE =
+      new ConfigBuilder(ENTITY_KV_GC_PREFIX + "maxCommitsPerCycle")
+          .doc(
+              "The maximum number of transactions whose old version data are collected in one "
+                  + "garbage collection cycle, the rest are resumed in the next cycles")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_GC_MAX_COMMITS_PER_CYCLE);
+
+  ConfigEntry<Integer> ENTITY_KV_GC_THREADS =
+      new ConfigBuilder(ENTITY_KV_GC_PREFIX + "threads")
+          .doc("The number of threads used to collect the old version data in parallel")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_KV_GC_THREADS);
+
+  ConfigEntry<Integer> ENTITY_KV_GC_MAX_DELETES_PER_SECOND =
+      new ConfigBuilder(ENTITY_KV_GC_PREFIX + "maxDeletesPerSecond")
+          .doc(
+              "The maximum number of keys physically deleted by the garbage collector per second, "
+                  + "0 means no limit")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0);
+
   ConfigEntry<Long> VERSION_RETENTION_COUNT =
       new ConfigBuilder(VERSION_RETENTION_COUNT_KEY)
           .doc(
@@ -218,6 +533,43 @@ public interface Configs {
                   MAX_VERSION_RETENTION_COUNT))
           .createWithDefault(DEFAULT_VERSION_RETENTION_COUNT);
 
+  // The followings are configurations for entity store cache
+
+  ConfigEntry<Boolean> ENTITY_STORE_CACHE_ENABLED =
+      new ConfigBuilder("gravitino.entity.store.cache.enabled")
+          .doc("Whether to cache the entities loaded from the entity store in memory")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  ConfigEntry<String> ENTITY_STORE_CACHE_IMPL =
+      new ConfigBuilder("gravitino.entity.store.cache.impl")
+          .doc("Detailed implementation of the entity store cache")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_STORE_CACHE_IMPL);
+
+  ConfigEntry<Long> ENTITY_STORE_CACHE_MAX_WEIGHT =
+      new ConfigBuilder("gravitino.entity.store.cache.maxWeightInBytes")
+          .doc(
+              "The maximum total serialized size in bytes of the entities kept in the entity "
+                  + "store cache")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .longConf()
+          .checkValue(v -> v > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_STORE_CACHE_MAX_WEIGHT);
+
+  ConfigEntry<Long> ENTITY_STORE_CACHE_EXPIRE_AFTER_WRITE_MS =
+      new ConfigBuilder("gravitino.entity.store.cache.expireAfterWriteMs")
+          .doc(
+              "The time in milliseconds after which a cached entity is reloaded from the entity "
+                  + "store, it bounds the staleness when several servers share one store")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .longConf()
+          .checkValue(v -> v > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_STORE_CACHE_EXPIRE_AFTER_WRITE_MS);
+
   // The followings are configurations for tree lock
 
   ConfigEntry<Long> TREE_LOCK_MAX_NODE_IN_MEMORY =
@@ -10,6 +10,7 @@ import com.datastrato.gravitino.exceptions.NoSuchEntityException;
 import com.datastrato.gravitino.utils.Executable;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
@@ -90,6 +91,27 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException;
 
+  /**
+   * Store the entities into the underlying storage. According to the {@code overwritten} flag, it
+   * will overwrite the existing entities or throw an {@link EntityAlreadyExistsException}.
+   *
+   * <p>Note. The default implementation stores the entities one by one, the implementation should
+   * override it if the underlying storage supports storing multiple entities in one call.
+   *
+   * @param entities the entities to store
+   * @param overwritten whether to overwrite the existing entities
+   * @param <E> the type of the entities
+   * @throws IOException if the store operation fails
+   * @throws EntityAlreadyExistsException if one of the entities already exists and the
+   *     overwritten flag is set to false
+   */
+  default <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    for (E e : entities) {
+      put(e, overwritten);
+    }
+  }
+
   /**
    * Update the entity into the underlying storage.
    *
@@ -133,6 +155,34 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Get the entities with the specified {@link NameIdentifier}s from the underlying storage. The
+   * entities that don't exist are skipped, the others are returned in the order of the input
+   * identifiers.
+   *
+   * <p>Note. The default implementation gets the entities one by one, the implementation should
+   * override it if the underlying storage supports fetching multiple entities in one call.
+   *
+   * @param idents the name identifiers of the entities, all of them should be in the same type
+   * @param entityType the general type of the entities
+   * @param e the entity class instance
+   * @param <E> the class of entity
+   * @return the existing entities retrieved from the underlying storage
+   * @throws IOException if the retrieve operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, EntityType entityType, Class<E> e) throws IOException {
+    List<E> entities = new ArrayList<>(idents.size());
+    for (NameIdentifier ident : idents) {
+      try {
+        entities.add(get(ident, entityType, e));
+      } catch (NoSuchEntityException ignored) {
+        // Skip the entity that doesn't exist.
+      }
+    }
+    return entities;
+  }
+
   /**
    * Delete the entity from the underlying storage by the specified {@link NameIdentifier}.
    *
@@ -6,6 +6,7 @@ package com.datastrato.gravitino;
 
 import com.datastrato.gravitino.authorization.AccessControlManager;
 import com.datastrato.gravitino.auxiliary.AuxiliaryServiceManager;
+import com.datastrato.gravitino.catalog.CatalogChangeFeed;
 import com.datastrato.gravitino.catalog.CatalogDispatcher;
 import com.datastrato.gravitino.catalog.CatalogEventDispatcher;
 import com.datastrato.gravitino.catalog.CatalogManager;
@@ -28,9 +29,11 @@ import com.datastrato.gravitino.metalake.MetalakeDispatcher;
 import com.datastrato.gravitino.metalake.MetalakeEventDispatcher;
 import com.datastrato.gravitino.metalake.MetalakeManager;
 import com.datastrato.gravitino.metrics.MetricsSystem;
+import com.datastrato.gravitino.metrics.source.EntityCacheMetricsSource;
 import com.datastrato.gravitino.metrics.source.JVMMetricsSource;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.storage.RandomIdGenerator;
+import com.datastrato.gravitino.storage.cache.CachedEntityStore;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
@@ -72,6 +75,8 @@ public class GravitinoEnv {
   private LockManager lockManager;
   private EventListenerManager eventListenerManager;
 
+  private CatalogChangeFeed catalogChangeFeed;
+
   private GravitinoEnv() {}
 
   private static class InstanceHolder {
@@ -134,8 +139,16 @@ public class GravitinoEnv {
     metricsSystem.register(new JVMMetricsSource());
 
     // Initialize EntityStore
-    this.entityStore = EntityStoreFactory.createEntityStore(config);
-    entityStore.initialize(config);
+    EntityStore store = EntityStoreFactory.createEntityStore(config);
+    if (config.get(Configs.ENTITY_STORE_CACHE_ENABLED)) {
+      CachedEntityStore cachedEntityStore = new CachedEntityStore(store);
+      cachedEntityStore.initialize(config);
+      metricsSystem.register(new EntityCacheMetricsSource(cachedEntityStore.getCache()));
+      this.entityStore = cachedEntityStore;
+    } else {
+      store.initialize(config);
+      this.entityStore = store;
+    }
 
     // create and initialize a random id generator
     this.idGenerator = new RandomIdGenerator();
@@ -143,6 +156,8 @@ public class GravitinoEnv {
     this.eventListenerManager = new EventListenerManager();
     eventListenerManager.init(
         config.getConfigsWithPrefix(EventListenerManager.GRAVITINO_EVENT_LISTENER_PREFIX));
+    this.catalogChangeFeed = new CatalogChangeFeed(config);
+    eventListenerManager.addBuiltInEventListener("catalog-change-feed", catalogChangeFeed);
     EventBus eventBus = eventListenerManager.createEventBus();
 
     // Create and initialize metalake related modules
@@ -151,6 +166,9 @@ public class GravitinoEnv {
 
     // Create and initialize Catalog related modules
     this.catalogManager = new CatalogManager(config, entityStore, idGenerator);
+    if (catalogManager.getClassLoaderMetricsSource() != null) {
+      metricsSystem.register(catalogManager.getClassLoaderMetricsSource());
+    }
     this.catalogDispatcher = new CatalogEventDispatcher(eventBus, catalogManager);
 
     SchemaOperationDispatcher schemaOperationDispatcher =
@@ -180,6 +198,7 @@ public class GravitinoEnv {
 
     // Tree lock
     this.lockManager = new LockManager(config);
+    metricsSystem.register(lockManager.getMetricsSource());
     LOG.info("Gravitino Environment is initialized.");
   }
 
@@ -278,6 +297,15 @@ public class GravitinoEnv {
     return lockManager;
   }
 
+  /**
+   * Get the CatalogChangeFeed associated with the Gravitino environment.
+   *
+   * @return The CatalogChangeFeed instance.
+   */
+  public CatalogChangeFeed catalogChangeFeed() {
+    return catalogChangeFeed;
+  }
+
   /**
    * Get the AccessControlManager associated with the Gravitino environment.
    *
@@ -291,6 +319,20 @@ public class GravitinoEnv {
     auxServiceManager.serviceStart();
     metricsSystem.start();
     eventListenerManager.start();
+
+    if (config.get(Configs.CATALOG_INIT_EAGER)) {
+      LOG.info("Initializing all the catalogs in the background...");
+      catalogManager
+          .initializeAllCatalogs()
+          .whenComplete(
+              (v, e) -> {
+                if (e != null) {
+                  LOG.warn("Failed to initialize all the catalogs", e);
+                } else {
+                  LOG.info("All the catalogs are initialized.");
+                }
+              });
+    }
   }
 
   /** Shutdown the Gravitino environment. */
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.listener.api.EventListenerPlugin;
+import com.datastrato.gravitino.listener.api.event.AlterCatalogEvent;
+import com.datastrato.gravitino.listener.api.event.AlterMetalakeEvent;
+import com.datastrato.gravitino.listener.api.event.CreateCatalogEvent;
+import com.datastrato.gravitino.listener.api.event.DropCatalogEvent;
+import com.datastrato.gravitino.listener.api.event.DropMetalakeEvent;
+import com.datastrato.gravitino.listener.api.event.Event;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A feed of the catalog changes fed by the catalog and metalake events, so that the clients caching
+ * the catalogs, like the Trino connector, only reload the changed catalogs instead of reloading all
+ * the catalogs periodically.
+ *
+ * <p>Each change is assigned a monotonic version. The feed is kept in the memory of each server,
+ * so the high bits of the versions are a random epoch of the server process. A client asking for
+ * the changes since a version no longer kept, or since a version of another server or a previous
+ * process of this server, is told to reset, that is to reload all the catalogs of the metalake. The
+ * clients behind a load balancer should also reload all the catalogs periodically, as the epochs of
+ * two servers may collide.
+ */
+@ThreadSafe
+public class CatalogChangeFeed implements EventListenerPlugin {
+
+  /** The catalog changes of a metalake since a version. */
+  public static final class Changes {
+    private final long version;
+    private final boolean reset;
+    private final Set<String> catalogs;
+
+    private Changes(long version, boolean reset, Set<String> catalogs) {
+      this.version = version;
+      this.reset = reset;
+      this.catalogs = catalogs;
+    }
+
+    /** @return The latest change version, it's used to fetch the next changes. */
+    public long version() {
+      return version;
+    }
+
+    /** @return Whether all the catalogs of the metalake should be reloaded. */
+    public boolean reset() {
+      return reset;
+    }
+
+    /** @return The names of the changed catalogs. */
+    public Set<String> catalogs() {
+      return catalogs;
+    }
+  }
+
+  private static final class Change {
+    private final long version;
+    private final String metalake;
+    // Null if all the catalogs of the metalake are changed.
+    @Nullable private final String catalog;
+
+    private Change(long version, String metalake, @Nullable String catalog) {
+      this.version = version;
+      this.metalake = metalake;
+      this.catalog = catalog;
+    }
+  }
+
+  // The low bits of a version count the changes, the high bits are the epoch.
+  private static final int COUNTER_BITS = 40;
+
+  private final int capacity;
+  private final long maxWaitMs;
+  private final int maxWaiters;
+  private final long epoch;
+
+  private final Deque<Change> changes = new ArrayDeque<>();
+  // The changes after this version are all kept.
+  private long oldestVersion;
+  private long version;
+  private int waiters;
+  private boolean stopped;
+
+  public CatalogChangeFeed(Config config) {
+    this(
+        config.get(Configs.CATALOG_CHANGE_FEED_CAPACITY),
+        config.get(Configs.CATALOG_CHANGE_FEED_MAX_WAIT_MS),
+        config.get(Configs.CATALOG_CHANGE_FEED_MAX_WAITERS));
+  }
+
+  @VisibleForTesting
+  CatalogChangeFeed(int capacity, long maxWaitMs, int maxWaiters) {
+    Preconditions.checkArgument(capacity > 0, "capacity should be > 0");
+    this.capacity = capacity;
+    this.maxWaitMs = maxWaitMs;
+    this.maxWaiters = maxWaiters;
+    this.epoch = new SecureRandom().nextInt(1 << (63 - COUNTER_BITS - 1)) + 1;
+    this.version = epoch << COUNTER_BITS;
+    this.oldestVersion = version;
+  }
+
+  /**
+   * Get the catalog changes of the metalake since the version. If there is no change, the request
+   * waits for the changes until the timeout.
+   *
+   * @param metalake The name of the metalake.
+   * @param sinceVersion The version returned by the last call, or a negative number for the first
+   *     call.
+   * @param timeoutMs The max time in milliseconds to wait for the changes, it's bounded by {@link
+   *     Configs#CATALOG_CHANGE_FEED_MAX_WAIT_MS}.
+   * @return The catalog changes since the version.
+   * @throws InterruptedException If the waiting is interrupted.
+   */
+  public synchronized Changes getChanges(String metalake, long sinceVersion, long timeoutMs)
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + Math.min(Math.max(timeoutMs, 0), maxWaitMs);
+    boolean waiting = false;
+    try {
+      while (true) {
+        if (sinceVersion >>> COUNTER_BITS != epoch
+            || sinceVersion < oldestVersion
+            || sinceVersion > version) {
+          return new Changes(version, true, new LinkedHashSet<>());
+        }
+
+        Set<String> catalogs = new LinkedHashSet<>();
+        for (Change change : changes) {
+          if (change.version > sinceVersion && change.metalake.equals(metalake)) {
+            if (change.catalog == null) {
+              return new Changes(version, true, new LinkedHashSet<>());
+            }
+            catalogs.add(change.catalog);
+          }
+        }
+
+        long remainingMs = deadline - System.currentTimeMillis();
+        if (!catalogs.isEmpty() || remainingMs <= 0 || stopped) {
+          return new Changes(version, false, catalogs);
+        }
+        if (!waiting) {
+          if (waiters >= maxWaiters) {
+            return new Changes(version, false, catalogs);
+          }
+          waiting = true;
+          waiters++;
+        }
+        wait(remainingMs);
+      }
+    } finally {
+      if (waiting) {
+        waiters--;
+      }
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void addChange(String metalake, @Nullable String catalog) {
+    changes.addLast(new Change(++version, metalake, catalog));
+    while (changes.size() > capacity) {
+      oldestVersion = changes.removeFirst().version;
+    }
+    notifyAll();
+  }
+
+  @Override
+  public void onPostEvent(Event event) {
+    NameIdentifier ident = event.identifier();
+    if (event instanceof CreateCatalogEvent || event instanceof DropCatalogEvent) {
+      addChange(ident.namespace().level(0), ident.name());
+
+    } else if (event instanceof AlterCatalogEvent) {
+      addChange(ident.namespace().level(0), ident.name());
+      String newName = ((AlterCatalogEvent) event).updatedCatalogInfo().name();
+      if (!ident.name().equals(newName)) {
+        addChange(ident.namespace().level(0), newName);
+      }
+
+    } else if (event instanceof AlterMetalakeEvent || event instanceof DropMetalakeEvent) {
+      addChange(ident.name(), null);
+    }
+  }
+
+  @Override
+  public void init(Map<String, String> properties) {}
+
+  @Override
+  public void start() {}
+
+  @Override
+  public synchronized void stop() {
+    // Wake up the waiting requests.
+    stopped = true;
+    notifyAll();
+  }
+}
@@ -5,7 +5,9 @@
 
 package com.datastrato.gravitino.catalog;
 
+import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.SupportsCatalogs;
+import javax.annotation.Nullable;
 
 /**
  * {@code CatalogDispatcher} interface acts as a specialization of the {@link SupportsCatalogs}
@@ -13,4 +15,15 @@ import com.datastrato.gravitino.SupportsCatalogs;
  * to dispatching or handling catalog-related events or actions that are not covered by the standard
  * {@code SupportsCatalogs} operations.
  */
-public interface CatalogDispatcher extends SupportsCatalogs {}
+public interface CatalogDispatcher extends SupportsCatalogs {
+
+  /**
+   * Get the version of the catalog stored by Gravitino without loading the catalog. The version
+   * changes whenever the catalog is altered, so it tells whether a catalog loaded before is stale.
+   *
+   * @param ident The identifier of the catalog.
+   * @return The version of the catalog, or null if it's unknown.
+   */
+  @Nullable
+  String catalogVersion(NameIdentifier ident);
+}
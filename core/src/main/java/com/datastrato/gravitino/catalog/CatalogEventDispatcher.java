@@ -90,6 +90,11 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
     }
   }
 
+  @Override
+  public String catalogVersion(NameIdentifier ident) {
+    return dispatcher.catalogVersion(ident);
+  }
+
   @Override
   public Catalog createCatalog(
       NameIdentifier ident,
@@ -8,6 +8,8 @@ import static com.datastrato.gravitino.StringIdentifier.ID_KEY;
 import static com.datastrato.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForAlter;
 import static com.datastrato.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForCreate;
 
+import com.datastrato.gravitino.Audit;
+import com.datastrato.gravitino.Auditable;
 import com.datastrato.gravitino.Catalog;
 import com.datastrato.gravitino.CatalogChange;
 import com.datastrato.gravitino.CatalogChange.RemoveProperty;
@@ -19,11 +21,13 @@ import com.datastrato.gravitino.Entity;
 import com.datastrato.gravitino.Entity.EntityType;
 import com.datastrato.gravitino.EntityAlreadyExistsException;
 import com.datastrato.gravitino.EntityStore;
+import com.datastrato.gravitino.HasIdentifier;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.StringIdentifier;
 import com.datastrato.gravitino.connector.BaseCatalog;
 import com.datastrato.gravitino.connector.HasPropertyMetadata;
+import com.datastrato.gravitino.connector.PropertiesMetadata;
 import com.datastrato.gravitino.connector.capability.Capability;
 import com.datastrato.gravitino.exceptions.CatalogAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
@@ -32,19 +36,24 @@ import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
 import com.datastrato.gravitino.file.FilesetCatalog;
 import com.datastrato.gravitino.messaging.TopicCatalog;
 import com.datastrato.gravitino.meta.AuditInfo;
+import com.datastrato.gravitino.meta.BaseMetalake;
 import com.datastrato.gravitino.meta.CatalogEntity;
 import com.datastrato.gravitino.meta.SchemaEntity;
+import com.datastrato.gravitino.metrics.source.CatalogClassLoaderMetricsSource;
 import com.datastrato.gravitino.rel.SupportsSchemas;
 import com.datastrato.gravitino.rel.TableCatalog;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.utils.IsolatedClassLoader;
 import com.datastrato.gravitino.utils.PrincipalUtils;
 import com.datastrato.gravitino.utils.ThrowableFunction;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Scheduler;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -63,9 +72,16 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -83,10 +99,31 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   public static class CatalogWrapper {
     private BaseCatalog catalog;
     private IsolatedClassLoader classLoader;
+    private final Runnable classLoaderReleaser;
+
+    // The capability and the hidden property names are resolved once, so that the dispatchers
+    // don't switch the class loader to read them on every call. The properties metadata are weakly
+    // referenced in case the catalog creates a new one on every call.
+    private volatile Capability capability;
+    private final Cache<PropertiesMetadata, Set<String>> hiddenPropertyNames =
+        Caffeine.newBuilder().weakKeys().build();
 
     public CatalogWrapper(BaseCatalog catalog, IsolatedClassLoader classLoader) {
+      this(catalog, classLoader, classLoader::close);
+    }
+
+    /**
+     * Constructs a CatalogWrapper whose class loader may be shared with the other catalogs.
+     *
+     * @param catalog The catalog instance.
+     * @param classLoader The class loader of the catalog.
+     * @param classLoaderReleaser The action to release the class loader when the catalog closes.
+     */
+    public CatalogWrapper(
+        BaseCatalog catalog, IsolatedClassLoader classLoader, Runnable classLoaderReleaser) {
       this.catalog = catalog;
       this.classLoader = classLoader;
+      this.classLoaderReleaser = classLoaderReleaser;
     }
 
     public <R> R doWithSchemaOps(ThrowableFunction<SupportsSchemas, R> fn) throws Exception {
@@ -136,7 +173,43 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public Capability capabilities() throws Exception {
-      return classLoader.withClassLoader(cl -> catalog.capability());
+      Capability cached = capability;
+      if (cached == null) {
+        cached = classLoader.withClassLoader(cl -> catalog.capability());
+        this.capability = cached;
+      }
+      return cached;
+    }
+
+    /**
+     * Get the names of the hidden properties among the given properties. The hidden property names
+     * of a properties metadata are collected once and cached, so it doesn't switch the class
+     * loader.
+     *
+     * @param provider The function to get the properties metadata from the catalog operations.
+     * @param properties The properties to check.
+     * @return The names of the hidden properties.
+     * @throws Exception If the properties metadata can't be got.
+     */
+    public Set<String> getHiddenPropertyNames(
+        ThrowableFunction<HasPropertyMetadata, PropertiesMetadata> provider,
+        Map<String, String> properties)
+        throws Exception {
+      PropertiesMetadata propertiesMetadata = provider.apply(catalog.ops());
+      Set<String> hiddenNames =
+          hiddenPropertyNames.get(propertiesMetadata, CatalogWrapper::collectHiddenPropertyNames);
+      if (hiddenNames.isEmpty()) {
+        return Collections.emptySet();
+      }
+
+      return properties.keySet().stream().filter(hiddenNames::contains).collect(Collectors.toSet());
+    }
+
+    private static Set<String> collectHiddenPropertyNames(PropertiesMetadata propertiesMetadata) {
+      return propertiesMetadata.propertyEntries().entrySet().stream()
+          .filter(entry -> entry.getValue().isHidden())
+          .map(Map.Entry::getKey)
+          .collect(Collectors.collectingAndThen(Collectors.toSet(), ImmutableSet::copyOf));
     }
 
     public void close() {
@@ -153,7 +226,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
         LOG.warn("Failed to close catalog", e);
       }
 
-      classLoader.close();
+      classLoaderReleaser.run();
     }
 
     private SupportsSchemas asSchemas() {
@@ -175,8 +248,23 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
   private final Config config;
 
+  // The catalogs being initialized are kept as incomplete futures, so the concurrent requests for
+  // the same catalog share one initialization, and the initializations of the different catalogs
+  // don't block each other.
+  private final AsyncCache<NameIdentifier, CatalogWrapper> asyncCatalogCache;
+
   @VisibleForTesting final Cache<NameIdentifier, CatalogWrapper> catalogCache;
 
+  private final ExecutorService catalogInitExecutor;
+
+  private final Set<String> sharedClassLoaderProviders;
+
+  // The class loaders shared by the catalogs of the same provider, null if no provider shares the
+  // class loaders.
+  @Nullable private final IsolatedClassLoaderPool classLoaderPool;
+
+  @Nullable private final CatalogClassLoaderMetricsSource classLoaderMetricsSource;
+
   private final EntityStore store;
 
   private final IdGenerator idGenerator;
@@ -194,7 +282,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     this.idGenerator = idGenerator;
 
     long cacheEvictionIntervalInMs = config.get(Configs.CATALOG_CACHE_EVICTION_INTERVAL_MS);
-    this.catalogCache =
+    this.asyncCatalogCache =
         Caffeine.newBuilder()
             .expireAfterAccess(cacheEvictionIntervalInMs, TimeUnit.MILLISECONDS)
             .removalListener(
@@ -210,7 +298,40 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
                             .setDaemon(true)
                             .setNameFormat("catalog-cleaner-%d")
                             .build())))
-            .build();
+            .buildAsync();
+    this.catalogCache = asyncCatalogCache.synchronous();
+
+    int catalogInitThreads = config.get(Configs.CATALOG_INIT_THREADS);
+    this.catalogInitExecutor =
+        Executors.newFixedThreadPool(
+            catalogInitThreads,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("catalog-initializer-%d")
+                .build());
+
+    this.sharedClassLoaderProviders =
+        ImmutableSet.copyOf(config.get(Configs.CATALOG_SHARED_CLASSLOADER_PROVIDERS));
+    if (sharedClassLoaderProviders.isEmpty()) {
+      this.classLoaderPool = null;
+      this.classLoaderMetricsSource = null;
+    } else {
+      // Keep an unused class loader as long as a catalog is cached, so that a catalog evicted and
+      // loaded again reuses the loaded classes.
+      this.classLoaderPool = new IsolatedClassLoaderPool(cacheEvictionIntervalInMs);
+      this.classLoaderMetricsSource =
+          new CatalogClassLoaderMetricsSource(classLoaderPool, sharedClassLoaderProviders);
+    }
+  }
+
+  /**
+   * Get the metrics source of the shared class loaders.
+   *
+   * @return The metrics source, or null if no provider shares the class loaders.
+   */
+  @Nullable
+  public CatalogClassLoaderMetricsSource getClassLoaderMetricsSource() {
+    return classLoaderMetricsSource;
   }
 
   /**
@@ -219,7 +340,11 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
    */
   @Override
   public void close() {
+    catalogInitExecutor.shutdownNow();
     catalogCache.invalidateAll();
+    if (classLoaderPool != null) {
+      classLoaderPool.close();
+    }
   }
 
   /**
@@ -272,6 +397,42 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     return loadCatalogAndWrap(ident).catalog;
   }
 
+  @Override
+  @Nullable
+  public String catalogVersion(NameIdentifier ident) {
+    CatalogWrapper wrapper = catalogCache.getIfPresent(ident);
+    try {
+      // Read the entity from the store if the catalog isn't loaded, instead of initializing it.
+      CatalogEntity entity =
+          wrapper != null
+              ? wrapper.catalog.entity()
+              : store.get(ident, EntityType.CATALOG, CatalogEntity.class);
+      return entityVersion(entity);
+
+    } catch (NoSuchEntityException | IOException e) {
+      LOG.debug("Failed to get the version of catalog {}", ident, e);
+      return null;
+    }
+  }
+
+  /**
+   * The version of an entity stored by Gravitino, it changes whenever the entity is altered, since
+   * the last modified time is updated with it. The hash of the entity is part of the version as
+   * well, so that two alterations within the precision of the stored time still differ. Null if
+   * the entity has no audit time.
+   */
+  @Nullable
+  static <E extends Auditable & HasIdentifier> String entityVersion(E entity) {
+    Audit auditInfo = entity.auditInfo();
+    Instant modifiedTime =
+        auditInfo.lastModifiedTime() != null
+            ? auditInfo.lastModifiedTime()
+            : auditInfo.createTime();
+    return modifiedTime == null
+        ? null
+        : entity.id() + "-" + modifiedTime.toEpochMilli() + "-" + entity.hashCode();
+  }
+
   /**
    * Creates a new catalog with the provided details.
    *
@@ -336,7 +497,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       }
 
       store.put(e, false /* overwrite */);
-      CatalogWrapper wrapper = catalogCache.get(ident, id -> createCatalogWrapper(e));
+      CatalogWrapper wrapper = getOrCreateCatalogWrapper(ident, id -> createCatalogWrapper(e));
       createSuccess = true;
       return wrapper.catalog;
     } catch (EntityAlreadyExistsException e1) {
@@ -449,7 +610,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
                 return newCatalogBuilder.build();
               });
-      return catalogCache.get(
+      return getOrCreateCatalogWrapper(
               updatedCatalog.nameIdentifier(), id -> createCatalogWrapper(updatedCatalog))
           .catalog;
 
@@ -511,7 +672,83 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
    * @throws NoSuchCatalogException If the specified catalog does not exist.
    */
   public CatalogWrapper loadCatalogAndWrap(NameIdentifier ident) throws NoSuchCatalogException {
-    return catalogCache.get(ident, this::loadCatalogInternal);
+    return getOrCreateCatalogWrapper(ident, this::loadCatalogInternal);
+  }
+
+  /**
+   * Initializes the catalogs with the specified identifiers in parallel, the catalogs failed to
+   * initialize are logged and skipped.
+   *
+   * @param idents The identifiers of the catalogs to initialize.
+   * @return A future completed when all the catalogs are initialized or failed.
+   */
+  public CompletableFuture<Void> initializeCatalogs(List<NameIdentifier> idents) {
+    CompletableFuture<?>[] futures =
+        idents.stream()
+            .map(
+                ident ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                          try {
+                            loadCatalogAndWrap(ident);
+                          } catch (Exception e) {
+                            LOG.warn("Failed to initialize catalog {}", ident, e);
+                          }
+                        },
+                        catalogInitExecutor))
+            .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(futures);
+  }
+
+  /**
+   * Initializes all the catalogs of all the metalakes in parallel in the background, so that the
+   * first requests to the catalogs don't pay for the initializations.
+   *
+   * @return A future completed when all the catalogs are initialized or failed.
+   */
+  public CompletableFuture<Void> initializeAllCatalogs() {
+    return CompletableFuture.supplyAsync(this::listAllCatalogs, catalogInitExecutor)
+        .thenCompose(this::initializeCatalogs);
+  }
+
+  private List<NameIdentifier> listAllCatalogs() {
+    List<NameIdentifier> idents = Lists.newArrayList();
+    try {
+      for (BaseMetalake metalake :
+          store.list(Namespace.empty(), BaseMetalake.class, EntityType.METALAKE)) {
+        Namespace namespace = Namespace.ofCatalog(metalake.name());
+        store.list(namespace, CatalogEntity.class, EntityType.CATALOG).stream()
+            .map(entity -> NameIdentifier.of(namespace, entity.name()))
+            .forEach(idents::add);
+      }
+    } catch (IOException ioe) {
+      LOG.error("Failed to list catalogs to initialize", ioe);
+      throw new RuntimeException(ioe);
+    }
+    return idents;
+  }
+
+  private CatalogWrapper getOrCreateCatalogWrapper(
+      NameIdentifier ident, Function<NameIdentifier, CatalogWrapper> creator) {
+    CompletableFuture<CatalogWrapper> newFuture = new CompletableFuture<>();
+    CompletableFuture<CatalogWrapper> future =
+        asyncCatalogCache.get(ident, (k, executor) -> newFuture);
+    if (future == newFuture) {
+      // Create the catalog on the calling thread, the other threads requesting the same catalog
+      // wait for it. The failed future is removed from the cache, so the next request retries.
+      try {
+        newFuture.complete(creator.apply(ident));
+      } catch (Throwable t) {
+        newFuture.completeExceptionally(t);
+      }
+    }
+
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
   }
 
   private void checkMetalakeExists(NameIdentifier ident) throws NoSuchMetalakeException {
@@ -545,41 +782,66 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     String provider = entity.getProvider();
 
     IsolatedClassLoader classLoader;
+    Runnable classLoaderReleaser;
     if (config.get(Configs.CATALOG_LOAD_ISOLATED)) {
       String pkgPath = buildPkgPath(conf, provider);
       String confPath = buildConfPath(conf, provider);
-      classLoader = IsolatedClassLoader.buildClassLoader(Lists.newArrayList(pkgPath, confPath));
+      List<String> paths = Lists.newArrayList(pkgPath, confPath);
+      boolean shared = classLoaderPool != null && sharedClassLoaderProviders.contains(provider);
+      if (shared && !IsolatedClassLoaderPool.isShareable(conf)) {
+        LOG.info(
+            "Catalog {} configures its authentication, load it in a class loader of its own",
+            entity.nameIdentifier());
+        shared = false;
+      }
+      if (shared) {
+        IsolatedClassLoader sharedClassLoader =
+            classLoaderPool.acquire(
+                provider, paths, () -> IsolatedClassLoader.buildClassLoader(paths));
+        classLoader = sharedClassLoader;
+        classLoaderReleaser = () -> classLoaderPool.release(sharedClassLoader);
+      } else {
+        classLoader = IsolatedClassLoader.buildClassLoader(paths);
+        classLoaderReleaser = classLoader::close;
+      }
     } else {
       // This will use the current class loader, it is mainly used for test.
       classLoader =
           new IsolatedClassLoader(
               Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+      classLoaderReleaser = classLoader::close;
     }
 
-    // Load Catalog class instance
-    BaseCatalog<?> catalog = createCatalogInstance(classLoader, provider);
-    catalog.withCatalogConf(conf).withCatalogEntity(entity);
-
-    CatalogWrapper wrapper = new CatalogWrapper(catalog, classLoader);
-    // Validate catalog properties and initialize the config
-    classLoader.withClassLoader(
-        cl -> {
-          Map<String, String> configWithoutId = Maps.newHashMap(conf);
-          configWithoutId.remove(ID_KEY);
-          validatePropertyForCreate(catalog.ops().catalogPropertiesMetadata(), configWithoutId);
-
-          // Call wrapper.catalog.properties() to make BaseCatalog#properties in IsolatedClassLoader
-          // not null. Why we do this? Because wrapper.catalog.properties() need to be called in the
-          // IsolatedClassLoader, it needs to load the specific catalog class such as HiveCatalog or
-          // so. For simply, We will preload the value of properties and thus AppClassLoader can get
-          // the value of properties.
-          wrapper.catalog.properties();
-          wrapper.catalog.capability();
-          return null;
-        },
-        IllegalArgumentException.class);
-
-    return wrapper;
+    try {
+      // Load Catalog class instance
+      BaseCatalog<?> catalog = createCatalogInstance(classLoader, provider);
+      catalog.withCatalogConf(conf).withCatalogEntity(entity);
+
+      CatalogWrapper wrapper = new CatalogWrapper(catalog, classLoader, classLoaderReleaser);
+      // Validate catalog properties and initialize the config
+      classLoader.withClassLoader(
+          cl -> {
+            Map<String, String> configWithoutId = Maps.newHashMap(conf);
+            configWithoutId.remove(ID_KEY);
+            validatePropertyForCreate(catalog.ops().catalogPropertiesMetadata(), configWithoutId);
+
+            // Call wrapper.catalog.properties() to make BaseCatalog#properties in
+            // IsolatedClassLoader not null. Why we do this? Because wrapper.catalog.properties()
+            // need to be called in the IsolatedClassLoader, it needs to load the specific catalog
+            // class such as HiveCatalog or so. For simply, We will preload the value of properties
+            // and thus AppClassLoader can get the value of properties.
+            wrapper.catalog.properties();
+            wrapper.capability = wrapper.catalog.capability();
+            return null;
+          },
+          IllegalArgumentException.class);
+
+      return wrapper;
+    } catch (RuntimeException e) {
+      // Release the class loader, or the shared class loader is never closed.
+      classLoaderReleaser.run();
+      throw e;
+    }
   }
 
   private BaseCatalog<?> createCatalogInstance(IsolatedClassLoader classLoader, String provider) {
@@ -5,7 +5,9 @@
 
 package com.datastrato.gravitino.catalog;
 
+import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.file.FilesetCatalog;
+import javax.annotation.Nullable;
 
 /**
  * {@code FilesetDispatcher} interface acts as a specialization of the {@link FilesetCatalog}
@@ -13,4 +15,16 @@ import com.datastrato.gravitino.file.FilesetCatalog;
  * to dispatching or handling fileset-related events or actions that are not covered by the standard
  * {@code FilesetCatalog} operations.
  */
-public interface FilesetDispatcher extends FilesetCatalog {}
+public interface FilesetDispatcher extends FilesetCatalog {
+
+  /**
+   * Get the version of the fileset stored by Gravitino without loading the fileset from its
+   * catalog. The version changes whenever the fileset is altered, so it tells whether a fileset
+   * loaded before is stale.
+   *
+   * @param ident The identifier of the fileset.
+   * @return The version of the fileset, or null if it's unknown.
+   */
+  @Nullable
+  String filesetVersion(NameIdentifier ident);
+}
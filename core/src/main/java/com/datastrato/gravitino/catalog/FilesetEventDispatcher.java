@@ -70,6 +70,11 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
     }
   }
 
+  @Override
+  public String filesetVersion(NameIdentifier ident) {
+    return dispatcher.filesetVersion(ident);
+  }
+
   @Override
   public Fileset createFileset(
       NameIdentifier ident,
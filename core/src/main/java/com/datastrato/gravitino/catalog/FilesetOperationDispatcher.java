@@ -13,13 +13,17 @@ import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.StringIdentifier;
 import com.datastrato.gravitino.connector.HasPropertyMetadata;
 import com.datastrato.gravitino.exceptions.FilesetAlreadyExistsException;
+import com.datastrato.gravitino.exceptions.NoSuchEntityException;
 import com.datastrato.gravitino.exceptions.NoSuchFilesetException;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.exceptions.NonEmptyEntityException;
 import com.datastrato.gravitino.file.Fileset;
 import com.datastrato.gravitino.file.FilesetChange;
+import com.datastrato.gravitino.meta.FilesetEntity;
 import com.datastrato.gravitino.storage.IdGenerator;
+import java.io.IOException;
 import java.util.Map;
+import javax.annotation.Nullable;
 
 public class FilesetOperationDispatcher extends OperationDispatcher implements FilesetDispatcher {
   /**
@@ -74,6 +78,19 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
                 fileset.properties()));
   }
 
+  @Override
+  @Nullable
+  public String filesetVersion(NameIdentifier ident) {
+    // The filesets are maintained in the Gravitino's store, so the stored fileset is the one the
+    // catalog returns.
+    try {
+      FilesetEntity entity = store.get(ident, Entity.EntityType.FILESET, FilesetEntity.class);
+      return CatalogManager.entityVersion(entity);
+    } catch (NoSuchEntityException | IOException e) {
+      return null;
+    }
+  }
+
   /**
    * Create a fileset metadata in the catalog.
    *
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.utils.IsolatedClassLoader;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of the {@link IsolatedClassLoader}s shared by the catalogs of the same provider loaded
+ * from the same paths, so that the jars of a provider are loaded once instead of once per catalog.
+ *
+ * <p>The catalogs sharing a class loader share the static states of the classes, the states of a
+ * catalog must be kept in its own instances. The catalogs with authentication properties aren't
+ * shareable, since the login state, like the Kerberos login user of Hadoop's {@code
+ * UserGroupInformation}, is static. A class loader no longer used by any catalog is kept
+ * for the idle timeout, so that a catalog evicted from the catalog cache and loaded again reuses
+ * the loaded and compiled classes.
+ */
+@ThreadSafe
+public class IsolatedClassLoaderPool implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(IsolatedClassLoaderPool.class);
+
+  private static final class PooledClassLoader {
+    private final String provider;
+    private final IsolatedClassLoader classLoader;
+    private int references;
+    private long idleSinceMs;
+
+    private PooledClassLoader(String provider, IsolatedClassLoader classLoader) {
+      this.provider = provider;
+      this.classLoader = classLoader;
+    }
+  }
+
+  // The prefixes of the catalog properties configuring the authentication of a catalog.
+  private static final List<String> AUTHENTICATION_PROPERTY_PREFIXES =
+      ImmutableList.of("kerberos.", "authentication.");
+  // The Hadoop property selecting the authentication method, possibly passed with a prefix like
+  // "gravitino.bypass.".
+  private static final String HADOOP_AUTHENTICATION_PROPERTY = "hadoop.security.authentication";
+
+  // The key is the provider followed by the class paths.
+  private final Map<List<String>, PooledClassLoader> classLoaders = new HashMap<>();
+  private final long idleTimeoutMs;
+
+  /**
+   * Create a class loader pool.
+   *
+   * @param idleTimeoutMs The time in milliseconds to keep a class loader no longer used.
+   */
+  public IsolatedClassLoaderPool(long idleTimeoutMs) {
+    Preconditions.checkArgument(idleTimeoutMs >= 0, "idleTimeoutMs should be >= 0");
+    this.idleTimeoutMs = idleTimeoutMs;
+  }
+
+  /**
+   * Whether a catalog with the properties can share a class loader with the other catalogs. A
+   * catalog configuring its authentication, like a Kerberos login, keeps the login state in the
+   * static states of the classes, so it must use a class loader of its own.
+   *
+   * @param properties The properties of the catalog.
+   * @return True if the catalog can share a class loader.
+   */
+  public static boolean isShareable(Map<String, String> properties) {
+    for (Map.Entry<String, String> entry : properties.entrySet()) {
+      String key = entry.getKey();
+      if (AUTHENTICATION_PROPERTY_PREFIXES.stream().anyMatch(key::startsWith)) {
+        return false;
+      }
+      if (key.endsWith(HADOOP_AUTHENTICATION_PROPERTY)
+          && !"simple".equalsIgnoreCase(entry.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Acquire the class loader of the provider and the class paths, the class loader is created by
+   * the factory if there is no such class loader in the pool.
+   *
+   * @param provider The provider of the catalog.
+   * @param paths The class paths of the class loader.
+   * @param factory The factory to create the class loader.
+   * @return The shared class loader, it should be released by {@link
+   *     #release(IsolatedClassLoader)} instead of being closed.
+   */
+  public synchronized IsolatedClassLoader acquire(
+      String provider, List<String> paths, Supplier<IsolatedClassLoader> factory) {
+    evictIdleClassLoaders(System.currentTimeMillis());
+
+    List<String> key = ImmutableList.<String>builder().add(provider).addAll(paths).build();
+    PooledClassLoader pooled = classLoaders.get(key);
+    if (pooled == null) {
+      pooled = new PooledClassLoader(provider, factory.get());
+      classLoaders.put(key, pooled);
+      LOG.info("Created the shared class loader of provider {} from {}", provider, paths);
+    }
+    pooled.references++;
+    return pooled.classLoader;
+  }
+
+  /**
+   * Release the class loader acquired from the pool.
+   *
+   * @param classLoader The class loader to release.
+   */
+  public synchronized void release(IsolatedClassLoader classLoader) {
+    long now = System.currentTimeMillis();
+    for (PooledClassLoader pooled : classLoaders.values()) {
+      if (pooled.classLoader == classLoader) {
+        Preconditions.checkState(pooled.references > 0, "The class loader is not acquired");
+        if (--pooled.references == 0) {
+          pooled.idleSinceMs = now;
+        }
+        break;
+      }
+    }
+    evictIdleClassLoaders(now);
+  }
+
+  /**
+   * @param provider The provider of the catalogs.
+   * @return The number of the class loaders of the provider.
+   */
+  public synchronized int getClassLoaderCount(String provider) {
+    return (int) classLoaders.values().stream().filter(p -> p.provider.equals(provider)).count();
+  }
+
+  /**
+   * @param provider The provider of the catalogs.
+   * @return The number of the catalogs using the class loaders of the provider.
+   */
+  public synchronized int getReferenceCount(String provider) {
+    return classLoaders.values().stream()
+        .filter(p -> p.provider.equals(provider))
+        .mapToInt(p -> p.references)
+        .sum();
+  }
+
+  /**
+   * @param provider The provider of the catalogs.
+   * @return The number of the classes loaded by the class loaders of the provider.
+   */
+  public synchronized long getLoadedClassCount(String provider) {
+    return classLoaders.values().stream()
+        .filter(p -> p.provider.equals(provider))
+        .mapToLong(p -> p.classLoader.getLoadedClassCount())
+        .sum();
+  }
+
+  private void evictIdleClassLoaders(long now) {
+    Iterator<PooledClassLoader> iterator = classLoaders.values().iterator();
+    while (iterator.hasNext()) {
+      PooledClassLoader pooled = iterator.next();
+      if (pooled.references == 0 && now - pooled.idleSinceMs >= idleTimeoutMs) {
+        iterator.remove();
+        LOG.info("Closing the idle shared class loader of provider {}", pooled.provider);
+        pooled.classLoader.close();
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    classLoaders.values().forEach(pooled -> pooled.classLoader.close());
+    classLoaders.clear();
+  }
+}
@@ -107,14 +107,7 @@ public abstract class OperationDispatcher {
       Map<String, String> properties) {
     return doWithCatalog(
         catalogIdent,
-        c ->
-            c.doWithPropertiesMeta(
-                p -> {
-                  PropertiesMetadata propertiesMetadata = provider.apply(p);
-                  return properties.keySet().stream()
-                      .filter(propertiesMetadata::isHiddenProperty)
-                      .collect(Collectors.toSet());
-                }),
+        c -> c.getHiddenPropertyNames(provider, properties),
         IllegalArgumentException.class);
   }
 
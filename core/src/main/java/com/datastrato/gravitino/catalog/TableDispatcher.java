@@ -5,7 +5,12 @@
 
 package com.datastrato.gravitino.catalog;
 
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.exceptions.NoSuchTableException;
+import com.datastrato.gravitino.rel.Table;
 import com.datastrato.gravitino.rel.TableCatalog;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * {@code TableDispatcher} interface acts as a specialization of the {@link TableCatalog} interface.
@@ -13,4 +18,24 @@ import com.datastrato.gravitino.rel.TableCatalog;
  * dispatching or handling table-related events or actions that are not covered by the standard
  * {@code TableCatalog} operations.
  */
-public interface TableDispatcher extends TableCatalog {}
+public interface TableDispatcher extends TableCatalog {
+
+  /**
+   * Load the tables with the given identifiers in one call. The tables that don't exist are
+   * skipped, the others are returned in the order of the given identifiers.
+   *
+   * @param idents The identifiers of the tables to load.
+   * @return The loaded tables.
+   */
+  default Table[] loadTables(NameIdentifier[] idents) {
+    List<Table> tables = new ArrayList<>(idents.length);
+    for (NameIdentifier ident : idents) {
+      try {
+        tables.add(loadTable(ident));
+      } catch (NoSuchTableException ignored) {
+        // Skip the table that doesn't exist.
+      }
+    }
+    return tables.toArray(new Table[0]);
+  }
+}
@@ -83,6 +83,36 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public Table[] loadTables(NameIdentifier[] idents) {
+    Table[] tables;
+    try {
+      tables = dispatcher.loadTables(idents);
+    } catch (Exception e) {
+      for (NameIdentifier ident : idents) {
+        eventBus.dispatchEvent(
+            new LoadTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      }
+      throw e;
+    }
+
+    // The loaded tables are in the order of the identifiers with the missing ones skipped, so
+    // match them with the identifiers by name to dispatch the load events.
+    int j = 0;
+    for (Table table : tables) {
+      while (j < idents.length && !idents[j].name().equalsIgnoreCase(table.name())) {
+        j++;
+      }
+      if (j == idents.length) {
+        break;
+      }
+      eventBus.dispatchEvent(
+          new LoadTableEvent(
+              PrincipalUtils.getCurrentUserName(), idents[j++], new TableInfo(table)));
+    }
+    return tables;
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
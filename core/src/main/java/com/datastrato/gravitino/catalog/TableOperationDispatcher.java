@@ -15,6 +15,7 @@ import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.StringIdentifier;
 import com.datastrato.gravitino.connector.HasPropertyMetadata;
+import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
 import com.datastrato.gravitino.exceptions.NoSuchTableException;
 import com.datastrato.gravitino.exceptions.TableAlreadyExistsException;
@@ -31,9 +32,14 @@ import com.datastrato.gravitino.rel.indexes.Index;
 import com.datastrato.gravitino.rel.indexes.Indexes;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.utils.PrincipalUtils;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -111,6 +117,104 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
                 table.properties()));
   }
 
+  /**
+   * Loads the tables with the given identifiers. The tables are grouped by catalog so each catalog
+   * is loaded once, the tables are still loaded from the catalog one by one, while the
+   * corresponding entities are fetched from the entity store in one batch.
+   *
+   * @param idents The identifiers of the tables to load.
+   * @return The loaded tables, the tables that don't exist are skipped.
+   */
+  @Override
+  public Table[] loadTables(NameIdentifier[] idents) {
+    Map<NameIdentifier, List<NameIdentifier>> identsByCatalog = Maps.newLinkedHashMap();
+    for (NameIdentifier ident : idents) {
+      identsByCatalog
+          .computeIfAbsent(getCatalogIdentifier(ident), k -> Lists.newArrayList())
+          .add(ident);
+    }
+
+    Map<NameIdentifier, Table> loadedTables = Maps.newHashMap();
+    Map<NameIdentifier, Set<String>> hiddenPropertyNames = Maps.newHashMap();
+    for (Map.Entry<NameIdentifier, List<NameIdentifier>> entry : identsByCatalog.entrySet()) {
+      doWithCatalog(
+          entry.getKey(),
+          c -> {
+            for (NameIdentifier ident : entry.getValue()) {
+              Table table;
+              try {
+                table = c.doWithTableOps(t -> t.loadTable(ident));
+              } catch (NoSuchTableException e) {
+                LOG.debug("Table {} doesn't exist, skip loading it", ident);
+                continue;
+              }
+
+              loadedTables.put(ident, table);
+              hiddenPropertyNames.put(
+                  ident,
+                  c.getHiddenPropertyNames(
+                      HasPropertyMetadata::tablePropertiesMetadata, table.properties()));
+            }
+            return null;
+          },
+          NoSuchCatalogException.class);
+    }
+
+    // Keep the tables in the order of the given identifiers.
+    List<Table> tables = Lists.newArrayListWithCapacity(loadedTables.size());
+    List<NameIdentifier> loadedIdents = Lists.newArrayListWithCapacity(loadedTables.size());
+    Map<NameIdentifier, StringIdentifier> stringIds = Maps.newHashMap();
+    for (NameIdentifier ident : idents) {
+      Table table = loadedTables.get(ident);
+      if (table == null) {
+        continue;
+      }
+
+      tables.add(table);
+      loadedIdents.add(ident);
+      StringIdentifier stringId = getStringIdFromProperties(table.properties());
+      if (stringId != null) {
+        stringIds.put(ident, stringId);
+      }
+    }
+
+    Map<NameIdentifier, TableEntity> tableEntities = Maps.newHashMap();
+    List<NameIdentifier> managedIdents =
+        loadedIdents.stream().filter(stringIds::containsKey).collect(Collectors.toList());
+    if (!managedIdents.isEmpty()) {
+      try {
+        store
+            .batchGet(managedIdents, TABLE, TableEntity.class)
+            .forEach(e -> tableEntities.put(e.nameIdentifier(), e));
+      } catch (Exception e) {
+        LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "BATCH GET", managedIdents, e);
+      }
+    }
+
+    Table[] result = new Table[tables.size()];
+    for (int i = 0; i < tables.size(); i++) {
+      NameIdentifier ident = loadedIdents.get(i);
+      Table table = tables.get(i);
+      StringIdentifier stringId = stringIds.get(ident);
+      TableEntity tableEntity = stringId == null ? null : tableEntities.get(ident);
+      if (stringId != null && tableEntity == null) {
+        LOG.error(FormattedErrorMessages.ENTITY_NOT_FOUND, ident);
+      } else if (tableEntity != null && tableEntity.id() != stringId.id()) {
+        LOG.error(
+            FormattedErrorMessages.ENTITY_UNMATCHED, ident, tableEntity.id(), stringId.id());
+        tableEntity = null;
+      }
+
+      EntityCombinedTable combinedTable =
+          tableEntity == null
+              ? EntityCombinedTable.of(table)
+              : EntityCombinedTable.of(table, tableEntity);
+      result[i] = combinedTable.withHiddenPropertiesSet(hiddenPropertyNames.get(ident));
+    }
+
+    return result;
+  }
+
   /**
    * Creates a new table in a schema.
    *
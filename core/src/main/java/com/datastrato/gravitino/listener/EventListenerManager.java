@@ -81,6 +81,21 @@ public class EventListenerManager {
     eventListeners.stream().forEach(listener -> listener.stop());
   }
 
+  /**
+   * Add an event listener provided by Gravitino itself, it should be added before the event bus is
+   * created.
+   *
+   * @param listenerName The name of the event listener.
+   * @param listener The event listener, it has been initialized.
+   */
+  public void addBuiltInEventListener(String listenerName, EventListenerPlugin listener) {
+    Preconditions.checkArgument(
+        listener.mode() == EventListenerPlugin.Mode.SYNC,
+        "The built-in event listener %s should be a sync listener",
+        listenerName);
+    eventListeners.add(new EventListenerPluginWrapper(listenerName, listener));
+  }
+
   public EventBus createEventBus() {
     return new EventBus(eventListeners);
   }
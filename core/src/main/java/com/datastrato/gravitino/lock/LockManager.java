@@ -11,6 +11,7 @@ import static com.datastrato.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.metrics.source.TreeLockMetricsSource;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -49,6 +50,9 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  // Metrics of the tree locks created by this lock manager.
+  private final TreeLockMetricsSource metricsSource = new TreeLockMetricsSource();
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -175,6 +179,15 @@ public class LockManager {
     startDeadLockChecker();
   }
 
+  /**
+   * Get the metrics source of the tree locks created by this lock manager.
+   *
+   * @return The metrics source.
+   */
+  public TreeLockMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
   /**
    * Evict the stale nodes from the tree lock node.
    *
@@ -232,7 +245,7 @@ public class LockManager {
       // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
       if (identifier == ROOT) {
         // The lock tree root node
-        return new TreeLock(treeLockNodes, identifier);
+        return new TreeLock(treeLockNodes, identifier, metricsSource);
       }
 
       String[] levels = identifier.namespace().levels();
@@ -252,7 +265,7 @@ public class LockManager {
         lockNode = child;
       }
 
-      return new TreeLock(treeLockNodes, identifier);
+      return new TreeLock(treeLockNodes, identifier, metricsSource);
     } catch (Exception e) {
       LOG.error("Failed to create tree lock {}", identifier, e);
       // Release reference if fails.
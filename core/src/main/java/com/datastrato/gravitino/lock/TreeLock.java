@@ -5,11 +5,10 @@
 
 package com.datastrato.gravitino.lock;
 
+import com.codahale.metrics.Timer;
 import com.datastrato.gravitino.NameIdentifier;
-import java.util.Deque;
+import com.datastrato.gravitino.metrics.source.TreeLockMetricsSource;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,18 +63,34 @@ public class TreeLock {
   // TreeLockNode to be locked
   private final List<TreeLockNode> lockNodes;
 
-  // TreeLockNode that has been locked along with its lock type.
-  private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
+  // TreeLockNode that has been locked along with its lock type. A TreeLock is used by a single
+  // thread and the number of nodes is known upfront, so plain arrays are enough to track them.
+  private final TreeLockNode[] heldNodes;
+  private final LockType[] heldTypes;
+  private int heldCount;
   private LockType lockType;
 
+  // Metrics source to record the lock acquisition latency, may be null.
+  private final TreeLockMetricsSource metricsSource;
+
   TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
+    this(lockNodes, identifier, null);
+  }
+
+  TreeLock(
+      List<TreeLockNode> lockNodes,
+      NameIdentifier identifier,
+      TreeLockMetricsSource metricsSource) {
     this.lockNodes = lockNodes;
     this.identifier = identifier;
+    this.metricsSource = metricsSource;
+    this.heldNodes = new TreeLockNode[lockNodes.size()];
+    this.heldTypes = new LockType[lockNodes.size()];
   }
 
   /**
    * Lock the tree lock with the given lock type. This method locks all nodes in the list, from the
-   * root to the leaf, and pushes them onto the deque. If an exception occurs during the locking
+   * root to the leaf, and records them as held. If an exception occurs during the locking
    * process, it will unlock all nodes that have been locked so far.
    *
    * @param lockType The lock type to lock the tree lock.
@@ -88,8 +103,19 @@ public class TreeLock {
       TreeLockNode treeLockNode = lockNodes.get(i);
       LockType type = i == length - 1 ? lockType : LockType.READ;
       try {
-        treeLockNode.lock(type);
-        heldLocks.push(Pair.of(treeLockNode, type));
+        if (metricsSource == null) {
+          treeLockNode.lock(type);
+        } else {
+          Timer.Context context = metricsSource.acquireTimer(i).time();
+          try {
+            treeLockNode.lock(type);
+          } finally {
+            context.stop();
+          }
+        }
+        heldNodes[heldCount] = treeLockNode;
+        heldTypes[heldCount] = type;
+        heldCount++;
         if (LOG.isTraceEnabled()) {
           LOG.trace("Locked node: {}, lock type: {}", treeLockNode, type);
         }
@@ -121,10 +147,11 @@ public class TreeLock {
       throw new IllegalStateException("We must lock the tree lock before unlock it.");
     }
 
-    while (!heldLocks.isEmpty()) {
-      Pair<TreeLockNode, LockType> pair = heldLocks.pop();
-      TreeLockNode current = pair.getLeft();
-      LockType type = pair.getRight();
+    while (heldCount > 0) {
+      heldCount--;
+      TreeLockNode current = heldNodes[heldCount];
+      LockType type = heldTypes[heldCount];
+      heldNodes[heldCount] = null;
       current.unlock(type);
       if (LOG.isTraceEnabled()) {
         LOG.trace("Unlocked node: {}, lock type: {}", current, type);
@@ -51,11 +51,14 @@ public class TreeLockNode {
     return holdingThreadTimestamp;
   }
 
+  // The reference count is an atomic counter, so it doesn't need the object monitor. Eviction
+  // races are guarded by the monitor of the parent node, see LockManager#evictStaleNodes.
+
   /**
    * Increase the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void addReference() {
+  void addReference() {
     referenceCount.getAndIncrement();
   }
 
@@ -63,7 +66,7 @@ public class TreeLockNode {
    * Decrease the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void decReference() {
+  void decReference() {
     referenceCount.getAndDecrement();
   }
 
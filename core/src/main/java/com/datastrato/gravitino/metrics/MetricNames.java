@@ -8,6 +8,11 @@ package com.datastrato.gravitino.metrics;
 public class MetricNames {
   public static final String HTTP_PROCESS_DURATION = "http-request-duration-seconds";
   public static final String SERVER_IDLE_THREAD_NUM = "http-server.idle-thread.num";
+  public static final String CACHE_SIZE = "cache.size";
+  public static final String CACHE_HIT_COUNT = "cache.hit.count";
+  public static final String CACHE_MISS_COUNT = "cache.miss.count";
+  public static final String CACHE_EVICTION_COUNT = "cache.eviction.count";
+  public static final String TREE_LOCK_ACQUIRE_DURATION = "acquire-duration.depth-";
 
   private MetricNames() {}
 }
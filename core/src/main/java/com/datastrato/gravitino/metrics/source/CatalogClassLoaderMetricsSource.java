@@ -0,0 +1,25 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.metrics.source;
+
+import com.datastrato.gravitino.catalog.IsolatedClassLoaderPool;
+import java.util.Collection;
+
+/** Metrics of the classloaders shared by the catalogs of the same provider. */
+public class CatalogClassLoaderMetricsSource extends MetricsSource {
+
+  public CatalogClassLoaderMetricsSource(
+      IsolatedClassLoaderPool classLoaderPool, Collection<String> providers) {
+    super(MetricsSource.CATALOG_CLASSLOADER_METRIC_NAME);
+    for (String provider : providers) {
+      registerGauge(
+          provider + ".classloaders", () -> classLoaderPool.getClassLoaderCount(provider));
+      registerGauge(provider + ".catalogs", () -> classLoaderPool.getReferenceCount(provider));
+      registerGauge(
+          provider + ".loaded-classes", () -> classLoaderPool.getLoadedClassCount(provider));
+    }
+  }
+}
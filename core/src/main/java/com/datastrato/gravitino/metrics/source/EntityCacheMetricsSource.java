@@ -0,0 +1,19 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.metrics.source;
+
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.storage.cache.EntityCache;
+
+public class EntityCacheMetricsSource extends MetricsSource {
+  public EntityCacheMetricsSource(EntityCache entityCache) {
+    super(MetricsSource.ENTITY_STORE_CACHE_METRIC_NAME);
+    registerGauge(MetricNames.CACHE_SIZE, entityCache::size);
+    registerGauge(MetricNames.CACHE_HIT_COUNT, entityCache::hitCount);
+    registerGauge(MetricNames.CACHE_MISS_COUNT, entityCache::missCount);
+    registerGauge(MetricNames.CACHE_EVICTION_COUNT, entityCache::evictionCount);
+  }
+}
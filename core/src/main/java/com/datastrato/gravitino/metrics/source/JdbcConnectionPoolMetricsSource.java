@@ -0,0 +1,29 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.metrics.source;
+
+import com.codahale.metrics.Histogram;
+import com.datastrato.gravitino.storage.relational.session.ConnectionPool;
+
+/** Metrics of the JDBC connection pool of the relational entity store. */
+public class JdbcConnectionPoolMetricsSource extends MetricsSource {
+
+  private final Histogram waitTimeMs;
+
+  public JdbcConnectionPoolMetricsSource(ConnectionPool pool) {
+    super(MetricsSource.ENTITY_STORE_JDBC_POOL_METRIC_NAME);
+    registerGauge("max-total", pool::getMaxTotal);
+    registerGauge("active", pool::getNumActive);
+    registerGauge("idle", pool::getNumIdle);
+    registerGauge("waiters", pool::getNumWaiters);
+    this.waitTimeMs = getHistogram("wait-time-ms");
+  }
+
+  /** @return The histogram of the time in milliseconds spent on borrowing a connection. */
+  public Histogram waitTimeMs() {
+    return waitTimeMs;
+  }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.metrics.source;
+
+import com.datastrato.gravitino.storage.kv.KvGarbageCollector;
+
+/** Metrics of the garbage collector of the kv entity store. */
+public class KvGarbageCollectorMetricsSource extends MetricsSource {
+
+  public KvGarbageCollectorMetricsSource(KvGarbageCollector garbageCollector) {
+    super(MetricsSource.ENTITY_STORE_GC_METRIC_NAME);
+    registerGauge("keys-deleted", garbageCollector::getKeysDeleted);
+    registerGauge("bytes-reclaimed", garbageCollector::getBytesReclaimed);
+    registerGauge("commit-marks-collected", garbageCollector::getCommitMarksCollected);
+    registerGauge("cycles", garbageCollector::getCycles);
+    registerGauge("last-collected-timestamp", garbageCollector::getLastCollectedTimestamp);
+    registerGauge("last-cycle-duration-ms", garbageCollector::getLastCycleDurationMs);
+    registerGauge("pending", () -> garbageCollector.isPending() ? 1 : 0);
+  }
+}
@@ -22,6 +22,16 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String ENTITY_STORE_CACHE_METRIC_NAME = "entity-store-cache";
+  public static final String ENTITY_STORE_ROCKSDB_METRIC_NAME = "entity-store-rocksdb";
+  public static final String TREE_LOCK_METRIC_NAME = "tree-lock";
+  public static final String ENTITY_STORE_GC_METRIC_NAME = "entity-store-gc";
+  public static final String ENTITY_STORE_NAME_MAPPING_CACHE_METRIC_NAME =
+      "entity-store-name-mapping-cache";
+  public static final String ENTITY_STORE_JDBC_POOL_METRIC_NAME = "entity-store-jdbc-pool";
+  public static final String ENTITY_STORE_RELATIONAL_GC_METRIC_NAME =
+      "entity-store-relational-gc";
+  public static final String CATALOG_CLASSLOADER_METRIC_NAME = "catalog-classloader";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
 
@@ -0,0 +1,19 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.metrics.source;
+
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.storage.kv.NameMappingCache;
+
+public class NameMappingCacheMetricsSource extends MetricsSource {
+  public NameMappingCacheMetricsSource(NameMappingCache cache) {
+    super(MetricsSource.ENTITY_STORE_NAME_MAPPING_CACHE_METRIC_NAME);
+    registerGauge(MetricNames.CACHE_SIZE, cache::size);
+    registerGauge(MetricNames.CACHE_HIT_COUNT, cache::hitCount);
+    registerGauge(MetricNames.CACHE_MISS_COUNT, cache::missCount);
+    registerGauge(MetricNames.CACHE_EVICTION_COUNT, cache::evictionCount);
+  }
+}
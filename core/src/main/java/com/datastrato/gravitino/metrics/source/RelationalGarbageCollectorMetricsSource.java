@@ -0,0 +1,25 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.metrics.source;
+
+import com.datastrato.gravitino.Entity;
+import com.datastrato.gravitino.storage.relational.RelationalGarbageCollector;
+import java.util.Locale;
+
+/** Metrics of the garbage collector of the relational entity store. */
+public class RelationalGarbageCollectorMetricsSource extends MetricsSource {
+
+  public RelationalGarbageCollectorMetricsSource(RelationalGarbageCollector garbageCollector) {
+    super(MetricsSource.ENTITY_STORE_RELATIONAL_GC_METRIC_NAME);
+    for (Entity.EntityType entityType : RelationalGarbageCollector.COLLECTED_ENTITY_TYPES) {
+      String prefix = entityType.name().toLowerCase(Locale.ROOT);
+      registerGauge(prefix + ".rows-purged", () -> garbageCollector.getRowsPurged(entityType));
+      registerGauge(prefix + ".rows", () -> garbageCollector.getRows(entityType));
+    }
+    registerGauge("cycles", garbageCollector::getCycles);
+    registerGauge("last-cycle-duration-ms", garbageCollector::getLastCycleDurationMs);
+  }
+}
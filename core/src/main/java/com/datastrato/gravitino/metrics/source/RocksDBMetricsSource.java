@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.metrics.source;
+
+import com.datastrato.gravitino.storage.kv.RocksDBKvBackend;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Locale;
+import org.rocksdb.TickerType;
+
+public class RocksDBMetricsSource extends MetricsSource {
+
+  // The properties reported for each column family.
+  private static final List<String> COLUMN_FAMILY_PROPERTIES =
+      ImmutableList.of(
+          "rocksdb.estimate-num-keys",
+          "rocksdb.cur-size-all-mem-tables",
+          "rocksdb.live-sst-files-size",
+          "rocksdb.num-running-compactions");
+
+  // The tickers reported if the statistics are enabled.
+  private static final List<TickerType> TICKERS =
+      ImmutableList.of(
+          TickerType.BLOCK_CACHE_HIT,
+          TickerType.BLOCK_CACHE_MISS,
+          TickerType.BLOOM_FILTER_USEFUL,
+          TickerType.BLOOM_FILTER_PREFIX_CHECKED,
+          TickerType.BLOOM_FILTER_PREFIX_USEFUL,
+          TickerType.NUMBER_KEYS_READ,
+          TickerType.NUMBER_KEYS_WRITTEN,
+          TickerType.BYTES_READ,
+          TickerType.BYTES_WRITTEN,
+          TickerType.COMPACT_READ_BYTES,
+          TickerType.COMPACT_WRITE_BYTES,
+          TickerType.STALL_MICROS);
+
+  public RocksDBMetricsSource(RocksDBKvBackend backend) {
+    super(MetricsSource.ENTITY_STORE_ROCKSDB_METRIC_NAME);
+    registerGauge(
+        "block-cache-usage",
+        () ->
+            backend.getLongProperty(
+                RocksDBKvBackend.DEFAULT_COLUMN_FAMILY, "rocksdb.block-cache-usage"));
+
+    for (String columnFamily : backend.columnFamilyNames()) {
+      for (String property : COLUMN_FAMILY_PROPERTIES) {
+        registerGauge(
+            columnFamily + "." + property.substring("rocksdb.".length()),
+            () -> backend.getLongProperty(columnFamily, property));
+      }
+    }
+
+    if (backend.isStatisticsEnabled()) {
+      for (TickerType ticker : TICKERS) {
+        registerGauge(
+            ticker.name().toLowerCase(Locale.ROOT).replace('_', '-'),
+            () -> backend.getTickerCount(ticker));
+      }
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.metrics.source;
+
+import com.codahale.metrics.Timer;
+import com.datastrato.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of the tree locks. The latency of acquiring the lock of each tree lock node is recorded
+ * by the depth of the node, e.g., depth 0 is the root, depth 1 is the metalake, depth 2 is the
+ * catalog, and so on. Nodes deeper than {@link #MAX_TRACKED_DEPTH} share the last timer.
+ */
+public class TreeLockMetricsSource extends MetricsSource {
+
+  // Root, metalake, catalog, schema, table or fileset, and anything deeper.
+  static final int MAX_TRACKED_DEPTH = 5;
+
+  private final Timer[] acquireTimers = new Timer[MAX_TRACKED_DEPTH + 1];
+
+  public TreeLockMetricsSource() {
+    super(MetricsSource.TREE_LOCK_METRIC_NAME);
+    for (int i = 0; i <= MAX_TRACKED_DEPTH; i++) {
+      acquireTimers[i] = getTimer(MetricNames.TREE_LOCK_ACQUIRE_DURATION + i);
+    }
+  }
+
+  /**
+   * Get the timer recording the lock acquisition latency of the tree lock nodes at the given depth.
+   *
+   * @param depth The depth of the tree lock node, the root node is at depth 0.
+   * @return The timer of the depth.
+   */
+  public Timer acquireTimer(int depth) {
+    return acquireTimers[Math.min(depth, MAX_TRACKED_DEPTH)];
+  }
+}
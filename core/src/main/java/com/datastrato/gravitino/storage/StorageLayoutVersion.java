@@ -10,7 +10,10 @@ import lombok.Getter;
 /** The storage layer version of the entity store. */
 @Getter
 public enum StorageLayoutVersion {
-  V1("v1");
+  /** The commit records of the transactions are Java serialized lists of keys. */
+  V1("v1"),
+  /** The commit records of the transactions are length-prefixed binary lists of keys. */
+  V2("v2");
 
   private final String version;
 
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.storage.cache;
+
+import static com.datastrato.gravitino.Configs.ENTITY_STORE_CACHE_IMPL;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.Entity;
+import com.datastrato.gravitino.Entity.EntityType;
+import com.datastrato.gravitino.EntityAlreadyExistsException;
+import com.datastrato.gravitino.EntitySerDe;
+import com.datastrato.gravitino.EntityStore;
+import com.datastrato.gravitino.HasIdentifier;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.exceptions.AlreadyExistsException;
+import com.datastrato.gravitino.exceptions.NoSuchEntityException;
+import com.datastrato.gravitino.utils.Executable;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link EntityStore} which serves the entity lookups from an {@link EntityCache} and delegates
+ * all the other operations to the underlying entity store, such as {@link
+ * com.datastrato.gravitino.storage.kv.KvEntityStore} and {@link
+ * com.datastrato.gravitino.storage.relational.RelationalEntityStore}.
+ *
+ * <p>The cached entity is invalidated after it's put, updated or deleted in the underlying store.
+ * Renaming or deleting a metalake, catalog or schema also invalidates all of its sub-entities.
+ * Entities are neither read from nor loaded into the cache inside {@link #executeInTransaction},
+ * and the entities changed in a transaction are invalidated again after the transaction is
+ * finished, so uncommitted data will never be cached.
+ */
+public class CachedEntityStore implements EntityStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CachedEntityStore.class);
+
+  public static final ImmutableMap<String, String> ENTITY_CACHES =
+      ImmutableMap.of(
+          Configs.DEFAULT_ENTITY_STORE_CACHE_IMPL, CaffeineEntityCache.class.getCanonicalName());
+
+  private final EntityStore delegate;
+
+  @Getter @VisibleForTesting EntityCache cache;
+
+  // The entities changed in the transaction of the current thread, it's null if the current thread
+  // is not in a transaction.
+  private final ThreadLocal<List<Pair<NameIdentifier, EntityType>>> changedInTransaction =
+      new ThreadLocal<>();
+
+  public CachedEntityStore(EntityStore delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void initialize(Config config) throws RuntimeException {
+    delegate.initialize(config);
+    this.cache = createEntityCache(config);
+  }
+
+  @Override
+  public void setSerDe(EntitySerDe entitySerDe) {
+    delegate.setSerDe(entitySerDe);
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, EntityType entityType) throws IOException {
+    return delegate.list(namespace, type, entityType);
+  }
+
+  @Override
+  public boolean exists(NameIdentifier ident, EntityType entityType) throws IOException {
+    if (!inTransaction() && cache.contains(ident, entityType)) {
+      return true;
+    }
+    return delegate.exists(ident, entityType);
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    try {
+      delegate.put(e, overwritten);
+    } finally {
+      invalidate(e.nameIdentifier(), e.type());
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    try {
+      delegate.batchPut(entities, overwritten);
+    } finally {
+      entities.forEach(e -> invalidate(e.nameIdentifier(), e.type()));
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> E update(
+      NameIdentifier ident, Class<E> type, EntityType entityType, Function<E, E> updater)
+      throws IOException, NoSuchEntityException, AlreadyExistsException {
+    E updatedEntity = null;
+    try {
+      updatedEntity = delegate.update(ident, type, entityType, updater);
+      return updatedEntity;
+    } finally {
+      invalidate(ident, entityType);
+      if (updatedEntity != null && !updatedEntity.nameIdentifier().equals(ident)) {
+        invalidate(updatedEntity.nameIdentifier(), entityType);
+      }
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> E get(
+      NameIdentifier ident, EntityType entityType, Class<E> e)
+      throws NoSuchEntityException, IOException {
+    if (inTransaction()) {
+      return delegate.get(ident, entityType, e);
+    }
+
+    E entity = cache.getOrLoad(ident, entityType, () -> delegate.get(ident, entityType, e));
+    if (!e.isInstance(entity)) {
+      // The entity is cached with another class, this should not happen in practice since one
+      // entity type is always stored as the same class, fall back to the underlying store.
+      return delegate.get(ident, entityType, e);
+    }
+    return entity;
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, EntityType entityType, Class<E> e) throws IOException {
+    if (inTransaction()) {
+      return delegate.batchGet(idents, entityType, e);
+    }
+
+    // Serve the cached entities from the cache and fetch the others from the underlying store in
+    // one batch. The fetched entities are not cached, they will be cached on the next single get.
+    Map<NameIdentifier, E> found = Maps.newHashMap();
+    List<NameIdentifier> missed = Lists.newArrayList();
+    for (NameIdentifier ident : idents) {
+      E entity = cache.getIfPresent(ident, entityType);
+      if (e.isInstance(entity)) {
+        found.put(ident, entity);
+      } else {
+        missed.add(ident);
+      }
+    }
+
+    if (!missed.isEmpty()) {
+      delegate.batchGet(missed, entityType, e).forEach(t -> found.put(t.nameIdentifier(), t));
+    }
+
+    return idents.stream().map(found::get).filter(Objects::nonNull).collect(Collectors.toList());
+  }
+
+  @Override
+  public boolean delete(NameIdentifier ident, EntityType entityType, boolean cascade)
+      throws IOException {
+    try {
+      return delegate.delete(ident, entityType, cascade);
+    } finally {
+      invalidate(ident, entityType);
+    }
+  }
+
+  @Override
+  public <R, E extends Exception> R executeInTransaction(Executable<R, E> executable)
+      throws E, IOException {
+    if (inTransaction()) {
+      return delegate.executeInTransaction(executable);
+    }
+
+    changedInTransaction.set(Lists.newArrayList());
+    try {
+      return delegate.executeInTransaction(executable);
+    } finally {
+      List<Pair<NameIdentifier, EntityType>> changed = changedInTransaction.get();
+      changedInTransaction.remove();
+      changed.forEach(p -> cache.invalidate(p.getLeft(), p.getRight()));
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      cache.close();
+    } finally {
+      delegate.close();
+    }
+  }
+
+  private boolean inTransaction() {
+    return changedInTransaction.get() != null;
+  }
+
+  private void invalidate(NameIdentifier ident, EntityType entityType) {
+    cache.invalidate(ident, entityType);
+    List<Pair<NameIdentifier, EntityType>> changed = changedInTransaction.get();
+    if (changed != null) {
+      changed.add(Pair.of(ident, entityType));
+    }
+  }
+
+  private static EntityCache createEntityCache(Config config) {
+    String name = config.get(ENTITY_STORE_CACHE_IMPL);
+    String className = ENTITY_CACHES.getOrDefault(name, name);
+
+    try {
+      EntityCache entityCache =
+          (EntityCache) Class.forName(className).getDeclaredConstructor().newInstance();
+      entityCache.initialize(config);
+      return entityCache;
+    } catch (Exception e) {
+      LOG.error("Failed to create and initialize EntityCache by name '{}'.", name, e);
+      throw new RuntimeException("Failed to create and initialize EntityCache by name: " + name, e);
+    }
+  }
+}
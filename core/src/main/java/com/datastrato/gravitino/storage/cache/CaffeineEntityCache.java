@@ -0,0 +1,214 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.storage.cache;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.Entity;
+import com.datastrato.gravitino.Entity.EntityType;
+import com.datastrato.gravitino.EntitySerDe;
+import com.datastrato.gravitino.EntitySerDeFactory;
+import com.datastrato.gravitino.HasIdentifier;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.utils.Executable;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheWriter;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link EntityCache} implementation based on Caffeine. The cache is bounded by the total
+ * serialized size of the cached entities, the entities are weighed by the configured {@link
+ * EntitySerDe}.
+ */
+public class CaffeineEntityCache implements EntityCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CaffeineEntityCache.class);
+
+  // The weight of an entity which can't be serialized by the entity serde.
+  @VisibleForTesting static final int DEFAULT_ENTITY_WEIGHT = 1024;
+
+  private Cache<Pair<NameIdentifier, EntityType>, Entity> cache;
+
+  private EntitySerDe serDe;
+
+  // The keys of the cached entities indexed by each of the containers they are under, so a
+  // container is invalidated with its sub-entities without scanning the whole cache. A key is
+  // indexed when its entity is loaded and removed from the index when the entity is removed from
+  // the cache, both are done while Caffeine holds the lock of the key.
+  private final Map<NameIdentifier, Set<Pair<NameIdentifier, EntityType>>> subEntityKeys =
+      new ConcurrentHashMap<>();
+
+  // The epoch is increased before the sub-entities of a container are invalidated. A load that
+  // observes a different epoch after it's finished may read the sub-entity before the container is
+  // changed, so the loaded entity will be returned to the caller but not cached.
+  private final AtomicLong invalidationEpoch = new AtomicLong();
+
+  @Override
+  public void initialize(Config config) throws RuntimeException {
+    this.serDe = EntitySerDeFactory.createEntitySerDe(config);
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(config.get(Configs.ENTITY_STORE_CACHE_MAX_WEIGHT))
+            .weigher((Pair<NameIdentifier, EntityType> k, Entity v) -> weigh(v))
+            .expireAfterWrite(
+                config.get(Configs.ENTITY_STORE_CACHE_EXPIRE_AFTER_WRITE_MS),
+                TimeUnit.MILLISECONDS)
+            .writer(
+                new CacheWriter<Pair<NameIdentifier, EntityType>, Entity>() {
+                  @Override
+                  public void write(Pair<NameIdentifier, EntityType> key, Entity value) {}
+
+                  @Override
+                  public void delete(
+                      Pair<NameIdentifier, EntityType> key, Entity value, RemovalCause cause) {
+                    unindex(key);
+                  }
+                })
+            .recordStats()
+            .build();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <E extends Entity & HasIdentifier> E getOrLoad(
+      NameIdentifier ident, EntityType entityType, Executable<E, IOException> loader)
+      throws IOException {
+    long epoch = invalidationEpoch.get();
+    Object[] loaded = new Object[1];
+
+    Entity entity;
+    try {
+      entity =
+          cache.get(
+              Pair.of(ident, entityType),
+              k -> {
+                try {
+                  E e = loader.execute();
+                  loaded[0] = e;
+                  // The key is indexed before checking the epoch, so a container invalidated
+                  // after the check will find and invalidate it.
+                  index(k);
+                  if (epoch == invalidationEpoch.get()) {
+                    return e;
+                  }
+                  unindex(k);
+                  return null;
+                } catch (IOException ioe) {
+                  throw new UncheckedIOException(ioe);
+                }
+              });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    return entity != null ? (E) entity : (E) loaded[0];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <E extends Entity & HasIdentifier> E getIfPresent(
+      NameIdentifier ident, EntityType entityType) {
+    return (E) cache.getIfPresent(Pair.of(ident, entityType));
+  }
+
+  @Override
+  public boolean contains(NameIdentifier ident, EntityType entityType) {
+    return cache.asMap().containsKey(Pair.of(ident, entityType));
+  }
+
+  @Override
+  public void invalidate(NameIdentifier ident, EntityType entityType) {
+    cache.invalidate(Pair.of(ident, entityType));
+
+    if (entityType == EntityType.METALAKE
+        || entityType == EntityType.CATALOG
+        || entityType == EntityType.SCHEMA) {
+      invalidationEpoch.incrementAndGet();
+      Set<Pair<NameIdentifier, EntityType>> keys = subEntityKeys.remove(ident);
+      if (keys != null) {
+        cache.invalidateAll(keys);
+      }
+    }
+  }
+
+  @Override
+  public void invalidateAll() {
+    invalidationEpoch.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  @Override
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  @Override
+  public long hitCount() {
+    return cache.stats().hitCount();
+  }
+
+  @Override
+  public long missCount() {
+    return cache.stats().missCount();
+  }
+
+  @Override
+  public long evictionCount() {
+    return cache.stats().evictionCount();
+  }
+
+  @Override
+  public void close() throws IOException {
+    invalidateAll();
+  }
+
+  private void index(Pair<NameIdentifier, EntityType> key) {
+    String[] levels = key.getLeft().namespace().levels();
+    for (int i = 1; i <= levels.length; i++) {
+      subEntityKeys.compute(
+          NameIdentifier.of(Arrays.copyOf(levels, i)),
+          (container, keys) -> {
+            Set<Pair<NameIdentifier, EntityType>> indexed = keys == null ? new HashSet<>() : keys;
+            indexed.add(key);
+            return indexed;
+          });
+    }
+  }
+
+  private void unindex(Pair<NameIdentifier, EntityType> key) {
+    String[] levels = key.getLeft().namespace().levels();
+    for (int i = 1; i <= levels.length; i++) {
+      subEntityKeys.computeIfPresent(
+          NameIdentifier.of(Arrays.copyOf(levels, i)),
+          (container, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+          });
+    }
+  }
+
+  private int weigh(Entity entity) {
+    try {
+      return serDe.serialize(entity).length;
+    } catch (IOException | RuntimeException e) {
+      LOG.debug("Failed to weigh entity {}, use the default weight", entity, e);
+      return DEFAULT_ENTITY_WEIGHT;
+    }
+  }
+}
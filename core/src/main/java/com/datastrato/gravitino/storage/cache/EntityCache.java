@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.storage.cache;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Entity;
+import com.datastrato.gravitino.Entity.EntityType;
+import com.datastrato.gravitino.HasIdentifier;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.utils.Executable;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * An in-memory cache of the entities stored in the {@link com.datastrato.gravitino.EntityStore}.
+ * The cache is used by {@link CachedEntityStore} to serve the entity lookups without accessing the
+ * underlying storage. If you want to use a different cache, you can implement this interface and
+ * set `gravitino.entity.store.cache.impl` to the full qualified class name of the implementation.
+ */
+public interface EntityCache extends Closeable {
+
+  /**
+   * Initialize the entity cache.
+   *
+   * @param config the configuration for the entity cache
+   * @throws RuntimeException if the initialization fails
+   */
+  void initialize(Config config) throws RuntimeException;
+
+  /**
+   * Get the entity with the specified {@link NameIdentifier} from the cache, if the entity is not
+   * cached, the {@code loader} will be called to load the entity and the result will be cached.
+   *
+   * <p>Note. The implementation should guarantee that an entity loaded concurrently with an {@link
+   * #invalidate} of the same entity will not stay in the cache.
+   *
+   * @param ident the name identifier of the entity
+   * @param entityType the general type of the entity
+   * @param loader the loader to load the entity from the underlying storage on cache miss
+   * @param <E> the class of the entity
+   * @return the cached or loaded entity
+   * @throws IOException if the loader fails
+   */
+  <E extends Entity & HasIdentifier> E getOrLoad(
+      NameIdentifier ident, EntityType entityType, Executable<E, IOException> loader)
+      throws IOException;
+
+  /**
+   * Get the entity with the specified {@link NameIdentifier} from the cache without loading it.
+   *
+   * @param ident the name identifier of the entity
+   * @param entityType the general type of the entity
+   * @param <E> the class of the entity
+   * @return the cached entity, or null if the entity is not cached
+   */
+  <E extends Entity & HasIdentifier> E getIfPresent(NameIdentifier ident, EntityType entityType);
+
+  /**
+   * Check whether the entity with the specified {@link NameIdentifier} is cached.
+   *
+   * @param ident the name identifier of the entity
+   * @param entityType the general type of the entity
+   * @return true if the entity is cached, false otherwise
+   */
+  boolean contains(NameIdentifier ident, EntityType entityType);
+
+  /**
+   * Invalidate the entity with the specified {@link NameIdentifier}. If the entity is a container
+   * such as metalake, catalog or schema, all the cached sub-entities of it will be invalidated too.
+   *
+   * @param ident the name identifier of the entity
+   * @param entityType the general type of the entity
+   */
+  void invalidate(NameIdentifier ident, EntityType entityType);
+
+  /** Invalidate all the cached entities. */
+  void invalidateAll();
+
+  /**
+   * Get the approximate number of the cached entities.
+   *
+   * @return the number of the cached entities
+   */
+  long size();
+
+  /**
+   * Get the number of the lookups that found the entity in the cache.
+   *
+   * @return the hit count of the cache
+   */
+  long hitCount();
+
+  /**
+   * Get the number of the lookups that loaded the entity from the underlying storage.
+   *
+   * @return the miss count of the cache
+   */
+  long missCount();
+
+  /**
+   * Get the number of the entities evicted because of the size limit or the expiration.
+   *
+   * @return the eviction count of the cache
+   */
+  long evictionCount();
+}
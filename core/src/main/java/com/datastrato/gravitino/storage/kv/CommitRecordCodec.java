@@ -0,0 +1,145 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.storage.kv;
+
+import com.google.common.base.Preconditions;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.commons.lang3.SerializationUtils;
+
+/**
+ * Encoder and decoder of the commit records, a commit record is the value of a commit mark and
+ * contains the keys written by the transaction.
+ *
+ * <p>The commit records are encoded as below since {@link
+ * com.datastrato.gravitino.storage.StorageLayoutVersion#V2}:
+ *
+ * <pre>
+ *   {format version: 1 byte} {key count: varint} ({key length: varint} {key bytes})*
+ * </pre>
+ *
+ * The commit records written by {@link com.datastrato.gravitino.storage.StorageLayoutVersion#V1}
+ * are Java serialized lists, they are still decodable so that the stores can be upgraded in place.
+ */
+final class CommitRecordCodec {
+
+  // The first byte of the binary format, it can't be the first byte of a Java serialization
+  // stream, which is always 0xAC.
+  static final byte BINARY_FORMAT_V1 = 0x01;
+
+  // The magic number of the Java serialization stream.
+  private static final byte JAVA_SERIALIZATION_MAGIC_0 = (byte) 0xAC;
+  private static final byte JAVA_SERIALIZATION_MAGIC_1 = (byte) 0xED;
+
+  private CommitRecordCodec() {}
+
+  /**
+   * Encode the keys written by a transaction into a commit record.
+   *
+   * @param keys The keys written by the transaction.
+   * @return The encoded commit record.
+   */
+  static byte[] encode(List<byte[]> keys) {
+    int size = 1 + varIntSize(keys.size());
+    for (byte[] key : keys) {
+      size += varIntSize(key.length) + key.length;
+    }
+
+    byte[] record = new byte[size];
+    record[0] = BINARY_FORMAT_V1;
+    int offset = writeVarInt(record, 1, keys.size());
+    for (byte[] key : keys) {
+      offset = writeVarInt(record, offset, key.length);
+      System.arraycopy(key, 0, record, offset, key.length);
+      offset += key.length;
+    }
+    return record;
+  }
+
+  /**
+   * Decode the keys written by a transaction from a commit record, both the binary format and the
+   * legacy Java serialization format are supported.
+   *
+   * @param record The commit record.
+   * @return The keys written by the transaction.
+   */
+  static List<byte[]> decode(byte[] record) {
+    Preconditions.checkArgument(record != null && record.length > 0, "Empty commit record");
+    if (isLegacyFormat(record)) {
+      return SerializationUtils.deserialize(record);
+    }
+
+    Preconditions.checkArgument(
+        record[0] == BINARY_FORMAT_V1, "Unknown commit record format: %s", record[0]);
+    int[] cursor = {1};
+    int count = readVarInt(record, cursor);
+    List<byte[]> keys = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int length = readVarInt(record, cursor);
+      Preconditions.checkArgument(
+          length >= 0 && cursor[0] + length <= record.length, "Broken commit record");
+      keys.add(Arrays.copyOfRange(record, cursor[0], cursor[0] + length));
+      cursor[0] += length;
+    }
+    return keys;
+  }
+
+  /**
+   * Check whether the commit record is written in the legacy Java serialization format.
+   *
+   * @param record The commit record.
+   * @return true if it's in the legacy format, false otherwise.
+   */
+  static boolean isLegacyFormat(byte[] record) {
+    return record.length >= 2
+        && record[0] == JAVA_SERIALIZATION_MAGIC_0
+        && record[1] == JAVA_SERIALIZATION_MAGIC_1;
+  }
+
+  /**
+   * Encode the keys in the legacy Java serialization format, it's only used to verify the
+   * compatibility.
+   *
+   * @param keys The keys written by the transaction.
+   * @return The encoded commit record.
+   */
+  static byte[] encodeLegacy(List<byte[]> keys) {
+    return SerializationUtils.serialize((Serializable) new ArrayList<>(keys));
+  }
+
+  private static int varIntSize(int value) {
+    int size = 1;
+    while ((value & ~0x7F) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  private static int writeVarInt(byte[] buffer, int offset, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[offset++] = (byte) value;
+    return offset;
+  }
+
+  private static int readVarInt(byte[] buffer, int[] cursor) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      Preconditions.checkArgument(cursor[0] < buffer.length, "Broken commit record");
+      byte b = buffer[cursor[0]++];
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Broken commit record, the varint is too long");
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.storage.kv;
+
+import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.generateCommitKey;
+import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.getBinaryTransactionId;
+import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.getTransactionId;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.util.List;
+import javax.annotation.concurrent.ThreadSafe;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of the ids of the committed transactions, it's used by {@link
+ * TransactionalKvBackendImpl} to check the visibility of a row without reading the commit mark of
+ * its transaction from the {@link KvBackend} every time.
+ *
+ * <p>Only the committed transactions are cached. A transaction never becomes uncommitted once its
+ * commit mark is written, and {@link KvGarbageCollector} only removes the commit mark after all the
+ * rows of the transaction are removed, so a cached id never makes a removed row visible. A
+ * transaction without the commit mark may be still committing, so it's always checked against the
+ * backend.
+ */
+@ThreadSafe
+class CommittedTransactionIdCache {
+  private static final Logger LOG = LoggerFactory.getLogger(CommittedTransactionIdCache.class);
+
+  // The max number of the cached transaction ids, about 8MB memory is used if the cache is full.
+  @VisibleForTesting static final long DEFAULT_MAX_SIZE = 100_000L;
+
+  private final KvBackend kvBackend;
+  private final long maxSize;
+  private final Cache<Long, Boolean> committedIds;
+
+  CommittedTransactionIdCache(KvBackend kvBackend) {
+    this(kvBackend, DEFAULT_MAX_SIZE);
+  }
+
+  @VisibleForTesting
+  CommittedTransactionIdCache(KvBackend kvBackend, long maxSize) {
+    this.kvBackend = kvBackend;
+    this.maxSize = maxSize;
+    this.committedIds = Caffeine.newBuilder().maximumSize(maxSize).build();
+  }
+
+  /**
+   * Load the ids of the latest committed transactions from the commit marks in the backend. The
+   * commit marks are sorted from the latest to the oldest transaction, so the rows written recently
+   * are most likely to be checked by the cached ids.
+   *
+   * @throws IOException if the commit marks can't be scanned
+   */
+  void recover() throws IOException {
+    List<Pair<byte[], byte[]>> commitMarks =
+        kvBackend.scan(
+            new KvRange.KvRangeBuilder()
+                .start(TransactionalKvBackendImpl.startOfTransactionId())
+                .end(TransactionalKvBackendImpl.endOfTransactionId())
+                .startInclusive(true)
+                .endInclusive(true)
+                .limit((int) Math.min(maxSize, Integer.MAX_VALUE))
+                .build());
+    for (Pair<byte[], byte[]> commitMark : commitMarks) {
+      committedIds.put(getTransactionId(getBinaryTransactionId(commitMark.getKey())), Boolean.TRUE);
+    }
+    LOG.info("Loaded {} committed transaction ids", commitMarks.size());
+  }
+
+  /**
+   * Check whether the transaction is committed.
+   *
+   * @param binaryTransactionId the binary transaction id of a row
+   * @return true if the commit mark of the transaction exists
+   * @throws IOException if the commit mark can't be read from the backend
+   */
+  boolean isCommitted(byte[] binaryTransactionId) throws IOException {
+    long transactionId = getTransactionId(binaryTransactionId);
+    if (committedIds.getIfPresent(transactionId) != null) {
+      return true;
+    }
+
+    if (kvBackend.get(generateCommitKey(binaryTransactionId)) == null) {
+      return false;
+    }
+
+    committedIds.put(transactionId, Boolean.TRUE);
+    return true;
+  }
+
+  /**
+   * Check whether the transaction is cached as committed, the backend is not accessed.
+   *
+   * @param transactionId the transaction id
+   * @return true if the transaction is cached as committed, false if it's unknown
+   */
+  boolean isCachedAsCommitted(long transactionId) {
+    return committedIds.getIfPresent(transactionId) != null;
+  }
+
+  /**
+   * Mark the transaction as committed after its commit mark is written.
+   *
+   * @param transactionId the transaction id
+   */
+  void markCommitted(long transactionId) {
+    committedIds.put(transactionId, Boolean.TRUE);
+  }
+
+  @VisibleForTesting
+  long size() {
+    committedIds.cleanUp();
+    return committedIds.estimatedSize();
+  }
+}
@@ -9,6 +9,7 @@ import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.exceptions.AlreadyExistsException;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -33,6 +34,21 @@ public interface KvBackend extends Closeable {
    */
   void put(byte[] key, byte[] value, boolean overwrite) throws IOException, AlreadyExistsException;
 
+  /**
+   * Stores the key-value pairs in one write, the existing values are overwritten.
+   *
+   * <p>Note. The default implementation stores the pairs one by one, the backend should override
+   * it if it supports writing multiple pairs atomically in one call.
+   *
+   * @param pairs The key-value pairs to store.
+   * @throws IOException If an I/O exception occurs during the operation.
+   */
+  default void batchPut(List<Pair<byte[], byte[]>> pairs) throws IOException {
+    for (Pair<byte[], byte[]> pair : pairs) {
+      put(pair.getKey(), pair.getValue(), true);
+    }
+  }
+
   /**
    * Retrieves the value associated with a given key.
    *
@@ -42,6 +58,25 @@ public interface KvBackend extends Closeable {
    */
   byte[] get(byte[] key) throws IOException;
 
+  /**
+   * Retrieves the values associated with the given keys in one call.
+   *
+   * <p>Note. The default implementation retrieves the values one by one, the backend should
+   * override it if it supports fetching multiple keys in one call.
+   *
+   * @param keys The keys to retrieve the values for.
+   * @return The values associated with the keys in the same order as the keys, the value is null if
+   *     the key does not exist.
+   * @throws IOException If an I/O exception occurs during retrieval.
+   */
+  default List<byte[]> multiGet(List<byte[]> keys) throws IOException {
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key : keys) {
+      values.add(get(key));
+    }
+    return values;
+  }
+
   /**
    * Deletes the key-value pair associated with the given key.
    *
@@ -51,6 +86,21 @@ public interface KvBackend extends Closeable {
    */
   boolean delete(byte[] key) throws IOException;
 
+  /**
+   * Deletes the key-value pairs associated with the given keys in one write.
+   *
+   * <p>Note. The default implementation deletes the keys one by one, the backend should override it
+   * if it supports deleting multiple keys atomically in one call.
+   *
+   * @param keys The keys to delete.
+   * @throws IOException If an I/O exception occurs during deletion.
+   */
+  default void batchDelete(List<byte[]> keys) throws IOException {
+    for (byte[] key : keys) {
+      delete(key);
+    }
+  }
+
   /**
    * Delete the key-value pair associated with the given {@link KvRange}
    *
@@ -68,4 +118,23 @@ public interface KvBackend extends Closeable {
    * @throws IOException If an I/O exception occurs during scanning.
    */
   List<Pair<byte[], byte[]>> scan(KvRange scanRange) throws IOException;
+
+  /**
+   * Scans several ranges in one call and returns the key-value pairs of each range.
+   *
+   * <p>Note. The default implementation scans the ranges one by one, the backend should override it
+   * if it can serve all the ranges with one pass over the keys.
+   *
+   * @param scanRanges The ranges to scan.
+   * @return The key-value pairs within each range, in the same order as the ranges.
+   * @throws IOException If an I/O exception occurs during scanning.
+   */
+  default List<List<Pair<byte[], byte[]>>> multiScan(List<KvRange> scanRanges)
+      throws IOException {
+    List<List<Pair<byte[], byte[]>>> results = new ArrayList<>(scanRanges.size());
+    for (KvRange scanRange : scanRanges) {
+      results.add(scan(scanRange));
+    }
+    return results;
+  }
 }
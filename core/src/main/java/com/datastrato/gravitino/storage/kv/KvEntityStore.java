@@ -15,18 +15,22 @@ import static com.datastrato.gravitino.storage.kv.BinaryEntityEncoderUtil.getSub
 import static com.datastrato.gravitino.storage.kv.BinaryEntityEncoderUtil.replacePrefixTypeInfo;
 
 import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.Entity;
 import com.datastrato.gravitino.Entity.EntityType;
 import com.datastrato.gravitino.EntityAlreadyExistsException;
 import com.datastrato.gravitino.EntitySerDe;
 import com.datastrato.gravitino.EntitySerDeFactory;
 import com.datastrato.gravitino.EntityStore;
+import com.datastrato.gravitino.GravitinoEnv;
 import com.datastrato.gravitino.HasIdentifier;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.exceptions.AlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
 import com.datastrato.gravitino.exceptions.NonEmptyEntityException;
+import com.datastrato.gravitino.metrics.MetricsSystem;
+import com.datastrato.gravitino.metrics.source.NameMappingCacheMetricsSource;
 import com.datastrato.gravitino.storage.EntityKeyEncoder;
 import com.datastrato.gravitino.storage.FunctionUtils;
 import com.datastrato.gravitino.storage.NameMappingService;
@@ -42,7 +46,6 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import lombok.Getter;
 import org.apache.commons.lang3.tuple.Pair;
@@ -65,11 +68,10 @@ public class KvEntityStore implements EntityStore {
       Bytes.concat(
           new byte[] {0x1D, 0x00, 0x02}, "layout_version".getBytes(StandardCharsets.UTF_8));
 
+  private static final int UPGRADE_BATCH_SIZE = 1000;
+
   @Getter @VisibleForTesting KvBackend backend;
 
-  // Lock to control the concurrency of the entity store, to be more exact, the concurrency of
-  // accessing the underlying kv store.
-  private ReentrantReadWriteLock reentrantReadWriteLock;
   @VisibleForTesting EntityKeyEncoder<byte[]> entityKeyEncoder;
   @VisibleForTesting NameMappingService nameMappingService;
   private EntitySerDe serDe;
@@ -80,6 +82,7 @@ public class KvEntityStore implements EntityStore {
   @VisibleForTesting StorageLayoutVersion storageLayoutVersion;
 
   private TransactionIdGenerator txIdGenerator;
+  private NameMappingCacheMetricsSource nameMappingCacheMetricsSource;
   @VisibleForTesting KvGarbageCollector kvGarbageCollector;
   private TransactionalKvBackend transactionalKvBackend;
 
@@ -92,17 +95,35 @@ public class KvEntityStore implements EntityStore {
     txIdGenerator.start();
 
     this.transactionalKvBackend = new TransactionalKvBackendImpl(backend, txIdGenerator);
+    try {
+      transactionalKvBackend.initialize(config);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to initialize the transactional kv backend", e);
+    }
 
-    this.reentrantReadWriteLock = new ReentrantReadWriteLock();
-
-    this.nameMappingService =
-        new KvNameMappingService(transactionalKvBackend, reentrantReadWriteLock);
+    // Concurrency of entity operations is controlled by the tree lock in the upper layer, so
+    // unrelated metalakes and catalogs do not serialize on a store-wide lock here.
+    KvNameMappingService kvNameMappingService =
+        new KvNameMappingService(
+            transactionalKvBackend,
+            config.get(Configs.ENTITY_KV_NAME_MAPPING_CACHE_SIZE),
+            config.get(Configs.ENTITY_KV_NAME_MAPPING_CACHE_EXPIRE_AFTER_WRITE_MS));
+    this.nameMappingService = kvNameMappingService;
     this.entityKeyEncoder = new BinaryEntityKeyEncoder(nameMappingService);
 
+    // The layout is upgraded before the garbage collector starts to read the commit records.
+    this.storageLayoutVersion = initStorageVersionInfo();
+
     this.kvGarbageCollector = new KvGarbageCollector(backend, config, entityKeyEncoder);
     kvGarbageCollector.start();
 
-    this.storageLayoutVersion = initStorageVersionInfo();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (kvNameMappingService.cache != null && metricsSystem != null) {
+      this.nameMappingCacheMetricsSource =
+          new NameMappingCacheMetricsSource(kvNameMappingService.cache);
+      metricsSystem.register(nameMappingCacheMetricsSource);
+    }
+
     this.serDe = EntitySerDeFactory.createEntitySerDe(config);
   }
 
@@ -165,6 +186,19 @@ public class KvEntityStore implements EntityStore {
         });
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    // Write all the entities in one transaction, so that they share one commit mark.
+    executeInTransaction(
+        () -> {
+          for (E e : entities) {
+            put(e, overwritten);
+          }
+          return null;
+        });
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Class<E> type, EntityType entityType, Function<E, E> updater)
@@ -222,6 +256,39 @@ public class KvEntityStore implements EntityStore {
     return serDe.deserialize(value, e, ident.namespace());
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, EntityType entityType, Class<E> e) throws IOException {
+    List<Pair<NameIdentifier, byte[]>> identValues =
+        executeInTransaction(
+            () -> {
+              List<NameIdentifier> existingIdents = Lists.newArrayList();
+              List<byte[]> keys = Lists.newArrayList();
+              for (NameIdentifier ident : idents) {
+                byte[] key = entityKeyEncoder.encode(ident, entityType, true);
+                if (key != null) {
+                  existingIdents.add(ident);
+                  keys.add(key);
+                }
+              }
+
+              List<byte[]> values = transactionalKvBackend.multiGet(keys);
+              List<Pair<NameIdentifier, byte[]>> pairs = Lists.newArrayList();
+              for (int i = 0; i < existingIdents.size(); i++) {
+                if (values.get(i) != null) {
+                  pairs.add(Pair.of(existingIdents.get(i), values.get(i)));
+                }
+              }
+              return pairs;
+            });
+
+    List<E> entities = Lists.newArrayListWithCapacity(identValues.size());
+    for (Pair<NameIdentifier, byte[]> pair : identValues) {
+      entities.add(serDe.deserialize(pair.getValue(), e, pair.getKey().namespace()));
+    }
+    return entities;
+  }
+
   void deleteAuthorizationEntitiesIfNecessary(NameIdentifier ident, EntityType type)
       throws IOException {
     if (type != METALAKE) {
@@ -302,6 +369,11 @@ public class KvEntityStore implements EntityStore {
 
   @Override
   public void close() throws IOException {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (nameMappingCacheMetricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(nameMappingCacheMetricsSource);
+    }
+
     txIdGenerator.close();
     kvGarbageCollector.close();
     backend.close();
@@ -330,18 +402,71 @@ public class KvEntityStore implements EntityStore {
     byte[] bytes;
     try {
       bytes = backend.get(LAYOUT_VERSION_KEY);
-      if (bytes == null) {
-        // If the layout version is not set, we will set it to the default version.
+      // If the layout version is not set, the store is either new or written before the layout
+      // version is introduced, it's upgraded like V1 in both cases.
+      StorageLayoutVersion version =
+          bytes == null
+              ? StorageLayoutVersion.V1
+              : StorageLayoutVersion.fromString(new String(bytes, StandardCharsets.UTF_8));
+      if (version == StorageLayoutVersion.V1) {
+        upgradeCommitRecords();
+        version = StorageLayoutVersion.V2;
         backend.put(
-            LAYOUT_VERSION_KEY,
-            StorageLayoutVersion.V1.getVersion().getBytes(StandardCharsets.UTF_8),
-            true);
-        return StorageLayoutVersion.V1;
+            LAYOUT_VERSION_KEY, version.getVersion().getBytes(StandardCharsets.UTF_8), true);
       }
 
-      return StorageLayoutVersion.fromString(new String(bytes, StandardCharsets.UTF_8));
+      return version;
     } catch (IOException e) {
       throw new IllegalStateException("Failed to get/put layout version information", e);
     }
   }
+
+  // Rewrite the Java serialized commit records of V1 in the binary format of V2. The records are
+  // rewritten in place and the decoder accepts both formats, so it's safe to redo it if the server
+  // crashes before the layout version is updated.
+  private void upgradeCommitRecords() throws IOException {
+    byte[] start = TransactionalKvBackendImpl.startOfTransactionId();
+    byte[] end = TransactionalKvBackendImpl.endOfTransactionId();
+    boolean startInclusive = true;
+    int upgraded = 0;
+    while (true) {
+      List<Pair<byte[], byte[]>> commitMarks =
+          backend.scan(
+              new KvRange.KvRangeBuilder()
+                  .start(start)
+                  .end(end)
+                  .startInclusive(startInclusive)
+                  .endInclusive(true)
+                  .limit(UPGRADE_BATCH_SIZE)
+                  .build());
+      if (commitMarks.isEmpty()) {
+        break;
+      }
+
+      List<Pair<byte[], byte[]>> rewritten = Lists.newArrayList();
+      for (Pair<byte[], byte[]> commitMark : commitMarks) {
+        if (CommitRecordCodec.isLegacyFormat(commitMark.getValue())) {
+          rewritten.add(
+              Pair.of(
+                  commitMark.getKey(),
+                  CommitRecordCodec.encode(CommitRecordCodec.decode(commitMark.getValue()))));
+        }
+      }
+      backend.batchPut(rewritten);
+      upgraded += rewritten.size();
+
+      if (commitMarks.size() < UPGRADE_BATCH_SIZE) {
+        break;
+      }
+      start = commitMarks.get(commitMarks.size() - 1).getKey();
+      startInclusive = false;
+    }
+
+    if (upgraded > 0) {
+      LOGGER.info(
+          "Upgraded {} commit records to the storage layout version {}",
+          upgraded,
+          StorageLayoutVersion.V2.getVersion());
+    }
+  }
 }
@@ -14,22 +14,35 @@ import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.get
 import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.getTransactionId;
 
 import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.Entity.EntityType;
+import com.datastrato.gravitino.GravitinoEnv;
 import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.metrics.MetricsSystem;
+import com.datastrato.gravitino.metrics.source.KvGarbageCollectorMetricsSource;
 import com.datastrato.gravitino.storage.EntityKeyEncoder;
 import com.datastrato.gravitino.utils.Bytes;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -55,6 +68,30 @@ public final class KvGarbageCollector implements Closeable {
   byte[] commitIdHasBeenCollected;
   private long frequencyInMinutes;
 
+  // A cycle collects at most maxCommitsPerCycle transactions, if the budget runs out, the last
+  // processed commit mark is kept in GC_RESUME_KEY and the checkpoint to be moved to after the
+  // range is done is kept in GC_PENDING_CHECKPOINT_KEY, so the next cycles can resume from it.
+  private static final byte[] GC_RESUME_KEY =
+      Bytes.concat(new byte[] {0x1D, 0x00, 0x03}, "gc_resume_key".getBytes(StandardCharsets.UTF_8));
+  private static final byte[] GC_PENDING_CHECKPOINT_KEY =
+      Bytes.concat(
+          new byte[] {0x1D, 0x00, 0x03}, "gc_pending_checkpoint".getBytes(StandardCharsets.UTF_8));
+
+  private static final int COMMIT_MARK_PAGE_SIZE = 1000;
+
+  private final int maxCommitsPerCycle;
+  @Nullable private final ExecutorService collectorPool;
+  @Nullable private final RateLimiter deleteRateLimiter;
+  private KvGarbageCollectorMetricsSource metricsSource;
+
+  private final AtomicLong keysDeleted = new AtomicLong();
+  private final AtomicLong bytesReclaimed = new AtomicLong();
+  private final AtomicLong commitMarksCollected = new AtomicLong();
+  private final AtomicLong cycles = new AtomicLong();
+  private final AtomicLong lastCollectedTimestamp = new AtomicLong();
+  private final AtomicLong lastCycleDurationMs = new AtomicLong();
+  private volatile boolean pending;
+
   private static final String TIME_STAMP_FORMAT = "yyyy-MM-dd HH:mm:ss.SSS";
 
   @VisibleForTesting
@@ -73,6 +110,22 @@ public final class KvGarbageCollector implements Closeable {
     this.kvBackend = kvBackend;
     this.config = config;
     this.entityKeyEncoder = entityKeyEncoder;
+    this.maxCommitsPerCycle = config.get(Configs.ENTITY_KV_GC_MAX_COMMITS_PER_CYCLE);
+
+    int threads = config.get(Configs.ENTITY_KV_GC_THREADS);
+    this.collectorPool =
+        threads <= 1
+            ? null
+            : Executors.newFixedThreadPool(
+                threads,
+                new ThreadFactoryBuilder()
+                    .setDaemon(true)
+                    .setNameFormat("KvEntityStore-Garbage-Collector-Worker-%d")
+                    .build());
+
+    int maxDeletesPerSecond = config.get(Configs.ENTITY_KV_GC_MAX_DELETES_PER_SECOND);
+    this.deleteRateLimiter =
+        maxDeletesPerSecond > 0 ? RateLimiter.create(maxDeletesPerSecond) : null;
   }
 
   public void start() {
@@ -83,6 +136,47 @@ public final class KvGarbageCollector implements Closeable {
     this.frequencyInMinutes = Math.max(dateTimeLineMinute / 10, 10);
     garbageCollectorPool.scheduleAtFixedRate(
         this::collectAndClean, 5, frequencyInMinutes, TimeUnit.MINUTES);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      this.metricsSource = new KvGarbageCollectorMetricsSource(this);
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  /** @return The number of the keys physically deleted. */
+  public long getKeysDeleted() {
+    return keysDeleted.get();
+  }
+
+  /** @return The bytes of the keys and values physically deleted. */
+  public long getBytesReclaimed() {
+    return bytesReclaimed.get();
+  }
+
+  /** @return The number of the commit marks whose transactions have been collected. */
+  public long getCommitMarksCollected() {
+    return commitMarksCollected.get();
+  }
+
+  /** @return The number of the finished collecting cycles. */
+  public long getCycles() {
+    return cycles.get();
+  }
+
+  /** @return The timestamp in milliseconds that the data before it have been collected. */
+  public long getLastCollectedTimestamp() {
+    return lastCollectedTimestamp.get();
+  }
+
+  /** @return The duration in milliseconds of the last collecting cycle. */
+  public long getLastCycleDurationMs() {
+    return lastCycleDurationMs.get();
+  }
+
+  /** @return Whether the last cycle ran out of its budget and left data to the next cycles. */
+  public boolean isPending() {
+    return pending;
   }
 
   @VisibleForTesting
@@ -136,7 +230,7 @@ public final class KvGarbageCollector implements Closeable {
           logHelper.createTimeAsString,
           logHelper.createTimeInMs,
           pair.getKey());
-      kvBackend.delete(pair.getKey());
+      physicallyDelete(pair.getKey(), pair.getValue());
     }
   }
 
@@ -153,6 +247,36 @@ public final class KvGarbageCollector implements Closeable {
       commitIdHasBeenCollected = endOfTransactionId();
     }
 
+    long cycleStart = System.currentTimeMillis();
+    int budget = maxCommitsPerCycle;
+
+    // The previous cycle ran out of its budget, finish the rest of its range first. The commit
+    // marks are sorted from the latest to the oldest transaction, so the rest of the range is
+    // between the last processed commit mark (exclusive) and the last collected commit id.
+    byte[] resumeKey = kvBackend.get(GC_RESUME_KEY);
+    if (resumeKey != null) {
+      LOG.info("Resume to collect data from commit mark '{}'", Bytes.wrap(resumeKey));
+      CollectResult result = collectCommitMarks(resumeKey, false, commitIdHasBeenCollected, budget);
+      if (!result.exhausted) {
+        kvBackend.put(GC_RESUME_KEY, result.lastKey, true);
+        finishCycle(cycleStart, true);
+        return;
+      }
+
+      // The range of the previous cycle is done, move the checkpoint forward.
+      byte[] pendingCheckpoint = kvBackend.get(GC_PENDING_CHECKPOINT_KEY);
+      if (pendingCheckpoint != null) {
+        commitIdHasBeenCollected = pendingCheckpoint;
+        kvBackend.put(LAST_COLLECT_COMMIT_ID_KEY, commitIdHasBeenCollected, true);
+      }
+      kvBackend.batchDelete(Arrays.asList(GC_RESUME_KEY, GC_PENDING_CHECKPOINT_KEY));
+      budget -= result.count;
+      if (budget <= 0) {
+        finishCycle(cycleStart, false);
+        return;
+      }
+    }
+
     long lastGCId = getTransactionId(getBinaryTransactionId(commitIdHasBeenCollected));
     LOG.info(
         "Start to collect data which is modified between '{}({})' (exclusive) and '{}({})' (inclusive)",
@@ -161,103 +285,211 @@ public final class KvGarbageCollector implements Closeable {
         transactionIdToDelete,
         DateFormatUtils.format(deleteTimeLine, TIME_STAMP_FORMAT));
 
-    // Get all commit marks
-    // TODO(yuqi), Use multi-thread to scan the data in case of the data is too large.
-    List<Pair<byte[], byte[]>> kvs =
-        kvBackend.scan(
-            new KvRange.KvRangeBuilder()
-                .start(startKey)
-                .end(commitIdHasBeenCollected)
-                .startInclusive(true)
-                .endInclusive(false)
-                .build());
+    CollectResult result = collectCommitMarks(startKey, true, commitIdHasBeenCollected, budget);
+    byte[] newCheckpoint = result.firstKey == null ? startKey : result.firstKey;
+    if (!result.exhausted) {
+      // Ran out of the budget, the commit marks older than the last processed one are left to the
+      // next cycles. The checkpoint is only moved after the whole range is collected.
+      kvBackend.batchPut(
+          Arrays.asList(
+              Pair.of(GC_PENDING_CHECKPOINT_KEY, newCheckpoint),
+              Pair.of(GC_RESUME_KEY, result.lastKey)));
+      finishCycle(cycleStart, true);
+      return;
+    }
 
-    for (Pair<byte[], byte[]> kv : kvs) {
-      List<byte[]> keysInTheTransaction = SerializationUtils.deserialize(kv.getValue());
-      byte[] transactionId = getBinaryTransactionId(kv.getKey());
+    commitIdHasBeenCollected = newCheckpoint;
+    kvBackend.put(LAST_COLLECT_COMMIT_ID_KEY, commitIdHasBeenCollected, true);
+    finishCycle(cycleStart, false);
+  }
 
-      int keysDeletedCount = 0;
-      for (byte[] key : keysInTheTransaction) {
-        // Raw key format: {key} + {separator} + {transaction_id}
-        byte[] rawKey = generateKey(key, transactionId);
-        byte[] rawValue = kvBackend.get(rawKey);
-        if (null == rawValue) {
-          // It has been deleted
-          keysDeletedCount++;
-          continue;
-        }
+  private void finishCycle(long cycleStart, boolean pending) {
+    cycles.incrementAndGet();
+    lastCycleDurationMs.set(System.currentTimeMillis() - cycleStart);
+    lastCollectedTimestamp.set(
+        getTransactionId(getBinaryTransactionId(commitIdHasBeenCollected)) >> 18);
+    this.pending = pending;
+    LOG.info(
+        "Garbage collection cycle finished in {}ms, {} commit marks are left to the next cycles",
+        lastCycleDurationMs.get(),
+        pending ? "some" : "no");
+  }
 
-        // Value has deleted mark, we can remove it.
-        if (null == TransactionalKvBackendImpl.getRealValue(rawValue)) {
-          // Delete the key of all versions.
-          removeAllVersionsOfKey(rawKey, key, false);
-
-          LogHelper logHelper = decodeKey(key, transactionId);
-          kvBackend.delete(rawKey);
-          LOG.info(
-              "Physically delete key that has marked deleted: name identifier: '{}', entity type: '{}',"
-                  + " createTime: '{}({})', key: '{}'",
-              logHelper.identifier,
-              logHelper.type,
-              logHelper.createTimeAsString,
-              logHelper.createTimeInMs,
-              Bytes.wrap(key));
-          keysDeletedCount++;
-          continue;
-        }
+  /**
+   * Collect the old version data of the transactions whose commit marks are in the range, the
+   * commit marks are scanned page by page and the commit marks of a page are collected in parallel.
+   *
+   * @param start the first commit mark of the range.
+   * @param startInclusive whether the first commit mark is included.
+   * @param end the last commit mark of the range, exclusive.
+   * @param limit the maximum number of the commit marks to collect.
+   * @return the result of the collection.
+   * @throws IOException if an I/O exception occurs.
+   */
+  private CollectResult collectCommitMarks(
+      byte[] start, boolean startInclusive, byte[] end, int limit) throws IOException {
+    CollectResult result = new CollectResult();
+    byte[] cursor = start;
+    boolean inclusive = startInclusive;
+    while (result.count < limit) {
+      int pageSize = Math.min(COMMIT_MARK_PAGE_SIZE, limit - result.count);
+      List<Pair<byte[], byte[]>> commitMarks =
+          kvBackend.scan(
+              new KvRange.KvRangeBuilder()
+                  .start(cursor)
+                  .end(end)
+                  .startInclusive(inclusive)
+                  .endInclusive(false)
+                  .limit(pageSize)
+                  .build());
+      if (commitMarks.isEmpty()) {
+        result.exhausted = true;
+        break;
+      }
 
-        // If the key is not marked as deleted, then we need to check whether there is a newer
-        // version of the key. If there is a newer version of the key, then we can delete it
-        // directly.
-        List<Pair<byte[], byte[]>> newVersionOfKey =
-            kvBackend.scan(
-                new KvRange.KvRangeBuilder()
-                    .start(key)
-                    .end(generateKey(key, transactionId))
-                    .startInclusive(false)
-                    .endInclusive(false)
-                    .limit(1)
-                    .build());
-        if (!newVersionOfKey.isEmpty()) {
-          // Have a new version, we can safely remove all old versions.
-          removeAllVersionsOfKey(rawKey, key, false);
-
-          // Has a newer version, we can remove it.
-          LogHelper logHelper = decodeKey(key, transactionId);
-          byte[] newVersionKey = newVersionOfKey.get(0).getKey();
-          LogHelper newVersionLogHelper = decodeKey(newVersionKey);
-          kvBackend.delete(rawKey);
-          LOG.info(
-              "Physically delete key that has newer version: name identifier: '{}', entity type: '{}',"
-                  + " createTime: '{}({})', newVersion createTime: '{}({})',"
-                  + " key: '{}', newVersion key: '{}'",
-              logHelper.identifier,
-              logHelper.type,
-              logHelper.createTimeAsString,
-              logHelper.createTimeInMs,
-              newVersionLogHelper.createTimeAsString,
-              newVersionLogHelper.createTimeInMs,
-              Bytes.wrap(rawKey),
-              Bytes.wrap(newVersionKey));
-          keysDeletedCount++;
-        }
+      collectInParallel(commitMarks);
+      if (result.firstKey == null) {
+        result.firstKey = commitMarks.get(0).getKey();
+      }
+      result.lastKey = commitMarks.get(commitMarks.size() - 1).getKey();
+      result.count += commitMarks.size();
+      commitMarksCollected.addAndGet(commitMarks.size());
+
+      if (commitMarks.size() < pageSize) {
+        result.exhausted = true;
+        break;
       }
+      cursor = result.lastKey;
+      inclusive = false;
+    }
+
+    return result;
+  }
+
+  private void collectInParallel(List<Pair<byte[], byte[]>> commitMarks) throws IOException {
+    if (collectorPool == null || commitMarks.size() == 1) {
+      for (Pair<byte[], byte[]> commitMark : commitMarks) {
+        collectTransaction(commitMark);
+      }
+      return;
+    }
 
-      // All keys in this transaction have been deleted, we can remove the commit mark.
-      if (keysDeletedCount == keysInTheTransaction.size()) {
-        kvBackend.delete(kv.getKey());
-        long timestamp = getTransactionId(transactionId) >> 18;
+    List<Callable<Void>> tasks = new ArrayList<>(commitMarks.size());
+    for (Pair<byte[], byte[]> commitMark : commitMarks) {
+      tasks.add(
+          () -> {
+            collectTransaction(commitMark);
+            return null;
+          });
+    }
+
+    try {
+      for (Future<Void> future : collectorPool.invokeAll(tasks)) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while collecting old version data", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Failed to collect old version data", e.getCause());
+    }
+  }
+
+  private void collectTransaction(Pair<byte[], byte[]> kv) throws IOException {
+    List<byte[]> keysInTheTransaction = CommitRecordCodec.decode(kv.getValue());
+    byte[] transactionId = getBinaryTransactionId(kv.getKey());
+
+    int keysDeletedCount = 0;
+    for (byte[] key : keysInTheTransaction) {
+      // Raw key format: {key} + {separator} + {transaction_id}
+      byte[] rawKey = generateKey(key, transactionId);
+      byte[] rawValue = kvBackend.get(rawKey);
+      if (null == rawValue) {
+        // It has been deleted
+        keysDeletedCount++;
+        continue;
+      }
+
+      // Value has deleted mark, we can remove it.
+      if (null == TransactionalKvBackendImpl.getRealValue(rawValue)) {
+        // Delete the key of all versions.
+        removeAllVersionsOfKey(rawKey, key, false);
+
+        LogHelper logHelper = decodeKey(key, transactionId);
+        physicallyDelete(rawKey, rawValue);
         LOG.info(
-            "Physically delete commit mark: {}, createTime: '{}({})', key: '{}'",
-            Bytes.wrap(kv.getKey()),
-            DateFormatUtils.format(timestamp, TIME_STAMP_FORMAT),
-            timestamp,
-            Bytes.wrap(kv.getKey()));
+            "Physically delete key that has marked deleted: name identifier: '{}', entity type: '{}',"
+                + " createTime: '{}({})', key: '{}'",
+            logHelper.identifier,
+            logHelper.type,
+            logHelper.createTimeAsString,
+            logHelper.createTimeInMs,
+            Bytes.wrap(key));
+        keysDeletedCount++;
+        continue;
+      }
+
+      // If the key is not marked as deleted, then we need to check whether there is a newer
+      // version of the key. If there is a newer version of the key, then we can delete it
+      // directly.
+      List<Pair<byte[], byte[]>> newVersionOfKey =
+          kvBackend.scan(
+              new KvRange.KvRangeBuilder()
+                  .start(key)
+                  .end(generateKey(key, transactionId))
+                  .startInclusive(false)
+                  .endInclusive(false)
+                  .limit(1)
+                  .build());
+      if (!newVersionOfKey.isEmpty()) {
+        // Have a new version, we can safely remove all old versions.
+        removeAllVersionsOfKey(rawKey, key, false);
+
+        // Has a newer version, we can remove it.
+        LogHelper logHelper = decodeKey(key, transactionId);
+        byte[] newVersionKey = newVersionOfKey.get(0).getKey();
+        LogHelper newVersionLogHelper = decodeKey(newVersionKey);
+        physicallyDelete(rawKey, rawValue);
+        LOG.info(
+            "Physically delete key that has newer version: name identifier: '{}', entity type: '{}',"
+                + " createTime: '{}({})', newVersion createTime: '{}({})',"
+                + " key: '{}', newVersion key: '{}'",
+            logHelper.identifier,
+            logHelper.type,
+            logHelper.createTimeAsString,
+            logHelper.createTimeInMs,
+            newVersionLogHelper.createTimeAsString,
+            newVersionLogHelper.createTimeInMs,
+            Bytes.wrap(rawKey),
+            Bytes.wrap(newVersionKey));
+        keysDeletedCount++;
       }
     }
 
-    commitIdHasBeenCollected = kvs.isEmpty() ? startKey : kvs.get(0).getKey();
-    kvBackend.put(LAST_COLLECT_COMMIT_ID_KEY, commitIdHasBeenCollected, true);
+    // All keys in this transaction have been deleted, we can remove the commit mark.
+    if (keysDeletedCount == keysInTheTransaction.size()) {
+      physicallyDelete(kv.getKey(), kv.getValue());
+      long timestamp = getTransactionId(transactionId) >> 18;
+      LOG.info(
+          "Physically delete commit mark: {}, createTime: '{}({})', key: '{}'",
+          Bytes.wrap(kv.getKey()),
+          DateFormatUtils.format(timestamp, TIME_STAMP_FORMAT),
+          timestamp,
+          Bytes.wrap(kv.getKey()));
+    }
+  }
+
+  // All the physical deletions of the old version data go through here to be throttled and counted.
+  private void physicallyDelete(byte[] key, byte[] value) throws IOException {
+    if (deleteRateLimiter != null) {
+      deleteRateLimiter.acquire();
+    }
+    kvBackend.delete(key);
+    keysDeleted.incrementAndGet();
+    bytesReclaimed.addAndGet(key.length + (value == null ? 0 : value.length));
   }
 
   /**
@@ -281,7 +513,7 @@ public final class KvGarbageCollector implements Closeable {
 
     for (Pair<byte[], byte[]> kv : kvs) {
       // Delete real data.
-      kvBackend.delete(kv.getKey());
+      physicallyDelete(kv.getKey(), kv.getValue());
 
       LogHelper logHelper = decodeKey(kv.getKey());
       LOG.info(
@@ -297,8 +529,12 @@ public final class KvGarbageCollector implements Closeable {
       byte[] transactionId = getBinaryTransactionId(kv.getKey());
       byte[] transactionKey = generateCommitKey(transactionId);
       byte[] transactionValue = kvBackend.get(transactionKey);
+      if (transactionValue == null) {
+        // The commit mark has been removed, e.g., by another collecting thread.
+        continue;
+      }
 
-      List<byte[]> keysInTheTransaction = SerializationUtils.deserialize(transactionValue);
+      List<byte[]> keysInTheTransaction = CommitRecordCodec.decode(transactionValue);
 
       boolean allDropped = true;
       for (byte[] keyInTheTransaction : keysInTheTransaction) {
@@ -311,7 +547,7 @@ public final class KvGarbageCollector implements Closeable {
 
       // Try to delete the commit mark.
       if (allDropped) {
-        kvBackend.delete(transactionKey);
+        physicallyDelete(transactionKey, transactionValue);
         long timestamp = TransactionalKvBackendImpl.getTransactionId(transactionId) >> 18;
         LOG.info(
             "Physically delete commit mark: {}, createTime: '{}({})', key: '{}'",
@@ -323,6 +559,14 @@ public final class KvGarbageCollector implements Closeable {
     }
   }
 
+  private static class CollectResult {
+    private int count;
+    // Whether all the commit marks in the range are collected.
+    private boolean exhausted;
+    @Nullable private byte[] firstKey;
+    @Nullable private byte[] lastKey;
+  }
+
   static class LogHelper {
 
     @VisibleForTesting final NameIdentifier identifier;
@@ -378,7 +622,15 @@ public final class KvGarbageCollector implements Closeable {
 
   @Override
   public void close() throws IOException {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+
     garbageCollectorPool.shutdownNow();
+    if (collectorPool != null) {
+      collectorPool.shutdownNow();
+    }
     try {
       garbageCollectorPool.awaitTermination(5, TimeUnit.SECONDS);
     } catch (InterruptedException e) {
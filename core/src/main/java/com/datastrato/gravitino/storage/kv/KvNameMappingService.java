@@ -5,6 +5,7 @@
 
 package com.datastrato.gravitino.storage.kv;
 
+import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.storage.FunctionUtils;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.storage.NameMappingService;
@@ -12,9 +13,11 @@ import com.datastrato.gravitino.storage.RandomIdGenerator;
 import com.datastrato.gravitino.utils.ByteUtils;
 import com.datastrato.gravitino.utils.Bytes;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Striped;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.Lock;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -24,7 +27,13 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public class KvNameMappingService implements NameMappingService {
 
-  @VisibleForTesting final ReentrantReadWriteLock lock;
+  // Number of lock stripes used to serialize the creation of name to id mappings. Only bindings of
+  // names that hash to the same stripe contend with each other.
+  private static final int NAME_LOCK_STRIPES = 64;
+
+  // Creating the mapping of one name must not race with itself, while names under different
+  // metalakes or catalogs should be able to be bound concurrently.
+  @VisibleForTesting final Striped<Lock> nameLocks = Striped.lock(NAME_LOCK_STRIPES);
   @VisibleForTesting final IdGenerator idGenerator = new RandomIdGenerator();
 
   // To separate it from user keys, we will add three control flag 0x1D, 0x00, 0x00 as the prefix.
@@ -44,35 +53,87 @@ public class KvNameMappingService implements NameMappingService {
 
   @VisibleForTesting final TransactionalKvBackend transactionalKvBackend;
 
+  // Null if the cache is disabled.
+  @Nullable @VisibleForTesting final NameMappingCache cache;
+
+  public KvNameMappingService(TransactionalKvBackend transactionalKvBackend) {
+    this(transactionalKvBackend, Configs.DEFAULT_ENTITY_KV_NAME_MAPPING_CACHE_SIZE);
+  }
+
+  public KvNameMappingService(TransactionalKvBackend transactionalKvBackend, int cacheSize) {
+    this(
+        transactionalKvBackend,
+        cacheSize,
+        Configs.DEFAULT_ENTITY_KV_NAME_MAPPING_CACHE_EXPIRE_AFTER_WRITE_MS);
+  }
+
+  /**
+   * Create a name mapping service.
+   *
+   * @param transactionalKvBackend The backend to store the name mappings.
+   * @param cacheSize The maximum number of the cached name mappings, 0 means no cache.
+   * @param cacheExpireAfterWriteMs The time in milliseconds that a name mapping is cached.
+   */
   public KvNameMappingService(
-      TransactionalKvBackend transactionalKvBackend,
-      ReentrantReadWriteLock reentrantReadWriteLock) {
+      TransactionalKvBackend transactionalKvBackend, int cacheSize, long cacheExpireAfterWriteMs) {
     this.transactionalKvBackend = transactionalKvBackend;
-    this.lock = reentrantReadWriteLock;
+    this.cache = cacheSize > 0 ? new NameMappingCache(cacheSize, cacheExpireAfterWriteMs) : null;
   }
 
   @Override
   public Long getIdByName(String name) throws IOException {
+    long version = 0;
+    if (cache != null) {
+      Long id = cache.getId(name);
+      if (id != null) {
+        return id;
+      }
+      version = cache.version();
+    }
+
     byte[] nameByte = getNameKey(name);
-    return FunctionUtils.executeInTransaction(
-        () -> {
-          byte[] idByte = transactionalKvBackend.get(nameByte);
-          return idByte == null ? null : ByteUtils.byteToLong(idByte);
-        },
-        transactionalKvBackend);
+    Long id =
+        FunctionUtils.executeInTransaction(
+            () -> {
+              byte[] idByte = transactionalKvBackend.get(nameByte);
+              return idByte == null ? null : ByteUtils.byteToLong(idByte);
+            },
+            transactionalKvBackend);
+    // Reads only see the committed data, so it's safe to cache it unless it's invalidated
+    // concurrently.
+    if (cache != null && id != null) {
+      cache.putId(name, id, version);
+    }
+    return id;
   }
 
   @Override
   public String getNameById(long id) throws IOException {
+    long version = 0;
+    if (cache != null) {
+      String name = cache.getName(id);
+      if (name != null) {
+        return name;
+      }
+      version = cache.version();
+    }
+
     byte[] idByte = getIdKey(id);
-    return FunctionUtils.executeInTransaction(
-        () -> {
-          byte[] name = transactionalKvBackend.get(idByte);
-          return name == null ? null : new String(name, StandardCharsets.UTF_8);
-        },
-        transactionalKvBackend);
+    String name =
+        FunctionUtils.executeInTransaction(
+            () -> {
+              byte[] nameBytes = transactionalKvBackend.get(idByte);
+              return nameBytes == null ? null : new String(nameBytes, StandardCharsets.UTF_8);
+            },
+            transactionalKvBackend);
+    if (cache != null && name != null) {
+      cache.putName(id, name, version);
+    }
+    return name;
   }
 
+  // The new mapping is not cached here since it may be written by a transaction that is not
+  // committed yet, it's cached when it's read.
   private long bindNameAndId(String name) throws IOException {
     byte[] nameByte = getNameKey(name);
     long id = idGenerator.nextId();
@@ -97,6 +158,12 @@ public class KvNameMappingService implements NameMappingService {
             return false;
           }
 
+          if (cache != null) {
+            cache.invalidateName(oldName);
+            cache.invalidateName(newName);
+            cache.invalidateId(ByteUtils.byteToLong(oldIdValue));
+          }
+
           // Delete old name --> id mapping
           transactionalKvBackend.delete(nameByte);
           // In case there exists the mapping of new_name --> id, so we should use
@@ -107,7 +174,8 @@ public class KvNameMappingService implements NameMappingService {
           // 3. Create name2
           // 4. Rename name2 -> name1
           transactionalKvBackend.put(getNameKey(newName), oldIdValue, true);
-          transactionalKvBackend.put(oldIdValue, newName.getBytes(StandardCharsets.UTF_8), true);
+          transactionalKvBackend.put(
+              Bytes.concat(ID_PREFIX, oldIdValue), newName.getBytes(StandardCharsets.UTF_8), true);
           return true;
         },
         transactionalKvBackend);
@@ -122,6 +190,10 @@ public class KvNameMappingService implements NameMappingService {
           if (idByte == null) {
             return false;
           }
+          if (cache != null) {
+            cache.invalidateName(name);
+            cache.invalidateId(ByteUtils.byteToLong(idByte));
+          }
           transactionalKvBackend.delete(nameByte);
           transactionalKvBackend.delete(Bytes.concat(ID_PREFIX, idByte));
           return true;
@@ -136,10 +208,14 @@ public class KvNameMappingService implements NameMappingService {
   public long getOrCreateIdFromName(String name) throws IOException {
     Long id = getIdByName(name);
     if (id == null) {
-      synchronized (this) {
+      Lock lock = nameLocks.get(name);
+      lock.lock();
+      try {
         if ((id = getIdByName(name)) == null) {
           id = bindNameAndId(name);
         }
+      } finally {
+        lock.unlock();
       }
     }
 
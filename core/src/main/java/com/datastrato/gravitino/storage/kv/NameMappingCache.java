@@ -0,0 +1,187 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.storage.kv;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded cache of the name to id mappings of {@link KvNameMappingService}, so that encoding the
+ * keys of the entities doesn't read the name mappings from the {@link KvBackend} level by level.
+ *
+ * <p>The name to id side is a Caffeine cache. The id to name side is a direct-mapped table indexed
+ * by the id, the ids are looked up without boxing and a colliding mapping simply replaces the old
+ * one.
+ *
+ * <p>Only the mappings read from the committed data are cached, and the mappings are invalidated
+ * before they are changed. Not all the readers hold the tree lock, e.g. the catalogs warming up, so
+ * every invalidation increases the version of the cache, and a mapping read before an invalidation
+ * is not kept. A reader may still read a mapping after it's invalidated but before the change is
+ * committed, so the mappings expire after they are written to bound how long it's stale.
+ */
+@ThreadSafe
+public class NameMappingCache {
+
+  private static final class IdToName {
+    private final long id;
+    private final String name;
+    private final long writeNanos;
+
+    private IdToName(long id, String name, long writeNanos) {
+      this.id = id;
+      this.name = name;
+      this.writeNanos = writeNanos;
+    }
+  }
+
+  private final Cache<String, Long> nameToId;
+  private final AtomicReferenceArray<IdToName> idToName;
+  private final int idMask;
+  private final long expireAfterWriteNanos;
+  private final Ticker ticker;
+  private final AtomicLong version = new AtomicLong();
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  /**
+   * Create a name mapping cache.
+   *
+   * @param maxSize The maximum number of the cached mappings.
+   * @param expireAfterWriteMs The time in milliseconds that a mapping is cached.
+   */
+  public NameMappingCache(int maxSize, long expireAfterWriteMs) {
+    this(maxSize, expireAfterWriteMs, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  NameMappingCache(int maxSize, long expireAfterWriteMs, Ticker ticker) {
+    Preconditions.checkArgument(maxSize > 0, "maxSize should be positive");
+    Preconditions.checkArgument(expireAfterWriteMs > 0, "expireAfterWriteMs should be positive");
+    this.expireAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(expireAfterWriteMs);
+    this.ticker = ticker;
+    this.nameToId =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(expireAfterWriteMs, TimeUnit.MILLISECONDS)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    // Round up to the power of two so that the slot is picked by a mask.
+    int slots = Integer.highestOneBit(Math.max(maxSize - 1, 1)) << 1;
+    this.idToName = new AtomicReferenceArray<>(slots);
+    this.idMask = slots - 1;
+  }
+
+  @Nullable
+  Long getId(String name) {
+    Long id = nameToId.getIfPresent(name);
+    record(id != null);
+    return id;
+  }
+
+  @Nullable
+  String getName(long id) {
+    IdToName entry = idToName.get(slot(id));
+    boolean hit =
+        entry != null && entry.id == id && ticker.read() - entry.writeNanos < expireAfterWriteNanos;
+    record(hit);
+    return hit ? entry.name : null;
+  }
+
+  /** @return The version of the cache, it's increased before the mappings are invalidated. */
+  long version() {
+    return version.get();
+  }
+
+  /**
+   * Cache the name to id mapping read from the backend.
+   *
+   * @param name The name of the mapping.
+   * @param id The id of the mapping.
+   * @param readVersion The version of the cache before the mapping is read.
+   */
+  void putId(String name, Long id, long readVersion) {
+    nameToId.put(name, id);
+    // Check after putting it, so either the invalidation removes it or it's removed here.
+    if (version.get() != readVersion) {
+      nameToId.asMap().remove(name, id);
+    }
+  }
+
+  /**
+   * Cache the id to name mapping read from the backend.
+   *
+   * @param id The id of the mapping.
+   * @param name The name of the mapping.
+   * @param readVersion The version of the cache before the mapping is read.
+   */
+  void putName(long id, String name, long readVersion) {
+    int slot = slot(id);
+    IdToName entry = new IdToName(id, name, ticker.read());
+    idToName.set(slot, entry);
+    if (version.get() != readVersion) {
+      idToName.compareAndSet(slot, entry, null);
+    }
+  }
+
+  void invalidateName(String name) {
+    version.incrementAndGet();
+    nameToId.invalidate(name);
+  }
+
+  void invalidateId(long id) {
+    version.incrementAndGet();
+    int slot = slot(id);
+    IdToName entry = idToName.get(slot);
+    if (entry != null && entry.id == id) {
+      idToName.compareAndSet(slot, entry, null);
+    }
+  }
+
+  /** @return The estimated number of the cached name to id mappings. */
+  public long size() {
+    return nameToId.estimatedSize();
+  }
+
+  /** @return The number of the lookups served by the cache. */
+  public long hitCount() {
+    return hitCount.sum();
+  }
+
+  /** @return The number of the lookups missing the cache. */
+  public long missCount() {
+    return missCount.sum();
+  }
+
+  /** @return The number of the name to id mappings evicted from the cache. */
+  public long evictionCount() {
+    return nameToId.stats().evictionCount();
+  }
+
+  private void record(boolean hit) {
+    if (hit) {
+      hitCount.increment();
+    } else {
+      missCount.increment();
+    }
+  }
+
+  private int slot(long id) {
+    // The ids are random, but mix the high bits in case of sequential ids.
+    long h = id ^ (id >>> 32);
+    return (int) (h ^ (h >>> 16)) & idMask;
+  }
+}
@@ -5,25 +5,59 @@
 
 package com.datastrato.gravitino.storage.kv;
 
+import static com.datastrato.gravitino.storage.kv.KvNameMappingService.GENERAL_NAME_MAPPING_PREFIX;
+import static com.datastrato.gravitino.storage.kv.TransactionalKvBackendImpl.TRANSACTION_PREFIX;
+import static com.datastrato.gravitino.utils.Bytes.BYTES_LEXICO_COMPARATOR;
+
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.GravitinoEnv;
 import com.datastrato.gravitino.exceptions.AlreadyExistsException;
+import com.datastrato.gravitino.metrics.MetricsSystem;
+import com.datastrato.gravitino.metrics.source.RocksDBMetricsSource;
 import com.datastrato.gravitino.utils.ByteUtils;
 import com.datastrato.gravitino.utils.Bytes;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
-import org.rocksdb.Options;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
+import org.rocksdb.DBOptions;
+import org.rocksdb.Filter;
+import org.rocksdb.LRUCache;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.RocksObject;
+import org.rocksdb.Statistics;
+import org.rocksdb.StatsLevel;
+import org.rocksdb.TickerType;
 import org.rocksdb.TransactionDB;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,11 +65,58 @@ import org.slf4j.LoggerFactory;
  * {@link RocksDBKvBackend} is a RocksDB implementation of KvBackend interface. If we want to use
  * another kv implementation, We can just implement {@link KvBackend} interface and use it in the
  * Gravitino.
+ *
+ * <p>The keys are stored in different column families according to their access patterns: the
+ * name mapping keys of {@link KvNameMappingService} and the transaction commit markers of {@link
+ * TransactionalKvBackendImpl} have their own column families, the entity keys and the others are
+ * stored in the default column family. The default column family uses a fixed length prefix
+ * extractor which matches the layout of the keys encoded by {@link BinaryEntityKeyEncoder}, so the
+ * scans under a namespace can skip the files by the prefix bloom filter.
  */
 public class RocksDBKvBackend implements KvBackend {
   public static final Logger LOGGER = LoggerFactory.getLogger(RocksDBKvBackend.class);
+
+  public static final String DEFAULT_COLUMN_FAMILY =
+      new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8);
+  public static final String NAME_MAPPING_COLUMN_FAMILY = "name_mapping";
+  public static final String TRANSACTION_COMMIT_COLUMN_FAMILY = "transaction_commit";
+
+  // The key ranges [start, end) of the column families except the default one.
+  private static final Map<String, Pair<byte[], byte[]>> COLUMN_FAMILY_KEY_RANGES =
+      ImmutableMap.of(
+          NAME_MAPPING_COLUMN_FAMILY,
+          Pair.of(GENERAL_NAME_MAPPING_PREFIX, new byte[] {0x1D, 0x00, 0x01}),
+          TRANSACTION_COMMIT_COLUMN_FAMILY,
+          Pair.of(TRANSACTION_PREFIX, new byte[] {0x1F}));
+
+  private static final Map<String, CompressionType> COMPRESSION_TYPES =
+      ImmutableMap.<String, CompressionType>builder()
+          .put("none", CompressionType.NO_COMPRESSION)
+          .put("snappy", CompressionType.SNAPPY_COMPRESSION)
+          .put("zlib", CompressionType.ZLIB_COMPRESSION)
+          .put("bzip2", CompressionType.BZLIB2_COMPRESSION)
+          .put("lz4", CompressionType.LZ4_COMPRESSION)
+          .put("lz4hc", CompressionType.LZ4HC_COMPRESSION)
+          .put("zstd", CompressionType.ZSTD_COMPRESSION)
+          .build();
+
+  // The max number of keys moved in one write batch when moving the keys to their column families.
+  private static final int MOVE_BATCH_SIZE = 1000;
+
   private RocksDB db;
 
+  // Column family name -> column family handle.
+  private final Map<String, ColumnFamilyHandle> columnFamilies = Maps.newLinkedHashMap();
+
+  // The native objects to close after the db is closed.
+  private final List<RocksObject> resources = Lists.newArrayList();
+
+  private int prefixExtractorLength;
+
+  private Statistics statistics;
+
+  private RocksDBMetricsSource metricsSource;
+
   /**
    * Initialize the RocksDB backend instance. We have used the {@link TransactionDB} to support
    * transaction instead of {@link RocksDB} instance.
@@ -45,16 +126,36 @@ public class RocksDBKvBackend implements KvBackend {
 
     String dbPath = getStoragePath(config);
     File dbDir = new File(dbPath, "instance");
-    try (final Options options = new Options()) {
-      options.setCreateIfMissing(true);
-
+    try {
       if (!dbDir.exists() && !dbDir.mkdirs()) {
         throw new RocksDBException(
             String.format("Can't create RocksDB path '%s'", dbDir.getAbsolutePath()));
       }
       LOGGER.info("Rocksdb storage directory:{}", dbDir);
-      // TODO (yuqi), make options configurable
-      return RocksDB.open(options, dbDir.getAbsolutePath());
+
+      DBOptions dbOptions = createDBOptions(config);
+      Cache blockCache = new LRUCache(config.get(Configs.ENTITY_KV_ROCKSDB_BLOCK_CACHE_SIZE));
+      resources.add(blockCache);
+      this.prefixExtractorLength = config.get(Configs.ENTITY_KV_ROCKSDB_PREFIX_EXTRACTOR_LENGTH);
+
+      List<String> names = Lists.newArrayList(DEFAULT_COLUMN_FAMILY);
+      names.addAll(COLUMN_FAMILY_KEY_RANGES.keySet());
+      List<ColumnFamilyDescriptor> descriptors = Lists.newArrayList();
+      for (String name : names) {
+        // Only the entity keys in the default column family are scanned by the namespace prefix.
+        int prefixLength = DEFAULT_COLUMN_FAMILY.equals(name) ? prefixExtractorLength : 0;
+        descriptors.add(
+            new ColumnFamilyDescriptor(
+                name.getBytes(StandardCharsets.UTF_8),
+                createColumnFamilyOptions(config, blockCache, prefixLength)));
+      }
+
+      List<ColumnFamilyHandle> handles = Lists.newArrayList();
+      RocksDB rocksDB = RocksDB.open(dbOptions, dbDir.getAbsolutePath(), descriptors, handles);
+      for (int i = 0; i < names.size(); i++) {
+        columnFamilies.put(names.get(i), handles.get(i));
+      }
+      return rocksDB;
     } catch (RocksDBException ex) {
       LOGGER.error(
           "Error initializing RocksDB, check configurations and permissions, exception: {}, message: {}, stackTrace: {}",
@@ -65,6 +166,183 @@ public class RocksDBKvBackend implements KvBackend {
     }
   }
 
+  private DBOptions createDBOptions(Config config) {
+    DBOptions dbOptions =
+        new DBOptions()
+            .setCreateIfMissing(true)
+            .setCreateMissingColumnFamilies(true)
+            .setMaxBackgroundJobs(config.get(Configs.ENTITY_KV_ROCKSDB_MAX_BACKGROUND_JOBS));
+    resources.add(dbOptions);
+
+    if (config.get(Configs.ENTITY_KV_ROCKSDB_STATISTICS_ENABLED)) {
+      this.statistics = new Statistics();
+      statistics.setStatsLevel(StatsLevel.EXCEPT_DETAILED_TIMERS);
+      resources.add(statistics);
+      dbOptions.setStatistics(statistics);
+    }
+    return dbOptions;
+  }
+
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      Config config, Cache blockCache, int prefixLength) {
+    BlockBasedTableConfig tableConfig = new BlockBasedTableConfig().setBlockCache(blockCache);
+    int bitsPerKey = config.get(Configs.ENTITY_KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY);
+    if (bitsPerKey > 0) {
+      Filter filter = new BloomFilter(bitsPerKey);
+      resources.add(filter);
+      tableConfig.setFilterPolicy(filter);
+    }
+
+    ColumnFamilyOptions options =
+        new ColumnFamilyOptions()
+            .setWriteBufferSize(config.get(Configs.ENTITY_KV_ROCKSDB_WRITE_BUFFER_SIZE))
+            .setTableFormatConfig(tableConfig);
+    resources.add(options);
+
+    if (prefixLength > 0) {
+      options.useFixedLengthPrefixExtractor(prefixLength);
+      options.setMemtablePrefixBloomSizeRatio(0.1);
+    }
+
+    List<CompressionType> compressionPerLevel =
+        parseCompressionPerLevel(config.get(Configs.ENTITY_KV_ROCKSDB_COMPRESSION_PER_LEVEL));
+    if (!compressionPerLevel.isEmpty()) {
+      options.setCompressionPerLevel(compressionPerLevel);
+    }
+    return options;
+  }
+
+  @VisibleForTesting
+  static List<CompressionType> parseCompressionPerLevel(String value) {
+    if (StringUtils.isBlank(value)) {
+      return Collections.emptyList();
+    }
+
+    return Arrays.stream(value.split(","))
+        .map(String::trim)
+        .map(
+            name -> {
+              CompressionType type = COMPRESSION_TYPES.get(name.toLowerCase(Locale.ROOT));
+              Preconditions.checkArgument(
+                  type != null, "Unsupported RocksDB compression type: %s", name);
+              return type;
+            })
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * The name mapping keys and the transaction commit markers were stored in the default column
+   * family before they have their own column families, move them to their column families if there
+   * are any. It's safe to run again if the moving is interrupted.
+   */
+  private void moveKeysToColumnFamilies() throws RocksDBException {
+    ColumnFamilyHandle defaultHandle = columnFamilies.get(DEFAULT_COLUMN_FAMILY);
+    for (Map.Entry<String, Pair<byte[], byte[]>> entry : COLUMN_FAMILY_KEY_RANGES.entrySet()) {
+      ColumnFamilyHandle target = columnFamilies.get(entry.getKey());
+      byte[] end = entry.getValue().getRight();
+      long count = 0;
+
+      try (ReadOptions readOptions = new ReadOptions().setTotalOrderSeek(true);
+          RocksIterator iterator = db.newIterator(defaultHandle, readOptions);
+          WriteOptions writeOptions = new WriteOptions()) {
+        iterator.seek(entry.getValue().getLeft());
+        while (iterator.isValid() && Bytes.wrap(iterator.key()).compareTo(end) < 0) {
+          try (WriteBatch batch = new WriteBatch()) {
+            for (int i = 0;
+                i < MOVE_BATCH_SIZE
+                    && iterator.isValid()
+                    && Bytes.wrap(iterator.key()).compareTo(end) < 0;
+                i++) {
+              batch.put(target, iterator.key(), iterator.value());
+              batch.delete(defaultHandle, iterator.key());
+              iterator.next();
+              count++;
+            }
+            db.write(writeOptions, batch);
+          }
+        }
+      }
+
+      if (count > 0) {
+        LOGGER.info("Moved {} keys to the RocksDB column family {}", count, entry.getKey());
+      }
+    }
+  }
+
+  @VisibleForTesting
+  static String columnFamilyOf(byte[] key) {
+    for (Map.Entry<String, Pair<byte[], byte[]>> entry : COLUMN_FAMILY_KEY_RANGES.entrySet()) {
+      Pair<byte[], byte[]> range = entry.getValue();
+      if (Bytes.wrap(key).compareTo(range.getLeft()) >= 0
+          && Bytes.wrap(key).compareTo(range.getRight()) < 0) {
+        return entry.getKey();
+      }
+    }
+    return DEFAULT_COLUMN_FAMILY;
+  }
+
+  /**
+   * Get the column families that may contain the keys in the range [start, end].
+   *
+   * @param start the start key of the range
+   * @param end the end key of the range
+   * @return the names of the column families
+   */
+  @VisibleForTesting
+  static List<String> columnFamiliesOf(byte[] start, byte[] end) {
+    List<String> names = Lists.newArrayList();
+    boolean coveredByDefault = true;
+    for (Map.Entry<String, Pair<byte[], byte[]>> entry : COLUMN_FAMILY_KEY_RANGES.entrySet()) {
+      Pair<byte[], byte[]> range = entry.getValue();
+      if (Bytes.wrap(start).compareTo(range.getRight()) < 0
+          && Bytes.wrap(end).compareTo(range.getLeft()) >= 0) {
+        names.add(entry.getKey());
+        if (Bytes.wrap(start).compareTo(range.getLeft()) >= 0
+            && Bytes.wrap(end).compareTo(range.getRight()) < 0) {
+          coveredByDefault = false;
+        }
+      }
+    }
+
+    if (coveredByDefault) {
+      names.add(DEFAULT_COLUMN_FAMILY);
+    }
+    return names;
+  }
+
+  private ColumnFamilyHandle handleOf(byte[] key) {
+    return columnFamilies.get(columnFamilyOf(key));
+  }
+
+  private ReadOptions newReadOptions(byte[] start, byte[] end) {
+    ReadOptions readOptions = new ReadOptions();
+    int length = prefixExtractorLength;
+    if (length > 0
+        && start.length >= length
+        && end.length >= length
+        && Arrays.equals(Arrays.copyOf(start, length), Arrays.copyOf(end, length))) {
+      // All the keys in the range share the prefix of the start key, so the prefix bloom filter
+      // can be used to skip the files without the prefix.
+      readOptions.setPrefixSameAsStart(true);
+    } else {
+      readOptions.setTotalOrderSeek(true);
+    }
+    return readOptions;
+  }
+
+  private MergedIterator newIterator(byte[] start, byte[] end, ReadOptions readOptions) {
+    List<RocksIterator> iterators = Lists.newArrayList();
+    try {
+      for (String name : columnFamiliesOf(start, end)) {
+        iterators.add(db.newIterator(columnFamilies.get(name), readOptions));
+      }
+    } catch (RuntimeException e) {
+      iterators.forEach(RocksIterator::close);
+      throw e;
+    }
+    return new MergedIterator(iterators);
+  }
+
   @VisibleForTesting
   String getStoragePath(Config config) {
     String dbPath = config.get(Configs.ENTRY_KV_ROCKSDB_BACKEND_PATH);
@@ -86,9 +364,16 @@ public class RocksDBKvBackend implements KvBackend {
   public void initialize(Config config) throws IOException {
     try {
       db = initRocksDB(config);
+      moveKeysToColumnFamilies();
     } catch (RocksDBException e) {
       throw new IOException(e);
     }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      this.metricsSource = new RocksDBMetricsSource(this);
+      metricsSystem.register(metricsSource);
+    }
   }
 
   @Override
@@ -104,23 +389,65 @@ public class RocksDBKvBackend implements KvBackend {
 
   @VisibleForTesting
   void handlePut(byte[] key, byte[] value, boolean overwrite) throws RocksDBException {
+    ColumnFamilyHandle handle = handleOf(key);
     if (overwrite) {
-      db.put(key, value);
+      db.put(handle, key, value);
       return;
     }
-    byte[] existKey = db.get(key);
+    byte[] existKey = db.get(handle, key);
     if (existKey != null) {
       throw new AlreadyExistsException(
           "Key %s already exists in the database, please use overwrite option to overwrite it",
           ByteUtils.formatByteArray(key));
     }
-    db.put(key, value);
+    db.put(handle, key, value);
+  }
+
+  @Override
+  public void batchPut(List<Pair<byte[], byte[]>> pairs) throws IOException {
+    try (WriteBatch batch = new WriteBatch();
+        WriteOptions writeOptions = new WriteOptions()) {
+      for (Pair<byte[], byte[]> pair : pairs) {
+        batch.put(handleOf(pair.getKey()), pair.getKey(), pair.getValue());
+      }
+      db.write(writeOptions, batch);
+    } catch (RocksDBException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  public void batchDelete(List<byte[]> keys) throws IOException {
+    try (WriteBatch batch = new WriteBatch();
+        WriteOptions writeOptions = new WriteOptions()) {
+      for (byte[] key : keys) {
+        batch.delete(handleOf(key), key);
+      }
+      db.write(writeOptions, batch);
+    } catch (RocksDBException e) {
+      throw new IOException(e);
+    }
   }
 
   @Override
   public byte[] get(byte[] key) throws IOException {
     try {
-      return db.get(key);
+      return db.get(handleOf(key), key);
+    } catch (RocksDBException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  public List<byte[]> multiGet(List<byte[]> keys) throws IOException {
+    if (keys.isEmpty()) {
+      return Lists.newArrayList();
+    }
+
+    try {
+      List<ColumnFamilyHandle> handles =
+          keys.stream().map(this::handleOf).collect(Collectors.toList());
+      return db.multiGetAsList(handles, keys);
     } catch (RocksDBException e) {
       throw new IOException(e);
     }
@@ -128,52 +455,108 @@ public class RocksDBKvBackend implements KvBackend {
 
   @Override
   public List<Pair<byte[], byte[]>> scan(KvRange scanRange) throws IOException {
-    RocksIterator rocksIterator = db.newIterator();
+    ReadOptions readOptions = newReadOptions(scanRange.getStart(), scanRange.getEnd());
+    MergedIterator rocksIterator;
     try {
-      rocksIterator.seek(scanRange.getStart());
+      rocksIterator = newIterator(scanRange.getStart(), scanRange.getEnd(), readOptions);
+    } catch (RuntimeException e) {
+      readOptions.close();
+      throw e;
+    }
 
-      List<Pair<byte[], byte[]>> result = Lists.newArrayList();
-      int count = 0;
-      while (count < scanRange.getLimit() && rocksIterator.isValid()) {
-        byte[] key = rocksIterator.key();
+    try {
+      return scan(rocksIterator, scanRange);
+    } finally {
+      rocksIterator.close();
+      readOptions.close();
+    }
+  }
 
-        // Break if the key is out of the scan range
-        if (Bytes.wrap(key).compareTo(scanRange.getEnd()) > 0) {
-          break;
-        }
+  @Override
+  public List<List<Pair<byte[], byte[]>>> multiScan(List<KvRange> scanRanges) throws IOException {
+    if (scanRanges.isEmpty()) {
+      return Lists.newArrayList();
+    }
 
-        if (!scanRange.getPredicate().test(key, rocksIterator.value())) {
-          rocksIterator.next();
-          continue;
-        }
+    // Visit the ranges in the order of their start keys, so one iterator only moves forward and
+    // serves all of them with seeks instead of opening an iterator per range.
+    List<Integer> order =
+        IntStream.range(0, scanRanges.size())
+            .boxed()
+            .sorted(
+                Comparator.comparing(i -> scanRanges.get(i).getStart(), BYTES_LEXICO_COMPARATOR))
+            .collect(Collectors.toList());
+    byte[] start = scanRanges.get(order.get(0)).getStart();
+    byte[] end =
+        scanRanges.stream()
+            .map(KvRange::getEnd)
+            .max(BYTES_LEXICO_COMPARATOR)
+            .orElseThrow(IllegalStateException::new);
 
-        if (Bytes.wrap(key).compareTo(scanRange.getStart()) == 0) {
-          if (scanRange.isStartInclusive()) {
-            result.add(Pair.of(key, rocksIterator.value()));
-            count++;
-          }
-        } else if (Bytes.wrap(key).compareTo(scanRange.getEnd()) == 0) {
-          if (scanRange.isEndInclusive()) {
-            result.add(Pair.of(key, rocksIterator.value()));
-          }
-          break;
-        } else {
-          result.add(Pair.of(key, rocksIterator.value()));
-          count++;
-        }
+    ReadOptions readOptions = newReadOptions(start, end);
+    MergedIterator rocksIterator;
+    try {
+      rocksIterator = newIterator(start, end, readOptions);
+    } catch (RuntimeException e) {
+      readOptions.close();
+      throw e;
+    }
 
-        rocksIterator.next();
+    try {
+      List<List<Pair<byte[], byte[]>>> results =
+          Lists.newArrayList(Collections.nCopies(scanRanges.size(), null));
+      for (int index : order) {
+        results.set(index, scan(rocksIterator, scanRanges.get(index)));
       }
-      return result;
+      return results;
     } finally {
       rocksIterator.close();
+      readOptions.close();
     }
   }
 
+  private List<Pair<byte[], byte[]>> scan(MergedIterator rocksIterator, KvRange scanRange) {
+    rocksIterator.seek(scanRange.getStart());
+
+    List<Pair<byte[], byte[]>> result = Lists.newArrayList();
+    int count = 0;
+    while (count < scanRange.getLimit() && rocksIterator.isValid()) {
+      byte[] key = rocksIterator.key();
+
+      // Break if the key is out of the scan range
+      if (Bytes.wrap(key).compareTo(scanRange.getEnd()) > 0) {
+        break;
+      }
+
+      if (!scanRange.getPredicate().test(key, rocksIterator.value())) {
+        rocksIterator.next();
+        continue;
+      }
+
+      if (Bytes.wrap(key).compareTo(scanRange.getStart()) == 0) {
+        if (scanRange.isStartInclusive()) {
+          result.add(Pair.of(key, rocksIterator.value()));
+          count++;
+        }
+      } else if (Bytes.wrap(key).compareTo(scanRange.getEnd()) == 0) {
+        if (scanRange.isEndInclusive()) {
+          result.add(Pair.of(key, rocksIterator.value()));
+        }
+        break;
+      } else {
+        result.add(Pair.of(key, rocksIterator.value()));
+        count++;
+      }
+
+      rocksIterator.next();
+    }
+    return result;
+  }
+
   @Override
   public boolean delete(byte[] key) throws IOException {
     try {
-      db.delete(key);
+      db.delete(handleOf(key), key);
       return true;
     } catch (RocksDBException e) {
       throw new IOException(e);
@@ -182,8 +565,17 @@ public class RocksDBKvBackend implements KvBackend {
 
   @Override
   public boolean deleteRange(KvRange deleteRange) throws IOException {
-    RocksIterator rocksIterator = db.newIterator();
+    ReadOptions readOptions = newReadOptions(deleteRange.getStart(), deleteRange.getEnd());
+    MergedIterator rocksIterator;
+    try {
+      rocksIterator = newIterator(deleteRange.getStart(), deleteRange.getEnd(), readOptions);
+    } catch (RuntimeException e) {
+      readOptions.close();
+      throw e;
+    }
 
+    // Delete all the keys in the range in one write.
+    List<byte[]> keys = Lists.newArrayList();
     try {
       rocksIterator.seek(deleteRange.getStart());
 
@@ -196,28 +588,74 @@ public class RocksDBKvBackend implements KvBackend {
 
         if (Bytes.wrap(key).compareTo(deleteRange.getStart()) == 0) {
           if (deleteRange.isStartInclusive()) {
-            delete(key);
+            keys.add(key);
           }
         } else if (Bytes.wrap(key).compareTo(deleteRange.getEnd()) == 0) {
           if (deleteRange.isEndInclusive()) {
-            delete(key);
+            keys.add(key);
           }
           break;
         } else {
-          delete(key);
+          keys.add(key);
         }
 
         rocksIterator.next();
       }
+
+      batchDelete(keys);
       return true;
     } finally {
       rocksIterator.close();
+      readOptions.close();
     }
   }
 
   @Override
   public void close() throws IOException {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+
+    columnFamilies.values().forEach(ColumnFamilyHandle::close);
     db.close();
+    resources.forEach(RocksObject::close);
+  }
+
+  /** @return the names of the column families */
+  public List<String> columnFamilyNames() {
+    return Lists.newArrayList(columnFamilies.keySet());
+  }
+
+  /**
+   * Get the value of a RocksDB integer property of the column family.
+   *
+   * @param columnFamily the name of the column family
+   * @param property the name of the property, like "rocksdb.estimate-num-keys"
+   * @return the value of the property, or -1 if it can't be got
+   */
+  public long getLongProperty(String columnFamily, String property) {
+    try {
+      return db.getLongProperty(columnFamilies.get(columnFamily), property);
+    } catch (RocksDBException e) {
+      LOGGER.warn("Failed to get RocksDB property {} of {}", property, columnFamily, e);
+      return -1;
+    }
+  }
+
+  /** @return true if the RocksDB statistics are collected */
+  public boolean isStatisticsEnabled() {
+    return statistics != null;
+  }
+
+  /**
+   * Get the count of a RocksDB statistics ticker.
+   *
+   * @param tickerType the ticker type
+   * @return the count of the ticker, or 0 if the statistics are not enabled
+   */
+  public long getTickerCount(TickerType tickerType) {
+    return statistics != null ? statistics.getTickerCount(tickerType) : 0;
   }
 
   @VisibleForTesting
@@ -229,4 +667,65 @@ public class RocksDBKvBackend implements KvBackend {
   public void setDb(RocksDB db) {
     this.db = db;
   }
+
+  /**
+   * Iterates the keys of several column families in the order of the keys. Each key is only stored
+   * in one column family, so there is no duplicated key.
+   */
+  private static final class MergedIterator {
+    private final List<RocksIterator> iterators;
+    private RocksIterator current;
+
+    private MergedIterator(List<RocksIterator> iterators) {
+      this.iterators = iterators;
+    }
+
+    void seek(byte[] target) {
+      iterators.forEach(iterator -> iterator.seek(target));
+      current = smallest();
+    }
+
+    boolean isValid() {
+      return current != null;
+    }
+
+    byte[] key() {
+      return current.key();
+    }
+
+    byte[] value() {
+      return current.value();
+    }
+
+    void next() {
+      current.next();
+      current = smallest();
+    }
+
+    void close() {
+      iterators.forEach(RocksIterator::close);
+    }
+
+    private RocksIterator smallest() {
+      if (iterators.size() == 1) {
+        RocksIterator iterator = iterators.get(0);
+        return iterator.isValid() ? iterator : null;
+      }
+
+      RocksIterator smallest = null;
+      byte[] smallestKey = null;
+      for (RocksIterator iterator : iterators) {
+        if (!iterator.isValid()) {
+          continue;
+        }
+
+        byte[] key = iterator.key();
+        if (smallestKey == null || Bytes.wrap(key).compareTo(smallestKey) < 0) {
+          smallest = iterator;
+          smallestKey = key;
+        }
+      }
+      return smallest;
+    }
+  }
 }
@@ -12,12 +12,13 @@ import com.datastrato.gravitino.utils.ByteUtils;
 import com.datastrato.gravitino.utils.Bytes;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.io.IOException;
-import java.io.Serializable;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import javax.annotation.concurrent.ThreadSafe;
 import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
 /**
@@ -50,6 +51,7 @@ import org.apache.commons.lang3.tuple.Pair;
 public class TransactionalKvBackendImpl implements TransactionalKvBackend {
   private final KvBackend kvBackend;
   private final TransactionIdGenerator transactionIdGenerator;
+  private final CommittedTransactionIdCache committedTransactionIds;
 
   @VisibleForTesting
   final ThreadLocal<List<Pair<byte[], byte[]>>> putPairs =
@@ -61,7 +63,7 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
   @VisibleForTesting final ThreadLocal<Long> txId = new ThreadLocal<>();
 
   // 0x1E is control character RS
-  private static final byte[] TRANSACTION_PREFIX = {0x1E};
+  static final byte[] TRANSACTION_PREFIX = {0x1E};
 
   // Why use 8? We use 8 bytes to represent the status code, the first byte is used to
   // identify the status of the value, the rest 7 bytes are for future use.
@@ -78,6 +80,7 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
       KvBackend kvBackend, TransactionIdGenerator transactionIdGenerator) {
     this.kvBackend = kvBackend;
     this.transactionIdGenerator = transactionIdGenerator;
+    this.committedTransactionIds = new CommittedTransactionIdCache(kvBackend);
   }
 
   @Override
@@ -97,16 +100,15 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
         return;
       }
 
-      // Prepare
-      for (Pair<byte[], byte[]> pair : putPairs.get()) {
-        kvBackend.put(pair.getKey(), pair.getValue(), true);
-      }
-
-      // Commit
-      kvBackend.put(
-          generateCommitKey(txId.get()),
-          SerializationUtils.serialize((Serializable) originalKeys.get()),
-          true);
+      // Write the prepared pairs and the commit mark in one write, so the transaction is either
+      // committed with all the pairs or not written at all.
+      List<Pair<byte[], byte[]>> pairs = Lists.newArrayList(putPairs.get());
+      pairs.add(
+          Pair.of(
+              generateCommitKey(txId.get()),
+              CommitRecordCodec.encode(originalKeys.get())));
+      kvBackend.batchPut(pairs);
+      committedTransactionIds.markCommitted(txId.get());
     } finally {
       putPairs.get().clear();
       originalKeys.get().clear();
@@ -117,9 +119,8 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
   @Override
   public void rollback() throws IOException {
     // Delete the update value
-    for (Pair<byte[], byte[]> pair : putPairs.get()) {
-      kvBackend.delete(pair.getKey());
-    }
+    kvBackend.batchDelete(
+        putPairs.get().stream().map(Pair::getKey).collect(Collectors.toList()));
   }
 
   @Override
@@ -135,13 +136,15 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
   }
 
   @Override
-  public void initialize(Config config) throws IOException {}
+  public void initialize(Config config) throws IOException {
+    committedTransactionIds.recover();
+  }
 
   @Override
   public void put(byte[] key, byte[] value, boolean overwrite)
       throws IOException, EntityAlreadyExistsException {
-    byte[] oldValue = get(key);
-    if (oldValue != null && !overwrite) {
+    // The existing value only matters if it can't be overwritten.
+    if (!overwrite && get(key) != null) {
       throw new EntityAlreadyExistsException("Key already exists: " + Bytes.wrap(key));
     }
     putPairs
@@ -160,6 +163,74 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
     return getRealValue(rawValue);
   }
 
+  @Override
+  public List<byte[]> multiGet(List<byte[]> keys) throws IOException {
+    // Collect all the versions of the keys in one scan first, then check the commit marks of all
+    // the versions which are not cached as committed in one call instead of checking them version
+    // by version.
+    List<KvRange> ranges =
+        keys.stream()
+            .map(
+                key ->
+                    new KvRange.KvRangeBuilder()
+                        .start(key)
+                        .startInclusive(false)
+                        .end(endOfKey(key))
+                        .endInclusive(false)
+                        .build())
+            .collect(Collectors.toList());
+    List<List<Pair<byte[], byte[]>>> rawPairs = kvBackend.multiScan(ranges);
+
+    List<List<Pair<byte[], byte[]>>> versions = Lists.newArrayListWithCapacity(keys.size());
+    Map<Bytes, Boolean> committed = Maps.newHashMap();
+    for (int i = 0; i < keys.size(); i++) {
+      byte[] key = keys.get(i);
+      List<Pair<byte[], byte[]>> keyVersions = Lists.newArrayList();
+      for (Pair<byte[], byte[]> pair : rawPairs.get(i)) {
+        if (Bytes.wrap(getRealKey(pair.getKey())).compareTo(key) == 0) {
+          keyVersions.add(pair);
+          byte[] transactionId = getBinaryTransactionId(pair.getKey());
+          committed.put(
+              Bytes.wrap(transactionId),
+              committedTransactionIds.isCachedAsCommitted(getTransactionId(transactionId)));
+        }
+      }
+      versions.add(keyVersions);
+    }
+
+    List<Bytes> transactionIds =
+        committed.entrySet().stream()
+            .filter(e -> !e.getValue())
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    List<byte[]> commitValues =
+        kvBackend.multiGet(
+            transactionIds.stream()
+                .map(id -> generateCommitKey(id.get()))
+                .collect(Collectors.toList()));
+    for (int i = 0; i < transactionIds.size(); i++) {
+      if (commitValues.get(i) != null) {
+        committed.put(transactionIds.get(i), true);
+        committedTransactionIds.markCommitted(getTransactionId(transactionIds.get(i).get()));
+      }
+    }
+
+    List<byte[]> result = Lists.newArrayListWithCapacity(keys.size());
+    for (List<Pair<byte[], byte[]>> keyVersions : versions) {
+      // The versions are sorted from the latest to the oldest, the first committed one is the
+      // readable one.
+      byte[] value =
+          keyVersions.stream()
+              .filter(p -> committed.get(Bytes.wrap(getBinaryTransactionId(p.getKey()))))
+              .findFirst()
+              .map(p -> getRealValue(p.getValue()))
+              .orElse(null);
+      result.add(value);
+    }
+
+    return result;
+  }
+
   @Override
   public boolean delete(byte[] key) throws IOException {
     byte[] oldValue = get(key);
@@ -207,10 +278,7 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
             .startInclusive(scanRange.isStartInclusive())
             .endInclusive(endInclude)
             .predicate(
-                (k, v) -> {
-                  byte[] transactionId = getBinaryTransactionId(k);
-                  return kvBackend.get(generateCommitKey(transactionId)) != null;
-                })
+                (k, v) -> committedTransactionIds.isCommitted(getBinaryTransactionId(k)))
             .limit(Integer.MAX_VALUE)
             .build();
 
@@ -292,10 +360,7 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
                 .end(endOfKey(key))
                 .endInclusive(false)
                 .predicate(
-                    (k, v) -> {
-                      byte[] transactionId = getBinaryTransactionId(k);
-                      return kvBackend.get(generateCommitKey(transactionId)) != null;
-                    })
+                    (k, v) -> committedTransactionIds.isCommitted(getBinaryTransactionId(k)))
                 .limit(1)
                 .build());
 
@@ -359,6 +424,11 @@ public class TransactionalKvBackendImpl implements TransactionalKvBackend {
     return Bytes.concat(TRANSACTION_PREFIX, SEPARATOR, transactionId);
   }
 
+  /** Get the start of transaction id, we use this key to scan all commit marks. */
+  static byte[] startOfTransactionId() {
+    return Bytes.concat(TRANSACTION_PREFIX, SEPARATOR);
+  }
+
   /** Get the end of transaction id, we use this key to scan all commit marks. */
   static byte[] endOfTransactionId() {
     // Why use 1? Because we use 1 to represent the smallest transaction id. The smaller id will
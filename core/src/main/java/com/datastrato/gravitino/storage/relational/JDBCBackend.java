@@ -23,6 +23,7 @@ import com.datastrato.gravitino.meta.TableEntity;
 import com.datastrato.gravitino.meta.TopicEntity;
 import com.datastrato.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import com.datastrato.gravitino.storage.relational.service.CatalogMetaService;
+import com.datastrato.gravitino.storage.relational.service.CommonMetaService;
 import com.datastrato.gravitino.storage.relational.service.FilesetMetaService;
 import com.datastrato.gravitino.storage.relational.service.MetalakeMetaService;
 import com.datastrato.gravitino.storage.relational.service.SchemaMetaService;
@@ -46,6 +47,9 @@ public class JDBCBackend implements RelationalBackend {
   public void initialize(Config config) {
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
+
+    CommonMetaService.getInstance()
+        .initialize(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_EXPIRE_AFTER_WRITE_MS));
   }
 
   @Override
@@ -101,6 +105,19 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> void batchInsert(List<E> entities, boolean overwritten)
+      throws EntityAlreadyExistsException {
+    // The overwritten entities are upserted one by one, the multi-row INSERT is for the new ones.
+    if (!overwritten && entities.stream().allMatch(e -> e instanceof TableEntity)) {
+      TableMetaService.getInstance().batchInsertTables((List<TableEntity>) entities);
+    } else if (!overwritten && entities.stream().allMatch(e -> e instanceof TopicEntity)) {
+      TopicMetaService.getInstance().batchInsertTopics((List<TopicEntity>) entities);
+    } else {
+      RelationalBackend.super.batchInsert(entities, overwritten);
+    }
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Entity.EntityType entityType, Function<E, E> updater)
@@ -146,6 +163,15 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException {
+    if (entityType == Entity.EntityType.TABLE) {
+      return (List<E>) TableMetaService.getInstance().batchGetTablesByIdentifiers(idents);
+    }
+    return RelationalBackend.super.batchGet(idents, entityType);
+  }
+
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade) {
     switch (entityType) {
@@ -167,8 +193,77 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline, int limit) {
+    switch (entityType) {
+      case METALAKE:
+        return MetalakeMetaService.getInstance()
+            .deleteMetalakeMetasByLegacyTimeline(legacyTimeline, limit);
+      case CATALOG:
+        return CatalogMetaService.getInstance()
+            .deleteCatalogMetasByLegacyTimeline(legacyTimeline, limit);
+      case SCHEMA:
+        return SchemaMetaService.getInstance()
+            .deleteSchemaMetasByLegacyTimeline(legacyTimeline, limit);
+      case TABLE:
+        return TableMetaService.getInstance()
+            .deleteTableMetasByLegacyTimeline(legacyTimeline, limit);
+      case FILESET:
+        return FilesetMetaService.getInstance()
+            .deleteFilesetAndVersionMetasByLegacyTimeline(legacyTimeline, limit);
+      case TOPIC:
+        return TopicMetaService.getInstance()
+            .deleteTopicMetasByLegacyTimeline(legacyTimeline, limit);
+      default:
+        throw new UnsupportedEntityTypeException(
+            "Unsupported entity type: %s for hard delete operation", entityType);
+    }
+  }
+
+  @Override
+  public int softDeleteOldVersionData(
+      Entity.EntityType entityType, long versionRetentionCount, int limit) {
+    switch (entityType) {
+      case METALAKE:
+      case CATALOG:
+      case SCHEMA:
+      case TABLE:
+      case TOPIC:
+        // These entity types have no versions to delete.
+        return 0;
+      case FILESET:
+        return FilesetMetaService.getInstance()
+            .deleteFilesetVersionsByRetentionCount(versionRetentionCount, limit);
+      default:
+        throw new UnsupportedEntityTypeException(
+            "Unsupported entity type: %s for soft delete operation", entityType);
+    }
+  }
+
+  @Override
+  public long countRows(Entity.EntityType entityType) {
+    switch (entityType) {
+      case METALAKE:
+        return MetalakeMetaService.getInstance().countMetalakeMetas();
+      case CATALOG:
+        return CatalogMetaService.getInstance().countCatalogMetas();
+      case SCHEMA:
+        return SchemaMetaService.getInstance().countSchemaMetas();
+      case TABLE:
+        return TableMetaService.getInstance().countTableMetas();
+      case FILESET:
+        return FilesetMetaService.getInstance().countFilesetAndVersionMetas();
+      case TOPIC:
+        return TopicMetaService.getInstance().countTopicMetas();
+      default:
+        throw new UnsupportedEntityTypeException(
+            "Unsupported entity type: %s for count operation", entityType);
+    }
+  }
+
   @Override
   public void close() throws IOException {
     SqlSessionFactoryHelper.getInstance().close();
+    CommonMetaService.getInstance().close();
   }
 }
@@ -13,6 +13,7 @@ import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.exceptions.NoSuchEntityException;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
@@ -58,6 +59,24 @@ public interface RelationalBackend extends Closeable {
   <E extends Entity & HasIdentifier> void insert(E e, boolean overwritten)
       throws EntityAlreadyExistsException;
 
+  /**
+   * Inserts the entities.
+   *
+   * <p>Note. The default implementation inserts the entities one by one, the backend should
+   * override it if it supports inserting multiple entities in one statement.
+   *
+   * @param entities The entities which need be stored.
+   * @param overwritten If true, overwrites the existing values.
+   * @throws EntityAlreadyExistsException If one of the entities already exists and overwrite is
+   *     false.
+   */
+  default <E extends Entity & HasIdentifier> void batchInsert(List<E> entities, boolean overwritten)
+      throws EntityAlreadyExistsException {
+    for (E e : entities) {
+      insert(e, overwritten);
+    }
+  }
+
   /**
    * Updates the entity.
    *
@@ -83,6 +102,33 @@ public interface RelationalBackend extends Closeable {
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, Entity.EntityType entityType)
       throws IOException;
 
+  /**
+   * Retrieves the entities associated with the identifiers and the entity type.
+   *
+   * <p>Note. The default implementation retrieves the entities one by one, the backend should
+   * override it if it supports fetching multiple entities in one query.
+   *
+   * @param idents The identifiers of the entities.
+   * @param entityType The type of the entities.
+   * @return The existing entities associated with the identifiers in the order of the identifiers.
+   * @throws IOException If an I/O exception occurs during retrieval.
+   */
+  default <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException {
+    List<E> entities = new ArrayList<>(idents.size());
+    for (NameIdentifier ident : idents) {
+      try {
+        E entity = get(ident, entityType);
+        if (entity != null) {
+          entities.add(entity);
+        }
+      } catch (NoSuchEntityException ignored) {
+        // Skip the entity that doesn't exist.
+      }
+    }
+    return entities;
+  }
+
   /**
    * Deletes the entity associated with the identifier and the entity type.
    *
@@ -92,4 +138,35 @@ public interface RelationalBackend extends Closeable {
    * @return True, if the entity was successfully deleted, else false.
    */
   boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade);
+
+  /**
+   * Permanently deletes the rows of the entity type which were soft deleted before the legacy
+   * timeline.
+   *
+   * @param entityType The type of the entities.
+   * @param legacyTimeline The timestamp in milliseconds, the rows soft deleted before it are
+   *     deleted.
+   * @param limit The maximum number of the rows to delete.
+   * @return The number of the deleted rows.
+   */
+  int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline, int limit);
+
+  /**
+   * Soft deletes the old versions of the entity type which exceed the version retention count, it
+   * does nothing for the entity types without versions.
+   *
+   * @param entityType The type of the entities.
+   * @param versionRetentionCount The number of the versions to retain for each entity.
+   * @param limit The maximum number of the versions to delete.
+   * @return The number of the deleted versions.
+   */
+  int softDeleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount, int limit);
+
+  /**
+   * Counts the rows of the entity type, including the soft deleted rows and the versions.
+   *
+   * @param entityType The type of the entities.
+   * @return The number of the rows.
+   */
+  long countRows(Entity.EntityType entityType);
 }
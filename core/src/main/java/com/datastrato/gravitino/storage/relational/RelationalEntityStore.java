@@ -36,10 +36,13 @@ public class RelationalEntityStore implements EntityStore {
       ImmutableMap.of(
           Configs.DEFAULT_ENTITY_RELATIONAL_STORE, JDBCBackend.class.getCanonicalName());
   private RelationalBackend backend;
+  private RelationalGarbageCollector garbageCollector;
 
   @Override
   public void initialize(Config config) throws RuntimeException {
     this.backend = createRelationalEntityBackend(config);
+    this.garbageCollector = new RelationalGarbageCollector(backend, config);
+    this.garbageCollector.start();
   }
 
   private static RelationalBackend createRelationalEntityBackend(Config config) {
@@ -82,6 +85,12 @@ public class RelationalEntityStore implements EntityStore {
     backend.insert(e, overwritten);
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    backend.batchInsert(entities, overwritten);
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
@@ -96,6 +105,12 @@ public class RelationalEntityStore implements EntityStore {
     return backend.get(ident, entityType);
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType, Class<E> e) throws IOException {
+    return backend.batchGet(idents, entityType);
+  }
+
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
@@ -109,6 +124,7 @@ public class RelationalEntityStore implements EntityStore {
 
   @Override
   public void close() throws IOException {
+    garbageCollector.close();
     backend.close();
   }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.storage.relational;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.Entity;
+import com.datastrato.gravitino.GravitinoEnv;
+import com.datastrato.gravitino.metrics.MetricsSystem;
+import com.datastrato.gravitino.metrics.source.RelationalGarbageCollectorMetricsSource;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.RateLimiter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link RelationalGarbageCollector} is a garbage collector for the relational backend. The deleted
+ * entities are only soft deleted by the backend, it permanently deletes the rows which have been
+ * soft deleted for longer than {@link Configs#STORE_DELETE_AFTER_TIME}, and the old versions
+ * exceeding {@link Configs#VERSION_RETENTION_COUNT}.
+ *
+ * <p>The rows are deleted in batches so that a cycle doesn't hold the locks of the tables for a
+ * long time, and the batches can be throttled to bound the load on the database.
+ */
+public final class RelationalGarbageCollector implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(RelationalGarbageCollector.class);
+
+  // The entity types are collected from the leaves to the roots.
+  public static final List<Entity.EntityType> COLLECTED_ENTITY_TYPES =
+      ImmutableList.of(
+          Entity.EntityType.TABLE,
+          Entity.EntityType.FILESET,
+          Entity.EntityType.TOPIC,
+          Entity.EntityType.SCHEMA,
+          Entity.EntityType.CATALOG,
+          Entity.EntityType.METALAKE);
+
+  private final RelationalBackend backend;
+  private final long storeDeleteAfterTimeMillis;
+  private final long versionRetentionCount;
+  private final int batchSize;
+  @Nullable private final RateLimiter deleteRateLimiter;
+  private RelationalGarbageCollectorMetricsSource metricsSource;
+
+  private final Map<Entity.EntityType, AtomicLong> rowsPurged =
+      new EnumMap<>(Entity.EntityType.class);
+  private final Map<Entity.EntityType, AtomicLong> rows = new EnumMap<>(Entity.EntityType.class);
+  private final AtomicLong cycles = new AtomicLong();
+  private final AtomicLong lastCycleDurationMs = new AtomicLong();
+
+  @VisibleForTesting
+  final ScheduledExecutorService garbageCollectorPool =
+      new ScheduledThreadPoolExecutor(
+          1,
+          r -> {
+            Thread t = new Thread(r, "RelationalEntityStore-Garbage-Collector");
+            t.setDaemon(true);
+            return t;
+          },
+          new ThreadPoolExecutor.AbortPolicy());
+
+  public RelationalGarbageCollector(RelationalBackend backend, Config config) {
+    this.backend = backend;
+    this.storeDeleteAfterTimeMillis = config.get(Configs.STORE_DELETE_AFTER_TIME);
+    this.versionRetentionCount = config.get(Configs.VERSION_RETENTION_COUNT);
+    int maxBatchSize = config.get(Configs.ENTITY_RELATIONAL_GC_BATCH_SIZE);
+    int maxDeletesPerSecond = config.get(Configs.ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND);
+    // The limit is on the rows, like the limit on the keys of the KV store. A statement doesn't
+    // delete more rows than allowed in a second, so that the rows are deleted evenly.
+    this.batchSize =
+        maxDeletesPerSecond > 0 ? Math.min(maxBatchSize, maxDeletesPerSecond) : maxBatchSize;
+    this.deleteRateLimiter =
+        maxDeletesPerSecond > 0 ? RateLimiter.create(maxDeletesPerSecond) : null;
+
+    for (Entity.EntityType entityType : COLLECTED_ENTITY_TYPES) {
+      rowsPurged.put(entityType, new AtomicLong());
+      rows.put(entityType, new AtomicLong());
+    }
+  }
+
+  public void start() {
+    long dateTimeLineMinute = storeDeleteAfterTimeMillis / 1000 / 60;
+
+    // We will collect garbage every 10 minutes at least. If the dateTimeLineMinute is larger than
+    // 100 minutes, we would collect garbage every dateTimeLineMinute/10 minutes.
+    long frequencyInMinutes = Math.max(dateTimeLineMinute / 10, 10);
+    garbageCollectorPool.scheduleAtFixedRate(
+        this::collectAndClean, 5, frequencyInMinutes, TimeUnit.MINUTES);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      this.metricsSource = new RelationalGarbageCollectorMetricsSource(this);
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  /**
+   * @param entityType The type of the entities.
+   * @return The number of the rows of the entity type permanently deleted.
+   */
+  public long getRowsPurged(Entity.EntityType entityType) {
+    return rowsPurged.get(entityType).get();
+  }
+
+  /**
+   * @param entityType The type of the entities.
+   * @return The number of the rows of the entity type counted by the last cycle.
+   */
+  public long getRows(Entity.EntityType entityType) {
+    return rows.get(entityType).get();
+  }
+
+  /** @return The number of the finished collecting cycles. */
+  public long getCycles() {
+    return cycles.get();
+  }
+
+  /** @return The duration in milliseconds of the last collecting cycle. */
+  public long getLastCycleDurationMs() {
+    return lastCycleDurationMs.get();
+  }
+
+  @VisibleForTesting
+  void collectAndClean() {
+    LOG.info("Start to collect garbage...");
+    long startTime = System.currentTimeMillis();
+    long legacyTimeline = startTime - storeDeleteAfterTimeMillis;
+    try {
+      for (Entity.EntityType entityType : COLLECTED_ENTITY_TYPES) {
+        // The old versions are soft deleted first, they are permanently deleted by the later
+        // cycles after they expire like the other deleted rows.
+        int versionsDeleted =
+            deleteInBatches(
+                limit ->
+                    backend.softDeleteOldVersionData(entityType, versionRetentionCount, limit));
+        int rowsDeleted =
+            deleteInBatches(
+                limit -> backend.hardDeleteLegacyData(entityType, legacyTimeline, limit));
+        rowsPurged.get(entityType).addAndGet(rowsDeleted);
+        rows.get(entityType).set(backend.countRows(entityType));
+
+        if (versionsDeleted > 0 || rowsDeleted > 0) {
+          LOG.info(
+              "Deleted {} old versions and purged {} rows of the {} entities",
+              versionsDeleted,
+              rowsDeleted,
+              entityType);
+        }
+      }
+      cycles.incrementAndGet();
+    } catch (Exception e) {
+      LOG.error("Failed to collect garbage", e);
+    } finally {
+      lastCycleDurationMs.set(System.currentTimeMillis() - startTime);
+    }
+  }
+
+  private int deleteInBatches(BatchDeleter deleter) {
+    int total = 0;
+    int count;
+    do {
+      if (deleteRateLimiter != null) {
+        // Take the permits of the rows the statement may delete.
+        deleteRateLimiter.acquire(batchSize);
+      }
+      count = deleter.delete(batchSize);
+      total += count;
+    } while (count >= batchSize && !Thread.currentThread().isInterrupted());
+    return total;
+  }
+
+  @FunctionalInterface
+  private interface BatchDeleter {
+    int delete(int limit);
+  }
+
+  @Override
+  public void close() throws IOException {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+
+    garbageCollectorPool.shutdownNow();
+    try {
+      garbageCollectorPool.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.error("Failed to close garbage collector", e);
+    }
+  }
+}
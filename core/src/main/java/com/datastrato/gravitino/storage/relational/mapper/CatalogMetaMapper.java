@@ -7,6 +7,7 @@ package com.datastrato.gravitino.storage.relational.mapper;
 
 import com.datastrato.gravitino.storage.relational.po.CatalogPO;
 import java.util.List;
+import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
@@ -147,4 +148,27 @@ public interface CatalogMetaMapper {
           + " SET deleted_at = UNIX_TIMESTAMP(CURRENT_TIMESTAMP(3)) * 1000.0"
           + " WHERE metalake_id = #{metalakeId} AND deleted_at = 0")
   Integer softDeleteCatalogMetasByMetalakeId(@Param("metalakeId") Long metalakeId);
+
+  @Select(
+      "SELECT cm.catalog_id as catalogId, cm.catalog_name as catalogName,"
+          + " cm.metalake_id as metalakeId"
+          + " FROM "
+          + MetalakeMetaMapper.TABLE_NAME
+          + " mm INNER JOIN "
+          + TABLE_NAME
+          + " cm ON mm.metalake_id = cm.metalake_id AND cm.deleted_at = 0"
+          + " WHERE mm.metalake_name = #{metalakeName} AND mm.deleted_at = 0"
+          + " AND cm.catalog_name = #{catalogName}")
+  CatalogPO selectCatalogIdPathByFullName(
+      @Param("metalakeName") String metalakeName, @Param("catalogName") String catalogName);
+
+  @Delete(
+      "DELETE FROM "
+          + TABLE_NAME
+          + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}")
+  Integer deleteCatalogMetasByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+
+  @Select("SELECT COUNT(*) FROM " + TABLE_NAME)
+  Long countCatalogMetas();
 }
@@ -7,6 +7,7 @@ package com.datastrato.gravitino.storage.relational.mapper;
 
 import com.datastrato.gravitino.storage.relational.po.FilesetPO;
 import java.util.List;
+import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
@@ -214,4 +215,67 @@ public interface FilesetMetaMapper {
           + " SET deleted_at = UNIX_TIMESTAMP(CURRENT_TIMESTAMP(3)) * 1000.0"
           + " WHERE fileset_id = #{filesetId} AND deleted_at = 0")
   Integer softDeleteFilesetMetasByFilesetId(@Param("filesetId") Long filesetId);
+
+  @Select(
+      "SELECT fm.fileset_id, fm.fileset_name, fm.metalake_id, fm.catalog_id, fm.schema_id,"
+          + " fm.type, fm.audit_info, fm.current_version, fm.last_version, fm.deleted_at,"
+          + " vi.id, vi.metalake_id as version_metalake_id, vi.catalog_id as version_catalog_id,"
+          + " vi.schema_id as version_schema_id, vi.fileset_id as version_fileset_id,"
+          + " vi.version, vi.fileset_comment, vi.properties, vi.storage_location,"
+          + " vi.deleted_at as version_deleted_at"
+          + " FROM "
+          + MetalakeMetaMapper.TABLE_NAME
+          + " mm INNER JOIN "
+          + CatalogMetaMapper.TABLE_NAME
+          + " cm ON mm.metalake_id = cm.metalake_id AND cm.deleted_at = 0"
+          + " INNER JOIN "
+          + SchemaMetaMapper.TABLE_NAME
+          + " sm ON cm.catalog_id = sm.catalog_id AND sm.deleted_at = 0"
+          + " INNER JOIN "
+          + META_TABLE_NAME
+          + " fm ON sm.schema_id = fm.schema_id AND fm.deleted_at = 0"
+          + " INNER JOIN "
+          + VERSION_TABLE_NAME
+          + " vi ON fm.fileset_id = vi.fileset_id AND fm.current_version = vi.version"
+          + " AND vi.deleted_at = 0"
+          + " WHERE mm.metalake_name = #{metalakeName} AND mm.deleted_at = 0"
+          + " AND cm.catalog_name = #{catalogName} AND sm.schema_name = #{schemaName}"
+          + " AND fm.fileset_name = #{filesetName}")
+  @Results({
+    @Result(property = "filesetId", column = "fileset_id"),
+    @Result(property = "filesetName", column = "fileset_name"),
+    @Result(property = "metalakeId", column = "metalake_id"),
+    @Result(property = "catalogId", column = "catalog_id"),
+    @Result(property = "schemaId", column = "schema_id"),
+    @Result(property = "type", column = "type"),
+    @Result(property = "auditInfo", column = "audit_info"),
+    @Result(property = "currentVersion", column = "current_version"),
+    @Result(property = "lastVersion", column = "last_version"),
+    @Result(property = "deletedAt", column = "deleted_at"),
+    @Result(property = "filesetVersionPO.id", column = "id"),
+    @Result(property = "filesetVersionPO.metalakeId", column = "version_metalake_id"),
+    @Result(property = "filesetVersionPO.catalogId", column = "version_catalog_id"),
+    @Result(property = "filesetVersionPO.schemaId", column = "version_schema_id"),
+    @Result(property = "filesetVersionPO.filesetId", column = "version_fileset_id"),
+    @Result(property = "filesetVersionPO.version", column = "version"),
+    @Result(property = "filesetVersionPO.filesetComment", column = "fileset_comment"),
+    @Result(property = "filesetVersionPO.properties", column = "properties"),
+    @Result(property = "filesetVersionPO.storageLocation", column = "storage_location"),
+    @Result(property = "filesetVersionPO.deletedAt", column = "version_deleted_at")
+  })
+  FilesetPO selectFilesetMetaByFullName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName,
+      @Param("filesetName") String filesetName);
+
+  @Delete(
+      "DELETE FROM "
+          + META_TABLE_NAME
+          + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}")
+  Integer deleteFilesetMetasByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+
+  @Select("SELECT COUNT(*) FROM " + META_TABLE_NAME)
+  Long countFilesetMetas();
 }
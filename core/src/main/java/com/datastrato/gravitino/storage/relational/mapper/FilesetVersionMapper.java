@@ -6,8 +6,10 @@
 package com.datastrato.gravitino.storage.relational.mapper;
 
 import com.datastrato.gravitino.storage.relational.po.FilesetVersionPO;
+import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
 /**
@@ -97,4 +99,28 @@ public interface FilesetVersionMapper {
           + " SET deleted_at = UNIX_TIMESTAMP(CURRENT_TIMESTAMP(3)) * 1000.0"
           + " WHERE fileset_id = #{filesetId} AND deleted_at = 0")
   Integer softDeleteFilesetVersionsByFilesetId(@Param("filesetId") Long filesetId);
+
+  @Delete(
+      "DELETE FROM "
+          + VERSION_TABLE_NAME
+          + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}")
+  Integer deleteFilesetVersionsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+
+  @Select("SELECT COUNT(*) FROM " + VERSION_TABLE_NAME)
+  Long countFilesetVersions();
+
+  @Update(
+      "UPDATE "
+          + VERSION_TABLE_NAME
+          + " SET deleted_at = UNIX_TIMESTAMP(CURRENT_TIMESTAMP(3)) * 1000.0"
+          + " WHERE deleted_at = 0 AND version + #{versionRetentionCount} <= ("
+          + "SELECT fm.current_version FROM "
+          + FilesetMetaMapper.META_TABLE_NAME
+          + " fm WHERE fm.fileset_id = "
+          + VERSION_TABLE_NAME
+          + ".fileset_id AND fm.deleted_at = 0)"
+          + " LIMIT #{limit}")
+  Integer softDeleteFilesetVersionsByRetentionCount(
+      @Param("versionRetentionCount") Long versionRetentionCount, @Param("limit") int limit);
 }
@@ -7,6 +7,7 @@ package com.datastrato.gravitino.storage.relational.mapper;
 
 import com.datastrato.gravitino.storage.relational.po.SchemaPO;
 import java.util.List;
+import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
@@ -149,4 +150,35 @@ public interface SchemaMetaMapper {
           + " SET deleted_at = UNIX_TIMESTAMP(CURRENT_TIMESTAMP(3)) * 1000.0"
           + " WHERE catalog_id = #{catalogId} AND deleted_at = 0")
   Integer softDeleteSchemaMetasByCatalogId(@Param("catalogId") Long catalogId);
+
+  @Select(
+      "SELECT sm.schema_id as schemaId, sm.schema_name as schemaName,"
+          + " sm.metalake_id as metalakeId, sm.catalog_id as catalogId,"
+          + " sm.schema_comment as schemaComment, sm.properties, sm.audit_info as auditInfo,"
+          + " sm.current_version as currentVersion, sm.last_version as lastVersion,"
+          + " sm.deleted_at as deletedAt"
+          + " FROM "
+          + MetalakeMetaMapper.TABLE_NAME
+          + " mm INNER JOIN "
+          + CatalogMetaMapper.TABLE_NAME
+          + " cm ON mm.metalake_id = cm.metalake_id AND cm.deleted_at = 0"
+          + " INNER JOIN "
+          + TABLE_NAME
+          + " sm ON cm.catalog_id = sm.catalog_id AND sm.deleted_at = 0"
+          + " WHERE mm.metalake_name = #{metalakeName} AND mm.deleted_at = 0"
+          + " AND cm.catalog_name = #{catalogName} AND sm.schema_name = #{schemaName}")
+  SchemaPO selectSchemaMetaByFullName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName);
+
+  @Delete(
+      "DELETE FROM "
+          + TABLE_NAME
+          + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}")
+  Integer deleteSchemaMetasByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+
+  @Select("SELECT COUNT(*) FROM " + TABLE_NAME)
+  Long countSchemaMetas();
 }
@@ -7,6 +7,7 @@ package com.datastrato.gravitino.storage.relational.mapper;
 
 import com.datastrato.gravitino.storage.relational.po.TablePO;
 import java.util.List;
+import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
@@ -54,6 +55,23 @@ public interface TableMetaMapper {
   TablePO selectTableMetaBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("tableName") String name);
 
+  @Select(
+      "<script>"
+          + "SELECT table_id as tableId, table_name as tableName,"
+          + " metalake_id as metalakeId, catalog_id as catalogId,"
+          + " schema_id as schemaId, audit_info as auditInfo,"
+          + " current_version as currentVersion, last_version as lastVersion,"
+          + " deleted_at as deletedAt"
+          + " FROM "
+          + TABLE_NAME
+          + " WHERE schema_id = #{schemaId} AND deleted_at = 0 AND table_name IN"
+          + " <foreach collection='tableNames' item='tableName' open='(' separator=',' close=')'>"
+          + "#{tableName}"
+          + "</foreach>"
+          + "</script>")
+  List<TablePO> listTablePOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames);
+
   @Insert(
       "INSERT INTO "
           + TABLE_NAME
@@ -73,6 +91,30 @@ public interface TableMetaMapper {
           + " )")
   void insertTableMeta(@Param("tableMeta") TablePO tablePO);
 
+  @Insert(
+      "<script>"
+          + "INSERT INTO "
+          + TABLE_NAME
+          + "(table_id, table_name, metalake_id,"
+          + " catalog_id, schema_id, audit_info,"
+          + " current_version, last_version, deleted_at)"
+          + " VALUES"
+          + " <foreach collection='tableMetas' item='tableMeta' separator=','>"
+          + "("
+          + " #{tableMeta.tableId},"
+          + " #{tableMeta.tableName},"
+          + " #{tableMeta.metalakeId},"
+          + " #{tableMeta.catalogId},"
+          + " #{tableMeta.schemaId},"
+          + " #{tableMeta.auditInfo},"
+          + " #{tableMeta.currentVersion},"
+          + " #{tableMeta.lastVersion},"
+          + " #{tableMeta.deletedAt}"
+          + " )"
+          + "</foreach>"
+          + "</script>")
+  void batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs);
+
   @Insert(
       "INSERT INTO "
           + TABLE_NAME
@@ -151,4 +193,40 @@ public interface TableMetaMapper {
           + " SET deleted_at = UNIX_TIMESTAMP(CURRENT_TIMESTAMP(3)) * 1000.0"
           + " WHERE schema_id = #{schemaId} AND deleted_at = 0")
   Integer softDeleteTableMetasBySchemaId(@Param("schemaId") Long schemaId);
+
+  @Select(
+      "SELECT tm.table_id as tableId, tm.table_name as tableName,"
+          + " tm.metalake_id as metalakeId, tm.catalog_id as catalogId,"
+          + " tm.schema_id as schemaId, tm.audit_info as auditInfo,"
+          + " tm.current_version as currentVersion, tm.last_version as lastVersion,"
+          + " tm.deleted_at as deletedAt"
+          + " FROM "
+          + MetalakeMetaMapper.TABLE_NAME
+          + " mm INNER JOIN "
+          + CatalogMetaMapper.TABLE_NAME
+          + " cm ON mm.metalake_id = cm.metalake_id AND cm.deleted_at = 0"
+          + " INNER JOIN "
+          + SchemaMetaMapper.TABLE_NAME
+          + " sm ON cm.catalog_id = sm.catalog_id AND sm.deleted_at = 0"
+          + " INNER JOIN "
+          + TABLE_NAME
+          + " tm ON sm.schema_id = tm.schema_id AND tm.deleted_at = 0"
+          + " WHERE mm.metalake_name = #{metalakeName} AND mm.deleted_at = 0"
+          + " AND cm.catalog_name = #{catalogName} AND sm.schema_name = #{schemaName}"
+          + " AND tm.table_name = #{tableName}")
+  TablePO selectTableMetaByFullName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName,
+      @Param("tableName") String tableName);
+
+  @Delete(
+      "DELETE FROM "
+          + TABLE_NAME
+          + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}")
+  Integer deleteTableMetasByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+
+  @Select("SELECT COUNT(*) FROM " + TABLE_NAME)
+  Long countTableMetas();
 }
@@ -6,6 +6,7 @@ package com.datastrato.gravitino.storage.relational.mapper;
 
 import com.datastrato.gravitino.storage.relational.po.TopicPO;
 import java.util.List;
+import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
@@ -35,6 +36,32 @@ public interface TopicMetaMapper {
           + " )")
   void insertTopicMeta(@Param("topicMeta") TopicPO topicPO);
 
+  @Insert(
+      "<script>"
+          + "INSERT INTO "
+          + TABLE_NAME
+          + "(topic_id, topic_name, metalake_id, catalog_id, schema_id,"
+          + " comment, properties, audit_info, current_version, last_version,"
+          + " deleted_at)"
+          + " VALUES"
+          + " <foreach collection='topicMetas' item='topicMeta' separator=','>"
+          + "("
+          + " #{topicMeta.topicId},"
+          + " #{topicMeta.topicName},"
+          + " #{topicMeta.metalakeId},"
+          + " #{topicMeta.catalogId},"
+          + " #{topicMeta.schemaId},"
+          + " #{topicMeta.comment},"
+          + " #{topicMeta.properties},"
+          + " #{topicMeta.auditInfo},"
+          + " #{topicMeta.currentVersion},"
+          + " #{topicMeta.lastVersion},"
+          + " #{topicMeta.deletedAt}"
+          + " )"
+          + "</foreach>"
+          + "</script>")
+  void batchInsertTopicMetas(@Param("topicMetas") List<TopicPO> topicPOs);
+
   @Insert(
       "INSERT INTO "
           + TABLE_NAME
@@ -152,4 +179,41 @@ public interface TopicMetaMapper {
           + " SET deleted_at = UNIX_TIMESTAMP(CURRENT_TIMESTAMP(3)) * 1000.0"
           + " WHERE schema_id = #{schemaId} AND deleted_at = 0")
   Integer softDeleteTopicMetasBySchemaId(@Param("schemaId") Long schemaId);
+
+  @Select(
+      "SELECT tm.topic_id as topicId, tm.topic_name as topicName,"
+          + " tm.metalake_id as metalakeId, tm.catalog_id as catalogId,"
+          + " tm.schema_id as schemaId, tm.comment as comment,"
+          + " tm.properties as properties, tm.audit_info as auditInfo,"
+          + " tm.current_version as currentVersion, tm.last_version as lastVersion,"
+          + " tm.deleted_at as deletedAt"
+          + " FROM "
+          + MetalakeMetaMapper.TABLE_NAME
+          + " mm INNER JOIN "
+          + CatalogMetaMapper.TABLE_NAME
+          + " cm ON mm.metalake_id = cm.metalake_id AND cm.deleted_at = 0"
+          + " INNER JOIN "
+          + SchemaMetaMapper.TABLE_NAME
+          + " sm ON cm.catalog_id = sm.catalog_id AND sm.deleted_at = 0"
+          + " INNER JOIN "
+          + TABLE_NAME
+          + " tm ON sm.schema_id = tm.schema_id AND tm.deleted_at = 0"
+          + " WHERE mm.metalake_name = #{metalakeName} AND mm.deleted_at = 0"
+          + " AND cm.catalog_name = #{catalogName} AND sm.schema_name = #{schemaName}"
+          + " AND tm.topic_name = #{topicName}")
+  TopicPO selectTopicMetaByFullName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName,
+      @Param("topicName") String topicName);
+
+  @Delete(
+      "DELETE FROM "
+          + TABLE_NAME
+          + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}")
+  Integer deleteTopicMetasByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+
+  @Select("SELECT COUNT(*) FROM " + TABLE_NAME)
+  Long countTopicMetas();
 }
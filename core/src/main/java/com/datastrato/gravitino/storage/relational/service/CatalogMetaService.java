@@ -99,7 +99,7 @@ public class CatalogMetaService {
       NameIdentifier.checkCatalog(catalogEntity.nameIdentifier());
 
       Long metalakeId =
-          CommonMetaService.getInstance().getParentEntityIdByNamespace(catalogEntity.namespace());
+          CommonMetaService.getInstance().getParentEntityIdForWrite(catalogEntity.namespace());
 
       SessionUtils.doWithCommit(
           CatalogMetaMapper.class,
@@ -111,6 +111,8 @@ public class CatalogMetaService {
               mapper.insertCatalogMeta(po);
             }
           });
+      // An overwritten entity may have a new id.
+      CommonMetaService.getInstance().invalidateIdPaths(catalogEntity.nameIdentifier());
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.CATALOG, catalogEntity.nameIdentifier().toString());
@@ -124,7 +126,7 @@ public class CatalogMetaService {
 
     String catalogName = identifier.name();
     Long metalakeId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getParentEntityIdForWrite(identifier.namespace());
 
     CatalogPO oldCatalogPO = getCatalogPOByMetalakeIdAndName(metalakeId, catalogName);
 
@@ -152,6 +154,7 @@ public class CatalogMetaService {
       throw re;
     }
 
+    CommonMetaService.getInstance().invalidateIdPaths(identifier);
     if (updateResult > 0) {
       return newEntity;
     } else {
@@ -164,7 +167,7 @@ public class CatalogMetaService {
 
     String catalogName = identifier.name();
     Long metalakeId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getParentEntityIdForWrite(identifier.namespace());
 
     Long catalogId = getCatalogIdByMetalakeIdAndName(metalakeId, catalogName);
 
@@ -207,6 +210,18 @@ public class CatalogMetaService {
           CatalogMetaMapper.class, mapper -> mapper.softDeleteCatalogMetasByCatalogId(catalogId));
     }
 
+    CommonMetaService.getInstance().invalidateIdPaths(identifier);
     return true;
   }
+
+  public int deleteCatalogMetasByLegacyTimeline(long legacyTimeline, int limit) {
+    return SessionUtils.doWithCommitAndFetchResult(
+        CatalogMetaMapper.class,
+        mapper -> mapper.deleteCatalogMetasByLegacyTimeline(legacyTimeline, limit));
+  }
+
+  public long countCatalogMetas() {
+    return SessionUtils.getWithoutCommit(
+        CatalogMetaMapper.class, CatalogMetaMapper::countCatalogMetas);
+  }
 }
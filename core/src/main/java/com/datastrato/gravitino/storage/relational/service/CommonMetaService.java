@@ -5,44 +5,195 @@
 
 package com.datastrato.gravitino.storage.relational.service;
 
+import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import com.datastrato.gravitino.storage.relational.mapper.SchemaMetaMapper;
+import com.datastrato.gravitino.storage.relational.po.CatalogPO;
+import com.datastrato.gravitino.storage.relational.po.SchemaPO;
+import com.datastrato.gravitino.storage.relational.utils.SessionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /** The service class for common metadata operations. */
 public class CommonMetaService {
   private static final CommonMetaService INSTANCE = new CommonMetaService();
 
+  // The max number of the namespaces whose id paths are cached.
+  private static final long MAX_CACHED_ID_PATHS = 10000;
+
   public static CommonMetaService getInstance() {
     return INSTANCE;
   }
 
+  // The ids of the levels of the namespaces, e.g., [metalake id, catalog id, schema id] of a table
+  // namespace. Null if the cache is disabled.
+  @Nullable private volatile Cache<Namespace, long[]> idPathCache;
+
   private CommonMetaService() {}
 
+  /**
+   * Initialize the cache of the id paths of the namespaces.
+   *
+   * @param expireAfterWriteMs The time in milliseconds to keep a cached id path, 0 means the cache
+   *     is disabled.
+   */
+  public void initialize(long expireAfterWriteMs) {
+    Preconditions.checkArgument(expireAfterWriteMs >= 0, "expireAfterWriteMs should be >= 0");
+    this.idPathCache =
+        expireAfterWriteMs == 0
+            ? null
+            : Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_ID_PATHS)
+                .expireAfterWrite(expireAfterWriteMs, TimeUnit.MILLISECONDS)
+                .build();
+  }
+
+  /** Drop all the cached id paths and disable the cache. */
+  public void close() {
+    Cache<Namespace, long[]> cache = idPathCache;
+    this.idPathCache = null;
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
   public Long getParentEntityIdByNamespace(Namespace namespace) {
+    long[] ids = getParentEntityIdsByNamespace(namespace);
+    return ids[ids.length - 1];
+  }
+
+  /**
+   * Get the ids of all the levels of the namespace, e.g., the metalake id, the catalog id and the
+   * schema id of a table namespace. The ids are resolved in one query and cached if the cache is
+   * enabled, so it's for the read paths only, the write paths should use {@link
+   * #getParentEntityIdsForWrite(Namespace)}.
+   *
+   * @param namespace The namespace of an entity.
+   * @return The ids of the levels of the namespace.
+   */
+  public long[] getParentEntityIdsByNamespace(Namespace namespace) {
+    Preconditions.checkArgument(
+        !namespace.isEmpty() && namespace.levels().length <= 3,
+        "Namespace should not be empty and length should be less than or equal to 3.");
+    Cache<Namespace, long[]> cache = idPathCache;
+    if (cache == null) {
+      return resolveIdPath(namespace);
+    }
+    return cache.get(namespace, this::resolveIdPath).clone();
+  }
+
+  public Long getParentEntityIdForWrite(Namespace namespace) {
+    long[] ids = getParentEntityIdsForWrite(namespace);
+    return ids[ids.length - 1];
+  }
+
+  /**
+   * Get the ids of all the levels of the namespace from the database, bypassing the cache. The
+   * insert, update and delete paths use it, because the cache is only invalidated by the changes
+   * made on this server, a cached id may belong to a parent dropped by another server.
+   *
+   * @param namespace The namespace of an entity.
+   * @return The ids of the levels of the namespace.
+   */
+  public long[] getParentEntityIdsForWrite(Namespace namespace) {
     Preconditions.checkArgument(
         !namespace.isEmpty() && namespace.levels().length <= 3,
         "Namespace should not be empty and length should be less than or equal to 3.");
+    return resolveIdPath(namespace);
+  }
+
+  /**
+   * Invalidate the cached id paths of the entity and all the entities under it, it's called when a
+   * metalake, a catalog or a schema is created, renamed or dropped.
+   *
+   * @param identifier The identifier of the metalake, the catalog or the schema.
+   */
+  public void invalidateIdPaths(NameIdentifier identifier) {
+    Cache<Namespace, long[]> cache = idPathCache;
+    if (cache == null) {
+      return;
+    }
+
+    Namespace parent = identifier.namespace();
+    String[] levels = Arrays.copyOf(parent.levels(), parent.length() + 1);
+    levels[levels.length - 1] = identifier.name();
+    cache
+        .asMap()
+        .keySet()
+        .removeIf(
+            namespace ->
+                namespace.length() >= levels.length
+                    && Arrays.equals(Arrays.copyOf(namespace.levels(), levels.length), levels));
+  }
+
+  private long[] resolveIdPath(Namespace namespace) {
+    switch (namespace.length()) {
+      case 1:
+        return new long[] {
+          MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0))
+        };
+      case 2:
+        CatalogPO catalogPO =
+            SessionUtils.getWithoutCommit(
+                CatalogMetaMapper.class,
+                mapper ->
+                    mapper.selectCatalogIdPathByFullName(namespace.level(0), namespace.level(1)));
+        if (catalogPO != null) {
+          return new long[] {catalogPO.getMetalakeId(), catalogPO.getCatalogId()};
+        }
+        break;
+      case 3:
+        SchemaPO schemaPO =
+            SessionUtils.getWithoutCommit(
+                SchemaMetaMapper.class,
+                mapper ->
+                    mapper.selectSchemaMetaByFullName(
+                        namespace.level(0), namespace.level(1), namespace.level(2)));
+        if (schemaPO != null) {
+          return new long[] {
+            schemaPO.getMetalakeId(), schemaPO.getCatalogId(), schemaPO.getSchemaId()
+          };
+        }
+        break;
+      default:
+        break;
+    }
+
+    // One of the levels doesn't exist, resolve the levels one by one to report which one.
+    return resolveIdPathLevelByLevel(namespace);
+  }
+
+  private long[] resolveIdPathLevelByLevel(Namespace namespace) {
+    long[] ids = new long[namespace.length()];
     Long parentEntityId = null;
     for (int level = 0; level < namespace.levels().length; level++) {
       String name = namespace.level(level);
       switch (level) {
         case 0:
           parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(name);
-          continue;
+          break;
         case 1:
           parentEntityId =
               CatalogMetaService.getInstance()
                   .getCatalogIdByMetalakeIdAndName(parentEntityId, name);
-          continue;
+          break;
         case 2:
           parentEntityId =
               SchemaMetaService.getInstance().getSchemaIdByCatalogIdAndName(parentEntityId, name);
           break;
+        default:
+          break;
       }
+      Preconditions.checkState(
+          parentEntityId != null && parentEntityId > 0,
+          "Parent entity id should not be null and should be greater than 0.");
+      ids[level] = parentEntityId;
     }
-    Preconditions.checkState(
-        parentEntityId != null && parentEntityId > 0,
-        "Parent entity id should not be null and should be greater than 0.");
-    return parentEntityId;
+    return ids;
   }
 }
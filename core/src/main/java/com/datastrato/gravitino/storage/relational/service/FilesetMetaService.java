@@ -70,12 +70,21 @@ public class FilesetMetaService {
 
     String filesetName = identifier.name();
 
-    Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+    Namespace namespace = identifier.namespace();
+    FilesetPO filesetPO =
+        SessionUtils.getWithoutCommit(
+            FilesetMetaMapper.class,
+            mapper ->
+                mapper.selectFilesetMetaByFullName(
+                    namespace.level(0), namespace.level(1), namespace.level(2), filesetName));
 
-    FilesetPO filesetPO = getFilesetPOBySchemaIdAndName(schemaId, filesetName);
+    if (filesetPO == null) {
+      // Resolve the parents level by level to report which level doesn't exist.
+      Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+      filesetPO = getFilesetPOBySchemaIdAndName(schemaId, filesetName);
+    }
 
-    return POConverters.fromFilesetPO(filesetPO, identifier.namespace());
+    return POConverters.fromFilesetPO(filesetPO, namespace);
   }
 
   public List<FilesetEntity> listFilesetsByNamespace(Namespace namespace) {
@@ -135,7 +144,7 @@ public class FilesetMetaService {
     String filesetName = identifier.name();
 
     Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getParentEntityIdForWrite(identifier.namespace());
 
     FilesetPO oldFilesetPO = getFilesetPOBySchemaIdAndName(schemaId, filesetName);
     FilesetEntity oldFilesetEntity =
@@ -195,7 +204,7 @@ public class FilesetMetaService {
     String filesetName = identifier.name();
 
     Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getParentEntityIdForWrite(identifier.namespace());
 
     Long filesetId = getFilesetIdBySchemaIdAndName(schemaId, filesetName);
 
@@ -213,28 +222,58 @@ public class FilesetMetaService {
     return true;
   }
 
+  /**
+   * Hard delete the fileset metas and the fileset versions which were soft deleted before the
+   * legacy timeline.
+   *
+   * @param legacyTimeline The timestamp in milliseconds before which the deleted rows expire.
+   * @param limit The maximum number of the rows to delete.
+   * @return The number of the deleted rows.
+   */
+  public int deleteFilesetAndVersionMetasByLegacyTimeline(long legacyTimeline, int limit) {
+    int filesetDeletedCount =
+        SessionUtils.doWithCommitAndFetchResult(
+            FilesetMetaMapper.class,
+            mapper -> mapper.deleteFilesetMetasByLegacyTimeline(legacyTimeline, limit));
+    if (filesetDeletedCount >= limit) {
+      return filesetDeletedCount;
+    }
+
+    int versionDeletedCount =
+        SessionUtils.doWithCommitAndFetchResult(
+            FilesetVersionMapper.class,
+            mapper ->
+                mapper.deleteFilesetVersionsByLegacyTimeline(
+                    legacyTimeline, limit - filesetDeletedCount));
+    return filesetDeletedCount + versionDeletedCount;
+  }
+
+  /**
+   * Soft delete the fileset versions older than the retained versions, they are hard deleted after
+   * they expire.
+   *
+   * @param versionRetentionCount The number of the versions to retain, including the current one.
+   * @param limit The maximum number of the versions to delete.
+   * @return The number of the deleted versions.
+   */
+  public int deleteFilesetVersionsByRetentionCount(long versionRetentionCount, int limit) {
+    return SessionUtils.doWithCommitAndFetchResult(
+        FilesetVersionMapper.class,
+        mapper -> mapper.softDeleteFilesetVersionsByRetentionCount(versionRetentionCount, limit));
+  }
+
+  public long countFilesetAndVersionMetas() {
+    return SessionUtils.getWithoutCommit(
+            FilesetMetaMapper.class, FilesetMetaMapper::countFilesetMetas)
+        + SessionUtils.getWithoutCommit(
+            FilesetVersionMapper.class, FilesetVersionMapper::countFilesetVersions);
+  }
+
   private void fillFilesetPOBuilderParentEntityId(FilesetPO.Builder builder, Namespace namespace) {
     Namespace.checkFileset(namespace);
-    Long parentEntityId = null;
-    for (int level = 0; level < namespace.levels().length; level++) {
-      String name = namespace.level(level);
-      switch (level) {
-        case 0:
-          parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(name);
-          builder.withMetalakeId(parentEntityId);
-          continue;
-        case 1:
-          parentEntityId =
-              CatalogMetaService.getInstance()
-                  .getCatalogIdByMetalakeIdAndName(parentEntityId, name);
-          builder.withCatalogId(parentEntityId);
-          continue;
-        case 2:
-          parentEntityId =
-              SchemaMetaService.getInstance().getSchemaIdByCatalogIdAndName(parentEntityId, name);
-          builder.withSchemaId(parentEntityId);
-          break;
-      }
-    }
+    long[] parentEntityIds = CommonMetaService.getInstance().getParentEntityIdsForWrite(namespace);
+    builder.withMetalakeId(parentEntityIds[0]);
+    builder.withCatalogId(parentEntityIds[1]);
+    builder.withSchemaId(parentEntityIds[2]);
   }
 }
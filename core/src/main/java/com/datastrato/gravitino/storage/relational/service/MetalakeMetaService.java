@@ -89,6 +89,8 @@ public class MetalakeMetaService {
               mapper.insertMetalakeMeta(po);
             }
           });
+      // An overwritten entity may have a new id.
+      CommonMetaService.getInstance().invalidateIdPaths(baseMetalake.nameIdentifier());
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.METALAKE, baseMetalake.nameIdentifier().toString());
@@ -130,6 +132,7 @@ public class MetalakeMetaService {
       throw re;
     }
 
+    CommonMetaService.getInstance().invalidateIdPaths(ident);
     if (updateResult > 0) {
       return newMetalakeEntity;
     } else {
@@ -184,6 +187,18 @@ public class MetalakeMetaService {
             mapper -> mapper.softDeleteMetalakeMetaByMetalakeId(metalakeId));
       }
     }
+    CommonMetaService.getInstance().invalidateIdPaths(ident);
     return true;
   }
+
+  public int deleteMetalakeMetasByLegacyTimeline(long legacyTimeline, int limit) {
+    return SessionUtils.doWithCommitAndFetchResult(
+        MetalakeMetaMapper.class,
+        mapper -> mapper.deleteMetalakeMetasByLegacyTimeline(legacyTimeline, limit));
+  }
+
+  public long countMetalakeMetas() {
+    return SessionUtils.getWithoutCommit(
+        MetalakeMetaMapper.class, MetalakeMetaMapper::countMetalakeMetas);
+  }
 }
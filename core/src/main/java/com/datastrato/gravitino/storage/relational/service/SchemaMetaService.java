@@ -72,12 +72,21 @@ public class SchemaMetaService {
     NameIdentifier.checkSchema(identifier);
     String schemaName = identifier.name();
 
-    Long catalogId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+    Namespace namespace = identifier.namespace();
+    SchemaPO schemaPO =
+        SessionUtils.getWithoutCommit(
+            SchemaMetaMapper.class,
+            mapper ->
+                mapper.selectSchemaMetaByFullName(
+                    namespace.level(0), namespace.level(1), schemaName));
 
-    SchemaPO schemaPO = getSchemaPOByCatalogIdAndName(catalogId, schemaName);
+    if (schemaPO == null) {
+      // Resolve the parents level by level to report which level doesn't exist.
+      Long catalogId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+      schemaPO = getSchemaPOByCatalogIdAndName(catalogId, schemaName);
+    }
 
-    return POConverters.fromSchemaPO(schemaPO, identifier.namespace());
+    return POConverters.fromSchemaPO(schemaPO, namespace);
   }
 
   public List<SchemaEntity> listSchemasByNamespace(Namespace namespace) {
@@ -108,6 +117,8 @@ public class SchemaMetaService {
               mapper.insertSchemaMeta(po);
             }
           });
+      // An overwritten entity may have a new id.
+      CommonMetaService.getInstance().invalidateIdPaths(schemaEntity.nameIdentifier());
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.SCHEMA, schemaEntity.nameIdentifier().toString());
@@ -121,7 +132,7 @@ public class SchemaMetaService {
 
     String schemaName = identifier.name();
     Long catalogId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getParentEntityIdForWrite(identifier.namespace());
 
     SchemaPO oldSchemaPO = getSchemaPOByCatalogIdAndName(catalogId, schemaName);
 
@@ -147,6 +158,7 @@ public class SchemaMetaService {
       throw re;
     }
 
+    CommonMetaService.getInstance().invalidateIdPaths(identifier);
     if (updateResult > 0) {
       return newEntity;
     } else {
@@ -159,7 +171,7 @@ public class SchemaMetaService {
 
     String schemaName = identifier.name();
     Long catalogId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getParentEntityIdForWrite(identifier.namespace());
     Long schemaId = getSchemaIdByCatalogIdAndName(catalogId, schemaName);
 
     if (schemaId != null) {
@@ -212,26 +224,25 @@ public class SchemaMetaService {
             SchemaMetaMapper.class, mapper -> mapper.softDeleteSchemaMetasBySchemaId(schemaId));
       }
     }
+    CommonMetaService.getInstance().invalidateIdPaths(identifier);
     return true;
   }
 
+  public int deleteSchemaMetasByLegacyTimeline(long legacyTimeline, int limit) {
+    return SessionUtils.doWithCommitAndFetchResult(
+        SchemaMetaMapper.class,
+        mapper -> mapper.deleteSchemaMetasByLegacyTimeline(legacyTimeline, limit));
+  }
+
+  public long countSchemaMetas() {
+    return SessionUtils.getWithoutCommit(
+        SchemaMetaMapper.class, SchemaMetaMapper::countSchemaMetas);
+  }
+
   private void fillSchemaPOBuilderParentEntityId(SchemaPO.Builder builder, Namespace namespace) {
     Namespace.checkSchema(namespace);
-    Long parentEntityId = null;
-    for (int level = 0; level < namespace.levels().length; level++) {
-      String name = namespace.level(level);
-      switch (level) {
-        case 0:
-          parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(name);
-          builder.withMetalakeId(parentEntityId);
-          continue;
-        case 1:
-          parentEntityId =
-              CatalogMetaService.getInstance()
-                  .getCatalogIdByMetalakeIdAndName(parentEntityId, name);
-          builder.withCatalogId(parentEntityId);
-          break;
-      }
-    }
+    long[] parentEntityIds = CommonMetaService.getInstance().getParentEntityIdsForWrite(namespace);
+    builder.withMetalakeId(parentEntityIds[0]);
+    builder.withCatalogId(parentEntityIds[1]);
   }
 }
@@ -16,15 +16,25 @@ import com.datastrato.gravitino.storage.relational.utils.ExceptionUtils;
 import com.datastrato.gravitino.storage.relational.utils.POConverters;
 import com.datastrato.gravitino.storage.relational.utils.SessionUtils;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /** The service class for table metadata. It provides the basic database operations for table. */
 public class TableMetaService {
   private static final TableMetaService INSTANCE = new TableMetaService();
 
+  // The max number of the rows written by one INSERT statement.
+  private static final int BATCH_INSERT_SIZE = 1000;
+
+  // The max number of the names in the IN list of one SELECT statement.
+  private static final int BATCH_SELECT_SIZE = 1000;
+
   public static TableMetaService getInstance() {
     return INSTANCE;
   }
@@ -64,12 +74,59 @@ public class TableMetaService {
   public TableEntity getTableByIdentifier(NameIdentifier identifier) {
     NameIdentifier.checkTable(identifier);
 
-    Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+    Namespace namespace = identifier.namespace();
+    TablePO tablePO =
+        SessionUtils.getWithoutCommit(
+            TableMetaMapper.class,
+            mapper ->
+                mapper.selectTableMetaByFullName(
+                    namespace.level(0), namespace.level(1), namespace.level(2), identifier.name()));
 
-    TablePO tablePO = getTablePOBySchemaIdAndName(schemaId, identifier.name());
+    if (tablePO == null) {
+      // Resolve the parents level by level to report which level doesn't exist.
+      Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+      tablePO = getTablePOBySchemaIdAndName(schemaId, identifier.name());
+    }
 
-    return POConverters.fromTablePO(tablePO, identifier.namespace());
+    return POConverters.fromTablePO(tablePO, namespace);
+  }
+
+  public List<TableEntity> batchGetTablesByIdentifiers(List<NameIdentifier> identifiers) {
+    // Group the identifiers by namespace, so the tables in the same schema are fetched by one
+    // query.
+    Map<Namespace, List<String>> tableNamesByNamespace = Maps.newLinkedHashMap();
+    for (NameIdentifier identifier : identifiers) {
+      NameIdentifier.checkTable(identifier);
+      tableNamesByNamespace
+          .computeIfAbsent(identifier.namespace(), k -> Lists.newArrayList())
+          .add(identifier.name());
+    }
+
+    Map<NameIdentifier, TableEntity> tables = Maps.newHashMap();
+    for (Map.Entry<Namespace, List<String>> entry : tableNamesByNamespace.entrySet()) {
+      Namespace namespace = entry.getKey();
+      Long schemaId;
+      try {
+        schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+      } catch (NoSuchEntityException e) {
+        // The schema doesn't exist, so none of the tables under it exists.
+        continue;
+      }
+
+      for (List<String> names : Lists.partition(entry.getValue(), BATCH_SELECT_SIZE)) {
+        List<TablePO> tablePOs =
+            SessionUtils.getWithoutCommit(
+                TableMetaMapper.class,
+                mapper -> mapper.listTablePOsBySchemaIdAndNames(schemaId, names));
+        POConverters.fromTablePOs(tablePOs, namespace)
+            .forEach(table -> tables.put(table.nameIdentifier(), table));
+      }
+    }
+
+    return identifiers.stream()
+        .map(tables::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
   }
 
   public List<TableEntity> listTablesByNamespace(Namespace namespace) {
@@ -108,6 +165,43 @@ public class TableMetaService {
     }
   }
 
+  /**
+   * Insert the tables in one transaction, the tables are written by multi-row INSERT
+   * statements.
+   *
+   * @param tableEntities The tables to insert, they should not exist.
+   */
+  public void batchInsertTables(List<TableEntity> tableEntities) {
+    if (tableEntities.isEmpty()) {
+      return;
+    }
+
+    try {
+      // The tables are usually in a few schemas, resolve the parents once for each schema.
+      Map<Namespace, long[]> parentEntityIdsByNamespace = Maps.newHashMap();
+      List<TablePO> tablePOs = Lists.newArrayListWithCapacity(tableEntities.size());
+      for (TableEntity tableEntity : tableEntities) {
+        NameIdentifier.checkTable(tableEntity.nameIdentifier());
+        long[] parentEntityIds =
+            parentEntityIdsByNamespace.computeIfAbsent(
+                tableEntity.namespace(),
+                CommonMetaService.getInstance()::getParentEntityIdsForWrite);
+        TablePO.Builder builder = TablePO.builder();
+        fillTablePOBuilderParentEntityIds(builder, parentEntityIds);
+        tablePOs.add(POConverters.initializeTablePOWithVersion(tableEntity, builder));
+      }
+
+      SessionUtils.doWithCommit(
+          TableMetaMapper.class,
+          mapper ->
+              Lists.partition(tablePOs, BATCH_INSERT_SIZE).forEach(mapper::batchInsertTableMetas));
+    } catch (RuntimeException re) {
+      ExceptionUtils.checkSQLException(
+          re, Entity.EntityType.TABLE, ExceptionUtils.batchEntityName(tableEntities));
+      throw re;
+    }
+  }
+
   public <E extends Entity & HasIdentifier> TableEntity updateTable(
       NameIdentifier identifier, Function<E, E> updater) throws IOException {
     NameIdentifier.checkTable(identifier);
@@ -115,7 +209,7 @@ public class TableMetaService {
     String tableName = identifier.name();
 
     Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getParentEntityIdForWrite(identifier.namespace());
 
     TablePO oldTablePO = getTablePOBySchemaIdAndName(schemaId, tableName);
     TableEntity oldTableEntity = POConverters.fromTablePO(oldTablePO, identifier.namespace());
@@ -153,7 +247,7 @@ public class TableMetaService {
     String tableName = identifier.name();
 
     Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getParentEntityIdForWrite(identifier.namespace());
 
     Long tableId = getTableIdBySchemaIdAndName(schemaId, tableName);
 
@@ -163,28 +257,25 @@ public class TableMetaService {
     return true;
   }
 
+  public int deleteTableMetasByLegacyTimeline(long legacyTimeline, int limit) {
+    return SessionUtils.doWithCommitAndFetchResult(
+        TableMetaMapper.class,
+        mapper -> mapper.deleteTableMetasByLegacyTimeline(legacyTimeline, limit));
+  }
+
+  public long countTableMetas() {
+    return SessionUtils.getWithoutCommit(TableMetaMapper.class, TableMetaMapper::countTableMetas);
+  }
+
   private void fillTablePOBuilderParentEntityId(TablePO.Builder builder, Namespace namespace) {
     Namespace.checkTable(namespace);
-    Long parentEntityId = null;
-    for (int level = 0; level < namespace.levels().length; level++) {
-      String name = namespace.level(level);
-      switch (level) {
-        case 0:
-          parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(name);
-          builder.withMetalakeId(parentEntityId);
-          continue;
-        case 1:
-          parentEntityId =
-              CatalogMetaService.getInstance()
-                  .getCatalogIdByMetalakeIdAndName(parentEntityId, name);
-          builder.withCatalogId(parentEntityId);
-          continue;
-        case 2:
-          parentEntityId =
-              SchemaMetaService.getInstance().getSchemaIdByCatalogIdAndName(parentEntityId, name);
-          builder.withSchemaId(parentEntityId);
-          break;
-      }
-    }
+    fillTablePOBuilderParentEntityIds(
+        builder, CommonMetaService.getInstance().getParentEntityIdsForWrite(namespace));
+  }
+
+  private void fillTablePOBuilderParentEntityIds(TablePO.Builder builder, long[] parentEntityIds) {
+    builder.withMetalakeId(parentEntityIds[0]);
+    builder.withCatalogId(parentEntityIds[1]);
+    builder.withSchemaId(parentEntityIds[2]);
   }
 }
@@ -16,8 +16,11 @@ import com.datastrato.gravitino.storage.relational.utils.ExceptionUtils;
 import com.datastrato.gravitino.storage.relational.utils.POConverters;
 import com.datastrato.gravitino.storage.relational.utils.SessionUtils;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -28,6 +31,9 @@ import java.util.function.Function;
 public class TopicMetaService {
   private static final TopicMetaService INSTANCE = new TopicMetaService();
 
+  // The max number of the rows written by one INSERT statement.
+  private static final int BATCH_INSERT_SIZE = 1000;
+
   public static TopicMetaService getInstance() {
     return INSTANCE;
   }
@@ -59,6 +65,43 @@ public class TopicMetaService {
     }
   }
 
+  /**
+   * Insert the topics in one transaction, the topics are written by multi-row INSERT
+   * statements.
+   *
+   * @param topicEntities The topics to insert, they should not exist.
+   */
+  public void batchInsertTopics(List<TopicEntity> topicEntities) {
+    if (topicEntities.isEmpty()) {
+      return;
+    }
+
+    try {
+      // The topics are usually in a few schemas, resolve the parents once for each schema.
+      Map<Namespace, long[]> parentEntityIdsByNamespace = Maps.newHashMap();
+      List<TopicPO> topicPOs = Lists.newArrayListWithCapacity(topicEntities.size());
+      for (TopicEntity topicEntity : topicEntities) {
+        NameIdentifier.checkTopic(topicEntity.nameIdentifier());
+        long[] parentEntityIds =
+            parentEntityIdsByNamespace.computeIfAbsent(
+                topicEntity.namespace(),
+                CommonMetaService.getInstance()::getParentEntityIdsForWrite);
+        TopicPO.Builder builder = TopicPO.builder();
+        fillTopicPOBuilderParentEntityIds(builder, parentEntityIds);
+        topicPOs.add(POConverters.initializeTopicPOWithVersion(topicEntity, builder));
+      }
+
+      SessionUtils.doWithCommit(
+          TopicMetaMapper.class,
+          mapper ->
+              Lists.partition(topicPOs, BATCH_INSERT_SIZE).forEach(mapper::batchInsertTopicMetas));
+    } catch (RuntimeException re) {
+      ExceptionUtils.checkSQLException(
+          re, Entity.EntityType.TOPIC, ExceptionUtils.batchEntityName(topicEntities));
+      throw re;
+    }
+  }
+
   public List<TopicEntity> listTopicsByNamespace(Namespace namespace) {
     Namespace.checkTopic(namespace);
 
@@ -77,7 +120,7 @@ public class TopicMetaService {
 
     String topicName = ident.name();
 
-    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(ident.namespace());
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdForWrite(ident.namespace());
 
     TopicPO oldTopicPO = getTopicPOBySchemaIdAndName(schemaId, topicName);
     TopicEntity oldTopicEntity = POConverters.fromTopicPO(oldTopicPO, ident.namespace());
@@ -126,38 +169,34 @@ public class TopicMetaService {
 
   private void fillTopicPOBuilderParentEntityId(TopicPO.Builder builder, Namespace namespace) {
     Namespace.checkTopic(namespace);
-    Long parentEntityId = null;
-    for (int level = 0; level < namespace.levels().length; level++) {
-      String name = namespace.level(level);
-      switch (level) {
-        case 0:
-          parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(name);
-          builder.withMetalakeId(parentEntityId);
-          continue;
-        case 1:
-          parentEntityId =
-              CatalogMetaService.getInstance()
-                  .getCatalogIdByMetalakeIdAndName(parentEntityId, name);
-          builder.withCatalogId(parentEntityId);
-          continue;
-        case 2:
-          parentEntityId =
-              SchemaMetaService.getInstance().getSchemaIdByCatalogIdAndName(parentEntityId, name);
-          builder.withSchemaId(parentEntityId);
-          break;
-      }
-    }
+    fillTopicPOBuilderParentEntityIds(
+        builder, CommonMetaService.getInstance().getParentEntityIdsForWrite(namespace));
+  }
+
+  private void fillTopicPOBuilderParentEntityIds(TopicPO.Builder builder, long[] parentEntityIds) {
+    builder.withMetalakeId(parentEntityIds[0]);
+    builder.withCatalogId(parentEntityIds[1]);
+    builder.withSchemaId(parentEntityIds[2]);
   }
 
   public TopicEntity getTopicByIdentifier(NameIdentifier identifier) {
     NameIdentifier.checkTopic(identifier);
 
-    Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+    Namespace namespace = identifier.namespace();
+    TopicPO topicPO =
+        SessionUtils.getWithoutCommit(
+            TopicMetaMapper.class,
+            mapper ->
+                mapper.selectTopicMetaByFullName(
+                    namespace.level(0), namespace.level(1), namespace.level(2), identifier.name()));
 
-    TopicPO topicPO = getTopicPOBySchemaIdAndName(schemaId, identifier.name());
+    if (topicPO == null) {
+      // Resolve the parents level by level to report which level doesn't exist.
+      Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+      topicPO = getTopicPOBySchemaIdAndName(schemaId, identifier.name());
+    }
 
-    return POConverters.fromTopicPO(topicPO, identifier.namespace());
+    return POConverters.fromTopicPO(topicPO, namespace);
   }
 
   public boolean deleteTopic(NameIdentifier identifier) {
@@ -166,7 +205,7 @@ public class TopicMetaService {
     String topicName = identifier.name();
 
     Long schemaId =
-        CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
+        CommonMetaService.getInstance().getParentEntityIdForWrite(identifier.namespace());
 
     Long topicId = getTopicIdBySchemaIdAndName(schemaId, topicName);
 
@@ -176,6 +215,16 @@ public class TopicMetaService {
     return true;
   }
 
+  public int deleteTopicMetasByLegacyTimeline(long legacyTimeline, int limit) {
+    return SessionUtils.doWithCommitAndFetchResult(
+        TopicMetaMapper.class,
+        mapper -> mapper.deleteTopicMetasByLegacyTimeline(legacyTimeline, limit));
+  }
+
+  public long countTopicMetas() {
+    return SessionUtils.getWithoutCommit(TopicMetaMapper.class, TopicMetaMapper::countTopicMetas);
+  }
+
   private Long getTopicIdBySchemaIdAndName(Long schemaId, String topicName) {
     Long topicId =
         SessionUtils.getWithoutCommit(
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.storage.relational.session;
+
+import com.datastrato.gravitino.Config;
+import java.io.Closeable;
+import javax.sql.DataSource;
+
+/**
+ * The JDBC connection pool of the relational entity store. The implementation is picked by {@link
+ * com.datastrato.gravitino.Configs#ENTITY_RELATIONAL_POOL_IMPL}, it should have a public no-arg
+ * constructor.
+ */
+public interface ConnectionPool extends Closeable {
+
+  /**
+   * Initialize the connection pool.
+   *
+   * @param config The config of the Gravitino server.
+   */
+  void initialize(Config config);
+
+  /** @return The data source which hands out the pooled connections. */
+  DataSource getDataSource();
+
+  /** @return The maximum number of the connections of the pool. */
+  int getMaxTotal();
+
+  /** @return The number of the connections borrowed from the pool. */
+  int getNumActive();
+
+  /** @return The number of the idle connections in the pool. */
+  int getNumIdle();
+
+  /** @return The number of the threads waiting for a connection. */
+  int getNumWaiters();
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.storage.relational.session;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.pool2.impl.BaseObjectPoolConfig;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+
+/** The {@link ConnectionPool} backed by Apache Commons DBCP2, it's the default implementation. */
+public class DBCPConnectionPool implements ConnectionPool {
+
+  // Exposes the number of the threads waiting for a connection, which BasicDataSource hides.
+  private static class PoolDataSource extends BasicDataSource {
+    private int getNumWaiters() {
+      GenericObjectPool<?> pool = getConnectionPool();
+      return pool == null ? 0 : pool.getNumWaiters();
+    }
+  }
+
+  private PoolDataSource dataSource;
+
+  @Override
+  @SuppressWarnings("deprecation")
+  public void initialize(Config config) {
+    PoolDataSource ds = new PoolDataSource();
+    ds.setUrl(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL));
+    ds.setDriverClassName(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER));
+    ds.setUsername(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER));
+    ds.setPassword(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD));
+    // Close the auto commit, so that we can control the transaction manual commit
+    ds.setDefaultAutoCommit(false);
+    ds.setMaxWaitMillis(config.get(Configs.ENTITY_RELATIONAL_POOL_MAX_WAIT_MS));
+    ds.setMaxTotal(config.get(Configs.ENTITY_RELATIONAL_POOL_MAX_TOTAL));
+    ds.setMaxIdle(config.get(Configs.ENTITY_RELATIONAL_POOL_MAX_IDLE));
+    int minIdle = config.get(Configs.ENTITY_RELATIONAL_POOL_MIN_IDLE);
+    Preconditions.checkArgument(
+        minIdle <= ds.getMaxIdle(),
+        "%s should not be greater than %s",
+        Configs.ENTITY_RELATIONAL_POOL_MIN_IDLE.getKey(),
+        Configs.ENTITY_RELATIONAL_POOL_MAX_IDLE.getKey());
+    ds.setMinIdle(minIdle);
+    // Warm up the pool with the idle connections.
+    ds.setInitialSize(minIdle);
+
+    int statementCacheSize = config.get(Configs.ENTITY_RELATIONAL_POOL_STATEMENT_CACHE_SIZE);
+    if (statementCacheSize > 0) {
+      ds.setPoolPreparedStatements(true);
+      ds.setMaxOpenPreparedStatements(statementCacheSize);
+    }
+
+    String validationQuery = config.get(Configs.ENTITY_RELATIONAL_POOL_VALIDATION_QUERY);
+    if (StringUtils.isNotBlank(validationQuery)) {
+      // The idle connections are validated by the evictor, so borrowing costs no extra query.
+      ds.setValidationQuery(validationQuery);
+      ds.setTestWhileIdle(true);
+    } else {
+      ds.setTestWhileIdle(BaseObjectPoolConfig.DEFAULT_TEST_WHILE_IDLE);
+    }
+
+    ds.setLogAbandoned(true);
+    ds.setRemoveAbandonedOnBorrow(true);
+    ds.setRemoveAbandonedTimeout(60);
+    ds.setTimeBetweenEvictionRunsMillis(Duration.ofMillis(10 * 60 * 1000L).toMillis());
+    ds.setTestOnBorrow(BaseObjectPoolConfig.DEFAULT_TEST_ON_BORROW);
+    ds.setMinEvictableIdleTimeMillis(1000);
+    ds.setNumTestsPerEvictionRun(BaseObjectPoolConfig.DEFAULT_NUM_TESTS_PER_EVICTION_RUN);
+    ds.setTestOnReturn(BaseObjectPoolConfig.DEFAULT_TEST_ON_RETURN);
+    ds.setSoftMinEvictableIdleTimeMillis(
+        BaseObjectPoolConfig.DEFAULT_SOFT_MIN_EVICTABLE_IDLE_TIME.toMillis());
+    ds.setLifo(BaseObjectPoolConfig.DEFAULT_LIFO);
+
+    if (minIdle > 0) {
+      try {
+        // BasicDataSource creates the pool and the initial connections lazily.
+        ds.start();
+      } catch (SQLException e) {
+        throw new RuntimeException("Failed to warm up the JDBC connection pool", e);
+      }
+    }
+    this.dataSource = ds;
+  }
+
+  @Override
+  public DataSource getDataSource() {
+    Preconditions.checkState(dataSource != null, "The connection pool is not initialized");
+    return dataSource;
+  }
+
+  @Override
+  public int getMaxTotal() {
+    return dataSource.getMaxTotal();
+  }
+
+  @Override
+  public int getNumActive() {
+    return dataSource.getNumActive();
+  }
+
+  @Override
+  public int getNumIdle() {
+    return dataSource.getNumIdle();
+  }
+
+  @Override
+  public int getNumWaiters() {
+    return dataSource.getNumWaiters();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (dataSource != null) {
+      try {
+        dataSource.close();
+      } catch (SQLException e) {
+        throw new IOException("Failed to close the JDBC connection pool", e);
+      }
+    }
+  }
+}
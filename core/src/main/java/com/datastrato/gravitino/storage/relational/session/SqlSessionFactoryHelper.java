@@ -7,6 +7,9 @@ package com.datastrato.gravitino.storage.relational.session;
 
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.GravitinoEnv;
+import com.datastrato.gravitino.metrics.MetricsSystem;
+import com.datastrato.gravitino.metrics.source.JdbcConnectionPoolMetricsSource;
 import com.datastrato.gravitino.storage.relational.mapper.CatalogMetaMapper;
 import com.datastrato.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import com.datastrato.gravitino.storage.relational.mapper.FilesetVersionMapper;
@@ -15,10 +18,9 @@ import com.datastrato.gravitino.storage.relational.mapper.SchemaMetaMapper;
 import com.datastrato.gravitino.storage.relational.mapper.TableMetaMapper;
 import com.datastrato.gravitino.storage.relational.mapper.TopicMetaMapper;
 import com.google.common.base.Preconditions;
-import java.sql.SQLException;
-import java.time.Duration;
-import org.apache.commons.dbcp2.BasicDataSource;
-import org.apache.commons.pool2.impl.BaseObjectPoolConfig;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import javax.sql.DataSource;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -32,7 +34,13 @@ import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
  * should be initialized only once.
  */
 public class SqlSessionFactoryHelper {
+  public static final ImmutableMap<String, String> CONNECTION_POOLS =
+      ImmutableMap.of(
+          Configs.DEFAULT_ENTITY_RELATIONAL_POOL_IMPL, DBCPConnectionPool.class.getCanonicalName());
+
   private static volatile SqlSessionFactory sqlSessionFactory;
+  private static ConnectionPool connectionPool;
+  private static JdbcConnectionPoolMetricsSource metricsSource;
   private static final SqlSessionFactoryHelper INSTANCE = new SqlSessionFactoryHelper();
 
   public static SqlSessionFactoryHelper getInstance() {
@@ -46,51 +54,38 @@ public class SqlSessionFactoryHelper {
    *
    * @param config Config object to get the jdbc connection details from the config.
    */
-  @SuppressWarnings("deprecation")
   public void init(Config config) {
-    // Initialize the data source
-    BasicDataSource dataSource = new BasicDataSource();
-    dataSource.setUrl(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL));
-    dataSource.setDriverClassName(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER));
-    dataSource.setUsername(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER));
-    dataSource.setPassword(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD));
-    // Close the auto commit, so that we can control the transaction manual commit
-    dataSource.setDefaultAutoCommit(false);
-    dataSource.setMaxWaitMillis(1000L);
-    dataSource.setMaxTotal(20);
-    dataSource.setMaxIdle(5);
-    dataSource.setMinIdle(0);
-    dataSource.setLogAbandoned(true);
-    dataSource.setRemoveAbandonedOnBorrow(true);
-    dataSource.setRemoveAbandonedTimeout(60);
-    dataSource.setTimeBetweenEvictionRunsMillis(Duration.ofMillis(10 * 60 * 1000L).toMillis());
-    dataSource.setTestOnBorrow(BaseObjectPoolConfig.DEFAULT_TEST_ON_BORROW);
-    dataSource.setTestWhileIdle(BaseObjectPoolConfig.DEFAULT_TEST_WHILE_IDLE);
-    dataSource.setMinEvictableIdleTimeMillis(1000);
-    dataSource.setNumTestsPerEvictionRun(BaseObjectPoolConfig.DEFAULT_NUM_TESTS_PER_EVICTION_RUN);
-    dataSource.setTestOnReturn(BaseObjectPoolConfig.DEFAULT_TEST_ON_RETURN);
-    dataSource.setSoftMinEvictableIdleTimeMillis(
-        BaseObjectPoolConfig.DEFAULT_SOFT_MIN_EVICTABLE_IDLE_TIME.toMillis());
-    dataSource.setLifo(BaseObjectPoolConfig.DEFAULT_LIFO);
-
-    // Create the transaction factory and env
-    TransactionFactory transactionFactory = new JdbcTransactionFactory();
-    Environment environment = new Environment("development", transactionFactory, dataSource);
-
-    // Initialize the configuration
-    Configuration configuration = new Configuration(environment);
-    configuration.addMapper(MetalakeMetaMapper.class);
-    configuration.addMapper(CatalogMetaMapper.class);
-    configuration.addMapper(SchemaMetaMapper.class);
-    configuration.addMapper(TableMetaMapper.class);
-    configuration.addMapper(FilesetMetaMapper.class);
-    configuration.addMapper(FilesetVersionMapper.class);
-    configuration.addMapper(TopicMetaMapper.class);
-
     // Create the SqlSessionFactory object, it is a singleton object
     if (sqlSessionFactory == null) {
       synchronized (SqlSessionFactoryHelper.class) {
         if (sqlSessionFactory == null) {
+          ConnectionPool pool = createConnectionPool(config);
+          JdbcConnectionPoolMetricsSource poolMetricsSource =
+              new JdbcConnectionPoolMetricsSource(pool);
+          DataSource dataSource =
+              new InstrumentedDataSource(pool.getDataSource(), poolMetricsSource.waitTimeMs());
+
+          // Create the transaction factory and env
+          TransactionFactory transactionFactory = new JdbcTransactionFactory();
+          Environment environment =
+              new Environment("development", transactionFactory, dataSource);
+
+          // Initialize the configuration
+          Configuration configuration = new Configuration(environment);
+          configuration.addMapper(MetalakeMetaMapper.class);
+          configuration.addMapper(CatalogMetaMapper.class);
+          configuration.addMapper(SchemaMetaMapper.class);
+          configuration.addMapper(TableMetaMapper.class);
+          configuration.addMapper(FilesetMetaMapper.class);
+          configuration.addMapper(FilesetVersionMapper.class);
+          configuration.addMapper(TopicMetaMapper.class);
+
+          MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+          if (metricsSystem != null) {
+            metricsSystem.register(poolMetricsSource);
+          }
+          connectionPool = pool;
+          metricsSource = poolMetricsSource;
           sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
         }
       }
@@ -106,17 +101,34 @@ public class SqlSessionFactoryHelper {
     if (sqlSessionFactory != null) {
       synchronized (SqlSessionFactoryHelper.class) {
         if (sqlSessionFactory != null) {
+          MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+          if (metricsSystem != null) {
+            metricsSystem.unregister(metricsSource);
+          }
           try {
-            BasicDataSource dataSource =
-                (BasicDataSource)
-                    sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
-            dataSource.close();
-          } catch (SQLException e) {
+            connectionPool.close();
+          } catch (IOException e) {
             // silently ignore the error report
           }
+          connectionPool = null;
+          metricsSource = null;
           sqlSessionFactory = null;
         }
       }
     }
   }
+
+  private static ConnectionPool createConnectionPool(Config config) {
+    String poolName = config.get(Configs.ENTITY_RELATIONAL_POOL_IMPL);
+    String className = CONNECTION_POOLS.getOrDefault(poolName, poolName);
+
+    ConnectionPool pool;
+    try {
+      pool = (ConnectionPool) Class.forName(className).getDeclaredConstructor().newInstance();
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to create the JDBC connection pool: " + poolName, e);
+    }
+    pool.initialize(config);
+    return pool;
+  }
 }
@@ -5,8 +5,10 @@
 package com.datastrato.gravitino.storage.relational.utils;
 
 import com.datastrato.gravitino.Entity;
+import com.datastrato.gravitino.HasIdentifier;
 import com.datastrato.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import java.sql.SQLException;
+import java.util.List;
 
 public class ExceptionUtils {
   private ExceptionUtils() {}
@@ -18,4 +20,19 @@ public class ExceptionUtils {
           .toGravitinoException((SQLException) re.getCause(), type, entityName);
     }
   }
+
+  /**
+   * Get the name of the entities written in a batch to report in the exception, it doesn't list
+   * all the entities since a batch may contain thousands of them.
+   *
+   * @param entities The entities written in a batch.
+   * @return The name of the batch.
+   */
+  public static String batchEntityName(List<? extends HasIdentifier> entities) {
+    if (entities.size() == 1) {
+      return entities.get(0).nameIdentifier().toString();
+    }
+    return String.format(
+        "one of %d entities starting from %s", entities.size(), entities.get(0).nameIdentifier());
+  }
 }
@@ -14,6 +14,7 @@ import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.JavaVersion;
 import org.apache.commons.lang3.SystemUtils;
@@ -37,10 +38,12 @@ public class IsolatedClassLoader implements Closeable {
 
   private final List<String> barrierClasses;
 
-  private URLClassLoader classLoader;
+  private volatile URLClassLoader classLoader;
 
   private final ClassLoader baseClassLoader;
 
+  private final LongAdder loadedClassCount = new LongAdder();
+
   /**
    * Constructs an IsolatedClassLoader with the provided parameters.
    *
@@ -67,9 +70,10 @@ public class IsolatedClassLoader implements Closeable {
    */
   public <T> T withClassLoader(ThrowableFunction<ClassLoader, T> fn) throws Exception {
     ClassLoader original = Thread.currentThread().getContextClassLoader();
-    Thread.currentThread().setContextClassLoader(classLoader());
+    URLClassLoader isolatedClassLoader = classLoader();
+    Thread.currentThread().setContextClassLoader(isolatedClassLoader);
     try {
-      return fn.apply(classLoader());
+      return fn.apply(isolatedClassLoader);
     } finally {
       Thread.currentThread().setContextClassLoader(original);
     }
@@ -131,6 +135,11 @@ public class IsolatedClassLoader implements Closeable {
         classPathContents, Collections.emptyList(), Collections.emptyList());
   }
 
+  /** @return The number of the classes defined by this class loader. */
+  public long getLoadedClassCount() {
+    return loadedClassCount.sum();
+  }
+
   /** Closes the class loader. */
   @Override
   public void close() {
@@ -162,6 +171,13 @@ public class IsolatedClassLoader implements Closeable {
       }
     }
 
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      Class<?> clazz = super.findClass(name);
+      loadedClassCount.increment();
+      return clazz;
+    }
+
     private Class<?> doLoadClass(String name, boolean resolve) throws Exception {
       if (isBarrierClass(name)) {
         // For barrier classes, copy the class bytecode and reconstruct the class.
@@ -169,7 +185,9 @@ public class IsolatedClassLoader implements Closeable {
           LOG.debug("barrier class: {}", name);
         }
         byte[] bytes = loadClassBytes(name);
-        return defineClass(name, bytes, 0, bytes.length);
+        Class<?> clazz = defineClass(name, bytes, 0, bytes.length);
+        loadedClassCount.increment();
+        return clazz;
 
       } else if (!isSharedClass(name)) {
         if (LOG.isDebugEnabled()) {
@@ -192,15 +210,23 @@ public class IsolatedClassLoader implements Closeable {
     }
   }
 
-  private synchronized URLClassLoader classLoader() throws Exception {
-    if (classLoader != null) {
-      return classLoader;
+  private URLClassLoader classLoader() throws Exception {
+    // The class loader is created only once, avoid taking the monitor on every call since it's
+    // on the path of every catalog operation, and a monitor held by a virtual thread pins its
+    // carrier thread.
+    URLClassLoader loader = classLoader;
+    if (loader != null) {
+      return loader;
     }
 
-    ClassLoader parent = Thread.currentThread().getContextClassLoader();
-    this.classLoader =
-        new CustomURLClassLoader(execJars.toArray(new URL[0]), parent, baseClassLoader);
-    return classLoader;
+    synchronized (this) {
+      if (classLoader == null) {
+        ClassLoader parent = Thread.currentThread().getContextClassLoader();
+        this.classLoader =
+            new CustomURLClassLoader(execJars.toArray(new URL[0]), parent, baseClassLoader);
+      }
+      return classLoader;
+    }
   }
 
   /**
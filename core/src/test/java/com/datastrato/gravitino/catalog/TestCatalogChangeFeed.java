@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.listener.api.event.CreateCatalogEvent;
+import com.datastrato.gravitino.listener.api.event.DropMetalakeEvent;
+import com.datastrato.gravitino.listener.api.event.LoadCatalogEvent;
+import com.google.common.collect.ImmutableSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogChangeFeed {
+
+  @Test
+  public void testGetChanges() throws Exception {
+    CatalogChangeFeed feed = new CatalogChangeFeed(100, 1000L, 10);
+
+    // The first call only gets the version.
+    CatalogChangeFeed.Changes changes = feed.getChanges("metalake1", -1, 0);
+    Assertions.assertTrue(changes.reset());
+    long version = changes.version();
+
+    feed.onPostEvent(
+        new CreateCatalogEvent("user", NameIdentifier.ofCatalog("metalake1", "catalog1"), null));
+    feed.onPostEvent(
+        new CreateCatalogEvent("user", NameIdentifier.ofCatalog("metalake2", "catalog2"), null));
+    feed.onPostEvent(
+        new LoadCatalogEvent("user", NameIdentifier.ofCatalog("metalake1", "catalog3"), null));
+
+    changes = feed.getChanges("metalake1", version, 0);
+    Assertions.assertFalse(changes.reset());
+    Assertions.assertEquals(ImmutableSet.of("catalog1"), changes.catalogs());
+    Assertions.assertEquals(version + 2, changes.version());
+
+    changes = feed.getChanges("metalake1", changes.version(), 0);
+    Assertions.assertTrue(changes.catalogs().isEmpty());
+
+    // The changes of a dropped metalake reset all the catalogs.
+    feed.onPostEvent(new DropMetalakeEvent("user", NameIdentifier.ofMetalake("metalake2"), true));
+    Assertions.assertTrue(feed.getChanges("metalake2", version + 2, 0).reset());
+
+    // The changes of the versions from another server process are unknown.
+    Assertions.assertTrue(feed.getChanges("metalake1", version + 100, 0).reset());
+    CatalogChangeFeed otherFeed = new CatalogChangeFeed(100, 1000L, 10);
+    long otherVersion = otherFeed.getChanges("metalake1", -1, 0).version();
+    otherFeed.addChange("metalake1", "catalog4");
+    Assertions.assertTrue(feed.getChanges("metalake1", otherVersion, 0).reset());
+  }
+
+  @Test
+  public void testResetAfterChangesEvicted() throws Exception {
+    CatalogChangeFeed feed = new CatalogChangeFeed(2, 1000L, 10);
+    long version = feed.getChanges("metalake1", -1, 0).version();
+
+    feed.addChange("metalake1", "catalog1");
+    Assertions.assertFalse(feed.getChanges("metalake1", version, 0).reset());
+    feed.addChange("metalake1", "catalog2");
+    feed.addChange("metalake1", "catalog3");
+
+    Assertions.assertTrue(feed.getChanges("metalake1", version, 0).reset());
+    CatalogChangeFeed.Changes changes = feed.getChanges("metalake1", version + 1, 0);
+    Assertions.assertFalse(changes.reset());
+    Assertions.assertEquals(ImmutableSet.of("catalog2", "catalog3"), changes.catalogs());
+  }
+
+  @Test
+  public void testWaitForChanges() throws Exception {
+    CatalogChangeFeed feed = new CatalogChangeFeed(100, 60 * 1000L, 10);
+    long version = feed.getChanges("metalake1", -1, 0).version();
+
+    CompletableFuture<CatalogChangeFeed.Changes> future =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return feed.getChanges("metalake1", version, 60 * 1000L);
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    feed.addChange("metalake1", "catalog1");
+
+    CatalogChangeFeed.Changes changes = future.get(10, TimeUnit.SECONDS);
+    Assertions.assertEquals(ImmutableSet.of("catalog1"), changes.catalogs());
+
+    // The request doesn't wait if there are too many waiting requests.
+    CatalogChangeFeed noWaiterFeed = new CatalogChangeFeed(100, 60 * 1000L, 0);
+    long noWaiterVersion = noWaiterFeed.getChanges("metalake1", -1, 0).version();
+    Assertions.assertTrue(
+        noWaiterFeed.getChanges("metalake1", noWaiterVersion, 60 * 1000L).catalogs().isEmpty());
+  }
+}
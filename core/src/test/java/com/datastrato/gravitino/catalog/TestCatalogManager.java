@@ -14,6 +14,7 @@ import com.datastrato.gravitino.EntityStore;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.StringIdentifier;
+import com.datastrato.gravitino.connector.HasPropertyMetadata;
 import com.datastrato.gravitino.exceptions.CatalogAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
 import com.datastrato.gravitino.exceptions.NoSuchMetalakeException;
@@ -24,12 +25,18 @@ import com.datastrato.gravitino.storage.RandomIdGenerator;
 import com.datastrato.gravitino.storage.memory.TestMemoryEntityStore;
 import com.datastrato.gravitino.storage.memory.TestMemoryEntityStore.InMemoryEntityStore;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -416,6 +423,93 @@ public class TestCatalogManager {
     Assertions.assertNotNull(catalogManager.catalogCache.getIfPresent(ident));
   }
 
+  @Test
+  public void testCatalogVersion() {
+    NameIdentifier ident = NameIdentifier.of("metalake", "test_version");
+    Map<String, String> props = ImmutableMap.of("provider", "test");
+    catalogManager.createCatalog(ident, Catalog.Type.RELATIONAL, provider, "comment", props);
+
+    String version = catalogManager.catalogVersion(ident);
+    Assertions.assertNotNull(version);
+    // The version is the same whether the catalog is loaded or not.
+    catalogManager.loadCatalog(ident);
+    Assertions.assertEquals(version, catalogManager.catalogVersion(ident));
+
+    catalogManager.alterCatalog(ident, CatalogChange.updateComment("new comment"));
+    Assertions.assertNotEquals(version, catalogManager.catalogVersion(ident));
+
+    NameIdentifier nonExisted = NameIdentifier.of("metalake", "test_version1");
+    Assertions.assertNull(catalogManager.catalogVersion(nonExisted));
+  }
+
+  @Test
+  public void testInitializeCatalogs() throws Exception {
+    NameIdentifier ident1 = NameIdentifier.of("metalake", "test23");
+    NameIdentifier ident2 = NameIdentifier.of("metalake", "test24");
+    Map<String, String> props = ImmutableMap.of("provider", "test");
+    catalogManager.createCatalog(ident1, Catalog.Type.RELATIONAL, provider, "comment", props);
+    catalogManager.createCatalog(ident2, Catalog.Type.RELATIONAL, provider, "comment", props);
+
+    // The catalogs failed to initialize don't fail the others.
+    catalogManager.catalogCache.invalidateAll();
+    NameIdentifier nonExisted = NameIdentifier.of("metalake", "test25");
+    catalogManager
+        .initializeCatalogs(Lists.newArrayList(ident1, ident2, nonExisted))
+        .get(10, TimeUnit.SECONDS);
+    Assertions.assertNotNull(catalogManager.catalogCache.getIfPresent(ident1));
+    Assertions.assertNotNull(catalogManager.catalogCache.getIfPresent(ident2));
+    Assertions.assertNull(catalogManager.catalogCache.getIfPresent(nonExisted));
+
+    catalogManager.catalogCache.invalidateAll();
+    catalogManager.initializeAllCatalogs().get(10, TimeUnit.SECONDS);
+    Assertions.assertNotNull(catalogManager.catalogCache.getIfPresent(ident1));
+    Assertions.assertNotNull(catalogManager.catalogCache.getIfPresent(ident2));
+
+    // The concurrent loads of the same catalog share one initialization.
+    catalogManager.catalogCache.invalidateAll();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<CatalogManager.CatalogWrapper>> futures = Lists.newArrayList();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> catalogManager.loadCatalogAndWrap(ident1)));
+      }
+      CatalogManager.CatalogWrapper wrapper = futures.get(0).get(10, TimeUnit.SECONDS);
+      for (Future<CatalogManager.CatalogWrapper> future : futures) {
+        Assertions.assertSame(wrapper, future.get(10, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCatalogWrapperCache() throws Exception {
+    NameIdentifier ident = NameIdentifier.of("metalake", "test26");
+    Map<String, String> props =
+        ImmutableMap.<String, String>builder()
+            .put("key1", "value1")
+            .put("key2", "value2")
+            .put("mock", "mock")
+            .build();
+    catalogManager.createCatalog(ident, Catalog.Type.RELATIONAL, provider, "comment", props);
+
+    CatalogManager.CatalogWrapper wrapper = catalogManager.loadCatalogAndWrap(ident);
+    Assertions.assertSame(wrapper.capabilities(), wrapper.capabilities());
+
+    Map<String, String> properties = ImmutableMap.of("key1", "value1", "hidden_key", "value");
+    Assertions.assertEquals(
+        Sets.newHashSet("hidden_key"),
+        wrapper.getHiddenPropertyNames(HasPropertyMetadata::catalogPropertiesMetadata, properties));
+    Assertions.assertEquals(
+        Sets.newHashSet("hidden_key"),
+        wrapper.getHiddenPropertyNames(HasPropertyMetadata::catalogPropertiesMetadata, properties));
+    Assertions.assertTrue(
+        wrapper
+            .getHiddenPropertyNames(
+                HasPropertyMetadata::catalogPropertiesMetadata, ImmutableMap.of("key1", "value1"))
+            .isEmpty());
+  }
+
   @Test
   public void testAlterCatalog() {
     NameIdentifier ident = NameIdentifier.of("metalake", "test31");
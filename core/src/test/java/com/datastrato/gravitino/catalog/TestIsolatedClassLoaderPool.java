@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.catalog;
+
+import com.datastrato.gravitino.utils.IsolatedClassLoader;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestIsolatedClassLoaderPool {
+
+  private static final List<String> HIVE_PATHS = Lists.newArrayList("/hive/libs", "/hive/conf");
+
+  private static Supplier<IsolatedClassLoader> factory(AtomicInteger created) {
+    return () -> {
+      created.incrementAndGet();
+      return new IsolatedClassLoader(
+          Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    };
+  }
+
+  @Test
+  public void testShareClassLoader() {
+    AtomicInteger created = new AtomicInteger();
+    try (IsolatedClassLoaderPool pool = new IsolatedClassLoaderPool(60 * 1000L)) {
+      IsolatedClassLoader classLoader1 = pool.acquire("hive", HIVE_PATHS, factory(created));
+      IsolatedClassLoader classLoader2 = pool.acquire("hive", HIVE_PATHS, factory(created));
+      Assertions.assertSame(classLoader1, classLoader2);
+      Assertions.assertEquals(1, created.get());
+      Assertions.assertEquals(1, pool.getClassLoaderCount("hive"));
+      Assertions.assertEquals(2, pool.getReferenceCount("hive"));
+
+      // The catalogs of the other providers or loaded from the other paths don't share it.
+      IsolatedClassLoader classLoader3 =
+          pool.acquire("hive", Lists.newArrayList("/other/libs", "/other/conf"), factory(created));
+      IsolatedClassLoader classLoader4 = pool.acquire("hadoop", HIVE_PATHS, factory(created));
+      Assertions.assertNotSame(classLoader1, classLoader3);
+      Assertions.assertNotSame(classLoader1, classLoader4);
+      Assertions.assertEquals(3, created.get());
+      Assertions.assertEquals(2, pool.getClassLoaderCount("hive"));
+      Assertions.assertEquals(1, pool.getClassLoaderCount("hadoop"));
+
+      // The unused class loader is kept before the idle timeout.
+      pool.release(classLoader1);
+      pool.release(classLoader2);
+      Assertions.assertEquals(1, pool.getReferenceCount("hive"));
+      Assertions.assertEquals(2, pool.getClassLoaderCount("hive"));
+      Assertions.assertSame(classLoader1, pool.acquire("hive", HIVE_PATHS, factory(created)));
+      Assertions.assertEquals(3, created.get());
+    }
+  }
+
+  @Test
+  public void testEvictIdleClassLoader() {
+    AtomicInteger created = new AtomicInteger();
+    try (IsolatedClassLoaderPool pool = new IsolatedClassLoaderPool(0)) {
+      IsolatedClassLoader classLoader = pool.acquire("hive", HIVE_PATHS, factory(created));
+      pool.release(classLoader);
+      Assertions.assertEquals(0, pool.getClassLoaderCount("hive"));
+
+      Assertions.assertNotSame(classLoader, pool.acquire("hive", HIVE_PATHS, factory(created)));
+      Assertions.assertEquals(2, created.get());
+      Assertions.assertEquals(0, pool.getLoadedClassCount("hadoop"));
+    }
+  }
+
+  @Test
+  public void testIsShareable() {
+    Assertions.assertTrue(IsolatedClassLoaderPool.isShareable(ImmutableMap.of()));
+    Assertions.assertTrue(
+        IsolatedClassLoaderPool.isShareable(ImmutableMap.of("metastore.uris", "thrift://host")));
+    Assertions.assertTrue(
+        IsolatedClassLoaderPool.isShareable(
+            ImmutableMap.of("gravitino.bypass.hadoop.security.authentication", "simple")));
+
+    // The catalogs configuring their authentication use their own class loaders.
+    Assertions.assertFalse(
+        IsolatedClassLoaderPool.isShareable(ImmutableMap.of("kerberos.principal", "user@REALM")));
+    Assertions.assertFalse(
+        IsolatedClassLoaderPool.isShareable(ImmutableMap.of("authentication.type", "kerberos")));
+    Assertions.assertFalse(
+        IsolatedClassLoaderPool.isShareable(
+            ImmutableMap.of("gravitino.bypass.hadoop.security.authentication", "kerberos")));
+  }
+}
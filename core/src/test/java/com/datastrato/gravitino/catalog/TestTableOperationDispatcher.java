@@ -12,6 +12,9 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
@@ -182,6 +185,37 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", loadedTable4.auditInfo().creator());
   }
 
+  @Test
+  public void testCreateAndLoadTables() throws IOException {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema53");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder().withName("col1").withType(Types.StringType.get()).build()
+        };
+    NameIdentifier tableIdent1 = NameIdentifier.of(tableNs, "table31");
+    NameIdentifier tableIdent2 = NameIdentifier.of(tableNs, "table32");
+    tableOperationDispatcher.createTable(tableIdent1, columns, "comment", props, new Transform[0]);
+    tableOperationDispatcher.createTable(tableIdent2, columns, "comment", props, new Transform[0]);
+
+    // The catalog is loaded once for the tables in it, the missing table is skipped.
+    CatalogManager spiedCatalogManager = spy(catalogManager);
+    TableOperationDispatcher dispatcher =
+        new TableOperationDispatcher(spiedCatalogManager, entityStore, idGenerator);
+    Table[] tables =
+        dispatcher.loadTables(
+            new NameIdentifier[] {tableIdent2, NameIdentifier.of(tableNs, "table33"), tableIdent1});
+    Assertions.assertEquals(2, tables.length);
+    Assertions.assertEquals("table32", tables[0].name());
+    Assertions.assertEquals("table31", tables[1].name());
+    // Audit info is gotten from the entity store
+    Assertions.assertEquals(AuthConstants.ANONYMOUS_USER, tables[0].auditInfo().creator());
+    Assertions.assertFalse(tables[0].properties().containsKey(ID_KEY));
+    verify(spiedCatalogManager, times(1)).loadCatalogAndWrap(NameIdentifier.of(metalake, catalog));
+  }
+
   @Test
   public void testCreateAndAlterTable() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema61");
@@ -10,8 +10,11 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.metrics.source.TreeLockMetricsSource;
 import java.util.Arrays;
 import java.util.List;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -88,4 +91,33 @@ class TestTreeLock {
     Mockito.verify(mockNode2, Mockito.never()).unlock(Mockito.any());
     Mockito.verify(mockNode3, Mockito.never()).unlock(Mockito.any());
   }
+
+  @Test
+  void testAcquireMetrics() {
+    TreeLockMetricsSource metricsSource = lockManager.getMetricsSource();
+    long[] before = new long[6];
+    for (int i = 0; i < before.length; i++) {
+      before[i] = metricsSource.acquireTimer(i).getCount();
+    }
+
+    // Root, metalake, catalog, schema and table.
+    NameIdentifier ident = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    TreeLock treeLock = lockManager.createTreeLock(ident);
+    treeLock.lock(LockType.READ);
+    treeLock.unlock();
+
+    for (int i = 0; i < 5; i++) {
+      Assertions.assertEquals(before[i] + 1, metricsSource.acquireTimer(i).getCount());
+    }
+    Assertions.assertEquals(before[5], metricsSource.acquireTimer(5).getCount());
+    // Deeper nodes share the timer of the max tracked depth.
+    Assertions.assertSame(metricsSource.acquireTimer(5), metricsSource.acquireTimer(10));
+
+    // Each acquisition creates its own tree lock from the lock manager, as a tree lock releases
+    // the references of its nodes on unlocking.
+    TreeLock anotherTreeLock = lockManager.createTreeLock(ident);
+    anotherTreeLock.lock(LockType.WRITE);
+    anotherTreeLock.unlock();
+    Assertions.assertEquals(before[4] + 2, metricsSource.acquireTimer(4).getCount());
+  }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.storage;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.config.ConfigEntry;
+import org.mockito.Mockito;
+
+/**
+ * Stubs the tuning configs of the entity stores with their default values on a mocked {@link
+ * Config}, the tests can stub the configs they care about afterwards to override the defaults.
+ */
+public class StoreConfigTestUtil {
+
+  private StoreConfigTestUtil() {}
+
+  public static void stubKvDefaults(Config config) {
+    stubDefault(config, Configs.ENTITY_KV_ROCKSDB_BLOCK_CACHE_SIZE);
+    stubDefault(config, Configs.ENTITY_KV_ROCKSDB_BLOOM_FILTER_BITS_PER_KEY);
+    stubDefault(config, Configs.ENTITY_KV_ROCKSDB_PREFIX_EXTRACTOR_LENGTH);
+    stubDefault(config, Configs.ENTITY_KV_ROCKSDB_WRITE_BUFFER_SIZE);
+    stubDefault(config, Configs.ENTITY_KV_ROCKSDB_COMPRESSION_PER_LEVEL);
+    stubDefault(config, Configs.ENTITY_KV_ROCKSDB_MAX_BACKGROUND_JOBS);
+    stubDefault(config, Configs.ENTITY_KV_ROCKSDB_STATISTICS_ENABLED);
+    stubDefault(config, Configs.ENTITY_KV_NAME_MAPPING_CACHE_SIZE);
+    stubDefault(config, Configs.ENTITY_KV_NAME_MAPPING_CACHE_EXPIRE_AFTER_WRITE_MS);
+    stubDefault(config, Configs.ENTITY_KV_GC_MAX_COMMITS_PER_CYCLE);
+    stubDefault(config, Configs.ENTITY_KV_GC_THREADS);
+    stubDefault(config, Configs.ENTITY_KV_GC_MAX_DELETES_PER_SECOND);
+  }
+
+  public static void stubRelationalDefaults(Config config) {
+    stubDefault(config, Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_EXPIRE_AFTER_WRITE_MS);
+    stubDefault(config, Configs.ENTITY_RELATIONAL_POOL_IMPL);
+    stubDefault(config, Configs.ENTITY_RELATIONAL_POOL_MAX_TOTAL);
+    stubDefault(config, Configs.ENTITY_RELATIONAL_POOL_MAX_IDLE);
+    stubDefault(config, Configs.ENTITY_RELATIONAL_POOL_MIN_IDLE);
+    stubDefault(config, Configs.ENTITY_RELATIONAL_POOL_MAX_WAIT_MS);
+    stubDefault(config, Configs.ENTITY_RELATIONAL_POOL_STATEMENT_CACHE_SIZE);
+    stubDefault(config, Configs.ENTITY_RELATIONAL_GC_BATCH_SIZE);
+    stubDefault(config, Configs.ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND);
+    stubDefault(config, Configs.STORE_DELETE_AFTER_TIME);
+    stubDefault(config, Configs.VERSION_RETENTION_COUNT);
+  }
+
+  private static <T> void stubDefault(Config config, ConfigEntry<T> entry) {
+    Mockito.doReturn(entry.getDefaultValue()).when(config).get(entry);
+  }
+}
@@ -93,6 +93,7 @@ public class TestEntityStorage {
       } catch (Exception e) {
         // Ignore
       }
+      StoreConfigTestUtil.stubKvDefaults(config);
       Mockito.when(config.get(ENTITY_STORE)).thenReturn("kv");
       Mockito.when(config.get(ENTITY_KV_STORE)).thenReturn(DEFAULT_ENTITY_KV_STORE);
       Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
@@ -107,6 +108,7 @@ public class TestEntityStorage {
         dir.delete();
       }
       dir.mkdirs();
+      StoreConfigTestUtil.stubRelationalDefaults(config);
       Mockito.when(config.get(ENTITY_STORE)).thenReturn(RELATIONAL_ENTITY_STORE);
       Mockito.when(config.get(ENTITY_RELATIONAL_STORE)).thenReturn(DEFAULT_ENTITY_RELATIONAL_STORE);
       Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
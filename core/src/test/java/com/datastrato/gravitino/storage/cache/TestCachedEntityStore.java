@@ -0,0 +1,180 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.storage.cache;
+
+import static com.datastrato.gravitino.storage.TestEntityStorage.createCatalog;
+import static com.datastrato.gravitino.storage.TestEntityStorage.createSchemaEntity;
+import static com.datastrato.gravitino.storage.TestEntityStorage.createTableEntity;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.Entity.EntityType;
+import com.datastrato.gravitino.EntityStore;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.meta.AuditInfo;
+import com.datastrato.gravitino.meta.CatalogEntity;
+import com.datastrato.gravitino.meta.SchemaEntity;
+import com.datastrato.gravitino.meta.TableEntity;
+import com.datastrato.gravitino.utils.Executable;
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestCachedEntityStore {
+
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  private static final CatalogEntity CATALOG =
+      createCatalog(1L, Namespace.of("metalake"), "catalog", AUDIT_INFO);
+
+  private static final SchemaEntity SCHEMA =
+      createSchemaEntity(2L, Namespace.of("metalake", "catalog"), "schema", AUDIT_INFO);
+
+  private static final TableEntity TABLE =
+      createTableEntity(3L, Namespace.of("metalake", "catalog", "schema"), "table", AUDIT_INFO);
+
+  private EntityStore delegate;
+
+  private CachedEntityStore store;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_IMPL))
+        .thenReturn(Configs.DEFAULT_ENTITY_STORE_CACHE_IMPL);
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_MAX_WEIGHT))
+        .thenReturn(Configs.DEFAULT_ENTITY_STORE_CACHE_MAX_WEIGHT);
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_EXPIRE_AFTER_WRITE_MS))
+        .thenReturn(Configs.DEFAULT_ENTITY_STORE_CACHE_EXPIRE_AFTER_WRITE_MS);
+
+    delegate = Mockito.mock(EntityStore.class);
+    Mockito.when(delegate.get(CATALOG.nameIdentifier(), EntityType.CATALOG, CatalogEntity.class))
+        .thenReturn(CATALOG);
+    Mockito.when(delegate.get(SCHEMA.nameIdentifier(), EntityType.SCHEMA, SchemaEntity.class))
+        .thenReturn(SCHEMA);
+    Mockito.when(delegate.get(TABLE.nameIdentifier(), EntityType.TABLE, TableEntity.class))
+        .thenReturn(TABLE);
+    Mockito.when(delegate.executeInTransaction(Mockito.any()))
+        .thenAnswer(invocation -> ((Executable<?, ?>) invocation.getArgument(0)).execute());
+
+    store = new CachedEntityStore(delegate);
+    store.initialize(config);
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    store.close();
+  }
+
+  @Test
+  public void testGetFromCache() throws IOException {
+    for (int i = 0; i < 3; i++) {
+      Assertions.assertEquals(
+          TABLE, store.get(TABLE.nameIdentifier(), EntityType.TABLE, TableEntity.class));
+    }
+    Mockito.verify(delegate, Mockito.times(1))
+        .get(TABLE.nameIdentifier(), EntityType.TABLE, TableEntity.class);
+    Assertions.assertEquals(1, store.getCache().missCount());
+    Assertions.assertEquals(2, store.getCache().hitCount());
+
+    Assertions.assertTrue(store.exists(TABLE.nameIdentifier(), EntityType.TABLE));
+    Mockito.verify(delegate, Mockito.never()).exists(TABLE.nameIdentifier(), EntityType.TABLE);
+  }
+
+  @Test
+  public void testBatchGet() throws IOException {
+    TableEntity table2 =
+        createTableEntity(4L, Namespace.of("metalake", "catalog", "schema"), "table2", AUDIT_INFO);
+    NameIdentifier missing = NameIdentifier.of("metalake", "catalog", "schema", "table3");
+    Mockito.when(
+            delegate.batchGet(
+                Lists.newArrayList(table2.nameIdentifier(), missing),
+                EntityType.TABLE,
+                TableEntity.class))
+        .thenReturn(Lists.newArrayList(table2));
+
+    // The cached table is served from the cache, the others are fetched in one batch.
+    store.get(TABLE.nameIdentifier(), EntityType.TABLE, TableEntity.class);
+    List<TableEntity> tables =
+        store.batchGet(
+            Lists.newArrayList(table2.nameIdentifier(), TABLE.nameIdentifier(), missing),
+            EntityType.TABLE,
+            TableEntity.class);
+    Assertions.assertEquals(Lists.newArrayList(table2, TABLE), tables);
+    Mockito.verify(delegate, Mockito.times(1))
+        .batchGet(
+            Lists.newArrayList(table2.nameIdentifier(), missing),
+            EntityType.TABLE,
+            TableEntity.class);
+  }
+
+  @Test
+  public void testInvalidateOnWrite() throws IOException {
+    NameIdentifier tableIdent = TABLE.nameIdentifier();
+    store.get(tableIdent, EntityType.TABLE, TableEntity.class);
+    store.put(TABLE, true);
+    Assertions.assertFalse(store.getCache().contains(tableIdent, EntityType.TABLE));
+
+    store.get(tableIdent, EntityType.TABLE, TableEntity.class);
+    store.update(tableIdent, TableEntity.class, EntityType.TABLE, e -> e);
+    Assertions.assertFalse(store.getCache().contains(tableIdent, EntityType.TABLE));
+
+    store.get(tableIdent, EntityType.TABLE, TableEntity.class);
+    store.delete(tableIdent, EntityType.TABLE);
+    Assertions.assertFalse(store.getCache().contains(tableIdent, EntityType.TABLE));
+  }
+
+  @Test
+  public void testInvalidateSubEntities() throws IOException {
+    store.get(CATALOG.nameIdentifier(), EntityType.CATALOG, CatalogEntity.class);
+    store.get(SCHEMA.nameIdentifier(), EntityType.SCHEMA, SchemaEntity.class);
+    store.get(TABLE.nameIdentifier(), EntityType.TABLE, TableEntity.class);
+
+    // Dropping the schema invalidates the table under it but not the catalog.
+    store.delete(SCHEMA.nameIdentifier(), EntityType.SCHEMA, true);
+    Assertions.assertTrue(store.getCache().contains(CATALOG.nameIdentifier(), EntityType.CATALOG));
+    Assertions.assertFalse(store.getCache().contains(SCHEMA.nameIdentifier(), EntityType.SCHEMA));
+    Assertions.assertFalse(store.getCache().contains(TABLE.nameIdentifier(), EntityType.TABLE));
+
+    // Renaming the catalog invalidates all the entities under it.
+    store.get(SCHEMA.nameIdentifier(), EntityType.SCHEMA, SchemaEntity.class);
+    store.get(TABLE.nameIdentifier(), EntityType.TABLE, TableEntity.class);
+    CatalogEntity renamed = createCatalog(1L, Namespace.of("metalake"), "catalog2", AUDIT_INFO);
+    Mockito.when(
+            delegate.update(
+                Mockito.eq(CATALOG.nameIdentifier()),
+                Mockito.eq(CatalogEntity.class),
+                Mockito.eq(EntityType.CATALOG),
+                Mockito.any()))
+        .thenReturn(renamed);
+    store.update(CATALOG.nameIdentifier(), CatalogEntity.class, EntityType.CATALOG, e -> renamed);
+    Assertions.assertEquals(0, store.getCache().size());
+  }
+
+  @Test
+  public void testBypassCacheInTransaction() throws IOException {
+    NameIdentifier tableIdent = TABLE.nameIdentifier();
+    store.executeInTransaction(
+        () -> store.get(tableIdent, EntityType.TABLE, TableEntity.class));
+    Assertions.assertFalse(store.getCache().contains(tableIdent, EntityType.TABLE));
+
+    store.get(tableIdent, EntityType.TABLE, TableEntity.class);
+    store.executeInTransaction(
+        () -> {
+          store.put(TABLE, true);
+          return null;
+        });
+    Assertions.assertFalse(store.getCache().contains(tableIdent, EntityType.TABLE));
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.storage.kv;
+
+import com.google.common.collect.Lists;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TestCommitRecordCodec {
+
+  private static List<byte[]> keys(int count, int length) {
+    List<byte[]> keys = Lists.newArrayList();
+    for (int i = 0; i < count; i++) {
+      byte[] key = new byte[length];
+      for (int j = 0; j < length; j++) {
+        key[j] = (byte) (i + j);
+      }
+      keys.add(key);
+    }
+    return keys;
+  }
+
+  private static void assertKeysEquals(List<byte[]> expected, List<byte[]> actual) {
+    Assertions.assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      Assertions.assertArrayEquals(expected.get(i), actual.get(i));
+    }
+  }
+
+  @Test
+  void testEncodeAndDecode() {
+    List<byte[]> empty = Collections.emptyList();
+    assertKeysEquals(empty, CommitRecordCodec.decode(CommitRecordCodec.encode(empty)));
+
+    // Covers the one byte and the multi bytes varint lengths.
+    List<byte[]> keys = keys(3, 20);
+    keys.add(new byte[0]);
+    keys.add(new byte[300]);
+    keys.add("metalake".getBytes(StandardCharsets.UTF_8));
+    byte[] record = CommitRecordCodec.encode(keys);
+    Assertions.assertEquals(CommitRecordCodec.BINARY_FORMAT_V1, record[0]);
+    Assertions.assertFalse(CommitRecordCodec.isLegacyFormat(record));
+    assertKeysEquals(keys, CommitRecordCodec.decode(record));
+
+    List<byte[]> manyKeys = keys(1000, 30);
+    assertKeysEquals(manyKeys, CommitRecordCodec.decode(CommitRecordCodec.encode(manyKeys)));
+  }
+
+  @Test
+  void testDecodeLegacyFormat() {
+    List<byte[]> keys = keys(5, 24);
+    byte[] legacyRecord = CommitRecordCodec.encodeLegacy(keys);
+    Assertions.assertTrue(CommitRecordCodec.isLegacyFormat(legacyRecord));
+    assertKeysEquals(keys, CommitRecordCodec.decode(legacyRecord));
+  }
+
+  @Test
+  void testEncodedSize() {
+    // A typical transaction writes the entity and its name mappings, the binary format only adds
+    // a few bytes to the keys while the Java serialization adds the class descriptors.
+    List<byte[]> keys = keys(3, 24);
+    byte[] record = CommitRecordCodec.encode(keys);
+    Assertions.assertEquals(1 + 1 + 3 * (1 + 24), record.length);
+    Assertions.assertTrue(record.length < CommitRecordCodec.encodeLegacy(keys).length);
+  }
+
+  @Test
+  void testDecodeBrokenRecord() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> CommitRecordCodec.decode(new byte[0]));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> CommitRecordCodec.decode(new byte[] {0x7F}));
+
+    byte[] record = CommitRecordCodec.encode(keys(2, 10));
+    byte[] truncated = new byte[record.length - 1];
+    System.arraycopy(record, 0, truncated, 0, truncated.length);
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> CommitRecordCodec.decode(truncated));
+  }
+}
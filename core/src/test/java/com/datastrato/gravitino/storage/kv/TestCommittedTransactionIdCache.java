@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.storage.kv;
+
+import static com.datastrato.gravitino.Configs.ENTRY_KV_ROCKSDB_BACKEND_PATH;
+import static com.datastrato.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.storage.StoreConfigTestUtil;
+import com.datastrato.gravitino.storage.TransactionIdGenerator;
+import com.datastrato.gravitino.utils.ByteUtils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestCommittedTransactionIdCache {
+
+  private Config config;
+  private KvBackend kvBackend;
+  private TransactionIdGenerator transactionIdGenerator;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    File baseDir = new File(System.getProperty("java.io.tmpdir"));
+    File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
+    file.deleteOnExit();
+    config = Mockito.mock(Config.class);
+    StoreConfigTestUtil.stubKvDefaults(config);
+    Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
+    Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3000L);
+
+    kvBackend = Mockito.spy(new RocksDBKvBackend());
+    kvBackend.initialize(config);
+    transactionIdGenerator = new TransactionIdGeneratorImpl(kvBackend, config);
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    transactionIdGenerator.close();
+    kvBackend.close();
+  }
+
+  @Test
+  public void testVisibilityCheckUsesCache() throws IOException {
+    TransactionalKvBackendImpl transactionalKvBackend =
+        new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+    transactionalKvBackend.begin();
+    for (int i = 0; i < 10; i++) {
+      transactionalKvBackend.put(bytes("key" + i), bytes("value" + i), false);
+    }
+    transactionalKvBackend.commit();
+
+    // The transaction is cached as committed when it's committed, so the commit mark is never read.
+    transactionalKvBackend.begin();
+    List<Pair<byte[], byte[]>> pairs =
+        transactionalKvBackend.scan(
+            new KvRange.KvRangeBuilder()
+                .start(bytes("key"))
+                .end(bytes("kez"))
+                .startInclusive(true)
+                .endInclusive(false)
+                .limit(100)
+                .build());
+    Assertions.assertEquals(10, pairs.size());
+    Assertions.assertEquals("value3", new String(transactionalKvBackend.get(bytes("key3"))));
+    Mockito.verify(kvBackend, Mockito.never()).get(Mockito.any());
+  }
+
+  @Test
+  public void testRecover() throws IOException {
+    TransactionalKvBackendImpl transactionalKvBackend =
+        new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+    long[] committedIds = new long[3];
+    for (int i = 0; i < committedIds.length; i++) {
+      transactionalKvBackend.begin();
+      committedIds[i] = transactionalKvBackend.txId.get();
+      transactionalKvBackend.put(bytes("key" + i), bytes("value" + i), true);
+      transactionalKvBackend.commit();
+    }
+
+    // Only the latest transactions are recovered if there are more than the max size.
+    CommittedTransactionIdCache cache = new CommittedTransactionIdCache(kvBackend, 2);
+    cache.recover();
+    Assertions.assertEquals(2, cache.size());
+    Assertions.assertTrue(cache.isCachedAsCommitted(committedIds[1]));
+    Assertions.assertTrue(cache.isCachedAsCommitted(committedIds[2]));
+
+    // The uncached committed transaction is checked against the backend and then cached.
+    byte[] binaryId = binaryTransactionId(committedIds[0]);
+    Assertions.assertTrue(cache.isCommitted(binaryId));
+    Mockito.verify(kvBackend, Mockito.times(1))
+        .get(TransactionalKvBackendImpl.generateCommitKey(binaryId));
+    Assertions.assertTrue(cache.isCachedAsCommitted(committedIds[0]));
+
+    // The uncommitted transaction is never cached.
+    long uncommittedId = transactionIdGenerator.nextId();
+    Assertions.assertFalse(cache.isCommitted(binaryTransactionId(uncommittedId)));
+    Assertions.assertFalse(cache.isCachedAsCommitted(uncommittedId));
+  }
+
+  private static byte[] binaryTransactionId(long transactionId) {
+    return TransactionalKvBackendImpl.revertByteArray(ByteUtils.longToByte(transactionId));
+  }
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -22,6 +22,7 @@ import com.datastrato.gravitino.EntityStoreFactory;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.storage.IdGenerator;
+import com.datastrato.gravitino.storage.StoreConfigTestUtil;
 import com.datastrato.gravitino.utils.ByteUtils;
 import com.datastrato.gravitino.utils.Bytes;
 import java.io.File;
@@ -47,6 +48,7 @@ public class TestEntityKeyEncoding {
     File file = java.nio.file.Files.createTempDirectory(baseDir.toPath(), "test").toFile();
     file.deleteOnExit();
     Config config = Mockito.mock(Config.class);
+    StoreConfigTestUtil.stubKvDefaults(config);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
     Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3000L);
@@ -28,6 +28,7 @@ import com.datastrato.gravitino.exceptions.NonEmptyEntityException;
 import com.datastrato.gravitino.meta.AuditInfo;
 import com.datastrato.gravitino.meta.BaseMetalake;
 import com.datastrato.gravitino.meta.CatalogEntity;
+import com.datastrato.gravitino.storage.StoreConfigTestUtil;
 import com.datastrato.gravitino.storage.TestEntityStorage;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.File;
@@ -62,6 +63,7 @@ public class TestKvEntityStorage extends TestEntityStorage {
 
   public Config getConfig() throws IOException {
     Config config = Mockito.mock(Config.class);
+    StoreConfigTestUtil.stubKvDefaults(config);
     Mockito.when(config.get(ENTITY_STORE)).thenReturn("kv");
     Mockito.when(config.get(ENTITY_KV_STORE)).thenReturn(DEFAULT_ENTITY_KV_STORE);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
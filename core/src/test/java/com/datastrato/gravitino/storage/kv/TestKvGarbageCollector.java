@@ -35,6 +35,7 @@ import com.datastrato.gravitino.meta.GroupEntity;
 import com.datastrato.gravitino.meta.SchemaEntity;
 import com.datastrato.gravitino.meta.TableEntity;
 import com.datastrato.gravitino.meta.UserEntity;
+import com.datastrato.gravitino.storage.StoreConfigTestUtil;
 import com.datastrato.gravitino.storage.TransactionIdGenerator;
 import com.datastrato.gravitino.storage.kv.KvGarbageCollector.LogHelper;
 import java.io.File;
@@ -52,6 +53,7 @@ import org.mockito.Mockito;
 class TestKvGarbageCollector {
   public Config getConfig() throws IOException {
     Config config = Mockito.mock(Config.class);
+    StoreConfigTestUtil.stubKvDefaults(config);
     File baseDir = new File(System.getProperty("java.io.tmpdir"));
     File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
     file.deleteOnExit();
@@ -503,4 +505,79 @@ class TestKvGarbageCollector {
       Assertions.assertTrue(transactionIdV2 > transactionId);
     }
   }
+
+  @Test
+  void testBoundedAndResumableGC() throws Exception {
+    Config config = getConfig();
+    Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
+    Mockito.when(config.get(Configs.ENTITY_KV_GC_MAX_COMMITS_PER_CYCLE)).thenReturn(5);
+    Mockito.when(config.get(Configs.ENTITY_KV_GC_THREADS)).thenReturn(2);
+
+    try (EntityStore store = EntityStoreFactory.createEntityStore(config)) {
+      store.initialize(config);
+
+      if (!(store instanceof KvEntityStore)) {
+        return;
+      }
+      KvEntityStore kvEntityStore = (KvEntityStore) store;
+
+      store.setSerDe(EntitySerDeFactory.createEntitySerDe(config.get(Configs.ENTITY_SERDE)));
+      AuditInfo auditInfo =
+          AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+      BaseMetalake metalake1 = createBaseMakeLake(1L, "metalake1", auditInfo);
+      BaseMetalake metalake2 = createBaseMakeLake(2L, "metalake2", auditInfo);
+      BaseMetalake metalake3 = createBaseMakeLake(3L, "metalake3", auditInfo);
+
+      for (int i = 0; i < 10; i++) {
+        store.put(metalake1);
+        store.put(metalake2);
+        store.put(metalake3);
+
+        store.delete(NameIdentifier.of("metalake1"), Entity.EntityType.METALAKE);
+        store.delete(NameIdentifier.of("metalake2"), Entity.EntityType.METALAKE);
+        store.delete(NameIdentifier.of("metalake3"), Entity.EntityType.METALAKE);
+      }
+
+      store.put(metalake1);
+      store.put(metalake2);
+      store.put(metalake3);
+
+      Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(1000L);
+      Thread.sleep(1500);
+
+      KvGarbageCollector garbageCollector = kvEntityStore.kvGarbageCollector;
+      garbageCollector.collectAndClean();
+
+      // Only 5 transactions are collected, the checkpoint is not moved until the range is done.
+      Assertions.assertTrue(garbageCollector.isPending());
+      Assertions.assertEquals(5, garbageCollector.getCommitMarksCollected());
+      Assertions.assertEquals(
+          1,
+          getTransactionId(getBinaryTransactionId(garbageCollector.commitIdHasBeenCollected)));
+
+      int cycles = 1;
+      while (garbageCollector.isPending() && cycles < 100) {
+        garbageCollector.collectAndClean();
+        cycles++;
+      }
+      Assertions.assertFalse(garbageCollector.isPending());
+      Assertions.assertEquals(cycles, garbageCollector.getCycles());
+      Assertions.assertTrue(garbageCollector.getKeysDeleted() > 0);
+      Assertions.assertTrue(garbageCollector.getBytesReclaimed() > 0);
+      Assertions.assertNotEquals(
+          1,
+          getTransactionId(getBinaryTransactionId(garbageCollector.commitIdHasBeenCollected)));
+
+      List<Pair<byte[], byte[]>> allData =
+          kvEntityStore.backend.scan(
+              new KvRange.KvRangeBuilder()
+                  .start("_".getBytes())
+                  .end("z".getBytes())
+                  .startInclusive(false)
+                  .endInclusive(false)
+                  .build());
+      Assertions.assertEquals(3, allData.size());
+    }
+  }
 }
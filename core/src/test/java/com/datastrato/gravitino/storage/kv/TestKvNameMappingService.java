@@ -18,10 +18,19 @@ import com.datastrato.gravitino.EntitySerDeFactory;
 import com.datastrato.gravitino.EntityStoreFactory;
 import com.datastrato.gravitino.storage.IdGenerator;
 import com.datastrato.gravitino.storage.NameMappingService;
+import com.datastrato.gravitino.storage.StoreConfigTestUtil;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -32,6 +41,7 @@ public class TestKvNameMappingService {
     File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
     file.deleteOnExit();
     Config config = Mockito.mock(Config.class);
+    StoreConfigTestUtil.stubKvDefaults(config);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
     Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3000L);
@@ -153,9 +163,10 @@ public class TestKvNameMappingService {
           .when(spyKvBackend)
           .put(Mockito.any(), Mockito.any(), Mockito.anyBoolean());
       Config config = Mockito.mock(Config.class);
+      StoreConfigTestUtil.stubKvDefaults(config);
       Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3000L);
       final NameMappingService mock =
-          new KvNameMappingService(spyKvBackend, nameMappingService.lock);
+          new KvNameMappingService(spyKvBackend);
 
       // Now we try to use update. It should fail.
       Assertions.assertThrowsExactly(
@@ -167,4 +178,130 @@ public class TestKvNameMappingService {
       Assertions.assertNotNull(mock.getIdByName("name2"));
     }
   }
+
+  @Test
+  public void testConcurrentGetOrCreateIdFromName() throws Exception {
+    try (KvEntityStore kvEntityStore = getKvEntityStore(getConfig())) {
+      NameMappingService nameMappingService = kvEntityStore.nameMappingService;
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      try {
+        // Every thread binds the same names under independent metalakes, each name should be bound
+        // to exactly one id.
+        List<Future<List<Long>>> futures = Lists.newArrayList();
+        for (int t = 0; t < 8; t++) {
+          futures.add(
+              executor.submit(
+                  () -> {
+                    List<Long> ids = Lists.newArrayList();
+                    for (int i = 0; i < 50; i++) {
+                      String name = "metalake" + i + "/catalog";
+                      ids.add(nameMappingService.getOrCreateIdFromName(name));
+                    }
+                    return ids;
+                  }));
+        }
+
+        List<Long> expected = futures.get(0).get();
+        for (Future<List<Long>> future : futures) {
+          Assertions.assertEquals(expected, future.get());
+        }
+
+        Assertions.assertEquals(50, Sets.newHashSet(expected).size());
+        for (int i = 0; i < 50; i++) {
+          Assertions.assertEquals(
+              expected.get(i), nameMappingService.getIdByName("metalake" + i + "/catalog"));
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  @Test
+  void testNameMappingCache() throws Exception {
+    try (KvEntityStore kvEntityStore = getKvEntityStore(getConfig())) {
+      KvNameMappingService nameMappingService =
+          (KvNameMappingService) kvEntityStore.nameMappingService;
+      Assertions.assertNotNull(nameMappingService.cache);
+      IdGenerator idGenerator = getIdGeneratorByReflection(nameMappingService);
+
+      Mockito.doReturn(1L).when(idGenerator).nextId();
+      long id = nameMappingService.getOrCreateIdFromName("name1");
+
+      // The first read loads the mapping from the backend, the following reads hit the cache.
+      TransactionalKvBackend backend = nameMappingService.transactionalKvBackend;
+      TransactionalKvBackend spyBackend = Mockito.spy(backend);
+      KvNameMappingService cachedService = new KvNameMappingService(spyBackend, 10);
+      Assertions.assertEquals(id, cachedService.getIdByName("name1"));
+      Assertions.assertEquals("name1", cachedService.getNameById(id));
+      Mockito.clearInvocations(spyBackend);
+      for (int i = 0; i < 10; i++) {
+        Assertions.assertEquals(id, cachedService.getIdByName("name1"));
+        Assertions.assertEquals("name1", cachedService.getNameById(id));
+      }
+      Mockito.verify(spyBackend, Mockito.never()).get(Mockito.any());
+      Assertions.assertEquals(20, cachedService.cache.hitCount());
+
+      // Renaming and unbinding invalidate the cached mappings.
+      Assertions.assertTrue(cachedService.updateName("name1", "name2"));
+      Assertions.assertNull(cachedService.getIdByName("name1"));
+      Assertions.assertEquals(id, cachedService.getIdByName("name2"));
+      Assertions.assertEquals("name2", cachedService.getNameById(id));
+
+      Assertions.assertTrue(cachedService.unbindNameAndId("name2"));
+      Assertions.assertNull(cachedService.getIdByName("name2"));
+      Assertions.assertNull(cachedService.getNameById(id));
+
+      // The cache can be disabled.
+      Assertions.assertNull(new KvNameMappingService(backend, 0).cache);
+    }
+  }
+
+  @Test
+  void testNameMappingCacheIdCollision() {
+    NameMappingCache cache = new NameMappingCache(4, 60000L);
+    cache.putName(1L, "name1", cache.version());
+    Assertions.assertEquals("name1", cache.getName(1L));
+
+    // Find an id sharing the slot with id 1, it replaces the cached mapping of id 1.
+    long collidingId = 2L;
+    while (true) {
+      cache.putName(collidingId, "name" + collidingId, cache.version());
+      if (cache.getName(1L) == null) {
+        break;
+      }
+      collidingId++;
+    }
+    Assertions.assertEquals("name" + collidingId, cache.getName(collidingId));
+
+    cache.invalidateId(1L);
+    Assertions.assertEquals("name" + collidingId, cache.getName(collidingId));
+    cache.invalidateId(collidingId);
+    Assertions.assertNull(cache.getName(collidingId));
+  }
+
+  @Test
+  void testNameMappingCacheStaleMapping() {
+    AtomicLong nanos = new AtomicLong();
+    NameMappingCache cache = new NameMappingCache(4, 1000L, nanos::get);
+
+    // A mapping read before an invalidation is not kept.
+    long version = cache.version();
+    cache.invalidateName("name1");
+    cache.invalidateId(1L);
+    cache.putId("name1", 1L, version);
+    cache.putName(1L, "name1", version);
+    Assertions.assertNull(cache.getId("name1"));
+    Assertions.assertNull(cache.getName(1L));
+
+    cache.putId("name1", 1L, cache.version());
+    cache.putName(1L, "name1", cache.version());
+    Assertions.assertEquals(1L, cache.getId("name1"));
+    Assertions.assertEquals("name1", cache.getName(1L));
+
+    // The mappings expire after they are written.
+    nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000L));
+    Assertions.assertNull(cache.getId("name1"));
+    Assertions.assertNull(cache.getName(1L));
+  }
 }
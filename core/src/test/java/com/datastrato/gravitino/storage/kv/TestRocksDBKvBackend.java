@@ -9,15 +9,23 @@ import static com.datastrato.gravitino.Configs.ENTRY_KV_ROCKSDB_BACKEND_PATH;
 
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.exceptions.AlreadyExistsException;
+import com.datastrato.gravitino.storage.StoreConfigTestUtil;
+import com.datastrato.gravitino.utils.Bytes;
+import com.google.common.collect.Lists;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.CompressionType;
+import org.rocksdb.Options;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
@@ -25,6 +33,7 @@ public class TestRocksDBKvBackend {
 
   private KvBackend getKvBackEnd() throws IOException {
     Config config = Mockito.mock(Config.class);
+    StoreConfigTestUtil.stubKvDefaults(config);
 
     File baseDir = new File(System.getProperty("java.io.tmpdir"));
     File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
@@ -39,6 +48,7 @@ public class TestRocksDBKvBackend {
   @Test
   void testStoragePath() {
     Config config = Mockito.mock(Config.class);
+    StoreConfigTestUtil.stubKvDefaults(config);
     Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn("/a/b");
     RocksDBKvBackend kvBackend = new RocksDBKvBackend();
     String path = kvBackend.getStoragePath(config);
@@ -112,7 +122,7 @@ public class TestRocksDBKvBackend {
     RocksDB spyDb = Mockito.spy(db);
     Mockito.doThrow(new RocksDBException("Mock: Network is unstable"))
         .when(spyDb)
-        .delete(Mockito.any());
+        .delete(Mockito.any(ColumnFamilyHandle.class), Mockito.any(byte[].class));
     rocksDBKvBackend.setDb(spyDb);
 
     Exception e =
@@ -274,7 +284,9 @@ public class TestRocksDBKvBackend {
     RocksDB db = rocksDBKvBackend.getDb();
     RocksDB spyDb = Mockito.spy(db);
 
-    Mockito.when(spyDb.newIterator()).thenThrow(new RuntimeException("Mock: RocksDB is broken"));
+    Mockito.doThrow(new RuntimeException("Mock: RocksDB is broken"))
+        .when(spyDb)
+        .newIterator(Mockito.any(ColumnFamilyHandle.class), Mockito.any(ReadOptions.class));
     rocksDBKvBackend.setDb(spyDb);
 
     Exception e =
@@ -322,7 +334,9 @@ public class TestRocksDBKvBackend {
     RocksDB db = rocksDBKvBackend.getDb();
     RocksDB spyDb = Mockito.spy(db);
 
-    Mockito.when(spyDb.newIterator()).thenThrow(new RuntimeException("Mock: RocksDB is broken"));
+    Mockito.doThrow(new RuntimeException("Mock: RocksDB is broken"))
+        .when(spyDb)
+        .newIterator(Mockito.any(ColumnFamilyHandle.class), Mockito.any(ReadOptions.class));
     rocksDBKvBackend.setDb(spyDb);
 
     Exception e =
@@ -370,7 +384,9 @@ public class TestRocksDBKvBackend {
     RocksDB db = rocksDBKvBackend.getDb();
     RocksDB spyDb = Mockito.spy(db);
 
-    Mockito.when(spyDb.newIterator()).thenThrow(new RuntimeException("Mock: RocksDB is broken"));
+    Mockito.doThrow(new RuntimeException("Mock: RocksDB is broken"))
+        .when(spyDb)
+        .newIterator(Mockito.any(ColumnFamilyHandle.class), Mockito.any(ReadOptions.class));
     rocksDBKvBackend.setDb(spyDb);
 
     Exception e =
@@ -437,7 +453,215 @@ public class TestRocksDBKvBackend {
     RocksDB db = rocksDBKvBackend.getDb();
     RocksDB spyDb = Mockito.spy(db);
 
-    Mockito.when(spyDb.newIterator()).thenCallRealMethod();
+    Mockito.doCallRealMethod()
+        .when(spyDb)
+        .newIterator(Mockito.any(ColumnFamilyHandle.class), Mockito.any(ReadOptions.class));
     Assertions.assertDoesNotThrow(() -> kvBackend.scan(kvRange));
   }
+
+  @Test
+  void testColumnFamilies() {
+    byte[] nameMappingKey =
+        Bytes.concat(
+            KvNameMappingService.GENERAL_NAME_MAPPING_PREFIX, "a".getBytes(StandardCharsets.UTF_8));
+    byte[] commitKey = TransactionalKvBackendImpl.generateCommitKey(1L);
+    byte[] entityKey = "ca/a".getBytes(StandardCharsets.UTF_8);
+    byte[] otherKey = TransactionIdGeneratorImpl.LAST_TIMESTAMP;
+
+    Assertions.assertEquals(
+        RocksDBKvBackend.NAME_MAPPING_COLUMN_FAMILY,
+        RocksDBKvBackend.columnFamilyOf(nameMappingKey));
+    Assertions.assertEquals(
+        RocksDBKvBackend.TRANSACTION_COMMIT_COLUMN_FAMILY,
+        RocksDBKvBackend.columnFamilyOf(commitKey));
+    Assertions.assertEquals(
+        RocksDBKvBackend.DEFAULT_COLUMN_FAMILY, RocksDBKvBackend.columnFamilyOf(entityKey));
+    Assertions.assertEquals(
+        RocksDBKvBackend.DEFAULT_COLUMN_FAMILY, RocksDBKvBackend.columnFamilyOf(otherKey));
+
+    // A range in one column family only scans that column family.
+    Assertions.assertEquals(
+        Lists.newArrayList(RocksDBKvBackend.TRANSACTION_COMMIT_COLUMN_FAMILY),
+        RocksDBKvBackend.columnFamiliesOf(
+            commitKey, TransactionalKvBackendImpl.generateCommitKey(2L)));
+    Assertions.assertEquals(
+        Lists.newArrayList(RocksDBKvBackend.DEFAULT_COLUMN_FAMILY),
+        RocksDBKvBackend.columnFamiliesOf(new byte[] {0x20}, new byte[] {0x7F}));
+    Assertions.assertEquals(
+        Lists.newArrayList(
+            RocksDBKvBackend.NAME_MAPPING_COLUMN_FAMILY,
+            RocksDBKvBackend.TRANSACTION_COMMIT_COLUMN_FAMILY,
+            RocksDBKvBackend.DEFAULT_COLUMN_FAMILY),
+        RocksDBKvBackend.columnFamiliesOf(new byte[] {0x00}, new byte[] {0x7F}));
+  }
+
+  @Test
+  void testScanAcrossColumnFamilies() throws IOException {
+    KvBackend kvBackend = getKvBackEnd();
+    byte[] nameMappingKey =
+        Bytes.concat(
+            KvNameMappingService.GENERAL_NAME_MAPPING_PREFIX, "a".getBytes(StandardCharsets.UTF_8));
+    byte[] commitKey = TransactionalKvBackendImpl.generateCommitKey(1L);
+    byte[] entityKey = "ca/a".getBytes(StandardCharsets.UTF_8);
+    byte[] otherKey = TransactionIdGeneratorImpl.LAST_TIMESTAMP;
+    List<byte[]> keys = Lists.newArrayList(entityKey, commitKey, otherKey, nameMappingKey);
+    for (byte[] key : keys) {
+      kvBackend.put(key, key, false);
+    }
+
+    List<Pair<byte[], byte[]>> data =
+        kvBackend.scan(
+            new KvRange.KvRangeBuilder()
+                .start(new byte[] {0x00})
+                .end(new byte[] {0x7F})
+                .startInclusive(true)
+                .endInclusive(true)
+                .build());
+    List<Bytes> expected =
+        keys.stream()
+            .sorted(Bytes.BYTES_LEXICO_COMPARATOR)
+            .map(Bytes::wrap)
+            .collect(Collectors.toList());
+    Assertions.assertEquals(
+        expected, data.stream().map(p -> Bytes.wrap(p.getKey())).collect(Collectors.toList()));
+    Assertions.assertEquals(
+        Lists.newArrayList(Bytes.wrap(entityKey), Bytes.wrap(nameMappingKey)),
+        kvBackend.multiGet(Lists.newArrayList(entityKey, nameMappingKey)).stream()
+            .map(Bytes::wrap)
+            .collect(Collectors.toList()));
+
+    kvBackend.deleteRange(
+        new KvRange.KvRangeBuilder()
+            .start(new byte[] {0x00})
+            .end(new byte[] {0x7F})
+            .startInclusive(true)
+            .endInclusive(true)
+            .build());
+    for (byte[] key : keys) {
+      Assertions.assertNull(kvBackend.get(key));
+    }
+  }
+
+  @Test
+  void testMoveKeysToColumnFamilies() throws IOException, RocksDBException {
+    File baseDir = new File(System.getProperty("java.io.tmpdir"));
+    File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
+    file.deleteOnExit();
+
+    // Write the keys into the default column family like the previous versions.
+    byte[] nameMappingKey =
+        Bytes.concat(
+            KvNameMappingService.GENERAL_NAME_MAPPING_PREFIX, "a".getBytes(StandardCharsets.UTF_8));
+    byte[] commitKey = TransactionalKvBackendImpl.generateCommitKey(1L);
+    try (Options options = new Options().setCreateIfMissing(true);
+        RocksDB db = RocksDB.open(options, new File(file, "instance").getAbsolutePath())) {
+      db.put(nameMappingKey, nameMappingKey);
+      db.put(commitKey, commitKey);
+    }
+
+    Config config = Mockito.mock(Config.class);
+    StoreConfigTestUtil.stubKvDefaults(config);
+    Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
+    RocksDBKvBackend kvBackend = new RocksDBKvBackend();
+    kvBackend.initialize(config);
+    try {
+      Assertions.assertArrayEquals(nameMappingKey, kvBackend.get(nameMappingKey));
+      Assertions.assertArrayEquals(commitKey, kvBackend.get(commitKey));
+      Assertions.assertNull(kvBackend.getDb().get(nameMappingKey));
+      Assertions.assertNull(kvBackend.getDb().get(commitKey));
+    } finally {
+      kvBackend.close();
+    }
+  }
+
+  @Test
+  void testParseCompressionPerLevel() {
+    Assertions.assertTrue(RocksDBKvBackend.parseCompressionPerLevel("").isEmpty());
+    Assertions.assertEquals(
+        Lists.newArrayList(
+            CompressionType.NO_COMPRESSION,
+            CompressionType.LZ4_COMPRESSION,
+            CompressionType.ZSTD_COMPRESSION),
+        RocksDBKvBackend.parseCompressionPerLevel("none, LZ4,zstd"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> RocksDBKvBackend.parseCompressionPerLevel("gzip"));
+  }
+
+  @Test
+  void testBatchPutAndDelete() throws IOException {
+    KvBackend kvBackend = getKvBackEnd();
+    byte[] nameMappingKey =
+        Bytes.concat(
+            KvNameMappingService.GENERAL_NAME_MAPPING_PREFIX, "a".getBytes(StandardCharsets.UTF_8));
+    byte[] commitKey = TransactionalKvBackendImpl.generateCommitKey(1L);
+    byte[] entityKey = "ca/a".getBytes(StandardCharsets.UTF_8);
+    List<byte[]> keys = Lists.newArrayList(entityKey, commitKey, nameMappingKey);
+
+    kvBackend.put(entityKey, "old".getBytes(StandardCharsets.UTF_8), false);
+    kvBackend.batchPut(keys.stream().map(k -> Pair.of(k, k)).collect(Collectors.toList()));
+    for (byte[] key : keys) {
+      Assertions.assertArrayEquals(key, kvBackend.get(key));
+    }
+
+    kvBackend.batchDelete(keys);
+    for (byte[] key : keys) {
+      Assertions.assertNull(kvBackend.get(key));
+    }
+
+    // Nothing is written if the batch fails.
+    List<Pair<byte[], byte[]>> pairs =
+        Lists.newArrayList(Pair.of(entityKey, entityKey), Pair.of(commitKey, null));
+    Assertions.assertThrows(Exception.class, () -> kvBackend.batchPut(pairs));
+    Assertions.assertNull(kvBackend.get(entityKey));
+  }
+
+  @Test
+  void testMultiScan() throws IOException {
+    KvBackend kvBackend = getKvBackEnd();
+    byte[] commitKey = TransactionalKvBackendImpl.generateCommitKey(1L);
+    List<byte[]> keys =
+        Lists.newArrayList(
+            "ca/a".getBytes(StandardCharsets.UTF_8),
+            "ca/b".getBytes(StandardCharsets.UTF_8),
+            "cb/a".getBytes(StandardCharsets.UTF_8),
+            commitKey);
+    kvBackend.batchPut(keys.stream().map(k -> Pair.of(k, k)).collect(Collectors.toList()));
+
+    // The ranges are not sorted, the results are returned in the order of the ranges.
+    List<KvRange> ranges =
+        Lists.newArrayList(
+            new KvRange.KvRangeBuilder()
+                .start("cb".getBytes(StandardCharsets.UTF_8))
+                .end("cc".getBytes(StandardCharsets.UTF_8))
+                .build(),
+            new KvRange.KvRangeBuilder()
+                .start("ca/a".getBytes(StandardCharsets.UTF_8))
+                .end("ca/b".getBytes(StandardCharsets.UTF_8))
+                .startInclusive(true)
+                .endInclusive(true)
+                .build(),
+            new KvRange.KvRangeBuilder()
+                .start(commitKey)
+                .end(commitKey)
+                .startInclusive(true)
+                .build(),
+            new KvRange.KvRangeBuilder()
+                .start("cc".getBytes(StandardCharsets.UTF_8))
+                .end("cd".getBytes(StandardCharsets.UTF_8))
+                .build());
+    List<List<Pair<byte[], byte[]>>> results = kvBackend.multiScan(ranges);
+
+    Assertions.assertEquals(4, results.size());
+    for (int i = 0; i < ranges.size(); i++) {
+      Assertions.assertEquals(
+          kvBackend.scan(ranges.get(i)).stream()
+              .map(p -> Bytes.wrap(p.getKey()))
+              .collect(Collectors.toList()),
+          results.get(i).stream().map(p -> Bytes.wrap(p.getKey())).collect(Collectors.toList()));
+    }
+    Assertions.assertEquals(1, results.get(0).size());
+    Assertions.assertEquals(2, results.get(1).size());
+    Assertions.assertTrue(results.get(3).isEmpty());
+    Assertions.assertTrue(kvBackend.multiScan(Lists.newArrayList()).isEmpty());
+  }
 }
@@ -11,17 +11,27 @@ import static com.datastrato.gravitino.Configs.ENTITY_STORE;
 import static com.datastrato.gravitino.Configs.ENTRY_KV_ROCKSDB_BACKEND_PATH;
 import static com.datastrato.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static com.datastrato.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
+import static com.datastrato.gravitino.storage.kv.TestKvEntityStorage.createBaseMakeLake;
 
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.Entity;
 import com.datastrato.gravitino.EntitySerDeFactory;
 import com.datastrato.gravitino.EntityStore;
 import com.datastrato.gravitino.EntityStoreFactory;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.meta.AuditInfo;
+import com.datastrato.gravitino.meta.BaseMetalake;
 import com.datastrato.gravitino.storage.StorageLayoutException;
 import com.datastrato.gravitino.storage.StorageLayoutVersion;
+import com.datastrato.gravitino.storage.StoreConfigTestUtil;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.time.Instant;
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -32,14 +42,15 @@ class TestStorageVersion {
   void testFromString() {
     StorageLayoutVersion version = StorageLayoutVersion.fromString("v1");
     Assertions.assertEquals(StorageLayoutVersion.V1, version);
+    Assertions.assertEquals(StorageLayoutVersion.V2, StorageLayoutVersion.fromString("v2"));
 
     Assertions.assertThrowsExactly(
         StorageLayoutException.class, () -> StorageLayoutVersion.fromString("v200000.0"));
   }
 
-  @Test
-  void testStorageLayoutVersion() throws IOException {
+  private Config getConfig() throws IOException {
     Config config = Mockito.mock(Config.class);
+    StoreConfigTestUtil.stubKvDefaults(config);
     File baseDir = new File(System.getProperty("java.io.tmpdir"));
     File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
     file.deleteOnExit();
@@ -49,6 +60,12 @@ class TestStorageVersion {
     Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
     Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    return config;
+  }
+
+  @Test
+  void testStorageLayoutVersion() throws IOException {
+    Config config = getConfig();
 
     // First time create entity store, the storage layout version should be DEFAULT_LAYOUT_VERSION
     try (EntityStore store = EntityStoreFactory.createEntityStore(config)) {
@@ -56,7 +73,7 @@ class TestStorageVersion {
       Assertions.assertTrue(store instanceof KvEntityStore);
       store.setSerDe(EntitySerDeFactory.createEntitySerDe(config.get(Configs.ENTITY_SERDE)));
       KvEntityStore entityStore = (KvEntityStore) store;
-      Assertions.assertEquals(StorageLayoutVersion.V1, entityStore.storageLayoutVersion);
+      Assertions.assertEquals(StorageLayoutVersion.V2, entityStore.storageLayoutVersion);
     }
 
     // Second time create entity store, the storage layout version should be DEFAULT_LAYOUT_VERSION
@@ -65,7 +82,60 @@ class TestStorageVersion {
       Assertions.assertTrue(store instanceof KvEntityStore);
       store.setSerDe(EntitySerDeFactory.createEntitySerDe(config.get(Configs.ENTITY_SERDE)));
       KvEntityStore entityStore = (KvEntityStore) store;
-      Assertions.assertEquals(StorageLayoutVersion.V1, entityStore.storageLayoutVersion);
+      Assertions.assertEquals(StorageLayoutVersion.V2, entityStore.storageLayoutVersion);
+    }
+  }
+
+  @Test
+  void testUpgradeCommitRecords() throws IOException {
+    Config config = getConfig();
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake = createBaseMakeLake(1L, "metalake", auditInfo);
+
+    // Write the commit records in the V1 format.
+    try (EntityStore store = EntityStoreFactory.createEntityStore(config)) {
+      store.initialize(config);
+      store.setSerDe(EntitySerDeFactory.createEntitySerDe(config.get(Configs.ENTITY_SERDE)));
+      store.put(metalake);
+
+      KvBackend backend = ((KvEntityStore) store).backend;
+      for (Pair<byte[], byte[]> commitMark : scanCommitMarks(backend)) {
+        backend.put(
+            commitMark.getKey(),
+            CommitRecordCodec.encodeLegacy(CommitRecordCodec.decode(commitMark.getValue())),
+            true);
+      }
+      backend.put(
+          KvEntityStore.LAYOUT_VERSION_KEY,
+          StorageLayoutVersion.V1.getVersion().getBytes(StandardCharsets.UTF_8),
+          true);
+    }
+
+    try (EntityStore store = EntityStoreFactory.createEntityStore(config)) {
+      store.initialize(config);
+      store.setSerDe(EntitySerDeFactory.createEntitySerDe(config.get(Configs.ENTITY_SERDE)));
+      KvEntityStore entityStore = (KvEntityStore) store;
+      Assertions.assertEquals(StorageLayoutVersion.V2, entityStore.storageLayoutVersion);
+
+      List<Pair<byte[], byte[]>> commitMarks = scanCommitMarks(entityStore.backend);
+      Assertions.assertFalse(commitMarks.isEmpty());
+      for (Pair<byte[], byte[]> commitMark : commitMarks) {
+        Assertions.assertFalse(CommitRecordCodec.isLegacyFormat(commitMark.getValue()));
+      }
+      Assertions.assertEquals(
+          metalake,
+          store.get(NameIdentifier.of("metalake"), Entity.EntityType.METALAKE, BaseMetalake.class));
     }
   }
+
+  private List<Pair<byte[], byte[]>> scanCommitMarks(KvBackend backend) throws IOException {
+    return backend.scan(
+        new KvRange.KvRangeBuilder()
+            .start(TransactionalKvBackendImpl.startOfTransactionId())
+            .end(TransactionalKvBackendImpl.endOfTransactionId())
+            .startInclusive(true)
+            .endInclusive(true)
+            .build());
+  }
 }
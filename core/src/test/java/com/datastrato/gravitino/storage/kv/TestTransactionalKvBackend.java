@@ -10,6 +10,7 @@ import static com.datastrato.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
 
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.storage.StoreConfigTestUtil;
 import com.datastrato.gravitino.storage.TransactionIdGenerator;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -49,6 +50,7 @@ class TestTransactionalKvBackend {
     File file = Files.createTempDirectory(baseDir.toPath(), "test").toFile();
     file.deleteOnExit();
     Config config = Mockito.mock(Config.class);
+    StoreConfigTestUtil.stubKvDefaults(config);
     Mockito.when(config.get(Configs.ENTITY_SERDE)).thenReturn("proto");
     Mockito.when(config.get(ENTRY_KV_ROCKSDB_BACKEND_PATH)).thenReturn(file.getAbsolutePath());
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(3000L);
@@ -91,6 +93,71 @@ class TestTransactionalKvBackend {
     transactionIdGenerator.close();
   }
 
+  @Test
+  void testCommitInOneWrite() throws IOException {
+    Config config = getConfig();
+    KvBackend kvBackend = Mockito.spy(getKvBackEnd(config));
+    TransactionIdGenerator transactionIdGenerator =
+        new TransactionIdGeneratorImpl(kvBackend, config);
+    TransactionalKvBackend transactionalKvBackend =
+        new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+    transactionalKvBackend.begin();
+    for (int i = 0; i < 100; i++) {
+      transactionalKvBackend.put(("key" + i).getBytes(), ("value" + i).getBytes(), true);
+    }
+    transactionalKvBackend.commit();
+
+    // The prepared pairs and the commit mark are written in one batch.
+    Mockito.verify(kvBackend, Mockito.times(1)).batchPut(Mockito.anyList());
+    Mockito.verify(kvBackend, Mockito.never())
+        .put(
+            Mockito.argThat(k -> !Arrays.equals(k, TransactionIdGeneratorImpl.LAST_TIMESTAMP)),
+            Mockito.any(),
+            Mockito.anyBoolean());
+
+    transactionalKvBackend.begin();
+    Assertions.assertEquals("value42", new String(transactionalKvBackend.get("key42".getBytes())));
+    transactionIdGenerator.close();
+  }
+
+  @Test
+  void testMultiGet() throws IOException {
+    Config config = getConfig();
+    KvBackend kvBackend = getKvBackEnd(config);
+    TransactionIdGenerator transactionIdGenerator =
+        new TransactionIdGeneratorImpl(kvBackend, config);
+    TransactionalKvBackend transactionalKvBackend =
+        new TransactionalKvBackendImpl(kvBackend, transactionIdGenerator);
+    transactionalKvBackend.begin();
+    transactionalKvBackend.put("key1".getBytes(), "value1".getBytes(), true);
+    transactionalKvBackend.put("key2".getBytes(), "value2".getBytes(), true);
+    transactionalKvBackend.commit();
+
+    transactionalKvBackend.begin();
+    transactionalKvBackend.put("key1".getBytes(), "value3".getBytes(), true);
+    transactionalKvBackend.delete("key2".getBytes());
+    transactionalKvBackend.commit();
+
+    // The value of the uncommitted transaction is not visible.
+    transactionalKvBackend.begin();
+    kvBackend.put(
+        TransactionalKvBackendImpl.generateKey("key1".getBytes(), Long.MAX_VALUE - 1),
+        "value4".getBytes(),
+        true);
+
+    List<byte[]> values =
+        transactionalKvBackend.multiGet(
+            Lists.newArrayList("key1".getBytes(), "key2".getBytes(), "key3".getBytes()));
+    Assertions.assertEquals(3, values.size());
+    Assertions.assertEquals("value3", new String(values.get(0)));
+    Assertions.assertNull(values.get(1));
+    Assertions.assertNull(values.get(2));
+    Assertions.assertTrue(transactionalKvBackend.multiGet(Lists.newArrayList()).isEmpty());
+
+    transactionalKvBackend.close();
+    transactionIdGenerator.close();
+  }
+
   @Test
   void testDelete() throws IOException {
     Config config = getConfig();
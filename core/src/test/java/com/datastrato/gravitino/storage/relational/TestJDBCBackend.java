@@ -18,8 +18,10 @@ import com.datastrato.gravitino.Catalog;
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.Entity;
+import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
 import com.datastrato.gravitino.exceptions.AlreadyExistsException;
+import com.datastrato.gravitino.exceptions.NoSuchEntityException;
 import com.datastrato.gravitino.file.Fileset;
 import com.datastrato.gravitino.meta.AuditInfo;
 import com.datastrato.gravitino.meta.BaseMetalake;
@@ -30,7 +32,13 @@ import com.datastrato.gravitino.meta.SchemaVersion;
 import com.datastrato.gravitino.meta.TableEntity;
 import com.datastrato.gravitino.meta.TopicEntity;
 import com.datastrato.gravitino.storage.RandomIdGenerator;
+import com.datastrato.gravitino.storage.StoreConfigTestUtil;
+import com.datastrato.gravitino.storage.relational.mapper.SchemaMetaMapper;
+import com.datastrato.gravitino.storage.relational.po.SchemaPO;
+import com.datastrato.gravitino.storage.relational.service.CommonMetaService;
 import com.datastrato.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import com.datastrato.gravitino.storage.relational.utils.POConverters;
+import com.datastrato.gravitino.storage.relational.utils.SessionUtils;
 import com.google.common.collect.ImmutableMap;
 import java.io.File;
 import java.io.IOException;
@@ -47,6 +55,7 @@ import java.util.UUID;
 import org.apache.commons.io.IOUtils;
 import org.apache.ibatis.session.SqlSession;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -69,6 +78,7 @@ public class TestJDBCBackend {
       dir.delete();
     }
     dir.mkdirs();
+    StoreConfigTestUtil.stubRelationalDefaults(config);
     Mockito.when(config.get(ENTITY_STORE)).thenReturn(RELATIONAL_ENTITY_STORE);
     Mockito.when(config.get(ENTITY_RELATIONAL_STORE)).thenReturn(DEFAULT_ENTITY_RELATIONAL_STORE);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
@@ -394,6 +404,328 @@ public class TestJDBCBackend {
                 e -> createTopicEntity(topicCopy.id(), topicCopy.namespace(), "topic", auditInfo)));
   }
 
+  @Test
+  public void testGetEntitiesByFullName() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.ofCatalog("metalake"),
+            "catalog",
+            auditInfo);
+    backend.insert(catalog, false);
+    SchemaEntity schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.ofSchema("metalake", "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(schema, false);
+    Namespace namespace = Namespace.ofTable("metalake", "catalog", "schema");
+    TableEntity table =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table", auditInfo);
+    backend.insert(table, false);
+    FilesetEntity fileset =
+        createFilesetEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "fileset", auditInfo);
+    backend.insert(fileset, false);
+    TopicEntity topic =
+        createTopicEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "topic", auditInfo);
+    backend.insert(topic, false);
+
+    Assertions.assertEquals(
+        schema.id(),
+        ((SchemaEntity) backend.get(schema.nameIdentifier(), Entity.EntityType.SCHEMA)).id());
+    Assertions.assertEquals(
+        table.id(),
+        ((TableEntity) backend.get(table.nameIdentifier(), Entity.EntityType.TABLE)).id());
+    Assertions.assertEquals(
+        fileset.id(),
+        ((FilesetEntity) backend.get(fileset.nameIdentifier(), Entity.EntityType.FILESET)).id());
+    Assertions.assertEquals(
+        topic.id(),
+        ((TopicEntity) backend.get(topic.nameIdentifier(), Entity.EntityType.TOPIC)).id());
+    Assertions.assertArrayEquals(
+        new long[] {metalake.id(), catalog.id(), schema.id()},
+        CommonMetaService.getInstance().getParentEntityIdsByNamespace(namespace));
+
+    // The missing level is still reported precisely.
+    NoSuchEntityException exception =
+        assertThrows(
+            NoSuchEntityException.class,
+            () ->
+                backend.get(
+                    NameIdentifier.of("metalake", "catalog", "schema1", "table"),
+                    Entity.EntityType.TABLE));
+    Assertions.assertTrue(exception.getMessage().contains("schema1"));
+    exception =
+        assertThrows(
+            NoSuchEntityException.class,
+            () ->
+                backend.get(
+                    NameIdentifier.of("metalake", "catalog", "schema", "table1"),
+                    Entity.EntityType.TABLE));
+    Assertions.assertTrue(exception.getMessage().contains("table1"));
+
+    // Dropping and recreating the schema invalidates the cached id path.
+    backend.delete(schema.nameIdentifier(), Entity.EntityType.SCHEMA, true);
+    assertThrows(
+        NoSuchEntityException.class,
+        () -> CommonMetaService.getInstance().getParentEntityIdsByNamespace(namespace));
+    SchemaEntity newSchema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.ofSchema("metalake", "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(newSchema, false);
+    TableEntity newTable =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table", auditInfo);
+    backend.insert(newTable, false);
+    Assertions.assertEquals(
+        newTable.id(),
+        ((TableEntity) backend.get(newTable.nameIdentifier(), Entity.EntityType.TABLE)).id());
+    Assertions.assertArrayEquals(
+        new long[] {metalake.id(), catalog.id(), newSchema.id()},
+        CommonMetaService.getInstance().getParentEntityIdsByNamespace(namespace));
+
+    // Renaming the catalog invalidates the cached id paths under it.
+    backend.update(
+        catalog.nameIdentifier(),
+        Entity.EntityType.CATALOG,
+        e ->
+            createCatalog(catalog.id(), Namespace.ofCatalog("metalake"), "catalog1", auditInfo));
+    assertThrows(
+        NoSuchEntityException.class,
+        () -> CommonMetaService.getInstance().getParentEntityIdsByNamespace(namespace));
+    Assertions.assertEquals(
+        newTable.id(),
+        ((TableEntity)
+                backend.get(
+                    NameIdentifier.of("metalake", "catalog1", "schema", "table"),
+                    Entity.EntityType.TABLE))
+            .id());
+  }
+
+  @Test
+  public void testWriteWithStaleIdPath() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.ofCatalog("metalake"),
+            "catalog",
+            auditInfo);
+    backend.insert(catalog, false);
+    SchemaEntity schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.ofSchema("metalake", "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(schema, false);
+    Namespace namespace = Namespace.ofTable("metalake", "catalog", "schema");
+    Assertions.assertArrayEquals(
+        new long[] {metalake.id(), catalog.id(), schema.id()},
+        CommonMetaService.getInstance().getParentEntityIdsByNamespace(namespace));
+
+    // Drop and recreate the schema by the mapper directly, like another server does, so the cached
+    // id path on this server is not invalidated.
+    SchemaEntity newSchema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.ofSchema("metalake", "catalog"),
+            "schema",
+            auditInfo);
+    SessionUtils.doWithCommit(
+        SchemaMetaMapper.class,
+        mapper -> {
+          mapper.softDeleteSchemaMetasBySchemaId(schema.id());
+          mapper.insertSchemaMeta(
+              POConverters.initializeSchemaPOWithVersion(
+                  newSchema,
+                  SchemaPO.builder().withMetalakeId(metalake.id()).withCatalogId(catalog.id())));
+        });
+    Assertions.assertArrayEquals(
+        new long[] {metalake.id(), catalog.id(), schema.id()},
+        CommonMetaService.getInstance().getParentEntityIdsByNamespace(namespace));
+
+    // The write paths don't use the cached id path, the table is inserted under the new schema.
+    TableEntity table =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table", auditInfo);
+    backend.insert(table, false);
+    Assertions.assertEquals(
+        table.id(),
+        ((TableEntity) backend.get(table.nameIdentifier(), Entity.EntityType.TABLE)).id());
+    Assertions.assertArrayEquals(
+        new long[] {metalake.id(), catalog.id(), newSchema.id()},
+        CommonMetaService.getInstance().getParentEntityIdsForWrite(namespace));
+  }
+
+  @Test
+  public void testBatchInsert() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    backend.insert(
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo), false);
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.ofCatalog("metalake"),
+            "catalog",
+            auditInfo),
+        false);
+    for (String schemaName : new String[] {"schema1", "schema2"}) {
+      backend.insert(
+          createSchemaEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              Namespace.ofSchema("metalake", "catalog"),
+              schemaName,
+              auditInfo),
+          false);
+    }
+
+    // More tables than one INSERT statement holds, and in two schemas.
+    Namespace namespace1 = Namespace.ofTable("metalake", "catalog", "schema1");
+    Namespace namespace2 = Namespace.ofTable("metalake", "catalog", "schema2");
+    List<TableEntity> tables = new ArrayList<>();
+    for (int i = 0; i < 2500; i++) {
+      tables.add(
+          createTableEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              i % 5 == 0 ? namespace2 : namespace1,
+              "table" + i,
+              auditInfo));
+    }
+    backend.batchInsert(tables, false);
+    Assertions.assertEquals(2000, backend.list(namespace1, Entity.EntityType.TABLE).size());
+    Assertions.assertEquals(500, backend.list(namespace2, Entity.EntityType.TABLE).size());
+    TableEntity table = tables.get(7);
+    Assertions.assertEquals(
+        table.id(),
+        ((TableEntity) backend.get(table.nameIdentifier(), Entity.EntityType.TABLE)).id());
+
+    // The batch is written in one transaction.
+    List<TableEntity> duplicatedTables = new ArrayList<>();
+    duplicatedTables.add(
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace1, "new", auditInfo));
+    duplicatedTables.add(
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace1, "table1", auditInfo));
+    assertThrows(AlreadyExistsException.class, () -> backend.batchInsert(duplicatedTables, false));
+    Assertions.assertFalse(
+        backend.exists(
+            NameIdentifier.of("metalake", "catalog", "schema1", "new"), Entity.EntityType.TABLE));
+
+    List<TopicEntity> topics = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      topics.add(
+          createTopicEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              Namespace.ofTopic("metalake", "catalog", "schema1"),
+              "topic" + i,
+              auditInfo));
+    }
+    backend.batchInsert(topics, false);
+    Assertions.assertEquals(
+        10,
+        backend
+            .list(Namespace.ofTopic("metalake", "catalog", "schema1"), Entity.EntityType.TOPIC)
+            .size());
+  }
+
+  @Test
+  public void testPurgeDeletedData() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    backend.insert(
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo), false);
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.ofCatalog("metalake"),
+            "catalog",
+            auditInfo),
+        false);
+    backend.insert(
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.ofSchema("metalake", "catalog"),
+            "schema",
+            auditInfo),
+        false);
+
+    Namespace namespace = Namespace.of("metalake", "catalog", "schema");
+    for (int i = 0; i < 3; i++) {
+      backend.insert(
+          createTopicEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "topic" + i, auditInfo),
+          false);
+      backend.delete(NameIdentifier.of(namespace, "topic" + i), Entity.EntityType.TOPIC, false);
+    }
+    Assertions.assertEquals(3, backend.countRows(Entity.EntityType.TOPIC));
+
+    // The rows deleted after the legacy timeline are kept.
+    long pastTimeline = Instant.now().toEpochMilli() - 60 * 60 * 1000L;
+    Assertions.assertEquals(
+        0, backend.hardDeleteLegacyData(Entity.EntityType.TOPIC, pastTimeline, 10));
+
+    long legacyTimeline = Instant.now().toEpochMilli() + 1000L;
+    Assertions.assertEquals(
+        2, backend.hardDeleteLegacyData(Entity.EntityType.TOPIC, legacyTimeline, 2));
+    Assertions.assertEquals(
+        1, backend.hardDeleteLegacyData(Entity.EntityType.TOPIC, legacyTimeline, 2));
+    Assertions.assertEquals(0, backend.countRows(Entity.EntityType.TOPIC));
+
+    // Four versions of the fileset, only the current one is retained.
+    FilesetEntity fileset =
+        createFilesetEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "fileset", auditInfo);
+    backend.insert(fileset, false);
+    for (int i = 0; i < 3; i++) {
+      String comment = "comment" + i;
+      backend.update(
+          fileset.nameIdentifier(),
+          Entity.EntityType.FILESET,
+          e ->
+              FilesetEntity.builder()
+                  .withId(fileset.id())
+                  .withName(fileset.name())
+                  .withNamespace(namespace)
+                  .withFilesetType(Fileset.Type.MANAGED)
+                  .withStorageLocation("/tmp")
+                  .withComment(comment)
+                  .withProperties(null)
+                  .withAuditInfo(auditInfo)
+                  .build());
+    }
+    Assertions.assertEquals(5, backend.countRows(Entity.EntityType.FILESET));
+    Assertions.assertEquals(0, backend.softDeleteOldVersionData(Entity.EntityType.TABLE, 1, 10));
+    Assertions.assertEquals(3, backend.softDeleteOldVersionData(Entity.EntityType.FILESET, 1, 10));
+    Assertions.assertEquals(0, backend.softDeleteOldVersionData(Entity.EntityType.FILESET, 1, 10));
+    Assertions.assertEquals(
+        3, backend.hardDeleteLegacyData(Entity.EntityType.FILESET, legacyTimeline + 1000L, 10));
+    Assertions.assertEquals(2, backend.countRows(Entity.EntityType.FILESET));
+    FilesetEntity current = backend.get(fileset.nameIdentifier(), Entity.EntityType.FILESET);
+    Assertions.assertEquals("comment2", current.comment());
+
+    RelationalGarbageCollector garbageCollector = new RelationalGarbageCollector(backend, config);
+    try {
+      garbageCollector.collectAndClean();
+      Assertions.assertEquals(1, garbageCollector.getCycles());
+      Assertions.assertEquals(2, garbageCollector.getRows(Entity.EntityType.FILESET));
+      Assertions.assertEquals(1, garbageCollector.getRows(Entity.EntityType.SCHEMA));
+    } finally {
+      garbageCollector.close();
+    }
+  }
+
   public static BaseMetalake createBaseMakeLake(Long id, String name, AuditInfo auditInfo) {
     return BaseMetalake.builder()
         .withId(id)
@@ -17,8 +17,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.storage.StoreConfigTestUtil;
 import java.io.File;
 import java.io.IOException;
 import java.sql.SQLException;
@@ -48,6 +51,7 @@ public class TestSqlSession {
     dir.mkdirs();
 
     config = Mockito.mock(Config.class);
+    StoreConfigTestUtil.stubRelationalDefaults(config);
     Mockito.when(config.get(ENTITY_STORE)).thenReturn(RELATIONAL_ENTITY_STORE);
     Mockito.when(config.get(ENTITY_RELATIONAL_STORE)).thenReturn(DEFAULT_ENTITY_RELATIONAL_STORE);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
@@ -88,16 +92,72 @@ public class TestSqlSession {
     SqlSessionFactoryHelper.getInstance().init(config);
     assertNotNull(SqlSessionFactoryHelper.getInstance().getSqlSessionFactory());
     BasicDataSource dataSource =
-        (BasicDataSource)
-            SqlSessionFactoryHelper.getInstance()
-                .getSqlSessionFactory()
-                .getConfiguration()
-                .getEnvironment()
-                .getDataSource();
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getEnvironment()
+            .getDataSource()
+            .unwrap(BasicDataSource.class);
     assertEquals("org.h2.Driver", dataSource.getDriverClassName());
     assertEquals(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL), dataSource.getUrl());
   }
 
+  @Test
+  public void testConnectionPoolConfig() throws SQLException {
+    SqlSessionFactoryHelper.getInstance().close();
+    Config poolConfig = Mockito.mock(Config.class);
+    StoreConfigTestUtil.stubRelationalDefaults(poolConfig);
+    Mockito.when(poolConfig.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
+        .thenReturn(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL));
+    Mockito.when(poolConfig.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("root");
+    Mockito.when(poolConfig.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("123");
+    Mockito.when(poolConfig.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    Mockito.when(poolConfig.get(Configs.ENTITY_RELATIONAL_POOL_MAX_TOTAL)).thenReturn(8);
+    Mockito.when(poolConfig.get(Configs.ENTITY_RELATIONAL_POOL_MAX_IDLE)).thenReturn(4);
+    Mockito.when(poolConfig.get(Configs.ENTITY_RELATIONAL_POOL_MIN_IDLE)).thenReturn(2);
+    Mockito.when(poolConfig.get(Configs.ENTITY_RELATIONAL_POOL_MAX_WAIT_MS)).thenReturn(5000L);
+    Mockito.when(poolConfig.get(Configs.ENTITY_RELATIONAL_POOL_STATEMENT_CACHE_SIZE))
+        .thenReturn(50);
+    Mockito.when(poolConfig.get(Configs.ENTITY_RELATIONAL_POOL_VALIDATION_QUERY))
+        .thenReturn("SELECT 1");
+
+    SqlSessionFactoryHelper.getInstance().init(poolConfig);
+    BasicDataSource dataSource =
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getEnvironment()
+            .getDataSource()
+            .unwrap(BasicDataSource.class);
+    assertEquals(8, dataSource.getMaxTotal());
+    assertEquals(4, dataSource.getMaxIdle());
+    assertEquals(5000L, dataSource.getMaxWaitDuration().toMillis());
+    assertTrue(dataSource.isPoolPreparedStatements());
+    assertEquals(50, dataSource.getMaxOpenPreparedStatements());
+    assertEquals("SELECT 1", dataSource.getValidationQuery());
+    // The idle connections are created when the pool is initialized.
+    assertEquals(2, dataSource.getNumIdle());
+
+    SqlSession session = SqlSessions.getSqlSession();
+    assertNotNull(session.getConnection());
+    assertEquals(1, dataSource.getNumActive());
+    SqlSessions.closeSqlSession();
+    assertEquals(0, dataSource.getNumActive());
+  }
+
+  @Test
+  public void testUnknownConnectionPool() {
+    SqlSessionFactoryHelper.getInstance().close();
+    Config poolConfig = Mockito.mock(Config.class);
+    StoreConfigTestUtil.stubRelationalDefaults(poolConfig);
+    Mockito.when(poolConfig.get(Configs.ENTITY_RELATIONAL_POOL_IMPL)).thenReturn("unknown");
+    assertThrows(
+        RuntimeException.class, () -> SqlSessionFactoryHelper.getInstance().init(poolConfig));
+    assertThrows(
+        IllegalStateException.class,
+        () -> SqlSessionFactoryHelper.getInstance().getSqlSessionFactory());
+  }
+
   @Test
   public void testGetSqlSessionFactoryWithoutInit() {
     SqlSessionFactoryHelper.getInstance().close();
@@ -72,11 +72,29 @@ public final class JettyServer {
     this.serverConfig = serverConfig;
     this.serverName = serverName;
 
-    ThreadPool threadPool =
-        createThreadPool(
-            serverConfig.getMinThreads(),
-            serverConfig.getMaxThreads(),
-            serverConfig.getThreadPoolWorkQueueSize());
+    ThreadPool threadPool;
+    if (serverConfig.isEnableVirtualThreads() && VirtualThreadPool.isSupported()) {
+      LOG.info(
+          "{} runs requests on virtual threads, max concurrency: {}",
+          serverName,
+          serverConfig.getVirtualThreadsMaxConcurrency());
+      threadPool =
+          new VirtualThreadPool(
+              serverName,
+              serverConfig.getVirtualThreadsMaxConcurrency(),
+              Thread.currentThread().getContextClassLoader());
+    } else {
+      if (serverConfig.isEnableVirtualThreads()) {
+        LOG.warn(
+            "Virtual threads are not supported by the current JVM {}, fall back to the thread pool",
+            System.getProperty("java.version"));
+      }
+      threadPool =
+          createThreadPool(
+              serverConfig.getMinThreads(),
+              serverConfig.getMaxThreads(),
+              serverConfig.getThreadPoolWorkQueueSize());
+    }
 
     // Create and config Jetty Server
     server = new Server(threadPool);
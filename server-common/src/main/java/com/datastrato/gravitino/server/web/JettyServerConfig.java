@@ -103,6 +103,23 @@ public final class JettyServerConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(100);
 
+  public static final ConfigEntry<Boolean> ENABLE_VIRTUAL_THREADS =
+      new ConfigBuilder("enableVirtualThreads")
+          .doc(
+              "Whether to run the requests on virtual threads instead of the bounded thread pool, "
+                  + "it only takes effect when running on JDK 21 or later")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> VIRTUAL_THREADS_MAX_CONCURRENCY =
+      new ConfigBuilder("virtualThreadsMaxConcurrency")
+          .doc("The maximum number of the requests running on virtual threads concurrently")
+          .version(ConfigConstants.VERSION_0_5_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000);
+
   public static final ConfigEntry<Boolean> ENABLE_HTTPS =
       new ConfigBuilder("enableHttps")
           .doc("Enable https")
@@ -296,6 +313,8 @@ public final class JettyServerConfig {
   private final int responseHeaderSize;
 
   private final int threadPoolWorkQueueSize;
+  private final boolean enableVirtualThreads;
+  private final int virtualThreadsMaxConcurrency;
 
   private final int httpsPort;
   private final String keyStorePath;
@@ -352,6 +371,15 @@ public final class JettyServerConfig {
     this.responseHeaderSize = internalConfig.get(WEBSERVER_RESPONSE_HEADER_SIZE);
     this.threadPoolWorkQueueSize = internalConfig.get(WEBSERVER_THREAD_POOL_WORK_QUEUE_SIZE);
 
+    this.enableVirtualThreads = internalConfig.get(ENABLE_VIRTUAL_THREADS);
+    int virtualThreadsMaxConcurrency = internalConfig.get(VIRTUAL_THREADS_MAX_CONCURRENCY);
+    // Acceptor and selector tasks of Jetty also run on the virtual threads and hold the permits.
+    if (virtualThreadsMaxConcurrency < 8) {
+      LOG.info("The configuration of virtualThreadsMaxConcurrency is too small, adjust to 8");
+      virtualThreadsMaxConcurrency = 8;
+    }
+    this.virtualThreadsMaxConcurrency = virtualThreadsMaxConcurrency;
+
     this.enableHttps = internalConfig.get(ENABLE_HTTPS);
     this.httpsPort = internalConfig.get(WEBSERVER_HTTPS_PORT);
     this.tlsProtocol = internalConfig.get(SSL_PROTOCOL);
@@ -441,6 +469,14 @@ public final class JettyServerConfig {
     return threadPoolWorkQueueSize;
   }
 
+  public boolean isEnableVirtualThreads() {
+    return enableVirtualThreads;
+  }
+
+  public int getVirtualThreadsMaxConcurrency() {
+    return virtualThreadsMaxConcurrency;
+  }
+
   public int getIdleTimeout() {
     return idleTimeout;
   }
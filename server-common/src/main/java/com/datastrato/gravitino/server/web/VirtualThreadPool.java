@@ -0,0 +1,156 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+
+package com.datastrato.gravitino.server.web;
+
+import com.google.common.base.Preconditions;
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Jetty {@link ThreadPool} that runs every task on a new virtual thread. It's only available when
+ * running on JDK 21 or later, the virtual thread API is looked up by reflection since Gravitino is
+ * built against Java 8.
+ *
+ * <p>Most of the request time of Gravitino server is spent on waiting for the remote catalogs, like
+ * Hive metastore, JDBC databases or Kafka, running the requests on virtual threads allows thousands
+ * of such requests to wait concurrently without thousands of platform threads. The number of the
+ * concurrently running tasks is limited by a semaphore, tasks exceeding the limit wait on their
+ * virtual threads without occupying a platform thread.
+ */
+public class VirtualThreadPool extends AbstractLifeCycle implements ThreadPool {
+
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPool.class);
+
+  private final String name;
+  private final int maxConcurrency;
+  private final ClassLoader contextClassLoader;
+  private final ThreadFactory threadFactory;
+  private final Semaphore permits;
+  private final AtomicInteger runningTasks = new AtomicInteger();
+  private final CountDownLatch stopped = new CountDownLatch(1);
+
+  /**
+   * Create a virtual thread pool.
+   *
+   * @param name The name prefix of the virtual threads.
+   * @param maxConcurrency The maximum number of the concurrently running tasks.
+   * @param contextClassLoader The context class loader of the virtual threads.
+   */
+  public VirtualThreadPool(String name, int maxConcurrency, ClassLoader contextClassLoader) {
+    Preconditions.checkArgument(
+        isSupported(), "Virtual threads are only supported on JDK 21 or later");
+    Preconditions.checkArgument(maxConcurrency > 0, "maxConcurrency should be positive");
+    this.name = name;
+    this.maxConcurrency = maxConcurrency;
+    this.contextClassLoader = contextClassLoader;
+    this.threadFactory = newVirtualThreadFactory(name + "-virtual-");
+    this.permits = new Semaphore(maxConcurrency);
+  }
+
+  /**
+   * Check whether the current JVM supports virtual threads.
+   *
+   * @return true if virtual threads are supported, false otherwise.
+   */
+  public static boolean isSupported() {
+    try {
+      Thread.class.getMethod("ofVirtual");
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  // Equivalent to Thread.ofVirtual().name(prefix, 0).factory() on JDK 21.
+  private static ThreadFactory newVirtualThreadFactory(String prefix) {
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Method nameMethod = builderClass.getMethod("name", String.class, long.class);
+      builder = nameMethod.invoke(builder, prefix, 0L);
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create the virtual thread factory", e);
+    }
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    if (!isRunning()) {
+      throw new RejectedExecutionException(name + " is not running");
+    }
+
+    Thread thread = threadFactory.newThread(() -> runTask(task));
+    // JettyServer maybe used by Gravitino server and Iceberg REST server with different
+    // classloaders, so the context classloader is set explicitly like the platform thread pool.
+    thread.setContextClassLoader(contextClassLoader);
+    thread.setUncaughtExceptionHandler(
+        (t, throwable) -> LOG.error("{} uncaught exception:", t.getName(), throwable));
+    thread.start();
+  }
+
+  private void runTask(Runnable task) {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Interrupted while waiting to run a task in {}", name);
+      return;
+    }
+
+    runningTasks.incrementAndGet();
+    try {
+      task.run();
+    } finally {
+      runningTasks.decrementAndGet();
+      permits.release();
+    }
+  }
+
+  @Override
+  protected void doStop() throws Exception {
+    stopped.countDown();
+    super.doStop();
+  }
+
+  @Override
+  public void join() throws InterruptedException {
+    stopped.await();
+  }
+
+  @Override
+  public int getThreads() {
+    return runningTasks.get();
+  }
+
+  @Override
+  public int getIdleThreads() {
+    return maxConcurrency - runningTasks.get();
+  }
+
+  @Override
+  public boolean isLowOnThreads() {
+    return permits.availablePermits() == 0;
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s{running=%d, maxConcurrency=%d}", name, runningTasks.get(), maxConcurrency);
+  }
+}
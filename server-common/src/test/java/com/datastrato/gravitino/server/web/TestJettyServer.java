@@ -11,9 +11,15 @@ import static org.mockito.Mockito.mock;
 import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.rest.RESTUtils;
 import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.servlet.Filter;
 import javax.servlet.Servlet;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -81,4 +87,59 @@ public class TestJettyServer {
   public void testStartWithoutInitialise() throws InterruptedException {
     assertThrows(RuntimeException.class, () -> jettyServer.start());
   }
+
+  @Test
+  public void testVirtualThreads() throws IOException {
+    Config config = new Config(false) {};
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, RESTUtils.findAvailablePort(5000, 6000));
+    config.set(JettyServerConfig.ENABLE_VIRTUAL_THREADS, true);
+    config.set(JettyServerConfig.VIRTUAL_THREADS_MAX_CONCURRENCY, 100);
+    JettyServerConfig serverConfig = JettyServerConfig.fromConfig(config);
+    jettyServer.initialize(serverConfig, "test", false);
+
+    // Falls back to the platform thread pool if the JVM doesn't support virtual threads.
+    if (VirtualThreadPool.isSupported()) {
+      Assertions.assertInstanceOf(VirtualThreadPool.class, jettyServer.getThreadPool());
+    } else {
+      Assertions.assertInstanceOf(QueuedThreadPool.class, jettyServer.getThreadPool());
+    }
+    jettyServer.start();
+    jettyServer.stop();
+  }
+
+  @Test
+  public void testVirtualThreadPoolMaxConcurrency() throws Exception {
+    Assumptions.assumeTrue(VirtualThreadPool.isSupported());
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    VirtualThreadPool threadPool = new VirtualThreadPool("test", 2, classLoader);
+    threadPool.start();
+    try {
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch finished = new CountDownLatch(10);
+      AtomicInteger maxRunning = new AtomicInteger();
+      for (int i = 0; i < 10; i++) {
+        threadPool.execute(
+            () -> {
+              maxRunning.accumulateAndGet(threadPool.getThreads(), Math::max);
+              Assertions.assertSame(classLoader, Thread.currentThread().getContextClassLoader());
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              finished.countDown();
+            });
+      }
+
+      Thread.sleep(100);
+      Assertions.assertEquals(2, threadPool.getThreads());
+      Assertions.assertTrue(threadPool.isLowOnThreads());
+
+      release.countDown();
+      Assertions.assertTrue(finished.await(10, TimeUnit.SECONDS));
+      Assertions.assertTrue(maxRunning.get() <= 2);
+    } finally {
+      threadPool.stop();
+    }
+  }
 }
@@ -4,8 +4,10 @@
  */
 package com.datastrato.gravitino.server;
 
+import com.datastrato.gravitino.Config;
 import com.datastrato.gravitino.Configs;
 import com.datastrato.gravitino.GravitinoEnv;
+import com.datastrato.gravitino.catalog.CatalogChangeFeed;
 import com.datastrato.gravitino.catalog.CatalogDispatcher;
 import com.datastrato.gravitino.catalog.FilesetDispatcher;
 import com.datastrato.gravitino.catalog.SchemaDispatcher;
@@ -77,8 +79,10 @@ public class GravitinoServer extends ResourceConfig {
         new AbstractBinder() {
           @Override
           protected void configure() {
+            bind(serverConfig).to(Config.class).ranked(1);
             bind(gravitinoEnv.metalakeDispatcher()).to(MetalakeDispatcher.class).ranked(1);
             bind(gravitinoEnv.catalogDispatcher()).to(CatalogDispatcher.class).ranked(1);
+            bind(gravitinoEnv.catalogChangeFeed()).to(CatalogChangeFeed.class).ranked(1);
 
             bind(gravitinoEnv.schemaDispatcher()).to(SchemaDispatcher.class).ranked(1);
             bind(gravitinoEnv.tableDispatcher()).to(TableDispatcher.class).ranked(1);
@@ -7,11 +7,19 @@ package com.datastrato.gravitino.server.web;
 import com.datastrato.gravitino.UserPrincipal;
 import com.datastrato.gravitino.auth.AuthConstants;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.json.JsonUtils;
+import com.datastrato.gravitino.utils.Executable;
 import com.datastrato.gravitino.utils.PrincipalUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
 import java.security.PrivilegedExceptionAction;
 import java.util.Optional;
+import javax.annotation.Nullable;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 
 public class Utils {
@@ -28,6 +36,72 @@ public class Utils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  /**
+   * Returns the response with an entity tag derived from the content of the entity, including the
+   * audit info of the loaded object. If the entity tag matches the If-None-Match header of the
+   * request, a 304 Not Modified response without the entity is returned instead, so that the client
+   * can reuse its cached response.
+   *
+   * <p>The object is loaded before the entity tag is known, it's for the objects whose metadata is
+   * not owned by Gravitino, use {@link #okWithETag(Request, String, Executable)} if the version of
+   * the object is known without loading it.
+   *
+   * @param request The request to evaluate the preconditions.
+   * @param t The entity of the response.
+   * @param <T> The type of the entity.
+   * @return The response with the entity tag.
+   * @throws JsonProcessingException If the entity can't be serialized.
+   */
+  public static <T> Response okWithETag(Request request, T t) throws JsonProcessingException {
+    // Serialize the entity once, the same bytes are hashed and sent.
+    byte[] content = JsonUtils.objectMapper().writeValueAsBytes(t);
+    EntityTag etag = new EntityTag(Hashing.murmur3_128().hashBytes(content).toString());
+    Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+    if (notModified != null) {
+      return notModified.tag(etag).build();
+    }
+
+    return Response.status(Response.Status.OK)
+        .entity(content)
+        .tag(etag)
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
+  /**
+   * Returns the response with an entity tag derived from the version of the object stored by
+   * Gravitino. The preconditions are evaluated before the object is loaded, so a request whose
+   * If-None-Match header matches gets a 304 Not Modified response without loading the object.
+   *
+   * @param request The request to evaluate the preconditions.
+   * @param version The version of the object, null if it's unknown, in which case the entity tag is
+   *     derived from the content of the loaded object.
+   * @param loader Loads the object and builds the entity of the response.
+   * @param <T> The type of the entity.
+   * @return The response with the entity tag.
+   * @throws Exception If the object can't be loaded.
+   */
+  public static <T> Response okWithETag(
+      Request request, @Nullable String version, Executable<T, Exception> loader)
+      throws Exception {
+    if (version == null) {
+      return okWithETag(request, loader.execute());
+    }
+
+    EntityTag etag =
+        new EntityTag(Hashing.murmur3_128().hashString(version, StandardCharsets.UTF_8).toString());
+    Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+    if (notModified != null) {
+      return notModified.tag(etag).build();
+    }
+
+    return Response.status(Response.Status.OK)
+        .entity(loader.execute())
+        .tag(etag)
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
   public static Response ok() {
     return Response.status(Response.Status.NO_CONTENT).type(MediaType.APPLICATION_JSON).build();
   }
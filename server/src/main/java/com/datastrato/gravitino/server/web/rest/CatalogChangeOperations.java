@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.server.web.rest;
+
+import com.datastrato.gravitino.catalog.CatalogChangeFeed;
+import com.datastrato.gravitino.dto.responses.CatalogChangesResponse;
+import com.datastrato.gravitino.server.web.Utils;
+import javax.inject.Inject;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+/**
+ * The catalog changes of a metalake. The clients long poll the changes since the version returned
+ * by the last call, and only reload the changed catalogs.
+ */
+@Path("/metalakes/{metalake}/catalog-changes")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class CatalogChangeOperations {
+
+  private final CatalogChangeFeed catalogChangeFeed;
+
+  @Inject
+  public CatalogChangeOperations(CatalogChangeFeed catalogChangeFeed) {
+    this.catalogChangeFeed = catalogChangeFeed;
+  }
+
+  @GET
+  @Produces("application/vnd.gravitino.v1+json")
+  public Response getCatalogChanges(
+      @PathParam("metalake") String metalake,
+      @QueryParam("since") @DefaultValue("-1") long sinceVersion,
+      @QueryParam("timeoutMs") @DefaultValue("0") long timeoutMs) {
+    try {
+      CatalogChangeFeed.Changes changes =
+          catalogChangeFeed.getChanges(metalake, sinceVersion, timeoutMs);
+      return Utils.ok(
+          new CatalogChangesResponse(
+              changes.version(), changes.reset(), changes.catalogs().toArray(new String[0])));
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return ExceptionHandlers.handleCatalogException(OperationType.LIST, "", metalake, e);
+    } catch (Exception e) {
+      return ExceptionHandlers.handleCatalogException(OperationType.LIST, "", metalake, e);
+    }
+  }
+}
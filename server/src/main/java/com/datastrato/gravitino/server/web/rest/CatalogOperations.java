@@ -34,6 +34,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +50,8 @@ public class CatalogOperations {
 
   @Context private HttpServletRequest httpRequest;
 
+  @Context private Request conditionalRequest;
+
   @Inject
   public CatalogOperations(CatalogDispatcher catalogDispatcher) {
     this.catalogDispatcher = catalogDispatcher;
@@ -120,10 +123,18 @@ public class CatalogOperations {
       @PathParam("metalake") String metalakeName, @PathParam("catalog") String catalogName) {
     try {
       NameIdentifier ident = NameIdentifier.ofCatalog(metalakeName, catalogName);
-      Catalog catalog =
-          TreeLockUtils.doWithTreeLock(
-              ident, LockType.READ, () -> catalogDispatcher.loadCatalog(ident));
-      return Utils.ok(new CatalogResponse(DTOConverters.toDTO(catalog)));
+      // The catalog is only loaded if the version stored by Gravitino doesn't match the tag of the
+      // client, initializing a catalog is much more expensive than reading its entity.
+      return TreeLockUtils.doWithTreeLock(
+          ident,
+          LockType.READ,
+          () ->
+              Utils.okWithETag(
+                  conditionalRequest,
+                  catalogDispatcher.catalogVersion(ident),
+                  () ->
+                      new CatalogResponse(
+                          DTOConverters.toDTO(catalogDispatcher.loadCatalog(ident)))));
 
     } catch (Exception e) {
       return ExceptionHandlers.handleCatalogException(
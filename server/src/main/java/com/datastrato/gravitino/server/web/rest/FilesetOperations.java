@@ -13,7 +13,7 @@ import com.datastrato.gravitino.dto.requests.FilesetCreateRequest;
 import com.datastrato.gravitino.dto.requests.FilesetUpdateRequest;
 import com.datastrato.gravitino.dto.requests.FilesetUpdatesRequest;
 import com.datastrato.gravitino.dto.responses.DropResponse;
-import com.datastrato.gravitino.dto.responses.EntityListResponse;
+import com.datastrato.gravitino.dto.responses.FileLocationResponse;
 import com.datastrato.gravitino.dto.responses.FilesetResponse;
 import com.datastrato.gravitino.dto.util.DTOConverters;
 import com.datastrato.gravitino.file.Fileset;
@@ -22,17 +22,24 @@ import com.datastrato.gravitino.lock.LockType;
 import com.datastrato.gravitino.lock.TreeLockUtils;
 import com.datastrato.gravitino.metrics.MetricNames;
 import com.datastrato.gravitino.server.web.Utils;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Optional;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,6 +53,8 @@ public class FilesetOperations {
 
   @Context private HttpServletRequest httpRequest;
 
+  @Context private Request conditionalRequest;
+
   @Inject
   public FilesetOperations(FilesetDispatcher dispatcher) {
     this.dispatcher = dispatcher;
@@ -58,7 +67,9 @@ public class FilesetOperations {
   public Response listFilesets(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     try {
       return Utils.doAs(
           httpRequest,
@@ -69,7 +80,7 @@ public class FilesetOperations {
                     NameIdentifier.of(metalake, catalog, schema),
                     LockType.READ,
                     () -> dispatcher.listFilesets(filesetNS));
-            return Utils.ok(new EntityListResponse(idents));
+            return Utils.ok(PageUtils.entityListResponse(idents, pageToken, pageSize));
           });
 
     } catch (Exception e) {
@@ -129,10 +140,45 @@ public class FilesetOperations {
           httpRequest,
           () -> {
             NameIdentifier ident = NameIdentifier.ofFileset(metalake, catalog, schema, fileset);
+            return TreeLockUtils.doWithTreeLock(
+                ident,
+                LockType.READ,
+                () ->
+                    Utils.okWithETag(
+                        conditionalRequest,
+                        dispatcher.filesetVersion(ident),
+                        () ->
+                            new FilesetResponse(
+                                DTOConverters.toDTO(dispatcher.loadFileset(ident)))));
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleFilesetException(OperationType.LOAD, fileset, schema, e);
+    }
+  }
+
+  @GET
+  @Path("{fileset}/location")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "get-file-location." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-file-location", absolute = true)
+  public Response getFileLocation(
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @PathParam("schema") String schema,
+      @PathParam("fileset") String fileset,
+      @QueryParam("subPath") @DefaultValue("") String subPath) {
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier ident = NameIdentifier.ofFileset(metalake, catalog, schema, fileset);
+            String path = normalizeSubPath(subPath);
             Fileset t =
                 TreeLockUtils.doWithTreeLock(
                     ident, LockType.READ, () -> dispatcher.loadFileset(ident));
-            return Utils.ok(new FilesetResponse(DTOConverters.toDTO(t)));
+            return Utils.ok(
+                new FileLocationResponse(
+                    DTOConverters.toDTO(t), fileLocation(t.storageLocation(), path)));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleFilesetException(OperationType.LOAD, fileset, schema, e);
@@ -204,4 +250,41 @@ public class FilesetOperations {
       return ExceptionHandlers.handleFilesetException(OperationType.DROP, fileset, schema, e);
     }
   }
+
+  /**
+   * Normalizes the path relative to the fileset, the "." and ".." names are resolved and the
+   * leading and repeated slashes are removed.
+   *
+   * @param subPath The path relative to the fileset.
+   * @return The normalized path, an empty string for the fileset itself.
+   * @throws IllegalArgumentException If the path leaves the storage location of the fileset.
+   */
+  @VisibleForTesting
+  static String normalizeSubPath(String subPath) {
+    Deque<String> names = new ArrayDeque<>();
+    for (String name : subPath.split("/")) {
+      if (name.isEmpty() || name.equals(".")) {
+        continue;
+      }
+
+      if (name.equals("..")) {
+        Preconditions.checkArgument(
+            !names.isEmpty(), "The sub path %s is out of the fileset location", subPath);
+        names.removeLast();
+      } else {
+        names.addLast(name);
+      }
+    }
+
+    String path = String.join("/", names);
+    return !path.isEmpty() && subPath.endsWith("/") ? path + "/" : path;
+  }
+
+  private static String fileLocation(String storageLocation, String path) {
+    if (path.isEmpty()) {
+      return storageLocation;
+    }
+
+    return storageLocation.endsWith("/") ? storageLocation + path : storageLocation + "/" + path;
+  }
 }
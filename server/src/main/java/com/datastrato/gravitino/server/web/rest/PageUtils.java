@@ -0,0 +1,177 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.server.web.rest;
+
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.dto.responses.EntityListResponse;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Ordering;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utilities to split the result of a list operation into pages by a cursor.
+ *
+ * <p>The items are sorted by their names, and the page token is the encoded name of the last item
+ * in the previous page, so a page is still correct if items are added or removed between two
+ * requests. A request without page token and page size is not paged and returns all the items.
+ */
+public class PageUtils {
+
+  /** The page size used if the page token is set but the page size is not. */
+  @VisibleForTesting static final int DEFAULT_PAGE_SIZE = 1000;
+
+  /** The max page size, a larger page size is reduced to it. */
+  @VisibleForTesting static final int MAX_PAGE_SIZE = 10000;
+
+  private PageUtils() {}
+
+  /**
+   * A page of items and the token to fetch the next page.
+   *
+   * @param <T> The type of the items.
+   */
+  public static class Page<T> {
+    private final List<T> items;
+    private final String nextPageToken;
+
+    private Page(List<T> items, String nextPageToken) {
+      this.items = items;
+      this.nextPageToken = nextPageToken;
+    }
+
+    /** @return The items in the page. */
+    public List<T> items() {
+      return items;
+    }
+
+    /** @return The token to fetch the next page, or null if it's the last page. */
+    public String nextPageToken() {
+      return nextPageToken;
+    }
+  }
+
+  /**
+   * Checks whether the request is paged.
+   *
+   * @param pageToken The page token of the request.
+   * @param pageSize The page size of the request.
+   * @return True if the request is paged, false otherwise.
+   */
+  public static boolean isPaged(String pageToken, Integer pageSize) {
+    return pageToken != null || pageSize != null;
+  }
+
+  /**
+   * Gets the page size of the request.
+   *
+   * @param pageSize The page size of the request, null to use the default page size.
+   * @return The page size, which is at most {@link #MAX_PAGE_SIZE}.
+   * @throws IllegalArgumentException If the page size is not positive.
+   */
+  public static int pageSize(Integer pageSize) {
+    int size = pageSize == null ? DEFAULT_PAGE_SIZE : pageSize;
+    Preconditions.checkArgument(size > 0, "pageSize must be positive, but got %s", size);
+    return Math.min(size, MAX_PAGE_SIZE);
+  }
+
+  /**
+   * Gets the name of the last item in the previous page.
+   *
+   * @param pageToken The token returned by the previous page, null to get the first page.
+   * @return The name of the last item in the previous page, or null if it's the first page.
+   * @throws IllegalArgumentException If the page token is invalid.
+   */
+  public static String lastName(String pageToken) {
+    return pageToken == null || pageToken.isEmpty() ? null : decode(pageToken);
+  }
+
+  /**
+   * Gets the page of items after the page token.
+   *
+   * @param items All the items.
+   * @param nameFn The function to get the name of an item, the name must be unique.
+   * @param pageToken The token returned by the previous page, null to get the first page.
+   * @param pageSize The max number of items in the page, null to use the default page size.
+   * @param <T> The type of the items.
+   * @return The page of items.
+   * @throws IllegalArgumentException If the page token or the page size is invalid.
+   */
+  public static <T> Page<T> page(
+      T[] items, Function<T, String> nameFn, String pageToken, Integer pageSize) {
+    int size = pageSize(pageSize);
+    String lastName = lastName(pageToken);
+
+    // Select one more item than the page size to know whether there is a next page, the items
+    // after the page don't need to be sorted.
+    List<T> sortedItems =
+        Ordering.from(Comparator.comparing(nameFn))
+            .leastOf(
+                Arrays.stream(items)
+                    .filter(item -> lastName == null || nameFn.apply(item).compareTo(lastName) > 0)
+                    .iterator(),
+                size + 1);
+    return page(sortedItems, nameFn, size);
+  }
+
+  /**
+   * Gets the page of the sorted items, which are the items after the previous page.
+   *
+   * @param sortedItems The items after the previous page sorted by their names, there is a next
+   *     page if there are more items than the page size.
+   * @param nameFn The function to get the name of an item, the name must be unique.
+   * @param pageSize The max number of items in the page.
+   * @param <T> The type of the items.
+   * @return The page of items.
+   */
+  public static <T> Page<T> page(List<T> sortedItems, Function<T, String> nameFn, int pageSize) {
+    if (sortedItems.size() <= pageSize) {
+      return new Page<>(sortedItems, null);
+    }
+
+    List<T> page = sortedItems.subList(0, pageSize);
+    return new Page<>(page, encode(nameFn.apply(page.get(pageSize - 1))));
+  }
+
+  /**
+   * Builds the response of a list of entities, the entities are paged if the page token or the
+   * page size is set.
+   *
+   * @param idents All the entity identifiers.
+   * @param pageToken The page token of the request.
+   * @param pageSize The page size of the request.
+   * @return The response of all or a page of the entities.
+   */
+  public static EntityListResponse entityListResponse(
+      NameIdentifier[] idents, String pageToken, Integer pageSize) {
+    if (!isPaged(pageToken, pageSize)) {
+      return new EntityListResponse(idents);
+    }
+
+    Page<NameIdentifier> page = page(idents, NameIdentifier::name, pageToken, pageSize);
+    return new EntityListResponse(
+        page.items().toArray(new NameIdentifier[0]), page.nextPageToken());
+  }
+
+  @VisibleForTesting
+  static String encode(String name) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(name.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String decode(String pageToken) {
+    try {
+      return new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid pageToken: " + pageToken, e);
+    }
+  }
+}
@@ -25,6 +25,14 @@ import com.datastrato.gravitino.rel.Table;
 import com.datastrato.gravitino.rel.partitions.Partition;
 import com.datastrato.gravitino.server.web.Utils;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -43,6 +51,16 @@ import org.slf4j.LoggerFactory;
 @Path("/metalakes/{metalake}/catalogs/{catalog}/schemas/{schema}/tables/{table}/partitions")
 public class PartitionOperations {
   private static final Logger LOG = LoggerFactory.getLogger(PartitionOperations.class);
+  private static final long MAX_CACHED_PARTITION_NAMES = 1_000_000L;
+  private static final long PARTITION_NAMES_EXPIRE_AFTER_WRITE_MS = 5 * 60 * 1000L;
+
+  // The sorted partition names of the tables keyed by the table and the token of the next page.
+  private static final Cache<Map.Entry<NameIdentifier, String>, String[]> SORTED_PARTITION_NAMES =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_CACHED_PARTITION_NAMES)
+          .<Map.Entry<NameIdentifier, String>, String[]>weigher((key, names) -> names.length)
+          .expireAfterWrite(PARTITION_NAMES_EXPIRE_AFTER_WRITE_MS, TimeUnit.MILLISECONDS)
+          .build();
 
   private final TableDispatcher dispatcher;
   @Context private HttpServletRequest httpRequest;
@@ -61,7 +79,9 @@ public class PartitionOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     try {
       return Utils.doAs(
           httpRequest,
@@ -72,6 +92,10 @@ public class PartitionOperations {
                 LockType.READ,
                 () -> {
                   Table loadTable = dispatcher.loadTable(tableIdent);
+                  if (PageUtils.isPaged(pageToken, pageSize)) {
+                    return listPartitionsPage(tableIdent, loadTable, verbose, pageToken, pageSize);
+                  }
+
                   if (verbose) {
                     Partition[] partitions = loadTable.supportPartitions().listPartitions();
                     return Utils.ok(new PartitionListResponse(toDTOs(partitions)));
@@ -192,4 +216,49 @@ public class PartitionOperations {
       return ExceptionHandlers.handlePartitionException(OperationType.DROP, "", table, e);
     }
   }
+
+  private Response listPartitionsPage(
+      NameIdentifier tableIdent, Table table, boolean verbose, String pageToken, Integer pageSize) {
+    int size = PageUtils.pageSize(pageSize);
+    String lastName = PageUtils.lastName(pageToken);
+
+    // The sorted partition names are listed once for the first page, the next pages are served
+    // from the names cached with their page tokens instead of listing and sorting all the names
+    // again, so a walk reads the partition names listed for its first page. The names are listed
+    // again if the cached ones are evicted, expired or cached by another server.
+    Map.Entry<NameIdentifier, String> key =
+        pageToken == null ? null : new AbstractMap.SimpleImmutableEntry<>(tableIdent, pageToken);
+    String[] sortedNames = key == null ? null : SORTED_PARTITION_NAMES.getIfPresent(key);
+    if (sortedNames == null) {
+      sortedNames = table.supportPartitions().listPartitionNames().clone();
+      Arrays.sort(sortedNames);
+    } else {
+      SORTED_PARTITION_NAMES.invalidate(key);
+    }
+
+    int from = 0;
+    if (lastName != null) {
+      int index = Arrays.binarySearch(sortedNames, lastName);
+      from = index >= 0 ? index + 1 : -index - 1;
+    }
+    // One more name is taken to know whether there is a next page.
+    List<String> names =
+        Arrays.asList(sortedNames).subList(from, Math.min(from + size + 1, sortedNames.length));
+    PageUtils.Page<String> page = PageUtils.page(names, Function.identity(), size);
+    if (page.nextPageToken() != null) {
+      SORTED_PARTITION_NAMES.put(
+          new AbstractMap.SimpleImmutableEntry<>(tableIdent, page.nextPageToken()), sortedNames);
+    }
+
+    String[] pageNames = page.items().toArray(new String[0]);
+    if (verbose) {
+      // The partitions dropped after the names are listed are skipped.
+      Partition[] partitions =
+          pageNames.length == 0
+              ? new Partition[0]
+              : table.supportPartitions().getPartitionsIfExist(pageNames);
+      return Utils.ok(new PartitionListResponse(toDTOs(partitions), page.nextPageToken()));
+    }
+    return Utils.ok(new PartitionNameListResponse(pageNames, page.nextPageToken()));
+  }
 }
@@ -13,7 +13,6 @@ import com.datastrato.gravitino.dto.requests.SchemaCreateRequest;
 import com.datastrato.gravitino.dto.requests.SchemaUpdateRequest;
 import com.datastrato.gravitino.dto.requests.SchemaUpdatesRequest;
 import com.datastrato.gravitino.dto.responses.DropResponse;
-import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.SchemaResponse;
 import com.datastrato.gravitino.dto.util.DTOConverters;
 import com.datastrato.gravitino.lock.LockType;
@@ -36,6 +35,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +51,8 @@ public class SchemaOperations {
 
   @Context private HttpServletRequest httpRequest;
 
+  @Context private Request conditionalRequest;
+
   @Inject
   public SchemaOperations(SchemaDispatcher dispatcher) {
     this.dispatcher = dispatcher;
@@ -61,7 +63,10 @@ public class SchemaOperations {
   @Timed(name = "list-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-schema", absolute = true)
   public Response listSchemas(
-      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     try {
       return Utils.doAs(
           httpRequest,
@@ -72,7 +77,7 @@ public class SchemaOperations {
                     NameIdentifier.of(metalake, catalog),
                     LockType.READ,
                     () -> dispatcher.listSchemas(schemaNS));
-            return Utils.ok(new EntityListResponse(idents));
+            return Utils.ok(PageUtils.entityListResponse(idents, pageToken, pageSize));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleSchemaException(OperationType.LIST, "", catalog, e);
@@ -126,7 +131,8 @@ public class SchemaOperations {
             Schema s =
                 TreeLockUtils.doWithTreeLock(
                     ident, LockType.READ, () -> dispatcher.loadSchema(ident));
-            return Utils.ok(new SchemaResponse(DTOConverters.toDTO(s)));
+            return Utils.okWithETag(
+                conditionalRequest, new SchemaResponse(DTOConverters.toDTO(s)));
           });
 
     } catch (Exception e) {
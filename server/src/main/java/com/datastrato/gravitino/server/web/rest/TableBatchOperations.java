@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.catalog.TableDispatcher;
+import com.datastrato.gravitino.dto.rel.TableDTO;
+import com.datastrato.gravitino.dto.requests.TablesBatchLoadRequest;
+import com.datastrato.gravitino.dto.responses.TableListResponse;
+import com.datastrato.gravitino.dto.util.DTOConverters;
+import com.datastrato.gravitino.lock.LockType;
+import com.datastrato.gravitino.lock.TreeLockUtils;
+import com.datastrato.gravitino.metrics.MetricNames;
+import com.datastrato.gravitino.rel.Table;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+
+/**
+ * The batch operations of the tables in a schema. It's not a sub-resource of {@link
+ * TableOperations}, since the path "tables/{table}" is used to address a single table, a batch
+ * operation is addressed as a custom method "tables:{method}" of the table collection.
+ */
+@Path("metalakes/{metalake}/catalogs/{catalog}/schemas/{schema}/tables:batchLoad")
+public class TableBatchOperations {
+
+  private final TableDispatcher dispatcher;
+
+  private final int maxBatchSize;
+
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public TableBatchOperations(TableDispatcher dispatcher, Config config) {
+    this.dispatcher = dispatcher;
+    this.maxBatchSize = config.get(Configs.TABLE_BATCH_LOAD_MAX_SIZE);
+  }
+
+  @POST
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "batch-load-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "batch-load-table", absolute = true)
+  public Response batchLoadTables(
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @PathParam("schema") String schema,
+      TablesBatchLoadRequest request) {
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            Preconditions.checkArgument(
+                request.getNames().length <= maxBatchSize,
+                "Too many tables to load in one request: %s, the max is %s",
+                request.getNames().length,
+                maxBatchSize);
+            NameIdentifier[] idents =
+                Arrays.stream(request.getNames())
+                    .map(name -> NameIdentifier.ofTable(metalake, catalog, schema, name))
+                    .toArray(NameIdentifier[]::new);
+            Table[] tables =
+                TreeLockUtils.doWithTreeLock(
+                    NameIdentifier.of(metalake, catalog, schema),
+                    LockType.READ,
+                    () -> dispatcher.loadTables(idents));
+            TableDTO[] tableDTOs =
+                Arrays.stream(tables).map(DTOConverters::toDTO).toArray(TableDTO[]::new);
+            return Utils.ok(new TableListResponse(tableDTOs));
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleTableException(OperationType.LOAD, "", schema, e);
+    }
+  }
+}
@@ -16,7 +16,6 @@ import com.datastrato.gravitino.dto.requests.TableCreateRequest;
 import com.datastrato.gravitino.dto.requests.TableUpdateRequest;
 import com.datastrato.gravitino.dto.requests.TableUpdatesRequest;
 import com.datastrato.gravitino.dto.responses.DropResponse;
-import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.TableResponse;
 import com.datastrato.gravitino.dto.util.DTOConverters;
 import com.datastrato.gravitino.lock.LockType;
@@ -37,6 +36,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +50,8 @@ public class TableOperations {
 
   @Context private HttpServletRequest httpRequest;
 
+  @Context private Request conditionalRequest;
+
   @Inject
   public TableOperations(TableDispatcher dispatcher) {
     this.dispatcher = dispatcher;
@@ -62,7 +64,9 @@ public class TableOperations {
   public Response listTables(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     try {
       return Utils.doAs(
           httpRequest,
@@ -73,7 +77,7 @@ public class TableOperations {
                     NameIdentifier.of(metalake, catalog, schema),
                     LockType.READ,
                     () -> dispatcher.listTables(tableNS));
-            return Utils.ok(new EntityListResponse(idents));
+            return Utils.ok(PageUtils.entityListResponse(idents, pageToken, pageSize));
           });
 
     } catch (Exception e) {
@@ -139,7 +143,8 @@ public class TableOperations {
             Table t =
                 TreeLockUtils.doWithTreeLock(
                     ident, LockType.READ, () -> dispatcher.loadTable(ident));
-            return Utils.ok(new TableResponse(DTOConverters.toDTO(t)));
+            return Utils.okWithETag(
+                conditionalRequest, new TableResponse(DTOConverters.toDTO(t)));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleTableException(OperationType.LOAD, table, schema, e);
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.server.web.rest;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastrato.gravitino.Config;
+import com.datastrato.gravitino.Configs;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.catalog.CatalogChangeFeed;
+import com.datastrato.gravitino.dto.responses.CatalogChangesResponse;
+import com.datastrato.gravitino.listener.api.event.DropCatalogEvent;
+import com.datastrato.gravitino.rest.RESTUtils;
+import java.io.IOException;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogChangeOperations extends JerseyTest {
+
+  private CatalogChangeFeed feed;
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    Config config = mock(Config.class);
+    when(config.get(Configs.CATALOG_CHANGE_FEED_CAPACITY)).thenReturn(100);
+    when(config.get(Configs.CATALOG_CHANGE_FEED_MAX_WAIT_MS)).thenReturn(1000L);
+    when(config.get(Configs.CATALOG_CHANGE_FEED_MAX_WAITERS)).thenReturn(10);
+    feed = new CatalogChangeFeed(config);
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(CatalogChangeOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(feed).to(CatalogChangeFeed.class).ranked(2);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  public void testGetCatalogChanges() {
+    CatalogChangesResponse changesResponse = getCatalogChanges(-1);
+    Assertions.assertEquals(0, changesResponse.getCode());
+    Assertions.assertTrue(changesResponse.reset());
+    Assertions.assertEquals(0, changesResponse.catalogs().length);
+    long version = changesResponse.version();
+
+    feed.onPostEvent(
+        new DropCatalogEvent("user", NameIdentifier.ofCatalog("metalake1", "catalog1"), true));
+
+    changesResponse = getCatalogChanges(version);
+    Assertions.assertFalse(changesResponse.reset());
+    Assertions.assertArrayEquals(new String[] {"catalog1"}, changesResponse.catalogs());
+    Assertions.assertEquals(version + 1, changesResponse.version());
+  }
+
+  private CatalogChangesResponse getCatalogChanges(long sinceVersion) {
+    Response resp =
+        target("/metalakes/metalake1/catalog-changes")
+            .queryParam("since", sinceVersion)
+            .queryParam("timeoutMs", 0)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    return resp.readEntity(CatalogChangesResponse.class);
+  }
+}
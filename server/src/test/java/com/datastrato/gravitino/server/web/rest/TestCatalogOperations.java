@@ -10,6 +10,8 @@ import static com.datastrato.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datastrato.gravitino.Catalog;
@@ -44,6 +46,8 @@ import java.util.Collections;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
@@ -340,6 +344,85 @@ public class TestCatalogOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResponse2.getType());
   }
 
+  @Test
+  public void testLoadCatalogWithETag() {
+    when(manager.loadCatalog(any())).thenReturn(buildCatalog("metalake1", "catalog1"));
+
+    Response resp =
+        target("/metalakes/metalake1/catalogs/catalog1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    EntityTag etag = resp.getEntityTag();
+    Assertions.assertNotNull(etag);
+
+    // The unchanged catalog isn't sent again.
+    Response resp1 =
+        target("/metalakes/metalake1/catalogs/catalog1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .header(HttpHeaders.IF_NONE_MATCH, etag.toString())
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), resp1.getStatus());
+    Assertions.assertEquals(etag, resp1.getEntityTag());
+    Assertions.assertFalse(resp1.hasEntity());
+
+    // The changed catalog is sent with a new entity tag.
+    when(manager.loadCatalog(any())).thenReturn(buildCatalog("metalake1", "catalog2"));
+    Response resp2 =
+        target("/metalakes/metalake1/catalogs/catalog1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .header(HttpHeaders.IF_NONE_MATCH, etag.toString())
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp2.getStatus());
+    Assertions.assertNotEquals(etag, resp2.getEntityTag());
+    Assertions.assertEquals(
+        "catalog2", resp2.readEntity(CatalogResponse.class).getCatalog().name());
+  }
+
+  @Test
+  public void testLoadCatalogWithVersionETag() {
+    when(manager.catalogVersion(any())).thenReturn("1-1000");
+    when(manager.loadCatalog(any())).thenReturn(buildCatalog("metalake1", "catalog1"));
+
+    Response resp =
+        target("/metalakes/metalake1/catalogs/catalog1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    EntityTag etag = resp.getEntityTag();
+    Assertions.assertNotNull(etag);
+    Assertions.assertEquals(
+        "catalog1", resp.readEntity(CatalogResponse.class).getCatalog().name());
+    verify(manager, times(1)).loadCatalog(any());
+
+    // The catalog isn't loaded if the version matches the entity tag.
+    Response resp1 =
+        target("/metalakes/metalake1/catalogs/catalog1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .header(HttpHeaders.IF_NONE_MATCH, etag.toString())
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), resp1.getStatus());
+    Assertions.assertEquals(etag, resp1.getEntityTag());
+    verify(manager, times(1)).loadCatalog(any());
+
+    // The catalog is loaded again once the version changes.
+    when(manager.catalogVersion(any())).thenReturn("1-2000");
+    Response resp2 =
+        target("/metalakes/metalake1/catalogs/catalog1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .header(HttpHeaders.IF_NONE_MATCH, etag.toString())
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp2.getStatus());
+    Assertions.assertNotEquals(etag, resp2.getEntityTag());
+    verify(manager, times(2)).loadCatalog(any());
+  }
+
   @Test
   public void testAlterCatalog() {
     TestCatalog catalog = buildCatalog("metalake1", "catalog2");
@@ -26,6 +26,7 @@ import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.ErrorConstants;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.FileLocationResponse;
 import com.datastrato.gravitino.dto.responses.FilesetResponse;
 import com.datastrato.gravitino.exceptions.FilesetAlreadyExistsException;
 import com.datastrato.gravitino.exceptions.NoSuchFilesetException;
@@ -211,6 +212,89 @@ public class TestFilesetOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testGetFileLocation() {
+    Fileset fileset =
+        mockFileset(
+            "fileset1",
+            Fileset.Type.MANAGED,
+            "mock comment",
+            "hdfs://host/fileset1",
+            ImmutableMap.of("k1", "v1"));
+    when(dispatcher.loadFileset(any())).thenReturn(fileset);
+
+    Response resp =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/location")
+            .queryParam("subPath", "/dir/test.txt")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    FileLocationResponse locationResp = resp.readEntity(FileLocationResponse.class);
+    Assertions.assertEquals(0, locationResp.getCode());
+    Assertions.assertEquals("hdfs://host/fileset1/dir/test.txt", locationResp.getFileLocation());
+    Assertions.assertEquals(fileset.name(), locationResp.getFileset().name());
+    Assertions.assertEquals(
+        fileset.storageLocation(), locationResp.getFileset().storageLocation());
+
+    // The location of the fileset itself
+    Response resp1 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/location")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(
+        "hdfs://host/fileset1", resp1.readEntity(FileLocationResponse.class).getFileLocation());
+
+    // The sub path is normalized
+    Response resp3 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/location")
+            .queryParam("subPath", "dir//./sub/../test.txt")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(
+        "hdfs://host/fileset1/dir/test.txt",
+        resp3.readEntity(FileLocationResponse.class).getFileLocation());
+
+    // The sub path out of the fileset location is rejected
+    Response resp4 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/location")
+            .queryParam("subPath", "dir/../../fileset2/test.txt")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp4.getStatus());
+    Assertions.assertEquals(
+        ErrorConstants.ILLEGAL_ARGUMENTS_CODE, resp4.readEntity(ErrorResponse.class).getCode());
+
+    // Test throw NoSuchFilesetException
+    doThrow(new NoSuchFilesetException("no found")).when(dispatcher).loadFileset(any());
+    Response resp2 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/location")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp2.getStatus());
+
+    ErrorResponse errorResp = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp.getCode());
+    Assertions.assertEquals(NoSuchFilesetException.class.getSimpleName(), errorResp.getType());
+  }
+
+  @Test
+  public void testNormalizeSubPath() {
+    Assertions.assertEquals("", FilesetOperations.normalizeSubPath(""));
+    Assertions.assertEquals("", FilesetOperations.normalizeSubPath("/./"));
+    Assertions.assertEquals("dir/", FilesetOperations.normalizeSubPath("/dir/sub/../"));
+    Assertions.assertEquals("a..b/c", FilesetOperations.normalizeSubPath("a..b//c"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> FilesetOperations.normalizeSubPath(".."));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> FilesetOperations.normalizeSubPath("/dir/../../x"));
+  }
+
   @Test
   public void testCreateFileset() {
     Fileset fileset =
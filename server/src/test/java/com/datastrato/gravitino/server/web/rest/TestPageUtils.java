@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.server.web.rest;
+
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.dto.responses.EntityListResponse;
+import com.google.common.collect.Lists;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPageUtils {
+
+  @Test
+  public void testPage() {
+    String[] names = new String[] {"c", "a", "d", "b", "e"};
+
+    PageUtils.Page<String> page = PageUtils.page(names, Function.identity(), null, 2);
+    Assertions.assertEquals(Lists.newArrayList("a", "b"), page.items());
+    Assertions.assertEquals(PageUtils.encode("b"), page.nextPageToken());
+
+    page = PageUtils.page(names, Function.identity(), page.nextPageToken(), 2);
+    Assertions.assertEquals(Lists.newArrayList("c", "d"), page.items());
+
+    page = PageUtils.page(names, Function.identity(), page.nextPageToken(), 2);
+    Assertions.assertEquals(Lists.newArrayList("e"), page.items());
+    Assertions.assertNull(page.nextPageToken());
+
+    // The page is still correct if the last item of the previous page is removed.
+    page =
+        PageUtils.page(
+            new String[] {"a", "c", "d"}, Function.identity(), PageUtils.encode("b"), null);
+    Assertions.assertEquals(Lists.newArrayList("c", "d"), page.items());
+    Assertions.assertNull(page.nextPageToken());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> PageUtils.page(names, Function.identity(), null, 0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> PageUtils.page(names, Function.identity(), "invalid token!", 1));
+  }
+
+  @Test
+  public void testPageOfSortedItems() {
+    Assertions.assertEquals(PageUtils.DEFAULT_PAGE_SIZE, PageUtils.pageSize(null));
+    Assertions.assertEquals(
+        PageUtils.MAX_PAGE_SIZE, PageUtils.pageSize(PageUtils.MAX_PAGE_SIZE + 1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> PageUtils.pageSize(-1));
+    Assertions.assertNull(PageUtils.lastName(null));
+    Assertions.assertEquals("b", PageUtils.lastName(PageUtils.encode("b")));
+
+    PageUtils.Page<String> page =
+        PageUtils.page(Lists.newArrayList("c", "d", "e"), Function.identity(), 2);
+    Assertions.assertEquals(Lists.newArrayList("c", "d"), page.items());
+    Assertions.assertEquals(PageUtils.encode("d"), page.nextPageToken());
+
+    page = PageUtils.page(Lists.newArrayList("e"), Function.identity(), 2);
+    Assertions.assertEquals(Lists.newArrayList("e"), page.items());
+    Assertions.assertNull(page.nextPageToken());
+  }
+
+  @Test
+  public void testEntityListResponse() {
+    NameIdentifier[] idents =
+        new NameIdentifier[] {
+          NameIdentifier.of("metalake", "catalog", "schema", "table2"),
+          NameIdentifier.of("metalake", "catalog", "schema", "table1")
+        };
+
+    // The response isn't paged if neither the page token nor the page size is set.
+    EntityListResponse resp = PageUtils.entityListResponse(idents, null, null);
+    Assertions.assertArrayEquals(idents, resp.identifiers());
+    Assertions.assertNull(resp.nextPageToken());
+
+    resp = PageUtils.entityListResponse(idents, null, 1);
+    Assertions.assertArrayEquals(new NameIdentifier[] {idents[1]}, resp.identifiers());
+    Assertions.assertNotNull(resp.nextPageToken());
+
+    resp = PageUtils.entityListResponse(idents, resp.nextPageToken(), 1);
+    Assertions.assertArrayEquals(new NameIdentifier[] {idents[0]}, resp.identifiers());
+    Assertions.assertNull(resp.nextPageToken());
+  }
+}
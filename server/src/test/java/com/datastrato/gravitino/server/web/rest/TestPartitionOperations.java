@@ -12,6 +12,8 @@ import static com.datastrato.gravitino.server.web.rest.TestTableOperations.mockT
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datastrato.gravitino.Config;
@@ -271,6 +273,96 @@ public class TestPartitionOperations extends JerseyTest {
     Assertions.assertTrue(errorResp2.getMessage().contains("test exception"));
   }
 
+  @Test
+  public void testListPartitionsByPage() {
+    mockPartitionedTable();
+
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("details", "true")
+            .queryParam("pageSize", "1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionListResponse listResp = resp.readEntity(PartitionListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    Assertions.assertArrayEquals(
+        new Partition[] {DTOConverters.toDTO(partition1)}, listResp.getPartitions());
+    Assertions.assertNotNull(listResp.getNextPageToken());
+
+    Response resp1 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("pageSize", "1")
+            .queryParam("pageToken", listResp.getNextPageToken())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    PartitionNameListResponse nameListResp = resp1.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {partitionNames[1]}, nameListResp.partitionNames());
+    Assertions.assertNull(nameListResp.nextPageToken());
+
+    // Test invalid page size
+    Response resp2 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("pageSize", "0")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+  }
+
+  @Test
+  public void testListPartitionsByPageWithDroppedPartition() {
+    String tableName = "table_with_dropped_partition";
+    Table mockedTable =
+        mockTable(
+            tableName,
+            new Column[] {mockColumn("col1", Types.StringType.get())},
+            "mock comment",
+            ImmutableMap.of(),
+            new Transform[] {Transforms.identity("col1")});
+    SupportsPartitions supportsPartitions = mock(SupportsPartitions.class);
+    when(supportsPartitions.listPartitionNames()).thenReturn(new String[] {"p2", "p1"});
+    // The partition p2 is dropped after its name is listed.
+    when(supportsPartitions.getPartitionsIfExist("p2")).thenReturn(new Partition[0]);
+    when(mockedTable.supportPartitions()).thenReturn(supportsPartitions);
+    when(dispatcher.loadTable(any())).thenReturn(mockedTable);
+
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, tableName))
+            .queryParam("pageSize", "1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionNameListResponse nameListResp = resp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {"p1"}, nameListResp.partitionNames());
+    Assertions.assertNotNull(nameListResp.nextPageToken());
+
+    Response resp1 =
+        target(partitionPath(metalake, catalog, schema, tableName))
+            .queryParam("details", "true")
+            .queryParam("pageSize", "1")
+            .queryParam("pageToken", nameListResp.nextPageToken())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    PartitionListResponse listResp = resp1.readEntity(PartitionListResponse.class);
+    Assertions.assertEquals(0, listResp.getPartitions().length);
+    Assertions.assertNull(listResp.getNextPageToken());
+
+    // The next page is served from the names listed for the first page.
+    verify(supportsPartitions, times(1)).listPartitionNames();
+  }
+
   @Test
   public void testGetPartition() {
     mockPartitionedTable();
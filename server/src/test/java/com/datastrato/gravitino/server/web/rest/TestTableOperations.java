@@ -4,6 +4,7 @@
  */
 package com.datastrato.gravitino.server.web.rest;
 
+import static com.datastrato.gravitino.Configs.TABLE_BATCH_LOAD_MAX_SIZE;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static com.datastrato.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -31,10 +32,12 @@ import com.datastrato.gravitino.dto.rel.partitioning.Partitioning;
 import com.datastrato.gravitino.dto.requests.TableCreateRequest;
 import com.datastrato.gravitino.dto.requests.TableUpdateRequest;
 import com.datastrato.gravitino.dto.requests.TableUpdatesRequest;
+import com.datastrato.gravitino.dto.requests.TablesBatchLoadRequest;
 import com.datastrato.gravitino.dto.responses.DropResponse;
 import com.datastrato.gravitino.dto.responses.EntityListResponse;
 import com.datastrato.gravitino.dto.responses.ErrorConstants;
 import com.datastrato.gravitino.dto.responses.ErrorResponse;
+import com.datastrato.gravitino.dto.responses.TableListResponse;
 import com.datastrato.gravitino.dto.responses.TableResponse;
 import com.datastrato.gravitino.dto.util.DTOConverters;
 import com.datastrato.gravitino.exceptions.NoSuchSchemaException;
@@ -91,6 +94,8 @@ public class TestTableOperations extends JerseyTest {
 
   private TableOperationDispatcher dispatcher = mock(TableOperationDispatcher.class);
 
+  private final Config config = new Config(false) {};
+
   private final String metalake = "metalake1";
 
   private final String catalog = "catalog1";
@@ -115,13 +120,17 @@ public class TestTableOperations extends JerseyTest {
       throw new RuntimeException(e);
     }
 
+    config.set(TABLE_BATCH_LOAD_MAX_SIZE, 3);
+
     ResourceConfig resourceConfig = new ResourceConfig();
     resourceConfig.register(TableOperations.class);
+    resourceConfig.register(TableBatchOperations.class);
     resourceConfig.register(
         new AbstractBinder() {
           @Override
           protected void configure() {
             bind(dispatcher).to(TableDispatcher.class).ranked(2);
+            bind(config).to(Config.class).ranked(2);
             bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
           }
         });
@@ -488,6 +497,67 @@ public class TestTableOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testBatchLoadTables() {
+    Column[] columns = new Column[] {mockColumn("col1", Types.StringType.get())};
+    Table table1 = mockTable("table1", columns, "mock comment", ImmutableMap.of(), new Transform[0]);
+    Table table2 = mockTable("table2", columns, "mock comment", ImmutableMap.of(), new Transform[0]);
+    when(dispatcher.loadTables(any())).thenReturn(new Table[] {table1, table2});
+
+    String batchLoadPath =
+        "/metalakes/"
+            + metalake
+            + "/catalogs/"
+            + catalog
+            + "/schemas/"
+            + schema
+            + "/tables:batchLoad";
+    TablesBatchLoadRequest req =
+        new TablesBatchLoadRequest(new String[] {"table1", "table2", "table3"});
+    Response resp =
+        target(batchLoadPath)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    TableListResponse tableListResp = resp.readEntity(TableListResponse.class);
+    Assertions.assertEquals(0, tableListResp.getCode());
+    Assertions.assertEquals(2, tableListResp.getTables().length);
+    Assertions.assertEquals("table1", tableListResp.getTables()[0].name());
+    Assertions.assertEquals("table2", tableListResp.getTables()[1].name());
+
+    // Test throw NoSuchSchemaException
+    doThrow(new NoSuchSchemaException("mock error")).when(dispatcher).loadTables(any());
+
+    Response resp1 =
+        target(batchLoadPath)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+
+    ErrorResponse errorResp = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp.getCode());
+    Assertions.assertEquals(NoSuchSchemaException.class.getSimpleName(), errorResp.getType());
+
+    // Test too many tables in one request
+    TablesBatchLoadRequest req1 =
+        new TablesBatchLoadRequest(new String[] {"table1", "table2", "table3", "table4"});
+    Response resp2 =
+        target(batchLoadPath)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req1, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+
+    ErrorResponse errorResp1 = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResp1.getCode());
+  }
+
   @Test
   public void testRenameTable() {
     TableUpdateRequest.RenameTableRequest req = new TableUpdateRequest.RenameTableRequest("table2");
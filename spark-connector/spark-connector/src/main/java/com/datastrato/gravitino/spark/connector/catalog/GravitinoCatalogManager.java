@@ -7,20 +7,40 @@ package com.datastrato.gravitino.spark.connector.catalog;
 import com.datastrato.gravitino.Catalog;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.client.CatalogChanges;
 import com.datastrato.gravitino.client.GravitinoAdminClient;
 import com.datastrato.gravitino.client.GravitinoMetalake;
+import com.datastrato.gravitino.exceptions.NoSuchCatalogException;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** GravitinoCatalogManager is used to retrieve catalogs from Gravitino server. */
+/**
+ * GravitinoCatalogManager is used to retrieve catalogs from Gravitino server. The cached catalogs
+ * are refreshed when they are changed in Gravitino server, by watching the catalog changes of the
+ * metalake.
+ */
 public class GravitinoCatalogManager {
   private static final Logger LOG = LoggerFactory.getLogger(GravitinoCatalogManager.class);
+  private static final long CATALOG_CHANGES_INTERVAL_SECONDS = 3;
+  // The max time for the server to hold a request waiting for the catalog changes.
+  private static final long CATALOG_CHANGES_WAIT_MS = 30 * 1000L;
+  // All the loaded catalogs are refreshed at this interval in case some catalog changes are
+  // missed, e.g., the requests are served by several servers behind a load balancer.
+  private static final long CATALOG_FULL_REFRESH_INTERVAL_MS = 10 * 60 * 1000L;
   private static GravitinoCatalogManager gravitinoCatalogManager;
 
   private volatile boolean isClosed = false;
@@ -28,6 +48,10 @@ public class GravitinoCatalogManager {
   private final String metalakeName;
   private final GravitinoMetalake metalake;
   private final GravitinoAdminClient gravitinoClient;
+  private final ScheduledExecutorService catalogChangesWatcher;
+  // Null if the server doesn't support the catalog changes.
+  private Long catalogChangeVersion;
+  private long lastFullRefreshTime;
 
   private GravitinoCatalogManager(String gravitinoUri, String metalakeName) {
     this.metalakeName = metalakeName;
@@ -35,6 +59,25 @@ public class GravitinoCatalogManager {
     // Will not evict catalog by default
     this.gravitinoCatalogs = CacheBuilder.newBuilder().build();
     this.metalake = gravitinoClient.loadMetalake(NameIdentifier.ofMetalake(metalakeName));
+    this.catalogChangesWatcher =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("gravitino-catalog-changes-watcher")
+                .build());
+
+    // Get the version before loading any catalog, so that no change is missed.
+    try {
+      this.catalogChangeVersion = metalake.getCatalogChanges(-1, 0).version();
+    } catch (Exception e) {
+      LOG.warn("The catalog changes are not supported, the catalogs are refreshed periodically", e);
+    }
+    this.lastFullRefreshTime = System.currentTimeMillis();
+    catalogChangesWatcher.scheduleWithFixedDelay(
+        this::refreshChangedCatalogs,
+        CATALOG_CHANGES_INTERVAL_SECONDS,
+        CATALOG_CHANGES_INTERVAL_SECONDS,
+        TimeUnit.SECONDS);
   }
 
   public static GravitinoCatalogManager create(String gravitinoUrl, String metalakeName) {
@@ -55,6 +98,7 @@ public class GravitinoCatalogManager {
   public void close() {
     Preconditions.checkState(!isClosed, "Gravitino Catalog is already closed");
     isClosed = true;
+    catalogChangesWatcher.shutdownNow();
     gravitinoClient.close();
     gravitinoCatalogManager = null;
   }
@@ -83,6 +127,47 @@ public class GravitinoCatalogManager {
     return gravitinoCatalogs.asMap();
   }
 
+  @VisibleForTesting
+  void refreshChangedCatalogs() {
+    try {
+      long now = System.currentTimeMillis();
+      boolean fullRefresh = now - lastFullRefreshTime >= CATALOG_FULL_REFRESH_INTERVAL_MS;
+      Collection<String> catalogNames = Collections.emptySet();
+      Long latestVersion = catalogChangeVersion;
+      if (catalogChangeVersion != null) {
+        CatalogChanges changes =
+            metalake.getCatalogChanges(
+                catalogChangeVersion, fullRefresh ? 0 : CATALOG_CHANGES_WAIT_MS);
+        fullRefresh |= changes.isReset();
+        catalogNames = changes.catalogNames();
+        latestVersion = changes.version();
+      }
+
+      // Only the catalogs already loaded are refreshed, the other catalogs are loaded on demand.
+      if (fullRefresh) {
+        catalogNames = gravitinoCatalogs.asMap().keySet();
+        lastFullRefreshTime = now;
+      }
+      for (String catalogName : new HashSet<>(catalogNames)) {
+        if (gravitinoCatalogs.getIfPresent(catalogName) != null) {
+          refreshCatalog(catalogName);
+        }
+      }
+      catalogChangeVersion = latestVersion;
+    } catch (Exception e) {
+      LOG.warn("Failed to refresh the changed catalogs of metalake {}", metalakeName, e);
+    }
+  }
+
+  private void refreshCatalog(String catalogName) {
+    try {
+      gravitinoCatalogs.put(catalogName, loadCatalog(catalogName));
+    } catch (NoSuchCatalogException | IllegalArgumentException e) {
+      gravitinoCatalogs.invalidate(catalogName);
+      LOG.info("Catalog {} is dropped or not a relational catalog any more.", catalogName);
+    }
+  }
+
   private Catalog loadCatalog(String catalogName) {
     Catalog catalog = metalake.loadCatalog(NameIdentifier.ofCatalog(metalakeName, catalogName));
     Preconditions.checkArgument(
@@ -138,10 +138,10 @@ public class GravitinoMetadata implements ConnectorMetadata {
             .orElseGet(() -> ImmutableSet.copyOf(listSchemaNames(session)));
 
     ImmutableList.Builder<SchemaTableName> builder = ImmutableList.builder();
-    for (String schemaName : schemaNames) {
-      List<String> tableNames = catalogConnectorMetadata.listTables(schemaName);
-      for (String tableName : tableNames) {
-        builder.add(new SchemaTableName(schemaName, tableName));
+    Map<String, List<String>> tableNames = catalogConnectorMetadata.listTables(schemaNames);
+    for (Map.Entry<String, List<String>> entry : tableNames.entrySet()) {
+      for (String tableName : entry.getValue()) {
+        builder.add(new SchemaTableName(entry.getKey(), tableName));
       }
     }
     return builder.build();
@@ -14,6 +14,7 @@ import com.datastrato.gravitino.Catalog;
 import com.datastrato.gravitino.CatalogChange;
 import com.datastrato.gravitino.NameIdentifier;
 import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.client.CatalogChanges;
 import com.datastrato.gravitino.client.GravitinoAdminClient;
 import com.datastrato.gravitino.client.GravitinoMetalake;
 import com.datastrato.gravitino.exceptions.CatalogAlreadyExistsException;
@@ -27,7 +28,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.trino.spi.TrinoException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -55,9 +56,16 @@ public class CatalogConnectorManager {
   private static final Logger LOG = LoggerFactory.getLogger(CatalogConnectorManager.class);
 
   private static final int CATALOG_LOAD_FREQUENCY_SECOND = 3;
+  // The max time for the server to hold a request waiting for the catalog changes.
+  private static final long CATALOG_CHANGES_WAIT_MS = 30 * 1000L;
+  // All the catalogs are reloaded at this interval in case some catalog changes are missed, e.g.,
+  // the requests are served by several servers behind a load balancer.
+  private static final long CATALOG_FULL_RELOAD_INTERVAL_MS = 10 * 60 * 1000L;
   private static final int NUMBER_EXECUTOR_THREAD = 1;
 
   private final ScheduledExecutorService executorService;
+  // Waits for the catalog changes, so the syncs run by the executor service are not blocked.
+  private final ScheduledExecutorService watchExecutorService;
   private final CatalogInjector catalogInjector;
   private final CatalogConnectorFactory catalogConnectorFactory;
 
@@ -66,21 +74,30 @@ public class CatalogConnectorManager {
 
   private GravitinoAdminClient gravitinoClient;
   private GravitinoConfig config;
-  private final Set<String> usedMetalakes = new HashSet<>();
+  private final Set<String> usedMetalakes = ConcurrentHashMap.newKeySet();
+
+  // The metalakes and the versions of their catalog changes, only the catalogs changed since the
+  // versions are reloaded. They are only updated by the executor thread.
+  private final Map<String, GravitinoMetalake> loadedMetalakes = new ConcurrentHashMap<>();
+  private final Map<String, Long> catalogChangeVersions = new ConcurrentHashMap<>();
+  // The time all the catalogs of the metalakes were last loaded, only accessed by the executor
+  // thread.
+  private final Map<String, Long> fullLoadTimes = new HashMap<>();
 
   public CatalogConnectorManager(
       CatalogInjector catalogInjector, CatalogConnectorFactory catalogFactory) {
     this.catalogInjector = catalogInjector;
     this.catalogConnectorFactory = catalogFactory;
-    this.executorService = createScheduledThreadPoolExecutor();
+    this.executorService = createScheduledThreadPoolExecutor("gravitino-connector-schedule-%d");
+    this.watchExecutorService = createScheduledThreadPoolExecutor("gravitino-connector-watch-%d");
   }
 
-  private static ScheduledThreadPoolExecutor createScheduledThreadPoolExecutor() {
+  private static ScheduledThreadPoolExecutor createScheduledThreadPoolExecutor(String nameFormat) {
     return new ScheduledThreadPoolExecutor(
         NUMBER_EXECUTOR_THREAD,
         new ThreadFactoryBuilder()
             .setDaemon(true)
-            .setNameFormat("gravitino-connector-schedule-%d")
+            .setNameFormat(nameFormat)
             .setUncaughtExceptionHandler(
                 (thread, throwable) ->
                     LOG.warn("{} uncaught exception:", thread.getName(), throwable))
@@ -100,32 +117,134 @@ public class CatalogConnectorManager {
 
     // Schedule a task to load catalog from gravitino server.
     executorService.execute(this::loadMetalake);
+    watchExecutorService.execute(this::watchCatalogChanges);
     LOG.info("Gravitino CatalogConnectorManager started.");
   }
 
   void loadMetalake() {
     try {
-      for (String usedMetalake : usedMetalakes) {
-        GravitinoMetalake metalake;
-        try {
-          metalake = gravitinoClient.loadMetalake(NameIdentifier.ofMetalake(usedMetalake));
-        } catch (NoSuchMetalakeException noSuchMetalakeException) {
-          LOG.warn("Metalake {} does not exist.", usedMetalake);
-          continue;
-        } catch (Exception e) {
-          LOG.error("Load Metalake {} failed.", usedMetalake, e);
-          continue;
-        }
-
-        LOG.info("Load metalake: {}", usedMetalake);
-        loadCatalogs(metalake);
-      }
+      syncMetalakes();
     } finally {
       // Load metalake for handling catalog in the metalake updates.
       executorService.schedule(this::loadMetalake, CATALOG_LOAD_FREQUENCY_SECOND, TimeUnit.SECONDS);
     }
   }
 
+  void watchCatalogChanges() {
+    long delaySeconds = CATALOG_LOAD_FREQUENCY_SECOND;
+    try {
+      // Only wait for the catalog changes if there is one metalake, the changes of the other
+      // metalakes are synced periodically.
+      String metalakeName = usedMetalakes.size() == 1 ? usedMetalakes.iterator().next() : null;
+      GravitinoMetalake metalake = metalakeName == null ? null : loadedMetalakes.get(metalakeName);
+      Long version = metalakeName == null ? null : catalogChangeVersions.get(metalakeName);
+      if (metalake != null && version != null) {
+        CatalogChanges changes = metalake.getCatalogChanges(version, CATALOG_CHANGES_WAIT_MS);
+        if (changes.isReset() || !changes.catalogNames().isEmpty()) {
+          // The changes are applied by the executor thread, it fetches them again without waiting.
+          executorService.submit(this::syncMetalakes).get();
+          delaySeconds = 0;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    } catch (Exception e) {
+      LOG.warn("Failed to watch the catalog changes.", e);
+    }
+    watchExecutorService.schedule(this::watchCatalogChanges, delaySeconds, TimeUnit.SECONDS);
+  }
+
+  private void syncMetalakes() {
+    for (String usedMetalake : usedMetalakes) {
+      syncMetalake(usedMetalake);
+    }
+  }
+
+  private void syncMetalake(String metalakeName) {
+    GravitinoMetalake metalake = loadedMetalakes.get(metalakeName);
+    Long version = catalogChangeVersions.get(metalakeName);
+    Long fullLoadTime = fullLoadTimes.get(metalakeName);
+    Long latestVersion = null;
+    if (metalake != null
+        && version != null
+        && fullLoadTime != null
+        && System.currentTimeMillis() - fullLoadTime < CATALOG_FULL_RELOAD_INTERVAL_MS) {
+      try {
+        CatalogChanges changes = metalake.getCatalogChanges(version, 0);
+        if (!changes.isReset()) {
+          catalogChangeVersions.put(metalakeName, changes.version());
+          changes.catalogNames().forEach(catalogName -> loadChangedCatalog(metalake, catalogName));
+          return;
+        }
+        latestVersion = changes.version();
+      } catch (Exception e) {
+        LOG.warn("Failed to get the catalog changes of metalake {}.", metalakeName, e);
+      }
+    }
+
+    // The catalog changes are unknown, reload all the catalogs of the metalake.
+    loadedMetalakes.remove(metalakeName);
+    catalogChangeVersions.remove(metalakeName);
+    try {
+      metalake = gravitinoClient.loadMetalake(NameIdentifier.ofMetalake(metalakeName));
+    } catch (NoSuchMetalakeException noSuchMetalakeException) {
+      LOG.warn("Metalake {} does not exist.", metalakeName);
+      return;
+    } catch (Exception e) {
+      LOG.error("Load Metalake {} failed.", metalakeName, e);
+      return;
+    }
+
+    if (latestVersion == null) {
+      // Get the version before listing the catalogs, so that the catalogs changed during the
+      // loading are reloaded by the next sync.
+      try {
+        latestVersion = metalake.getCatalogChanges(-1, 0).version();
+      } catch (Exception e) {
+        // The server doesn't support the catalog changes, the catalogs are reloaded periodically.
+        LOG.debug("Failed to get the catalog change version of metalake {}.", metalakeName, e);
+      }
+    }
+
+    LOG.info("Load metalake: {}", metalakeName);
+    loadCatalogs(metalake);
+    fullLoadTimes.put(metalakeName, System.currentTimeMillis());
+    if (latestVersion != null) {
+      loadedMetalakes.put(metalakeName, metalake);
+      catalogChangeVersions.put(metalakeName, latestVersion);
+    }
+  }
+
+  private void loadChangedCatalog(GravitinoMetalake metalake, String catalogName) {
+    NameIdentifier nameIdentifier = NameIdentifier.ofCatalog(metalake.name(), catalogName);
+    try {
+      loadOrReloadCatalog(metalake, metalake.loadCatalog(nameIdentifier));
+    } catch (NoSuchCatalogException e) {
+      String catalogFullName =
+          config.simplifyCatalogNames() ? catalogName : nameIdentifier.toString();
+      if (catalogConnectors.containsKey(catalogFullName)) {
+        unloadCatalog(metalake, catalogFullName);
+      }
+    } catch (Exception e) {
+      LOG.error("Failed to load metalake {}'s catalog {}.", metalake.name(), nameIdentifier, e);
+    }
+  }
+
+  private void loadOrReloadCatalog(GravitinoMetalake metalake, Catalog catalog) {
+    GravitinoCatalog gravitinoCatalog =
+        new GravitinoCatalog(metalake.name(), catalog, config.simplifyCatalogNames());
+    if (catalogConnectors.containsKey(gravitinoCatalog.getFullName())) {
+      // Reload catalogs that have been updated in Gravitino server.
+      reloadCatalog(metalake, gravitinoCatalog);
+
+    } else {
+      if (catalog.type() == Catalog.Type.RELATIONAL) {
+        loadCatalog(metalake, gravitinoCatalog);
+      }
+    }
+  }
+
   @VisibleForTesting
   public void loadCatalogs(GravitinoMetalake metalake) {
     NameIdentifier[] catalogNames;
@@ -163,18 +282,7 @@ public class CatalogConnectorManager {
         .forEach(
             (NameIdentifier nameIdentifier) -> {
               try {
-                Catalog catalog = metalake.loadCatalog(nameIdentifier);
-                GravitinoCatalog gravitinoCatalog =
-                    new GravitinoCatalog(metalake.name(), catalog, config.simplifyCatalogNames());
-                if (catalogConnectors.containsKey(gravitinoCatalog.getFullName())) {
-                  // Reload catalogs that have been updated in Gravitino server.
-                  reloadCatalog(metalake, gravitinoCatalog);
-
-                } else {
-                  if (catalog.type() == Catalog.Type.RELATIONAL) {
-                    loadCatalog(metalake, gravitinoCatalog);
-                  }
-                }
+                loadOrReloadCatalog(metalake, metalake.loadCatalog(nameIdentifier));
               } catch (Exception e) {
                 LOG.error(
                     "Failed to load metalake {}'s catalog {}.", metalake.name(), nameIdentifier, e);
@@ -251,7 +359,7 @@ public class CatalogConnectorManager {
 
       LOG.info("Create catalog {} in metalake {} successfully.", catalog, metalake);
 
-      Future<?> future = executorService.submit(this::loadMetalake);
+      Future<?> future = executorService.submit(this::syncMetalakes);
       future.get(30, TimeUnit.SECONDS);
 
     } catch (NoSuchMetalakeException e) {
@@ -288,7 +396,7 @@ public class CatalogConnectorManager {
       }
       LOG.info("Drop catalog {} in metalake {} successfully.", catalog, metalake);
 
-      Future<?> future = executorService.submit(this::loadMetalake);
+      Future<?> future = executorService.submit(this::syncMetalakes);
       future.get(30, TimeUnit.SECONDS);
 
     } catch (NoSuchMetalakeException e) {
@@ -345,7 +453,7 @@ public class CatalogConnectorManager {
           NameIdentifier.of(metalakeName, catalogName),
           changes.toArray(changes.toArray(new CatalogChange[0])));
 
-      Future<?> future = executorService.submit(this::loadMetalake);
+      Future<?> future = executorService.submit(this::syncMetalakes);
       future.get(30, TimeUnit.SECONDS);
 
     } catch (NoSuchMetalakeException e) {
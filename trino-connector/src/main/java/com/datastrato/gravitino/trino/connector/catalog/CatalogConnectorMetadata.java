@@ -33,24 +33,70 @@ import com.datastrato.gravitino.trino.connector.metadata.GravitinoColumn;
 import com.datastrato.gravitino.trino.connector.metadata.GravitinoSchema;
 import com.datastrato.gravitino.trino.connector.metadata.GravitinoTable;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.trino.spi.TrinoException;
 import io.trino.spi.connector.SchemaTableName;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.NotImplementedException;
 
-/** This class implements gravitino metadata operators. */
+/**
+ * This class implements gravitino metadata operators.
+ *
+ * <p>An instance is created for each Trino transaction, the tables and the table names loaded from
+ * the Gravitino server are cached by the instance, so that a query resolving a table several times
+ * only loads it once. The cached metadata expires after {@link #METADATA_CACHE_TTL_SECONDS} to
+ * bound the staleness in long transactions, and it is invalidated by the DDL of this connector.
+ */
 public class CatalogConnectorMetadata {
 
   private static final String CATALOG_DOES_NOT_EXIST_MSG = "Catalog does not exist";
   private static final String SCHEMA_DOES_NOT_EXIST_MSG = "Schema does not exist";
 
+  private static final long METADATA_CACHE_TTL_SECONDS = 30;
+  private static final int LIST_TABLES_PARALLELISM = 8;
+
+  // Shared by all the catalogs to list the tables of the schemas in parallel.
+  private static final ExecutorService LIST_TABLES_EXECUTOR =
+      Executors.newFixedThreadPool(
+          LIST_TABLES_PARALLELISM,
+          new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("gravitino-list-tables-%d")
+              .build());
+
   private final GravitinoMetalake metalake;
   private final String catalogName;
   private final SupportsSchemas schemaCatalog;
   private final TableCatalog tableCatalog;
 
+  // An absent table is cached as well, the query checking it several times only loads it once.
+  private final Cache<NameIdentifier, Optional<Table>> tableCache =
+      CacheBuilder.newBuilder()
+          .expireAfterWrite(METADATA_CACHE_TTL_SECONDS, TimeUnit.SECONDS)
+          .build();
+
+  private final Cache<String, List<String>> tableNamesCache =
+      CacheBuilder.newBuilder()
+          .expireAfterWrite(METADATA_CACHE_TTL_SECONDS, TimeUnit.SECONDS)
+          .build();
+
   public CatalogConnectorMetadata(GravitinoMetalake metalake, NameIdentifier catalogIdentifier) {
     try {
       this.catalogName = catalogIdentifier.name();
@@ -92,44 +138,144 @@ public class CatalogConnectorMetadata {
   }
 
   public GravitinoTable getTable(String schemaName, String tableName) {
-    try {
-      Table table =
-          tableCatalog.loadTable(
-              NameIdentifier.ofTable(metalake.name(), catalogName, schemaName, tableName));
-      return new GravitinoTable(schemaName, tableName, table);
-    } catch (NoSuchTableException e) {
-      throw new TrinoException(GRAVITINO_TABLE_NOT_EXISTS, "Table does not exist", e);
-    }
+    Table table =
+        loadTable(tableIdentifier(schemaName, tableName))
+            .orElseThrow(
+                () -> new TrinoException(GRAVITINO_TABLE_NOT_EXISTS, "Table does not exist"));
+    return new GravitinoTable(schemaName, tableName, table);
   }
 
   public List<String> listTables(String schemaName) {
+    return getCached(
+        tableNamesCache,
+        schemaName,
+        () -> {
+          try {
+            NameIdentifier[] tables =
+                tableCatalog.listTables(
+                    Namespace.ofTable(metalake.name(), catalogName, schemaName));
+            return Arrays.stream(tables).map(NameIdentifier::name).toList();
+          } catch (NoSuchSchemaException e) {
+            throw new TrinoException(GRAVITINO_SCHEMA_NOT_EXISTS, SCHEMA_DOES_NOT_EXIST_MSG, e);
+          }
+        });
+  }
+
+  /**
+   * List the tables of the schemas, the schemas are listed in parallel.
+   *
+   * @param schemaNames The names of the schemas.
+   * @return The names of the tables keyed by the schema names, in the order of the schema names.
+   */
+  public Map<String, List<String>> listTables(Collection<String> schemaNames) {
+    Map<String, List<String>> result = new LinkedHashMap<>();
+    if (schemaNames.size() <= 1) {
+      schemaNames.forEach(schemaName -> result.put(schemaName, listTables(schemaName)));
+      return result;
+    }
+
+    Map<String, CompletableFuture<List<String>>> futures = new LinkedHashMap<>();
+    schemaNames.forEach(
+        schemaName ->
+            futures.put(
+                schemaName,
+                CompletableFuture.supplyAsync(() -> listTables(schemaName), LIST_TABLES_EXECUTOR)));
     try {
-      NameIdentifier[] tables =
-          tableCatalog.listTables(Namespace.ofTable(metalake.name(), catalogName, schemaName));
-      return Arrays.stream(tables).map(NameIdentifier::name).toList();
-    } catch (NoSuchSchemaException e) {
-      throw new TrinoException(GRAVITINO_SCHEMA_NOT_EXISTS, SCHEMA_DOES_NOT_EXIST_MSG, e);
+      futures.forEach((schemaName, future) -> result.put(schemaName, future.join()));
+    } catch (CompletionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
     }
+    return result;
   }
 
   public boolean tableExists(String schemaName, String tableName) {
-    return tableCatalog.tableExists(
-        NameIdentifier.ofTable(metalake.name(), catalogName, schemaName, tableName));
+    return loadTable(tableIdentifier(schemaName, tableName)).isPresent();
+  }
+
+  private Optional<Table> loadTable(NameIdentifier identifier) {
+    return getCached(
+        tableCache,
+        identifier,
+        () -> {
+          try {
+            return Optional.of(tableCatalog.loadTable(identifier));
+          } catch (NoSuchTableException e) {
+            return Optional.empty();
+          }
+        });
+  }
+
+  /**
+   * Cache the table returned by the DDL of this connector. The cached table is only replaced by a
+   * table modified later, so that a load racing with the DDL doesn't override the new table.
+   */
+  private void cacheTable(NameIdentifier identifier, Table table) {
+    tableCache
+        .asMap()
+        .merge(
+            identifier,
+            Optional.of(table),
+            (cached, updated) ->
+                cached.isPresent() && isModifiedBefore(updated.get(), cached.get())
+                    ? cached
+                    : updated);
+  }
+
+  private static boolean isModifiedBefore(Table table, Table other) {
+    Instant modifiedTime = lastModifiedTime(table);
+    Instant otherModifiedTime = lastModifiedTime(other);
+    return modifiedTime != null
+        && otherModifiedTime != null
+        && modifiedTime.isBefore(otherModifiedTime);
+  }
+
+  private static Instant lastModifiedTime(Table table) {
+    if (table.auditInfo() == null) {
+      return null;
+    }
+    return table.auditInfo().lastModifiedTime() != null
+        ? table.auditInfo().lastModifiedTime()
+        : table.auditInfo().createTime();
+  }
+
+  private void invalidateSchema(String schemaName) {
+    tableNamesCache.invalidate(schemaName);
+    tableCache
+        .asMap()
+        .keySet()
+        .removeIf(identifier -> identifier.namespace().level(2).equals(schemaName));
+  }
+
+  private NameIdentifier tableIdentifier(String schemaName, String tableName) {
+    return NameIdentifier.ofTable(metalake.name(), catalogName, schemaName, tableName);
+  }
+
+  private static <K, V> V getCached(Cache<K, V> cache, K key, Callable<V> loader) {
+    try {
+      return cache.get(key, loader);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
   }
 
   public void createTable(GravitinoTable table) {
-    NameIdentifier identifier =
-        NameIdentifier.ofTable(
-            metalake.name(), catalogName, table.getSchemaName(), table.getName());
+    NameIdentifier identifier = tableIdentifier(table.getSchemaName(), table.getName());
     try {
-      tableCatalog.createTable(
-          identifier,
-          table.getRawColumns(),
-          table.getComment(),
-          table.getProperties(),
-          table.getPartitioning(),
-          table.getDistribution(),
-          table.getSortOrders());
+      Table createdTable =
+          tableCatalog.createTable(
+              identifier,
+              table.getRawColumns(),
+              table.getComment(),
+              table.getProperties(),
+              table.getPartitioning(),
+              table.getDistribution(),
+              table.getSortOrders());
+      tableNamesCache.invalidate(table.getSchemaName());
+      if (createdTable != null) {
+        cacheTable(identifier, createdTable);
+      }
     } catch (NoSuchSchemaException e) {
       throw new TrinoException(GRAVITINO_SCHEMA_NOT_EXISTS, SCHEMA_DOES_NOT_EXIST_MSG, e);
     } catch (TableAlreadyExistsException e) {
@@ -151,6 +297,7 @@ public class CatalogConnectorMetadata {
   }
 
   public void dropSchema(String schemaName, boolean cascade) {
+    invalidateSchema(schemaName);
     try {
       boolean success =
           schemaCatalog.dropSchema(
@@ -166,10 +313,15 @@ public class CatalogConnectorMetadata {
   }
 
   public void dropTable(SchemaTableName tableName) {
-    boolean dropped =
-        tableCatalog.dropTable(
-            NameIdentifier.ofTable(
-                metalake.name(), catalogName, tableName.getSchemaName(), tableName.getTableName()));
+    NameIdentifier identifier =
+        tableIdentifier(tableName.getSchemaName(), tableName.getTableName());
+    boolean dropped;
+    try {
+      dropped = tableCatalog.dropTable(identifier);
+    } finally {
+      tableNamesCache.invalidate(tableName.getSchemaName());
+      tableCache.invalidate(identifier);
+    }
     if (!dropped) {
       throw new TrinoException(GRAVITINO_OPERATION_FAILED, "Failed to drop table " + tableName);
     }
@@ -180,11 +332,20 @@ public class CatalogConnectorMetadata {
   }
 
   private void applyAlter(SchemaTableName tableName, TableChange... change) {
+    NameIdentifier identifier =
+        tableIdentifier(tableName.getSchemaName(), tableName.getTableName());
+    tableCache.invalidate(identifier);
     try {
-      tableCatalog.alterTable(
-          NameIdentifier.ofTable(
-              metalake.name(), catalogName, tableName.getSchemaName(), tableName.getTableName()),
-          change);
+      Table alteredTable = tableCatalog.alterTable(identifier, change);
+      if (alteredTable != null) {
+        NameIdentifier alteredIdentifier =
+            tableIdentifier(tableName.getSchemaName(), alteredTable.name());
+        if (!alteredIdentifier.equals(identifier)) {
+          tableNamesCache.invalidate(tableName.getSchemaName());
+          tableCache.invalidate(alteredIdentifier);
+        }
+        cacheTable(alteredIdentifier, alteredTable);
+      }
     } catch (NoSuchTableException e) {
       throw new TrinoException(GRAVITINO_TABLE_NOT_EXISTS, "Table does not exist");
     } catch (IllegalArgumentException e) {
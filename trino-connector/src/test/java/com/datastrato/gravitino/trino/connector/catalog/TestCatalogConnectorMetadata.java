@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024 Datastrato Pvt Ltd.
+ * This software is licensed under the Apache License version 2.
+ */
+package com.datastrato.gravitino.trino.connector.catalog;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.datastrato.gravitino.Catalog;
+import com.datastrato.gravitino.NameIdentifier;
+import com.datastrato.gravitino.Namespace;
+import com.datastrato.gravitino.client.GravitinoMetalake;
+import com.datastrato.gravitino.exceptions.NoSuchTableException;
+import com.datastrato.gravitino.rel.Column;
+import com.datastrato.gravitino.rel.SupportsSchemas;
+import com.datastrato.gravitino.rel.Table;
+import com.datastrato.gravitino.rel.TableCatalog;
+import com.datastrato.gravitino.rel.types.Types;
+import com.datastrato.gravitino.trino.connector.metadata.TestGravitinoTable;
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.connector.SchemaTableName;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+public class TestCatalogConnectorMetadata {
+
+  private static final NameIdentifier CATALOG = NameIdentifier.ofCatalog("metalake1", "catalog1");
+
+  private static NameIdentifier table(String schemaName, String tableName) {
+    return NameIdentifier.ofTable("metalake1", "catalog1", schemaName, tableName);
+  }
+
+  private static Table mockTable(String tableName) {
+    Column[] columns = {Column.of("f1", Types.IntegerType.get())};
+    return TestGravitinoTable.mockTable(tableName, columns, "comment", Collections.emptyMap());
+  }
+
+  private static CatalogConnectorMetadata createMetadata(TableCatalog tableCatalog) {
+    Catalog catalog = mock(Catalog.class);
+    when(catalog.asSchemas()).thenReturn(mock(SupportsSchemas.class));
+    when(catalog.asTableCatalog()).thenReturn(tableCatalog);
+
+    GravitinoMetalake metalake = mock(GravitinoMetalake.class);
+    when(metalake.name()).thenReturn("metalake1");
+    when(metalake.loadCatalog(CATALOG)).thenReturn(catalog);
+    return new CatalogConnectorMetadata(metalake, CATALOG);
+  }
+
+  @Test
+  public void testCacheTable() {
+    TableCatalog tableCatalog = mock(TableCatalog.class);
+    Table table1 = mockTable("table1");
+    when(tableCatalog.loadTable(table("db1", "table1"))).thenReturn(table1);
+    when(tableCatalog.loadTable(table("db1", "table2")))
+        .thenThrow(new NoSuchTableException("table2"));
+    CatalogConnectorMetadata metadata = createMetadata(tableCatalog);
+
+    // The table checked by the table handle is reused by the table metadata.
+    assertTrue(metadata.tableExists("db1", "table1"));
+    assertEquals(metadata.getTable("db1", "table1").getName(), "table1");
+    verify(tableCatalog, times(1)).loadTable(table("db1", "table1"));
+
+    assertFalse(metadata.tableExists("db1", "table2"));
+    assertFalse(metadata.tableExists("db1", "table2"));
+    verify(tableCatalog, times(1)).loadTable(table("db1", "table2"));
+
+    // The DDL of the connector replaces the cached table.
+    Table alteredTable = mockTable("table1");
+    when(alteredTable.comment()).thenReturn("new comment");
+    when(tableCatalog.alterTable(any(), any())).thenReturn(alteredTable);
+    when(tableCatalog.dropTable(table("db1", "table1"))).thenReturn(true);
+    metadata.setTableComment(new SchemaTableName("db1", "table1"), "new comment");
+    assertEquals(metadata.getTable("db1", "table1").getComment(), "new comment");
+
+    metadata.dropTable(new SchemaTableName("db1", "table1"));
+    assertTrue(metadata.tableExists("db1", "table1"));
+    verify(tableCatalog, times(2)).loadTable(table("db1", "table1"));
+  }
+
+  @Test
+  public void testListTablesInParallel() {
+    TableCatalog tableCatalog = mock(TableCatalog.class);
+    List<String> schemaNames = ImmutableList.of("db1", "db2", "db3");
+    for (String schemaName : schemaNames) {
+      when(tableCatalog.listTables(Namespace.ofTable("metalake1", "catalog1", schemaName)))
+          .thenReturn(new NameIdentifier[] {table(schemaName, "t_" + schemaName)});
+    }
+    when(tableCatalog.dropTable(table("db2", "t_db2"))).thenReturn(true);
+    CatalogConnectorMetadata metadata = createMetadata(tableCatalog);
+
+    Map<String, List<String>> tableNames = metadata.listTables(schemaNames);
+    assertEquals(ImmutableList.copyOf(tableNames.keySet()), schemaNames);
+    for (String schemaName : schemaNames) {
+      assertEquals(tableNames.get(schemaName), ImmutableList.of("t_" + schemaName));
+    }
+
+    metadata.listTables(schemaNames);
+    verify(tableCatalog, times(1)).listTables(Namespace.ofTable("metalake1", "catalog1", "db1"));
+
+    // Dropping a table only invalidates the table names of its schema.
+    metadata.dropTable(new SchemaTableName("db2", "t_db2"));
+    metadata.listTables(schemaNames);
+    verify(tableCatalog, times(1)).listTables(Namespace.ofTable("metalake1", "catalog1", "db1"));
+    verify(tableCatalog, times(2)).listTables(Namespace.ofTable("metalake1", "catalog1", "db2"));
+  }
+}